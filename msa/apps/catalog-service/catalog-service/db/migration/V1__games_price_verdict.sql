@@ -0,0 +1,17 @@
+-- Game.priceHistoryCount / Game.priceVerdict (목록 API용 비정규화 컬럼)
+--
+-- 순서
+--   1) 배포 전: 아래 ALTER 실행. NOT NULL 컬럼은 DEFAULT 0으로 추가해 기존 행을 채운 뒤, 이력 건수를 SQL로 한 번 맞춘다.
+--   2) 배포
+--   3) 배포 후: POST /api/v1/admin/games/price-verdict/backfill
+--      (판정 계산은 PriceVerdictCalculator 기준이라 애플리케이션에서 한다. 그 전까지 price_verdict가 NULL인 게임은 TRACKING으로 응답)
+
+ALTER TABLE games
+    ADD COLUMN price_history_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN price_verdict ENUM ('TRACKING', 'BUY_NOW', 'GOOD_OFFER', 'WAIT');
+
+UPDATE games g
+    JOIN (SELECT game_id, COUNT(*) AS cnt
+          FROM game_price_history
+          GROUP BY game_id) h ON h.game_id = g.id
+SET g.price_history_count = h.cnt;
@@ -0,0 +1,17 @@
+-- GamePriceSeries: 게임별 가격 이력 압축 시계열 (게임 1개 = 1행, game_price_history가 원본)
+--
+-- 순서
+--   1) 배포 전: 아래 CREATE 실행
+--   2) 배포 (시계열이 없는 게임은 상세 조회 때 이력에서 구성해서 응답하므로 빈 테이블로도 동작)
+--   3) 배포 후: POST /api/v1/admin/games/price-series/backfill
+
+CREATE TABLE game_price_series
+(
+    game_id            BIGINT     NOT NULL,
+    encoded            MEDIUMBLOB NOT NULL,
+    point_count        INT        NOT NULL,
+    last_epoch_day     INT        NOT NULL,
+    last_price         INT        NOT NULL,
+    last_discount_rate INT        NOT NULL,
+    PRIMARY KEY (game_id)
+) ENGINE = InnoDB;
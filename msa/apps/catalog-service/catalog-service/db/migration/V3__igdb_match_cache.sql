@@ -0,0 +1,21 @@
+-- IgdbMatchCache: IGDB 타이틀 검색 결과 캐시 (정규화 타이틀 1개 = 1행, matched = 0이면 부정 캐시)
+-- 빈 테이블로 시작해도 된다. (캐시 미스면 IGDB를 호출해 채움)
+
+CREATE TABLE igdb_match_cache
+(
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    title_key          VARCHAR(300) NOT NULL,
+    matched            BIT          NOT NULL,
+    igdb_id            BIGINT,
+    igdb_name          VARCHAR(255),
+    critic_score       DOUBLE,
+    critic_count       INT,
+    user_score         DOUBLE,
+    user_count         INT,
+    total_rating_count INT,
+    expires_at         DATETIME(6)  NOT NULL,
+    created_at         DATETIME(6),
+    updated_at         DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_igdb_match_cache_title_key UNIQUE (title_key)
+) ENGINE = InnoDB;
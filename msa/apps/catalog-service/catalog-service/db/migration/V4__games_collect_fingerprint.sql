@@ -0,0 +1,10 @@
+-- Game.collectFingerprint: 마지막으로 반영한 수집 요청의 내용 지문 (같은 요청이 다시 오면 upsert 생략)
+-- NULL이면 다음 수집 때 전체 반영하므로 백필 불필요. (첫 수집 주기 동안 채워짐)
+--
+-- 인덱스는 추가하지 않는다.
+--   수집마다 도는 findIdByPsStoreIdAndCollectFingerprint / findCollectFingerprintsByPsStoreIdIn은
+--   ps_store_id 유니크 인덱스로 게임 1행(일괄은 요청 건수만큼)을 바로 찾고 지문은 그 행에서 비교한다.
+--   (ps_store_id, collect_fingerprint) 복합 인덱스는 행 읽기 1번을 아끼는 대신, 내용이 바뀐 수집마다 인덱스 갱신이 늘어 이득이 없다.
+
+ALTER TABLE games
+    ADD COLUMN collect_fingerprint BIGINT;
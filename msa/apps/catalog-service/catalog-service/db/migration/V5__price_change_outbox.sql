@@ -0,0 +1,21 @@
+-- PriceChangeOutbox: 가격 하락 알림 아웃박스 (가격 하락 1건 = 1행, 처리되면 삭제)
+-- idx_price_change_outbox_attempts_id는 대기 행 조회(attempts < max ORDER BY id)와
+-- 데드레터 집계·정리(attempts >= max)를 한 인덱스 구간으로 처리한다.
+-- 빈 테이블로 시작한다. 배포 전에 만들어야 수집 upsert의 INSERT가 실패하지 않는다.
+
+CREATE TABLE price_change_outbox
+(
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    game_id       BIGINT       NOT NULL,
+    game_name     VARCHAR(255) NOT NULL,
+    ps_store_id   VARCHAR(255) NOT NULL,
+    old_price     INT          NOT NULL,
+    new_price     INT          NOT NULL,
+    discount_rate INT          NOT NULL,
+    image_url     VARCHAR(255),
+    attempts      INT          NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_price_change_outbox_attempts_id ON price_change_outbox (attempts, id);
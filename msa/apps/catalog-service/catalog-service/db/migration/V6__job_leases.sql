@@ -0,0 +1,11 @@
+-- 작업 큐 임대 컬럼 (JobLeaseJdbcRepository): 처리 중(PROCESSING)일 때만 값이 있다.
+-- 기존 PROCESSING 행은 NULL로 남고, crawl_jobs는 updated_at 기준으로 만료를 판단해 회수된다. (CrawlJobLeaseReaper)
+-- V7(crawl_jobs 큐 인덱스)보다 먼저 실행한다.
+
+ALTER TABLE crawl_jobs
+    ADD COLUMN lease_owner      VARCHAR(100),
+    ADD COLUMN lease_expires_at DATETIME(6);
+
+ALTER TABLE scraping_requests
+    ADD COLUMN lease_owner      VARCHAR(100),
+    ADD COLUMN lease_expires_at DATETIME(6);
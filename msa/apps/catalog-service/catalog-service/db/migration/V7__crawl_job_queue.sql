@@ -0,0 +1,13 @@
+-- crawl_jobs 재시도·큐 인덱스 (CrawlJobLeaseReaper, JobLeaseJdbcRepository). V6 이후 실행.
+-- 예전 PENDING 행의 next_attempt_at은 리퍼가 created_at으로 채운다.
+
+ALTER TABLE crawl_jobs
+    ADD COLUMN attempts        INT NOT NULL DEFAULT 0,
+    ADD COLUMN next_attempt_at DATETIME(6);
+
+CREATE INDEX idx_crawl_job_queue ON crawl_jobs (status, target_type, next_attempt_at);
+CREATE INDEX idx_crawl_job_lease ON crawl_jobs (status, lease_expires_at);
+CREATE INDEX idx_crawl_job_game_target ON crawl_jobs (game_id, target_type, status);
+
+-- 새 인덱스들의 선두 컬럼(status)으로 대체됨
+DROP INDEX idx_crawl_job_status ON crawl_jobs;
@@ -0,0 +1,10 @@
+-- 다른 레플리카가 받은 배치 샤드 완료 신호 (CrawlShardDispatcher): 샤드를 보낸 레플리카가 tick에서 가져가 지운다.
+-- 행 수는 진행 중 샤드 수 이하라 shard_id PK 외 인덱스는 두지 않는다.
+
+CREATE TABLE crawl_shard_completions (
+    shard_id    VARCHAR(100) NOT NULL,
+    processed   INT          NOT NULL,
+    failed      INT          NOT NULL,
+    received_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (shard_id)
+);
@@ -0,0 +1,7 @@
+-- VIP 수집 요청 임대 회수 (CrawlJobLeaseReaper): 만료된 PROCESSING 요청을 다시 PENDING으로, max-attempts번 만료되면 FAILED로.
+-- 기존 PROCESSING 행은 lease_expires_at이 NULL이라 updated_at 기준으로 만료를 판단한다. V6 이후 실행.
+
+ALTER TABLE scraping_requests
+    ADD COLUMN attempts INT NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_scraping_lease ON scraping_requests (status, lease_expires_at);
@@ -5,6 +5,8 @@ import com.pstracker.catalog_service.catalog.dto.AdminGameUpdateRequest;
 import com.pstracker.catalog_service.catalog.dto.AdminRegisterRequest;
 import com.pstracker.catalog_service.catalog.service.CatalogService;
 import com.pstracker.catalog_service.catalog.service.GameReadService;
+import com.pstracker.catalog_service.catalog.service.PriceSeriesService;
+import com.pstracker.catalog_service.catalog.service.PriceVerdictBackfillService;
 import com.pstracker.catalog_service.global.security.MemberPrincipal;
 import com.pstracker.catalog_service.insights.service.InsightsService;
 import com.pstracker.catalog_service.scraping.dto.AdminScrapingResponse;
@@ -31,6 +33,8 @@ public class AdminController {
     private final InsightsService insightsService;
     private final ScrapingQueueService scrapingQueueService;
     private final SubscriptionService subscriptionService;
+    private final PriceVerdictBackfillService priceVerdictBackfillService;
+    private final PriceSeriesService priceSeriesService;
 
     @DeleteMapping("/games/{gameId}")
     public ResponseEntity<Void> deleteGame(@PathVariable Long gameId) {
@@ -67,6 +71,22 @@ public class AdminController {
         return ResponseEntity.noContent().build();
     }
 
+    // 가격 판정·이력 건수 컬럼 일회성 백필 (반영 후 판정이 담긴 로컬 캐시도 초기화)
+    @PostMapping("/games/price-verdict/backfill")
+    public ResponseEntity<String> backfillPriceVerdicts() {
+        int processed = priceVerdictBackfillService.backfill();
+        insightsService.refreshInsightsCache();
+        catalogService.refreshCurationCache();
+        return ResponseEntity.ok("가격 판정 백필 완료: " + processed + "건");
+    }
+
+    // 가격 이력 압축 시계열 일회성 백필 (이후에는 upsert에서 증분 추가)
+    @PostMapping("/games/price-series/backfill")
+    public ResponseEntity<String> backfillPriceSeries() {
+        int processed = priceSeriesService.backfill();
+        return ResponseEntity.ok("가격 시계열 백필 완료: " + processed + "건");
+    }
+
     @PostMapping("/games/register")
     public ResponseEntity<String> registerGame(
             @RequestBody AdminRegisterRequest req,
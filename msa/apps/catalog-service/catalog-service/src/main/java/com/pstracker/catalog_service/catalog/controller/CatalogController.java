@@ -1,12 +1,13 @@
 package com.pstracker.catalog_service.catalog.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pstracker.catalog_service.catalog.dto.*;
 import com.pstracker.catalog_service.catalog.scheduler.CrawlerScheduler;
+import com.pstracker.catalog_service.catalog.service.CacheWarmUpService;
 import com.pstracker.catalog_service.catalog.service.CatalogService;
+import com.pstracker.catalog_service.catalog.service.CollectStats;
 import com.pstracker.catalog_service.catalog.service.GameVoteService;
 import com.pstracker.catalog_service.global.security.MemberPrincipal;
-import com.pstracker.catalog_service.insights.service.InsightsService;
-import com.pstracker.catalog_service.subscription.service.SubscriptionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,10 +15,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -26,11 +31,14 @@ import java.util.List;
 @Slf4j
 public class CatalogController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
     private final CatalogService catalogService;
     private final CrawlerScheduler scheduler;
-    private final InsightsService insightsService;
     private final GameVoteService gameVoteService;
-    private final SubscriptionService subscriptionService;
+    private final CacheWarmUpService cacheWarmUpService;
+    private final CollectStats collectStats;
+    private final ObjectMapper objectMapper;
 
     // 데이터 적재 API
     @PostMapping("/collect")
@@ -39,12 +47,40 @@ public class CatalogController {
         return ResponseEntity.ok("Game data collected successfully");
     }
 
+    // 일괄 적재 API (크롤러 배치 전송용, 최대 CatalogService.MAX_BULK_COLLECT_SIZE건)
+    @PostMapping("/collect/bulk")
+    public ResponseEntity<BulkCollectResponse> collectGameInfoBulk(@RequestBody List<CollectRequest> requests) {
+        return ResponseEntity.ok(catalogService.upsertGameDataBulk(requests));
+    }
+
     // 업데이트 대상 게임 조회 API
     @GetMapping("/targets")
     public ResponseEntity<List<String>> getUpdateTargets() {
         return ResponseEntity.ok(catalogService.getGamesToUpdate());
     }
 
+    // 업데이트 대상 피드 API (컬렉터 샤드별, NDJSON 한 줄 = 타겟 1개) — 청크 단위로 읽는 대로 흘려보내 전체 목록을 메모리에 올리지 않음
+    @GetMapping(value = "/targets/feed", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUpdateTargets(
+            @RequestParam(defaultValue = "0") int shardId,
+            @RequestParam(defaultValue = "1") int shardTotal
+    ) {
+        catalogService.validateShard(shardId, shardTotal); // 스트리밍 시작 전에 400 응답
+
+        StreamingResponseBody body = out -> catalogService.forEachCrawlTargetChunk(shardId, shardTotal, chunk -> {
+            try {
+                for (CrawlTarget target : chunk) {
+                    out.write(objectMapper.writeValueAsBytes(target));
+                    out.write('\n');
+                }
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_VALUE)).body(body);
+    }
+
     // 수동 크롤링 트리거 API
     @PostMapping("/manual-crawl")
     public ResponseEntity<String> manualCrawl() {
@@ -65,6 +101,21 @@ public class CatalogController {
         return ResponseEntity.ok(result);
     }
 
+    // 커서 모드 (무한 스크롤) — 전체 건수 없이 nextCursor로 이어서 조회
+    @GetMapping(value = "/search", params = "mode=cursor")
+    public ResponseEntity<GameCursorPageResponse> searchGamesByCursor(
+            GameSearchCondition condition,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20, sort = "lastUpdated", direction = Sort.Direction.DESC) Pageable pageable,
+            @AuthenticationPrincipal MemberPrincipal principal
+    ) {
+        Long memberId = (principal != null) ? principal.getMemberId() : null;
+
+        GameCursorPageResponse result = catalogService.searchGamesByCursor(condition, cursor, pageable, memberId);
+
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/{gameId}")
     public ResponseEntity<GameDetailResponse> getGameDetail(
             @PathVariable Long gameId,
@@ -78,11 +129,15 @@ public class CatalogController {
 
     @PostMapping("/batch-complete")
     public ResponseEntity<String> onCrawlerBatchCompleted() {
-        log.info("일배치 완료 — 전체 로컬 캐시 초기화");
-        insightsService.refreshInsightsCache();
-        catalogService.refreshCurationCache();
-        subscriptionService.refreshPsPlusPricingCache();
-        return ResponseEntity.ok("Cache cleared successfully");
+        CollectStats.Report report = collectStats.snapshotAndReset();
+        log.info("일배치 수집 결과 — 전체 반영 {}건 ({}ms), 변경 없음 생략 {}건 ({}ms), 생략 비율 {}%, 절약 추정 {}ms",
+                report.applied(), report.appliedTime().toMillis(),
+                report.unchanged(), report.unchangedTime().toMillis(),
+                Math.round(report.skipRatio() * 100), report.estimatedSaved().toMillis());
+
+        log.info("일배치 완료 — 로컬 캐시 백그라운드 웜업 시작");
+        cacheWarmUpService.warmUpAsync();
+        return ResponseEntity.ok("Cache warm-up started");
     }
 
     @GetMapping("/suggest")
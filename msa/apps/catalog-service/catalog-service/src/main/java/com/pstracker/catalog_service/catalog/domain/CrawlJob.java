@@ -6,9 +6,16 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "crawl_jobs", indexes = {
-        @Index(name = "idx_crawl_job_status", columnList = "status")
+        // 임대: status·target_type 동등 조건 + next_attempt_at 범위·정렬을 인덱스 한 구간으로 (DONE 행이 쌓여도 일정)
+        @Index(name = "idx_crawl_job_queue", columnList = "status, target_type, next_attempt_at"),
+        // 만료 임대 회수 (CrawlJobLeaseReaper)
+        @Index(name = "idx_crawl_job_lease", columnList = "status, lease_expires_at"),
+        // 게임별 재등록 확인 (requeueRecentGameForScraping)
+        @Index(name = "idx_crawl_job_game_target", columnList = "game_id, target_type, status")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -32,6 +39,21 @@ public class CrawlJob extends BaseTimeEntity {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
+    // 처리 중(PROCESSING)일 때만 값이 있다 (JobLeaseJdbcRepository)
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    // 임대가 만료돼 회수된 횟수 (max-attempts에 닿으면 FAILED)
+    @Column(nullable = false)
+    private int attempts;
+
+    // 이 시각 이후에만 임대된다 (생성·재등록 시 지금, 회수 시 지금 + 백오프)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
     public enum JobStatus {
         PENDING, PROCESSING, DONE, FAILED, NOT_FOUND, SKIP, ERROR
     }
@@ -41,16 +63,42 @@ public class CrawlJob extends BaseTimeEntity {
         HLTB
     }
 
+    /**
+     * 수집기 결과 → 작업 상태 (결과 일괄 반영 시 같은 결과끼리 묶어 UPDATE 1번)
+     */
+    public record Outcome(JobStatus status, String errorMessage) {
+        public static final Outcome DONE = new Outcome(JobStatus.DONE, null);
+        public static final Outcome GAME_DELETED = new Outcome(JobStatus.FAILED, "Game deleted after processing");
+
+        // NOT_FOUND, BLOCKED 등 수집기가 보낸 실패 사유 (모르는 값은 FAILED)
+        public static Outcome reported(String crawlerStatus) {
+            JobStatus status = JobStatus.FAILED;
+            try {
+                status = JobStatus.valueOf(crawlerStatus);
+            } catch (Exception ignored) {}
+            return new Outcome(status, "Crawler reported: " + crawlerStatus);
+        }
+    }
+
     public static CrawlJob create(Long gameId, CrawlJob.TargetType targetType) {
         CrawlJob job = new CrawlJob();
         job.gameId = gameId;
         job.targetType = targetType;
         job.status = JobStatus.PENDING;
+        job.nextAttemptAt = LocalDateTime.now();
         return job;
     }
 
     public void updateStatus(JobStatus newStatus, String errorMessage) {
         this.status = newStatus;
         this.errorMessage = errorMessage;
+        if (newStatus != JobStatus.PROCESSING) {
+            releaseLease();
+        }
+    }
+
+    private void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
     }
 }
@@ -0,0 +1,43 @@
+package com.pstracker.catalog_service.catalog.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다른 레플리카가 받은 샤드 완료 신호 (샤드 1개 = 1행).
+ * - 수집기의 완료 콜백은 어느 catalog-service 레플리카로든 갈 수 있다. 샤드를 보낸 레플리카가 아니면 여기에 남겨 두고,
+ *   보낸 레플리카(CrawlShardDispatcher)가 tick에서 자기 진행 중 샤드 id로 찾아 완료 처리한 뒤 지운다.
+ * - 아무도 가져가지 않은 행(만료된 샤드·이전 실행)은 shard-timeout이 지나면 정리한다.
+ */
+@Entity
+@Table(name = "crawl_shard_completions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CrawlShardCompletion {
+
+    @Id
+    @Column(name = "shard_id", length = 100)
+    private String shardId;
+
+    @Column(nullable = false)
+    private int processed;
+
+    @Column(nullable = false)
+    private int failed;
+
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+
+    public static CrawlShardCompletion create(String shardId, int processed, int failed, LocalDateTime receivedAt) {
+        CrawlShardCompletion completion = new CrawlShardCompletion();
+        completion.shardId = shardId;
+        completion.processed = processed;
+        completion.failed = failed;
+        completion.receivedAt = receivedAt;
+        return completion;
+    }
+}
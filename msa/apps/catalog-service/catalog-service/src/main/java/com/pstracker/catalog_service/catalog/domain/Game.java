@@ -1,6 +1,8 @@
 package com.pstracker.catalog_service.catalog.domain;
 
+import com.pstracker.catalog_service.global.domain.PriceVerdict;
 import com.pstracker.catalog_service.global.util.ChosungUtils;
+import com.pstracker.catalog_service.global.util.PriceVerdictCalculator;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -31,6 +33,9 @@ import static org.springframework.util.StringUtils.hasText;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Game {
 
+    // 크롤러가 설명 대신 넣는 자리표시자 (AI 요약 대상)
+    public static final String CRAWLER_PLACEHOLDER_DESCRIPTION = "Full Data Crawler";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -111,6 +116,18 @@ public class Game {
     @Column(name = "is_all_time_low_new", nullable = false)
     private boolean isAllTimeLowNew = false;
 
+    // 가격 이력 건수와 가격 판정 (목록 API에서 이력 GROUP BY 없이 바로 쓰도록 비정규화)
+    @Column(name = "price_history_count", nullable = false)
+    private int priceHistoryCount = 0;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "price_verdict", length = 20)
+    private PriceVerdict priceVerdict;
+
+    // 마지막으로 반영한 수집 요청의 내용 지문 (같은 요청이 다시 오면 upsert 생략, null이면 다음 수집 때 전체 반영)
+    @Column(name = "collect_fingerprint")
+    private Long collectFingerprint;
+
     @Column(name = "chosung_name")
     private String chosungName;
 
@@ -227,7 +244,7 @@ public class Game {
             this.imageUrl = imageUrl;
         }
 
-        if (hasText(description) && !"Full Data Crawler".equals(description)) {
+        if (hasText(description) && !CRAWLER_PLACEHOLDER_DESCRIPTION.equals(description)) {
             this.description = description;
         }
 
@@ -366,6 +383,13 @@ public class Game {
         this.description = summary;
     }
 
+    /**
+     * AI 요약·감성 태그·검색 키워드 중 하나라도 아직 없으면 true (EnrichmentPipeline AI 단계 대상)
+     */
+    public boolean needsAiInsights() {
+        return CRAWLER_PLACEHOLDER_DESCRIPTION.equals(description) || vibeTags == null || searchKeywords == null;
+    }
+
     public void updateAiInsights(String summary, List<String> vibeTags) {
         if (hasText(summary)) {
             this.description = summary;
@@ -403,6 +427,48 @@ public class Game {
         }
     }
 
+    /**
+     * 가격 이력 1건이 새로 기록되었을 때 호출 (CatalogService.processPriceInfo)
+     */
+    public void increasePriceHistoryCount() {
+        this.priceHistoryCount++;
+    }
+
+    /**
+     * 수집 요청을 모두 반영한 뒤 호출 (CatalogService.upsertGameData / upsertGameDataBulk)
+     */
+    public void updateCollectFingerprint(long fingerprint) {
+        this.collectFingerprint = fingerprint;
+    }
+
+    /**
+     * 수집 외 경로(관리자 수정 등)로 바뀐 게임은 다음 수집 요청을 지문 비교 없이 전체 반영하도록 지문을 비운다.
+     */
+    public void clearCollectFingerprint() {
+        this.collectFingerprint = null;
+    }
+
+    /**
+     * 현재가·정가·역대 최저가·이력 건수로 가격 판정을 다시 계산해 보관.
+     * 판정 기준은 PriceVerdictCalculator.forGame과 동일 (값이 없으면 목록 DTO와 같이 0으로 취급)
+     */
+    public void refreshPriceVerdict() {
+        this.priceVerdict = PriceVerdictCalculator.forGame(
+                currentPrice,
+                originalPrice != null ? originalPrice : 0,
+                allTimeLowPrice != null ? allTimeLowPrice : 0,
+                priceHistoryCount
+        );
+    }
+
+    /**
+     * 일회성 백필용: 실제 이력 건수로 맞춘 뒤 판정을 다시 계산
+     */
+    public void backfillPriceVerdict(int priceHistoryCount) {
+        this.priceHistoryCount = priceHistoryCount;
+        refreshPriceVerdict();
+    }
+
     public void updatePioneerInfo(Long memberId, String nickname) {
         if (this.pioneerMemberId == null && this.pioneerName == null) {
             this.pioneerMemberId = memberId;
@@ -0,0 +1,82 @@
+package com.pstracker.catalog_service.catalog.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 게임별 가격 이력 압축 시계열 (게임 1개 = 1행).
+ * - GamePriceHistory가 원본이고, 이 테이블은 상세 차트·방어도 분석을 위한 읽기 모델이다.
+ * - processPriceInfo에서 이력이 저장될 때 마지막 포인트와의 차이만 인코딩해 바이트열 뒤에 덧붙인다. (기존 포인트 디코딩 불필요)
+ * - 인코딩 형식은 PriceSeries 참고.
+ */
+@Entity
+@Table(name = "game_price_series")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GamePriceSeries {
+
+    @Id
+    @Column(name = "game_id")
+    private Long gameId;
+
+    @Lob
+    @Column(name = "encoded", nullable = false)
+    private byte[] encoded;
+
+    @Column(name = "point_count", nullable = false)
+    private int pointCount;
+
+    // 다음 포인트의 차이 계산 기준 (마지막 포인트 값)
+    @Column(name = "last_epoch_day", nullable = false)
+    private int lastEpochDay;
+
+    @Column(name = "last_price", nullable = false)
+    private int lastPrice;
+
+    @Column(name = "last_discount_rate", nullable = false)
+    private int lastDiscountRate;
+
+    public static GamePriceSeries create(Long gameId, PriceSeries series) {
+        GamePriceSeries entity = new GamePriceSeries();
+        entity.gameId = gameId;
+        entity.replace(series);
+        return entity;
+    }
+
+    /**
+     * 원본 이력으로 다시 계산한 시계열로 통째로 교체 (백필·불일치 복구용)
+     */
+    public void replace(PriceSeries series) {
+        this.encoded = series.encode();
+        this.pointCount = series.size();
+        int last = series.size() - 1;
+        this.lastEpochDay = last >= 0 ? series.epochDayAt(last) : 0;
+        this.lastPrice = last >= 0 ? series.priceAt(last) : 0;
+        this.lastDiscountRate = last >= 0 ? series.discountRateAt(last) : 0;
+    }
+
+    public void append(LocalDate date, Integer price, Integer discountRate) {
+        int epochDay = (int) date.toEpochDay();
+        int safePrice = price != null ? price : 0;
+        int safeRate = discountRate != null ? discountRate : 0;
+
+        byte[] point = PriceSeries.encodePoint(epochDay, safePrice, safeRate, lastEpochDay, lastPrice, lastDiscountRate);
+        byte[] appended = Arrays.copyOf(encoded, encoded.length + point.length);
+        System.arraycopy(point, 0, appended, encoded.length, point.length);
+
+        this.encoded = appended;
+        this.pointCount++;
+        this.lastEpochDay = epochDay;
+        this.lastPrice = safePrice;
+        this.lastDiscountRate = safeRate;
+    }
+
+    public PriceSeries toSeries() {
+        return PriceSeries.decode(encoded, pointCount);
+    }
+}
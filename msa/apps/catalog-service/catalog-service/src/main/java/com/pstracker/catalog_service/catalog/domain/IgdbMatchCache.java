@@ -0,0 +1,93 @@
+package com.pstracker.catalog_service.catalog.domain;
+
+import com.pstracker.catalog_service.catalog.dto.igdb.IgdbGameResponse;
+import com.pstracker.catalog_service.global.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * IGDB 타이틀 검색 결과 캐시 (정규화 타이틀 1개 = 1행).
+ * - matched=false 행은 "3단계 검색 모두 결과 없음"을 기억하는 부정 캐시다. (IGDB 오류로 실패한 경우는 저장하지 않음)
+ * - 만료(expiresAt)가 지나면 다음 조회 때 IGDB를 다시 호출해 덮어쓴다.
+ * - 평점 반영에 쓰는 필드만 보관한다. (summary 미보관)
+ */
+@Entity
+@Table(name = "igdb_match_cache", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_igdb_match_cache_title_key", columnNames = "title_key")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IgdbMatchCache extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "title_key", nullable = false, length = 300)
+    private String titleKey;
+
+    @Column(nullable = false)
+    private boolean matched;
+
+    @Column(name = "igdb_id")
+    private Long igdbId;
+
+    @Column(name = "igdb_name")
+    private String igdbName;
+
+    @Column(name = "critic_score")
+    private Double criticScore;
+
+    @Column(name = "critic_count")
+    private Integer criticCount;
+
+    @Column(name = "user_score")
+    private Double userScore;
+
+    @Column(name = "user_count")
+    private Integer userCount;
+
+    @Column(name = "total_rating_count")
+    private Integer totalRatingCount;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static IgdbMatchCache create(String titleKey, IgdbGameResponse response, LocalDateTime expiresAt) {
+        IgdbMatchCache cache = new IgdbMatchCache();
+        cache.titleKey = titleKey;
+        cache.update(response, expiresAt);
+        return cache;
+    }
+
+    /**
+     * @param response 검색 결과 (null이면 부정 캐시)
+     */
+    public void update(IgdbGameResponse response, LocalDateTime expiresAt) {
+        this.matched = response != null;
+        this.igdbId = response != null ? response.id() : null;
+        this.igdbName = response != null ? response.name() : null;
+        this.criticScore = response != null ? response.criticScore() : null;
+        this.criticCount = response != null ? response.criticCount() : null;
+        this.userScore = response != null ? response.userScore() : null;
+        this.userCount = response != null ? response.userCount() : null;
+        this.totalRatingCount = response != null ? response.totalRatingCount() : null;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    /**
+     * @return 캐시된 검색 결과 (부정 캐시면 null)
+     */
+    public IgdbGameResponse toResponse() {
+        if (!matched) return null;
+        return new IgdbGameResponse(igdbId, igdbName, criticScore, criticCount, userScore, userCount, null, totalRatingCount);
+    }
+}
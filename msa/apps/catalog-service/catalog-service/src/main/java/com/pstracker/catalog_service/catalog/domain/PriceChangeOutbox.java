@@ -0,0 +1,60 @@
+package com.pstracker.catalog_service.catalog.domain;
+
+import com.pstracker.catalog_service.catalog.event.GamePriceChangedEvent;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가격 하락 알림 아웃박스 (가격 하락 1건 = 1행).
+ * - 수집 upsert와 같은 트랜잭션에서 기록되므로 커밋된 하락은 재시작해도 유실되지 않는다. (PriceChangeOutboxJdbcRepository로 INSERT)
+ * - PriceChangeOutboxWorker가 id 순으로 묶어 선점(SKIP LOCKED)해 알림을 만든 뒤 같은 트랜잭션에서 행을 지운다.
+ * - 묶음이 실패하면 나눠서 다시 처리하고, 혼자서도 실패하는 행만 attempts를 올린다.
+ *   최대 횟수에 닿은 행은 데드레터로 보관 기간 동안 남는다. (attempts를 0으로 되돌리면 다시 처리)
+ */
+@Entity
+@Table(name = "price_change_outbox", indexes = {
+        @Index(name = "idx_price_change_outbox_attempts_id", columnList = "attempts, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PriceChangeOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @Column(name = "game_name", nullable = false)
+    private String gameName;
+
+    @Column(name = "ps_store_id", nullable = false)
+    private String psStoreId;
+
+    @Column(name = "old_price", nullable = false)
+    private int oldPrice;
+
+    @Column(name = "new_price", nullable = false)
+    private int newPrice;
+
+    @Column(name = "discount_rate", nullable = false)
+    private int discountRate;
+
+    @Column(name = "image_url")
+    private String imageUrl;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public GamePriceChangedEvent toEvent() {
+        return new GamePriceChangedEvent(gameId, gameName, psStoreId, oldPrice, newPrice, discountRate, imageUrl);
+    }
+}
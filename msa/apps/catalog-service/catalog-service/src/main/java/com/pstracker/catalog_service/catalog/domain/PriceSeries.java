@@ -0,0 +1,156 @@
+package com.pstracker.catalog_service.catalog.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 게임 1개의 가격 이력 시계열 (차트·방어도 분석용 읽기 모델).
+ * - GamePriceHistory 행 대신 epochDay / 가격 / 할인율을 원시 int 배열로 들고 있어 한 번의 순회로 통계를 낸다.
+ * - 저장 형식: 포인트마다 (epochDay, price, discountRate)의 직전 값 대비 차이를 zigzag varint로 이어 붙인 바이트열.
+ *   첫 포인트는 0 기준 차이. 가격은 대부분 이전과 가까운 값이라 포인트당 수 바이트로 줄어든다.
+ * - 포인트 수는 바이트열에 넣지 않고 GamePriceSeries.pointCount 컬럼에 둔다. (append 시 바이트 뒤에 덧붙이기만 하면 됨)
+ */
+public final class PriceSeries implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final PriceSeries EMPTY = new PriceSeries(new int[0], new int[0], new int[0]);
+
+    private final int[] epochDays;
+    private final int[] prices;
+    private final int[] discountRates;
+
+    private PriceSeries(int[] epochDays, int[] prices, int[] discountRates) {
+        this.epochDays = epochDays;
+        this.prices = prices;
+        this.discountRates = discountRates;
+    }
+
+    /**
+     * @param epochDays 날짜 (LocalDate.toEpochDay), 오름차순
+     * @param prices 판매가 (없으면 0)
+     * @param discountRates 할인율 (없으면 0)
+     */
+    public static PriceSeries of(int[] epochDays, int[] prices, int[] discountRates) {
+        if (epochDays.length != prices.length || epochDays.length != discountRates.length) {
+            throw new IllegalArgumentException("가격 시계열 배열 길이가 일치하지 않습니다.");
+        }
+        return new PriceSeries(epochDays, prices, discountRates);
+    }
+
+    public int size() {
+        return epochDays.length;
+    }
+
+    public boolean isEmpty() {
+        return epochDays.length == 0;
+    }
+
+    public LocalDate dateAt(int index) {
+        return LocalDate.ofEpochDay(epochDays[index]);
+    }
+
+    public int epochDayAt(int index) {
+        return epochDays[index];
+    }
+
+    public int priceAt(int index) {
+        return prices[index];
+    }
+
+    public int discountRateAt(int index) {
+        return discountRates[index];
+    }
+
+    // --- [인코딩] ---
+
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(epochDays.length * 4);
+        int prevDay = 0, prevPrice = 0, prevRate = 0;
+        for (int i = 0; i < epochDays.length; i++) {
+            writeDelta(out, epochDays[i], prevDay, prices[i], prevPrice, discountRates[i], prevRate);
+            prevDay = epochDays[i];
+            prevPrice = prices[i];
+            prevRate = discountRates[i];
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 마지막 포인트(prev*) 뒤에 포인트 1개를 덧붙일 바이트열
+     */
+    public static byte[] encodePoint(int epochDay, int price, int discountRate,
+                                     int prevEpochDay, int prevPrice, int prevDiscountRate) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8);
+        writeDelta(out, epochDay, prevEpochDay, price, prevPrice, discountRate, prevDiscountRate);
+        return out.toByteArray();
+    }
+
+    public static PriceSeries decode(byte[] encoded, int pointCount) {
+        if (encoded == null || pointCount <= 0) return EMPTY;
+
+        int[] days = new int[pointCount];
+        int[] prices = new int[pointCount];
+        int[] rates = new int[pointCount];
+        int[] pos = {0};
+        int day = 0, price = 0, rate = 0;
+        for (int i = 0; i < pointCount; i++) {
+            day += readZigZag(encoded, pos);
+            price += readZigZag(encoded, pos);
+            rate += readZigZag(encoded, pos);
+            days[i] = day;
+            prices[i] = price;
+            rates[i] = rate;
+        }
+        return new PriceSeries(days, prices, rates);
+    }
+
+    private static void writeDelta(ByteArrayOutputStream out, int day, int prevDay,
+                                   int price, int prevPrice, int rate, int prevRate) {
+        writeZigZag(out, day - prevDay);
+        writeZigZag(out, price - prevPrice);
+        writeZigZag(out, rate - prevRate);
+    }
+
+    private static void writeZigZag(ByteArrayOutputStream out, int value) {
+        int v = (value << 1) ^ (value >> 31);
+        while ((v & ~0x7F) != 0) {
+            out.write((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.write(v);
+    }
+
+    private static int readZigZag(byte[] in, int[] pos) {
+        int v = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (pos[0] >= in.length) {
+                throw new IllegalStateException("가격 시계열 바이트열이 손상되었습니다.");
+            }
+            b = in[pos[0]++];
+            v |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PriceSeries other)) return false;
+        return Arrays.equals(epochDays, other.epochDays)
+                && Arrays.equals(prices, other.prices)
+                && Arrays.equals(discountRates, other.discountRates);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(epochDays);
+        result = 31 * result + Arrays.hashCode(prices);
+        return 31 * result + Arrays.hashCode(discountRates);
+    }
+}
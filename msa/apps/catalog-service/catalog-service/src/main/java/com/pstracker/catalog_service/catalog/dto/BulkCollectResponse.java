@@ -0,0 +1,19 @@
+package com.pstracker.catalog_service.catalog.dto;
+
+/**
+ * 일괄 수집 결과 요약
+ * @param received 요청 건수
+ * @param upserted 저장(신규+갱신)한 게임 수
+ * @param skipped 가격 0/누락·psStoreId 누락·배치 내 중복으로 건너뛴 건수
+ * @param historySaved 가격 이력이 새로 기록된 게임 수
+ * @param priceDrops 가격 하락 알림 대상 게임 수
+ * @param unchanged upserted 중 내용 지문이 같아 수집 시각만 갱신한 게임 수
+ */
+public record BulkCollectResponse(
+        int received,
+        int upserted,
+        int skipped,
+        int historySaved,
+        int priceDrops,
+        int unchanged
+) {}
@@ -0,0 +1,19 @@
+package com.pstracker.catalog_service.catalog.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크롤러 타겟 피드 1행. 엔티티 대신 id·psStoreId만 읽는 프로젝션이다.
+ * @param lastUpdated keyset 커서용 (응답에는 내려가지 않음)
+ */
+public record CrawlTarget(Long id, String psStoreId, String url, @JsonIgnore LocalDateTime lastUpdated) {
+
+    public static final String PS_STORE_BASE_URL = "https://store.playstation.com/ko-kr/product/";
+
+    // JPQL 생성자 표현식용
+    public CrawlTarget(Long id, String psStoreId, LocalDateTime lastUpdated) {
+        this(id, psStoreId, PS_STORE_BASE_URL + psStoreId, lastUpdated);
+    }
+}
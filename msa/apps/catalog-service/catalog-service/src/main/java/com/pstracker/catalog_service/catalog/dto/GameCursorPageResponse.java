@@ -0,0 +1,9 @@
+package com.pstracker.catalog_service.catalog.dto;
+
+import java.util.List;
+
+/**
+ * 커서 모드 검색 결과. 전체 건수(COUNT) 없이 다음 페이지 존재 여부와 다음 커서만 내려준다.
+ * @param nextCursor 다음 요청의 cursor 파라미터 (마지막 페이지면 null)
+ */
+public record GameCursorPageResponse(List<GameSearchResponse> content, String nextCursor, boolean hasNext) {}
@@ -1,7 +1,9 @@
 package com.pstracker.catalog_service.catalog.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.domain.PriceSeries;
 import com.pstracker.catalog_service.catalog.domain.VoteType;
 import com.pstracker.catalog_service.catalog.domain.tag.VibeTag;
 import com.pstracker.catalog_service.global.domain.PriceVerdict;
@@ -10,6 +12,7 @@ import com.pstracker.catalog_service.global.util.PriceVerdictCalculator;
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 public record GameDetailResponse(
@@ -66,7 +69,9 @@ public record GameDetailResponse(
 
         // 판정 및 차트
         PriceVerdict priceVerdict, // 판정 결과
-        List<PriceHistoryDto> priceHistory, // 차트용 데이터
+        List<PriceHistoryDto> priceHistory, // 차트용 데이터 (응답 직전에 priceSeries에서 펼침)
+        @JsonIgnore
+        PriceSeries priceSeries, // 가격 이력 압축 시계열 (캐시에는 DTO 리스트 대신 이것만 보관)
 
         Integer scouterTotalWatchers,
         Integer scouterAverageTargetPrice,
@@ -85,7 +90,7 @@ public record GameDetailResponse(
         List<RelatedGameDto> relatedGames
 ) implements Serializable {
 
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     public GameDetailResponse withDynamicData(
             boolean isLiked, VoteType userVote,
@@ -104,15 +109,35 @@ public record GameDetailResponse(
                 this.vibeTags,
                 this.likeCount, this.dislikeCount, userVote,
                 isLiked, myTargetPrice, this.createdAt, this.priceVerdict,
-                this.priceHistory,
+                toPriceHistory(), this.priceSeries,
                 totalWatchers, avgTargetPrice, defenseInfo,
                 this.platforms, this.genres, this.inCatalog, this.familyGames, this.relatedGames
         );
     }
 
+    /**
+     * 차트용 DTO 리스트. 포인트별 판정은 현재 정가·역대 최저가 기준으로 계산한다.
+     */
+    private List<PriceHistoryDto> toPriceHistory() {
+        if (priceSeries == null) return priceHistory;
+
+        int size = priceSeries.size();
+        List<PriceHistoryDto> history = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int price = priceSeries.priceAt(i);
+            history.add(new PriceHistoryDto(
+                    priceSeries.dateAt(i),
+                    price,
+                    priceSeries.discountRateAt(i),
+                    PriceVerdictCalculator.forGame(price, originalPrice, lowestPrice, size)
+            ));
+        }
+        return history;
+    }
+
     public static GameDetailResponse from(
             Game game,
-            List<PriceHistoryDto> history,
+            PriceSeries history,
             boolean liked,
             List<FamilyGameDto> familyGames,
             List<RelatedGameDto> relatedGames
@@ -152,7 +177,7 @@ public record GameDetailResponse(
                 game.getHltbMainStory(), game.getHltbMainExtra(), game.getHltbCompletionist(),
                 vibeTags,
                 game.getLikeCount(), game.getDislikeCount(), null,
-                liked, null, game.getCreatedAt(), verdict, history,
+                liked, null, game.getCreatedAt(), verdict, null, history,
                 0, null, null,
                 game.getPlatforms().stream().map(Enum::name).toList(),
                 genreList, game.isInCatalog(), familyGames, relatedGames
@@ -0,0 +1,28 @@
+package com.pstracker.catalog_service.catalog.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * games 테이블 조건부 집계 1회 결과 (인사이트 대시보드 카운터 묶음).
+ * SUM(CASE ...)은 대상 행이 없으면 null이므로 값은 래퍼 타입으로 받는다.
+ */
+public record GameInsightsAggregate(
+        Long totalTracked,
+        Long allTimeLow,
+        Long mustPlay,
+        Long totalDiscounted,
+        Long totalDiscountAmount,
+        Long closingSoon,
+        Long ps5ProEnhanced,
+        Long inCatalog,
+        Long plusExclusive,
+        Long ptShort,
+        Long ptMedium,
+        Long ptLong,
+        Long ptEpic,
+        Long verdictBuyNow,
+        Long verdictGoodOffer,
+        Long verdictWait,
+        Long verdictTracking,
+        LocalDateTime lastUpdated
+) {}
@@ -1,6 +1,7 @@
 package com.pstracker.catalog_service.catalog.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.pstracker.catalog_service.global.domain.PriceVerdict;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Data;
 
@@ -56,7 +57,8 @@ public class GameSearchResponse implements Serializable {
                                boolean isPs5ProEnhanced,
                                Integer bestSellerRank, Integer mostDownloadedRank,
                                Integer mcMetaScore, Integer igdbCriticScore, List<String> vibeTags,
-                               Integer allTimeLowPrice, boolean isAllTimeLowNew) {
+                               Integer allTimeLowPrice, boolean isAllTimeLowNew,
+                               PriceVerdict priceVerdict) {
         this.id = id;
         this.name = name;
         this.imageUrl = imageUrl;
@@ -73,6 +75,8 @@ public class GameSearchResponse implements Serializable {
         this.mostDownloadedRank = mostDownloadedRank;
         this.allTimeLowPrice = allTimeLowPrice != null ? allTimeLowPrice : 0;
         this.isAllTimeLowNew = isAllTimeLowNew;
+        // 백필 전(판정 null)인 게임은 수집 중으로 표시
+        this.priceVerdict = (priceVerdict != null ? priceVerdict : PriceVerdict.TRACKING).name();
 
         if (mcMetaScore != null && mcMetaScore > 0) {
             this.displayScore = mcMetaScore;
@@ -0,0 +1,35 @@
+package com.pstracker.catalog_service.catalog.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 검색 인덱스 전체 적재용 게임 프로젝션 (GameRepository.findAllSearchRows).
+ * metaScore/userScore는 쿼리에서 MC 값이 없을 때 IGDB 값으로 대체해 둔다.
+ */
+public record GameSearchRow(
+        Long id,
+        String psStoreId,
+        String familyId,
+        String name,
+        String englishName,
+        String chosungName,
+        List<String> searchKeywords,
+        String imageUrl,
+        Integer currentPrice,
+        Integer discountRate,
+        Integer allTimeLowPrice,
+        Integer metaScore,
+        Double userScore,
+        Double playTime,
+        LocalDate saleEndDate,
+        LocalDate releaseDate,
+        LocalDateTime lastUpdated,
+        boolean plusExclusive,
+        boolean inCatalog,
+        boolean ps5ProEnhanced,
+        Integer bestSellerRank,
+        Integer mostDownloadedRank,
+        List<String> vibeTags
+) {}
@@ -0,0 +1,20 @@
+package com.pstracker.catalog_service.catalog.dto;
+
+import com.pstracker.catalog_service.catalog.domain.VoteType;
+
+/**
+ * 게임 상세의 회원별 상태 (찜 여부·목표가·투표). 찜과 투표를 LEFT JOIN 1번으로 함께 읽는다.
+ * @param wishlistId 찜 ID (찜하지 않았으면 null)
+ */
+public record MemberGameState(
+        Long wishlistId,
+        Integer targetPrice,
+        VoteType voteType
+) {
+
+    public static final MemberGameState NONE = new MemberGameState(null, null, null);
+
+    public boolean liked() {
+        return wishlistId != null;
+    }
+}
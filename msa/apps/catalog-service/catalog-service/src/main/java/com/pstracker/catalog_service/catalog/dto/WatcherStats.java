@@ -0,0 +1,14 @@
+package com.pstracker.catalog_service.catalog.dto;
+
+import java.io.Serializable;
+
+/**
+ * 게임별 관심 통계 (모든 사용자에게 동일하므로 게임 ID 단위로 캐싱)
+ * @param totalWatchers  찜한 사용자 수
+ * @param avgTargetPrice 목표가를 설정한 찜의 평균 목표가 (없으면 null)
+ */
+public record WatcherStats(
+        Long totalWatchers,
+        Integer avgTargetPrice
+) implements Serializable {
+}
@@ -1,6 +1,7 @@
 package com.pstracker.catalog_service.catalog.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.pstracker.catalog_service.global.domain.PriceVerdict;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Data;
 
@@ -64,7 +65,7 @@ public class WishlistResponse {
                        boolean inCatalog, String pioneerName,
                        LocalDateTime createdAt, LocalDateTime wishedAt,
                        boolean isPs5ProEnhanced, List<String> vibeTags,
-                       boolean isAllTimeLowNew) {
+                       boolean isAllTimeLowNew, PriceVerdict priceVerdict) {
         this.id = id;
         this.gameId = gameId;
         this.name = gameName;
@@ -89,6 +90,7 @@ public class WishlistResponse {
 
         this.hltbMainStory = hltbMainStory;
         this.isAllTimeLowNew = isAllTimeLowNew;
+        this.priceVerdict = (priceVerdict != null ? priceVerdict : PriceVerdict.TRACKING).name();
 
         if (mcMetaScore != null && mcMetaScore > 0) {
             this.displayScore = mcMetaScore;
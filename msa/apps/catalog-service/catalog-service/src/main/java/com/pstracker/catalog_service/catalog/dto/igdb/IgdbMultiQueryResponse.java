@@ -0,0 +1,11 @@
+package com.pstracker.catalog_service.catalog.dto.igdb;
+
+import java.util.List;
+
+/**
+ * /multiquery 응답의 쿼리 1건. name은 요청 본문의 query 이름과 같다.
+ */
+public record IgdbMultiQueryResponse(
+        String name,
+        List<IgdbGameResponse> result
+) {}
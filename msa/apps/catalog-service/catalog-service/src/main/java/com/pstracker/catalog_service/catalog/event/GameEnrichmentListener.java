@@ -0,0 +1,23 @@
+package com.pstracker.catalog_service.catalog.event;
+
+import com.pstracker.catalog_service.catalog.service.EnrichmentPipeline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 수집 커밋 이후 보강 파이프라인에 게임 id를 넘긴다.
+ * 큐에 넣기만 하고 바로 돌아온다 (IGDB·AI 호출은 파이프라인 워커가 수집 트랜잭션과 무관하게 처리).
+ */
+@Component
+@RequiredArgsConstructor
+public class GameEnrichmentListener {
+
+    private final EnrichmentPipeline enrichmentPipeline;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleEnrichmentRequested(GameEnrichmentRequestedEvent event) {
+        enrichmentPipeline.submit(event);
+    }
+}
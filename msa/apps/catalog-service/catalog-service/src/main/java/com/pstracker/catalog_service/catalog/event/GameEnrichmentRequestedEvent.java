@@ -0,0 +1,24 @@
+package com.pstracker.catalog_service.catalog.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 수집(upsert) 트랜잭션에서 보강(IGDB 평점·AI 인사이트)이 필요한 게임 묶음. 단건 upsert는 1건, 일괄 수집은 배치당 1번 발행된다.
+ */
+@Getter
+@ToString
+public class GameEnrichmentRequestedEvent {
+    // gameId → IGDB 검색 타이틀
+    private final Map<Long, String> searchTitlesByGameId;
+    // AI 요약·감성 태그·검색 키워드가 아직 없는 게임
+    private final Set<Long> aiGameIds;
+
+    public GameEnrichmentRequestedEvent(Map<Long, String> searchTitlesByGameId, Set<Long> aiGameIds) {
+        this.searchTitlesByGameId = Map.copyOf(searchTitlesByGameId);
+        this.aiGameIds = Set.copyOf(aiGameIds);
+    }
+}
@@ -0,0 +1,23 @@
+package com.pstracker.catalog_service.catalog.event;
+
+import com.pstracker.catalog_service.catalog.search.GameSearchIndex;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 랭킹 일괄 반영 완료 (RankingService). 랭킹 타입별 웹훅 1번에 1번 발행된다.
+ */
+@Getter
+@ToString
+public class RankingsUpdatedEvent {
+    private final GameSearchIndex.RankType rankType;
+    // 1위부터 순서대로
+    private final List<String> psStoreIds;
+
+    public RankingsUpdatedEvent(GameSearchIndex.RankType rankType, List<String> psStoreIds) {
+        this.rankType = rankType;
+        this.psStoreIds = List.copyOf(psStoreIds);
+    }
+}
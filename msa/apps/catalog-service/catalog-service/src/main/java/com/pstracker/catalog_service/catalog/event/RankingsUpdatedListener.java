@@ -0,0 +1,31 @@
+package com.pstracker.catalog_service.catalog.event;
+
+import com.pstracker.catalog_service.catalog.search.GameSearchIndex;
+import com.pstracker.catalog_service.catalog.service.GameReadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 랭킹 커밋 이후 순위에 의존하는 읽기 경로를 한 번에 갱신.
+ * 검색 인덱스 순위 컬럼을 먼저 교체한 뒤, 그 인덱스로 큐레이션 캐시(베스트셀러·많이 받은 게임 테마 등)를 다시 계산해 덮어쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RankingsUpdatedListener {
+
+    private final GameSearchIndex gameSearchIndex;
+    private final GameReadService gameReadService;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRankingsUpdated(RankingsUpdatedEvent event) {
+        gameSearchIndex.replaceRanks(event.getRankType(), event.getPsStoreIds());
+        int warmed = gameReadService.warmCurationCache();
+        log.debug("[Ranking Update] {} 순위 인덱스 교체, 큐레이션 캐시 {}개 키 갱신", event.getRankType(), warmed);
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,9 +19,25 @@ public interface CrawlJobRepository extends JpaRepository<CrawlJob, Long> {
     @Query("DELETE FROM CrawlJob c WHERE c.gameId IN :gameIds")
     void deleteByGameIds(@Param("gameIds") List<Long> gameIds);
 
+    @Query("SELECT c.id FROM CrawlJob c WHERE c.id IN :jobIds")
+    List<Long> findExistingIds(@Param("jobIds") Collection<Long> jobIds);
+
+    // 결과 일괄 반영 — 같은 결과의 작업을 UPDATE 1번으로 닫고 임대를 푼다
+    @Modifying
+    @Query("UPDATE CrawlJob c " +
+            "SET c.status = :status, c.errorMessage = :errorMessage, " +
+            "c.leaseOwner = null, c.leaseExpiresAt = null, c.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE c.id IN :jobIds")
+    int updateStatusByIds(
+            @Param("jobIds") Collection<Long> jobIds,
+            @Param("status") CrawlJob.JobStatus status,
+            @Param("errorMessage") String errorMessage
+    );
+
     @Modifying
     @Query("UPDATE CrawlJob c " +
-            "SET c.status = :newStatus, c.errorMessage = null, c.updatedAt = CURRENT_TIMESTAMP " +
+            "SET c.status = :newStatus, c.errorMessage = null, c.attempts = 0, c.nextAttemptAt = :now, " +
+            "c.updatedAt = CURRENT_TIMESTAMP " +
             "WHERE c.gameId = :gameId " +
             "AND c.targetType = :targetType " +
             "AND c.status IN :oldStatuses")
@@ -27,6 +45,7 @@ public interface CrawlJobRepository extends JpaRepository<CrawlJob, Long> {
             @Param("gameId") Long gameId,
             @Param("targetType") CrawlJob.TargetType targetType,
             @Param("newStatus") CrawlJob.JobStatus newStatus,
-            @Param("oldStatuses") List<CrawlJob.JobStatus> oldStatuses
+            @Param("oldStatuses") List<CrawlJob.JobStatus> oldStatuses,
+            @Param("now") LocalDateTime now
     );
 }
@@ -0,0 +1,21 @@
+package com.pstracker.catalog_service.catalog.repository;
+
+import com.pstracker.catalog_service.catalog.domain.CrawlShardCompletion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface CrawlShardCompletionRepository extends JpaRepository<CrawlShardCompletion, String> {
+
+    /**
+     * 아무 레플리카도 가져가지 않은 오래된 완료 신호 정리 (CrawlShardDispatcher.tick)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM CrawlShardCompletion c WHERE c.receivedAt < :before")
+    int deleteReceivedBefore(@Param("before") LocalDateTime before);
+}
@@ -6,4 +6,7 @@ import java.util.List;
 
 public interface GameGenreRepositoryCustom {
     List<GameGenreResult> findGameGenres(List<Long> genreIds);
+
+    /** 전체 게임-장르 매핑 (검색 인덱스 적재용) */
+    List<GameGenreResult> findAllGameGenres();
 }
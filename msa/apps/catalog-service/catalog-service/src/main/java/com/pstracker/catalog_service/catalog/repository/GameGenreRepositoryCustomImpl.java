@@ -29,4 +29,16 @@ public class GameGenreRepositoryCustomImpl implements GameGenreRepositoryCustom
                 )
                 .fetch();
     }
+
+    @Override
+    public List<GameGenreResult> findAllGameGenres() {
+        return queryFactory
+                .select(new QGameGenreResult(
+                        gameGenre.game.id,
+                        genre.name
+                ))
+                .from(gameGenre)
+                .join(gameGenre.genre, genre)
+                .fetch();
+    }
 }
@@ -0,0 +1,47 @@
+package com.pstracker.catalog_service.catalog.repository;
+
+import com.pstracker.catalog_service.catalog.domain.GamePriceHistory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 가격 이력 일괄 INSERT.
+ * - GamePriceHistory는 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로, 일괄 수집 경로에서는 JDBC batch로 직접 쓴다.
+ * - 엔티티 리스너(@CreatedDate)를 거치지 않으므로 created_at은 호출부가 넘긴 시각으로 채운다.
+ * - MySQL은 rewriteBatchedStatements=true 일 때 multi-row INSERT로 전송된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GamePriceHistoryJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO game_price_history " +
+            "(game_id, original_price, price, discount_rate, is_plus_exclusive, sale_end_date, created_at, in_catalog) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<GamePriceHistory> histories, LocalDateTime createdAt) {
+        if (histories.isEmpty()) return;
+
+        Timestamp createdAtTs = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, histories, BATCH_SIZE, (ps, h) -> {
+            ps.setLong(1, h.getGame().getId());
+            ps.setObject(2, h.getOriginalPrice(), Types.INTEGER);
+            ps.setInt(3, h.getPrice());
+            ps.setObject(4, h.getDiscountRate(), Types.INTEGER);
+            ps.setBoolean(5, h.isPlusExclusive());
+            ps.setObject(6, h.getSaleEndDate() != null ? Date.valueOf(h.getSaleEndDate()) : null, Types.DATE);
+            ps.setTimestamp(7, createdAtTs);
+            ps.setBoolean(8, h.isInCatalog());
+        });
+    }
+}
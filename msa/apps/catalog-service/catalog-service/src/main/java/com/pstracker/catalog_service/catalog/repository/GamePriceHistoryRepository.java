@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +26,13 @@ public interface GamePriceHistoryRepository extends JpaRepository<GamePriceHisto
      */
     Optional<GamePriceHistory> findTopByGameOrderByCreatedAtDesc(Game game);
 
+    /**
+     * 게임별 가장 최근 가격 이력 (일괄 upsert의 변동 감지용). 이력은 생성 순으로 id가 증가하므로 MAX(id)가 최신 1건이다.
+     */
+    @Query("SELECT h FROM GamePriceHistory h WHERE h.id IN " +
+            "(SELECT MAX(h2.id) FROM GamePriceHistory h2 WHERE h2.game.id IN :gameIds GROUP BY h2.game.id)")
+    List<GamePriceHistory> findLatestByGameIds(@Param("gameIds") Collection<Long> gameIds);
+
     /**
      * 특정 게임의 모든 가격 이력을 기록일자 오름차순으로 조회
      * @param gameId 게임 ID
@@ -32,6 +41,20 @@ public interface GamePriceHistoryRepository extends JpaRepository<GamePriceHisto
     @Query("SELECT h FROM GamePriceHistory h WHERE h.game.id = :gameId ORDER BY h.createdAt ASC")
     List<GamePriceHistory> findAllByGameIdOrderByCreatedAtAsc(Long gameId);
 
+    /**
+     * 압축 시계열(GamePriceSeries) 구성용 원시 값 [gameId, createdAt, price, discountRate] — 엔티티를 만들지 않고 게임·기록일자 순으로 조회
+     */
+    @Query("SELECT h.game.id, h.createdAt, h.price, h.discountRate FROM GamePriceHistory h " +
+            "WHERE h.game.id IN :gameIds ORDER BY h.game.id ASC, h.createdAt ASC, h.id ASC")
+    List<Object[]> findSeriesPointsByGameIds(@Param("gameIds") List<Long> gameIds);
+
     @Query("SELECT h.game.id, COUNT(h) FROM GamePriceHistory h WHERE h.game.id IN :gameIds GROUP BY h.game.id")
     List<Object[]> countGroupByGameId(@Param("gameIds") List<Long> gameIds);
+
+    /**
+     * since 이후 할인 이력이 기록된 게임별 최신 기록 시각 [gameId, createdAt] (검색 인덱스의 '신규 할인' 필터 적재용)
+     */
+    @Query("SELECT h.game.id, MAX(h.createdAt) FROM GamePriceHistory h " +
+            "WHERE h.discountRate > 0 AND h.createdAt >= :since GROUP BY h.game.id")
+    List<Object[]> findLatestDiscountRecordedAt(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,16 @@
+package com.pstracker.catalog_service.catalog.repository;
+
+import com.pstracker.catalog_service.catalog.domain.GamePriceSeries;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface GamePriceSeriesRepository extends JpaRepository<GamePriceSeries, Long> {
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM GamePriceSeries s WHERE s.gameId IN :gameIds")
+    void deleteByGameIds(@Param("gameIds") List<Long> gameIds);
+}
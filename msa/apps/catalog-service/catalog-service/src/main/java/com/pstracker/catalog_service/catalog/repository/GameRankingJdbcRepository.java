@@ -0,0 +1,77 @@
+package com.pstracker.catalog_service.catalog.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 랭킹 일괄 반영 (RankingService).
+ * - 지금 순위가 있는 행만 NULL로 비운 뒤, 새 순위는 CASE 식 UPDATE 1문장으로 CHUNK_SIZE개씩 쓴다. (순위 1개 = UPDATE 1번 왕복 제거)
+ * - 순위 값은 서버가 만든 정수라 SQL에 그대로 넣고 psStoreId만 바인딩한다. (H2는 THEN 절 파라미터 타입을 추론하지 못함)
+ * - 영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션에서 Game 엔티티의 순위를 다시 읽어서는 안 된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class GameRankingJdbcRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param psStoreIds 1위부터 순서대로 (같은 psStoreId가 반복되면 앞 순위 유지)
+     * @return 순위를 받은 게임 수 (DB에 없는 psStoreId 제외)
+     */
+    public int replaceBestSellerRanks(List<String> psStoreIds) {
+        return replaceRanks("best_seller_rank", psStoreIds);
+    }
+
+    public int replaceMostDownloadedRanks(List<String> psStoreIds) {
+        return replaceRanks("most_downloaded_rank", psStoreIds);
+    }
+
+    private int replaceRanks(String column, List<String> psStoreIds) {
+        jdbcTemplate.update("UPDATE games SET " + column + " = NULL WHERE " + column + " IS NOT NULL");
+
+        Map<String, Integer> rankByPsStoreId = new LinkedHashMap<>();
+        for (int i = 0; i < psStoreIds.size(); i++) {
+            rankByPsStoreId.putIfAbsent(psStoreIds.get(i), i + 1);
+        }
+        List<Map.Entry<String, Integer>> ranks = new ArrayList<>(rankByPsStoreId.entrySet());
+
+        int updated = 0;
+        for (int from = 0; from < ranks.size(); from += CHUNK_SIZE) {
+            List<Map.Entry<String, Integer>> chunk = ranks.subList(from, Math.min(from + CHUNK_SIZE, ranks.size()));
+            updated += jdbcTemplate.update(caseUpdateSql(column, chunk), caseUpdateArgs(chunk));
+        }
+        return updated;
+    }
+
+    // UPDATE games SET col = CASE ps_store_id WHEN ? THEN 1 WHEN ? THEN 2 ... END WHERE ps_store_id IN (?, ?, ...)
+    private static String caseUpdateSql(String column, List<Map.Entry<String, Integer>> chunk) {
+        StringBuilder sql = new StringBuilder(64 + chunk.size() * 24)
+                .append("UPDATE games SET ").append(column).append(" = CASE ps_store_id");
+        for (Map.Entry<String, Integer> rank : chunk) {
+            sql.append(" WHEN ? THEN ").append(rank.getValue().intValue());
+        }
+        sql.append(" END WHERE ps_store_id IN (");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        return sql.append(')').toString();
+    }
+
+    private static Object[] caseUpdateArgs(List<Map.Entry<String, Integer>> chunk) {
+        Object[] args = new Object[chunk.size() * 2];
+        for (int i = 0; i < chunk.size(); i++) {
+            args[i] = chunk.get(i).getKey();
+            args[chunk.size() + i] = chunk.get(i).getKey();
+        }
+        return args;
+    }
+}
@@ -1,7 +1,10 @@
 package com.pstracker.catalog_service.catalog.repository;
 
 import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.dto.CrawlTarget;
 import com.pstracker.catalog_service.catalog.dto.GameIdMapping;
+import com.pstracker.catalog_service.catalog.dto.GameSearchRow;
+import com.pstracker.catalog_service.catalog.dto.GameInsightsAggregate;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -12,6 +15,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,35 +37,50 @@ public interface GameRepository extends JpaRepository<Game, Long>, GameRepositor
     @Query("SELECT g FROM Game g WHERE g.psStoreId = :psStoreId")
     Optional<Game> findByPsStoreIdWithGenres(@Param("psStoreId") String psStoreId);
 
+    /**
+     * 일괄 upsert 시 배치 전체의 기존 게임을 gameGenres 까지 IN절 1번으로 조회
+     */
+    @EntityGraph(attributePaths = {"gameGenres", "gameGenres.genre"})
+    @Query("SELECT DISTINCT g FROM Game g WHERE g.psStoreId IN :psStoreIds")
+    List<Game> findAllByPsStoreIdInWithGenres(@Param("psStoreIds") Collection<String> psStoreIds);
+
+    /**
+     * IGDB 평점 일괄 반영 시 검색 인덱스 문서 재생성을 위해 gameGenres 까지 IN절 1번으로 조회
+     */
+    @EntityGraph(attributePaths = {"gameGenres", "gameGenres.genre"})
+    @Query("SELECT DISTINCT g FROM Game g WHERE g.id IN :gameIds")
+    List<Game> findAllByIdInWithGenres(@Param("gameIds") Collection<Long> gameIds);
+
     /**
      * [수집 원칙 제1조 - 효율성 및 기간 존중 (완전판)]
      * 1. 갱신 주기 도래: 오늘 자정(todayStart) 이전에 갱신된 게임 (하루 1회 보장)
      * 2. 세일 중인 게임 제외: 정가(NULL)이거나, 할인이 어제부로 종료된 게임만 조회
+     * 3. keyset 청크: (lastUpdated, id) 순으로 커서 다음부터, 엔티티 대신 id·psStoreId만 조회
+     * 4. 샤드 분할: id를 shardTotal로 나눈 나머지가 shardId인 게임만 (샤드 1개면 전체)
      */
-    @Query("SELECT g FROM Game g WHERE g.lastUpdated < :todayStart " +
+    @Query("SELECT new com.pstracker.catalog_service.catalog.dto.CrawlTarget(g.id, g.psStoreId, g.lastUpdated) " +
+            "FROM Game g WHERE g.lastUpdated < :todayStart " +
             "AND (g.saleEndDate IS NULL OR g.saleEndDate < :today) " +
-            "ORDER BY g.lastUpdated ASC")
-    List<Game> findGamesToUpdate(
+            "AND (g.lastUpdated > :afterUpdated OR (g.lastUpdated = :afterUpdated AND g.id > :afterId)) " +
+            "AND MOD(g.id, :shardTotal) = :shardId " +
+            "ORDER BY g.lastUpdated ASC, g.id ASC")
+    List<CrawlTarget> findCrawlTargets(
             @Param("todayStart") LocalDateTime todayStart,
-            @Param("today") LocalDate today
+            @Param("today") LocalDate today,
+            @Param("afterUpdated") LocalDateTime afterUpdated,
+            @Param("afterId") Long afterId,
+            @Param("shardTotal") int shardTotal,
+            @Param("shardId") int shardId,
+            Pageable pageable
     );
 
     // 설명이 'Full Data Crawler'인 게임 20개 조회 (최신순)
     List<Game> findTop20ByDescriptionOrderByIdDesc(String description);
 
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.discountRate > 0 AND g.currentPrice <= g.allTimeLowPrice")
-    long countAllTimeLowGamesFast();
-
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.discountRate > 0")
-    long countTotalDiscountedGames();
-
-    @Query("SELECT SUM(g.originalPrice - g.currentPrice) FROM Game g WHERE g.saleEndDate IS NOT NULL AND g.saleEndDate >= CURRENT_DATE")
-    Long sumTotalDiscountAmount();
-
-    @Query("SELECT MAX(g.lastUpdated) FROM Game g")
-    LocalDateTime findLatestUpdateDateTime();
-
-    List<Game> findByFamilyIdOrderByOriginalPriceAsc(String familyId);
+    /**
+     * id 오름차순 청크 조회 (가격 판정 백필용 keyset 순회)
+     */
+    List<Game> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 
     @Query("SELECT g.id FROM Game g WHERE g.familyId = :familyId")
     List<Long> findIdsByFamilyId(@Param("familyId") String familyId);
@@ -72,6 +91,29 @@ public interface GameRepository extends JpaRepository<Game, Long>, GameRepositor
 
     List<Game> findAllByPioneerMemberIdOrderByCreatedAtDesc(Long pioneerMemberId);
 
+    /**
+     * 수집 지문이 같은 게임 ID (지문 비교용 — 엔티티·장르는 로딩하지 않음)
+     * 역대 최저가 갱신 표시(isAllTimeLowNew)는 같은 요청이 다시 오면 꺼져야 하므로, 켜져 있는 게임은 한 번 더 전체 반영한다.
+     */
+    @Query("SELECT g.id FROM Game g WHERE g.psStoreId = :psStoreId AND g.collectFingerprint = :fingerprint " +
+            "AND g.isAllTimeLowNew = false")
+    Optional<Long> findIdByPsStoreIdAndCollectFingerprint(@Param("psStoreId") String psStoreId,
+                                                          @Param("fingerprint") Long fingerprint);
+
+    /**
+     * 일괄 수집 지문 비교용: [psStoreId, id, collectFingerprint]
+     */
+    @Query("SELECT g.psStoreId, g.id, g.collectFingerprint FROM Game g " +
+            "WHERE g.psStoreId IN :psStoreIds AND g.collectFingerprint IS NOT NULL AND g.isAllTimeLowNew = false")
+    List<Object[]> findCollectFingerprintsByPsStoreIdIn(@Param("psStoreIds") Collection<String> psStoreIds);
+
+    /**
+     * 수집 내용이 그대로인 게임은 수집 시각만 갱신 (영속성 컨텍스트의 다른 엔티티는 건드리지 않도록 clear 하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Game g SET g.lastUpdated = :now WHERE g.id IN :gameIds")
+    int touchLastUpdated(@Param("gameIds") Collection<Long> gameIds, @Param("now") LocalDateTime now);
+
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Game g SET g.likeCount = g.likeCount + 1 WHERE g.id = :id")
     void incrementLikeCount(@Param("id") Long id);
@@ -92,27 +134,9 @@ public interface GameRepository extends JpaRepository<Game, Long>, GameRepositor
     @Query("UPDATE Game g SET g.pioneerName = :newNickname WHERE g.pioneerMemberId = :memberId")
     void updatePioneerNameByMemberId(@Param("memberId") Long memberId, @Param("newNickname") String newNickname);
 
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Game g SET g.bestSellerRank = null")
-    void clearBestSellerRanks();
-
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Game g SET g.mostDownloadedRank = null")
-    void clearMostDownloadedRanks();
-
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Game g SET g.bestSellerRank = :rank WHERE g.psStoreId = :psStoreId")
-    int updateBestSellerRank(@Param("psStoreId") String psStoreId, @Param("rank") Integer rank);
-
-    @Modifying(clearAutomatically = true)
-    @Query("UPDATE Game g SET g.mostDownloadedRank = :rank WHERE g.psStoreId = :psStoreId")
-    int updateMostDownloadedRank(@Param("psStoreId") String psStoreId, @Param("rank") Integer rank);
-
-    @Query("SELECT g FROM Game g WHERE g.description = :description OR g.vibeTags IS NULL OR g.searchKeywords IS NULL ORDER BY g.id ASC")
-    List<Game> findTop5NeedingAiUpdate(@Param("description") String description, Pageable pageable);
-
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.saleEndDate BETWEEN CURRENT_DATE AND :tomorrow")
-    long countClosingSoonGames(@Param("tomorrow") LocalDate tomorrow);
+    // AI 보강 백필 대상 (Game.needsAiInsights와 같은 조건)
+    @Query("SELECT g.id FROM Game g WHERE g.description = :description OR g.vibeTags IS NULL OR g.searchKeywords IS NULL ORDER BY g.id ASC")
+    List<Long> findIdsNeedingAiInsights(@Param("description") String description, Pageable pageable);
 
     @Query("SELECT COUNT(DISTINCT h.game.id) FROM GamePriceHistory h " +
             "WHERE h.discountRate > 0 " +
@@ -120,42 +144,55 @@ public interface GameRepository extends JpaRepository<Game, Long>, GameRepositor
     long countNewDiscountGames(@Param("startOfDay") LocalDateTime startOfDay,
                                @Param("endOfDay") LocalDateTime endOfDay);
 
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.isPs5ProEnhanced = true")
-    long countPs5ProEnhancedDeals();
-
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.inCatalog = true")
-    long countInCatalogDeals();
-
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.isPlusExclusive = true AND g.discountRate > 0")
-    long countPlusExclusiveDeals();
-
     @Query("SELECT new com.pstracker.catalog_service.catalog.dto.GameIdMapping(g.psStoreId, g.id) " +
             "FROM Game g WHERE g.psStoreId IN :psStoreIds")
     List<GameIdMapping> findGameIdsByPsStoreIds(@Param("psStoreIds") List<String> psStoreIds);
 
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.hltbMainStory > 0 AND g.hltbMainStory <= 10")
-    long countShortPlayTimeGames();
-
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.hltbMainStory > 10 AND g.hltbMainStory <= 30")
-    long countMediumPlayTimeGames();
-
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.hltbMainStory > 30 AND g.hltbMainStory <= 100")
-    long countLongPlayTimeGames();
-
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.hltbMainStory > 100")
-    long countEpicPlayTimeGames();
-
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.discountRate > 0 AND g.allTimeLowPrice > 0 AND g.currentPrice <= g.allTimeLowPrice")
-    long countVerdictBuyNow();
-
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.discountRate > 0 AND g.allTimeLowPrice > 0 AND g.currentPrice > g.allTimeLowPrice AND (g.currentPrice - g.allTimeLowPrice) * 1.0 / g.allTimeLowPrice * 100 <= 20")
-    long countVerdictGoodOffer();
-
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.discountRate > 0 AND (g.allTimeLowPrice IS NULL OR g.allTimeLowPrice = 0 OR (g.currentPrice > g.allTimeLowPrice AND (g.currentPrice - g.allTimeLowPrice) * 1.0 / g.allTimeLowPrice * 100 > 20))")
-    long countVerdictWait();
-
-    @Query("SELECT COUNT(g.id) FROM Game g WHERE g.discountRate = 0 OR g.currentPrice IS NULL OR g.currentPrice = 0")
-    long countVerdictTracking();
+    /**
+     * 인사이트 대시보드 카운터를 조건부 집계 1번으로 계산 (games 1회 스캔).
+     * 각 SUM(CASE ...) 조건은 기존 개별 COUNT 쿼리의 WHERE 절과 동일하다.
+     */
+    @Query("SELECT new com.pstracker.catalog_service.catalog.dto.GameInsightsAggregate(" +
+            "COUNT(g.id), " +
+            "SUM(CASE WHEN g.discountRate > 0 AND g.currentPrice <= g.allTimeLowPrice THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN (g.mcMetaScore >= 85 OR (g.mcMetaScore IS NULL AND g.igdbCriticScore >= 85)) " +
+            "AND g.discountRate >= 50 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.discountRate > 0 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.saleEndDate IS NOT NULL AND g.saleEndDate >= CURRENT_DATE " +
+            "THEN g.originalPrice - g.currentPrice END), " +
+            "SUM(CASE WHEN g.saleEndDate BETWEEN CURRENT_DATE AND :tomorrow THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.isPs5ProEnhanced = true THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.inCatalog = true THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.isPlusExclusive = true AND g.discountRate > 0 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.hltbMainStory > 0 AND g.hltbMainStory <= 10 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.hltbMainStory > 10 AND g.hltbMainStory <= 30 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.hltbMainStory > 30 AND g.hltbMainStory <= 100 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.hltbMainStory > 100 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.discountRate > 0 AND g.allTimeLowPrice > 0 AND g.currentPrice <= g.allTimeLowPrice " +
+            "THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.discountRate > 0 AND g.allTimeLowPrice > 0 AND g.currentPrice > g.allTimeLowPrice " +
+            "AND (g.currentPrice - g.allTimeLowPrice) * 1.0 / g.allTimeLowPrice * 100 <= 20 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.discountRate > 0 AND (g.allTimeLowPrice IS NULL OR g.allTimeLowPrice = 0 " +
+            "OR (g.currentPrice > g.allTimeLowPrice " +
+            "AND (g.currentPrice - g.allTimeLowPrice) * 1.0 / g.allTimeLowPrice * 100 > 20)) THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN g.discountRate = 0 OR g.currentPrice IS NULL OR g.currentPrice = 0 THEN 1 ELSE 0 END), " +
+            "MAX(g.lastUpdated)) " +
+            "FROM Game g")
+    GameInsightsAggregate aggregateInsights(@Param("tomorrow") LocalDate tomorrow);
+
+    /** 전체 게임의 검색 인덱스 컬럼만 (검색 인덱스 적재용 — 엔티티·연관관계를 로딩하지 않음) */
+    @Query("SELECT new com.pstracker.catalog_service.catalog.dto.GameSearchRow(" +
+            "g.id, g.psStoreId, g.familyId, g.name, g.englishName, g.chosungName, g.searchKeywords, g.imageUrl, " +
+            "g.currentPrice, g.discountRate, g.allTimeLowPrice, " +
+            "COALESCE(g.mcMetaScore, g.igdbCriticScore), COALESCE(g.mcUserScore, g.igdbUserScore), g.hltbMainStory, " +
+            "g.saleEndDate, g.releaseDate, g.lastUpdated, g.isPlusExclusive, g.inCatalog, g.isPs5ProEnhanced, " +
+            "g.bestSellerRank, g.mostDownloadedRank, g.vibeTags) " +
+            "FROM Game g")
+    List<GameSearchRow> findAllSearchRows();
+
+    /** 전체 게임-플랫폼 매핑 [gameId, Platform] (검색 인덱스 적재용) */
+    @Query("SELECT g.id, p FROM Game g JOIN g.platforms p")
+    List<Object[]> findAllPlatformMappings();
 
     @Modifying(clearAutomatically = true)
     @Query("DELETE FROM Game g WHERE g.id IN :ids")
@@ -1,8 +1,10 @@
 package com.pstracker.catalog_service.catalog.repository;
 
+import com.pstracker.catalog_service.catalog.dto.GameCursorPageResponse;
 import com.pstracker.catalog_service.catalog.dto.GameSearchCondition;
 import com.pstracker.catalog_service.catalog.dto.GameSearchResponse;
 import com.pstracker.catalog_service.catalog.dto.GameSuggestResponse;
+import com.pstracker.catalog_service.catalog.search.SearchCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -17,6 +19,15 @@ public interface GameRepositoryCustom {
      */
     Page<GameSearchResponse> searchGames(GameSearchCondition condition, Pageable pageable);
 
+    /**
+     * 커서(keyset) 방식 게임 검색 — OFFSET·COUNT 쿼리 없이 커서 위치 뒤에서 size건을 읽는다.
+     * @param condition 검색 조건
+     * @param cursor 정렬 키와 마지막 행 위치 (첫 페이지면 SearchCursor.start)
+     * @param size 페이지 크기
+     * @return 검색 결과와 다음 커서
+     */
+    GameCursorPageResponse searchGamesAfter(GameSearchCondition condition, SearchCursor cursor, int size);
+
     /**
      * 연관 게임 추천
      * @param genreIds 기준 게임이 가진 장르 ID 목록
@@ -26,7 +37,12 @@ public interface GameRepositoryCustom {
      */
     List<GameSearchResponse> findRelatedGames(List<Long> genreIds, Long excludeGameId, int limit);
 
-    long countMustPlayGames();
+    /**
+     * 검색 인덱스가 결정한 최종 페이지의 게임 ID로 검색 결과를 hydrate
+     * @param gameIds 정렬 순서가 반영된 게임 ID 목록
+     * @return gameIds와 같은 순서의 검색 결과 (그 사이 삭제된 게임은 제외)
+     */
+    List<GameSearchResponse> findSearchResponsesByIds(List<Long> gameIds);
 
     /**
      * 게임 이름 자동완성 (한국어/영문/초성/AI키워드 지원)
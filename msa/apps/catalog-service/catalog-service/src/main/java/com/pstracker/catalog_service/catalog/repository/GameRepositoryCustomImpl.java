@@ -1,14 +1,19 @@
 package com.pstracker.catalog_service.catalog.repository;
 
 import com.pstracker.catalog_service.catalog.domain.Platform;
+import com.pstracker.catalog_service.catalog.dto.GameCursorPageResponse;
 import com.pstracker.catalog_service.catalog.dto.GameSearchCondition;
 import com.pstracker.catalog_service.catalog.dto.GameSearchResponse;
 import com.pstracker.catalog_service.catalog.dto.GameSuggestResponse;
 import com.pstracker.catalog_service.catalog.dto.QGameSearchResponse;
+import com.pstracker.catalog_service.catalog.search.CursorSort;
+import com.pstracker.catalog_service.catalog.search.SearchCursor;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
@@ -23,6 +28,10 @@ import org.springframework.data.support.PageableExecutionUtils;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.pstracker.catalog_service.catalog.domain.QGame.game;
 import static com.pstracker.catalog_service.catalog.domain.QGamePriceHistory.gamePriceHistory;
@@ -37,36 +46,9 @@ public class GameRepositoryCustomImpl implements GameRepositoryCustom {
     @Override
     public Page<GameSearchResponse> searchGames(GameSearchCondition condition, Pageable pageable) {
         List<GameSearchResponse> content = queryFactory
-                .select(new QGameSearchResponse(
-                        game.id, game.name, game.imageUrl,
-                        game.originalPrice, game.currentPrice, game.discountRate,
-                        game.isPlusExclusive, game.saleEndDate, game.pioneerName,
-                        game.inCatalog, game.createdAt,
-                        game.isPs5ProEnhanced,
-                        game.bestSellerRank, game.mostDownloadedRank,
-                        game.mcMetaScore, game.igdbCriticScore, game.vibeTags,
-                        game.allTimeLowPrice, game.isAllTimeLowNew
-                ))
+                .select(searchResponseProjection())
                 .from(game)
-                .where(
-                        nameContains(condition.getKeyword()),
-                        priceBetween(condition.getMinPrice(), condition.getMaxPrice()),
-                        discountRateGoe(condition.getMinDiscountRate()),
-                        metaScoreGoe(condition.getMinMetaScore()),
-                        userScoreGoe(condition.getMinUserScore()),
-                        platformEq(condition.getPlatform()),
-                        plusExclusiveEq(condition.getIsPlusExclusive()),
-                        genreEq(condition.getGenre()),
-                        inCatalogEq(condition.getInCatalog()),
-                        isAllTimeLow(condition.getIsAllTimeLow()),
-                        ps5ProEnhancedEq(condition.getIsPs5ProEnhanced()),
-                        bestSellerEq(condition.getIsBestSeller()),
-                        mostDownloadedEq(condition.getIsMostDownloaded()),
-                        isClosingSoon(condition.getIsClosingSoon()),
-                        isNewDiscount(condition.getIsNewDiscount()),
-                        playTimeBetween(condition.getMinPlayTime(), condition.getMaxPlayTime()),
-                        vibeTagsContains(condition.getVibeTags())
-                )
+                .where(searchConditions(condition))
                 .orderBy(getOrderSpecifiers(pageable.getSort(), condition))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -75,44 +57,49 @@ public class GameRepositoryCustomImpl implements GameRepositoryCustom {
         JPAQuery<Long> countQuery = queryFactory
                 .select(game.count())
                 .from(game)
-                .where(
-                        nameContains(condition.getKeyword()),
-                        priceBetween(condition.getMinPrice(), condition.getMaxPrice()),
-                        discountRateGoe(condition.getMinDiscountRate()),
-                        metaScoreGoe(condition.getMinMetaScore()),
-                        userScoreGoe(condition.getMinUserScore()),
-                        platformEq(condition.getPlatform()),
-                        plusExclusiveEq(condition.getIsPlusExclusive()),
-                        genreEq(condition.getGenre()),
-                        inCatalogEq(condition.getInCatalog()),
-                        isAllTimeLow(condition.getIsAllTimeLow()),
-                        ps5ProEnhancedEq(condition.getIsPs5ProEnhanced()),
-                        bestSellerEq(condition.getIsBestSeller()),
-                        mostDownloadedEq(condition.getIsMostDownloaded()),
-                        isClosingSoon(condition.getIsClosingSoon()),
-                        isNewDiscount(condition.getIsNewDiscount()),
-                        playTimeBetween(condition.getMinPlayTime(), condition.getMaxPlayTime()),
-                        vibeTagsContains(condition.getVibeTags())
-                );
+                .where(searchConditions(condition));
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public GameCursorPageResponse searchGamesAfter(GameSearchCondition condition, SearchCursor cursor, int size) {
+        CursorSort sort = cursor.sort();
+        boolean nullsFirst = sort.nullsFirst(cursor.ascending());
+        ComparableExpression<?> key = cursorKey(sort);
+        QGameSearchResponse projection = searchResponseProjection();
+
+        // OFFSET·COUNT 없이 커서 뒤에서 size+1건만 읽어 다음 페이지 존재 여부를 판단
+        List<Tuple> rows = queryFactory
+                .select(projection, key)
+                .from(game)
+                .where(searchConditions(condition))
+                .where(cursor.isFirst() ? null
+                        : seekAfter(key, sort.parse(cursor.key()), cursor.id(), cursor.ascending(), nullsFirst))
+                .orderBy(
+                        new OrderSpecifier<>(cursor.ascending() ? Order.ASC : Order.DESC, key,
+                                nullsFirst ? OrderSpecifier.NullHandling.NullsFirst : OrderSpecifier.NullHandling.NullsLast),
+                        game.id.desc()
+                )
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<Tuple> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = page.get(page.size() - 1);
+            nextCursor = cursor.next(sort.format(last.get(key)), last.get(projection).getId()).encode();
+        }
+        return new GameCursorPageResponse(page.stream().map(row -> row.get(projection)).toList(), nextCursor, hasNext);
+    }
+
     @Override
     public List<GameSearchResponse> findRelatedGames(List<Long> genreIds, Long excludeGameId, int limit) {
         NumberExpression<Integer> fallbackScore = game.mcMetaScore.coalesce(game.igdbCriticScore);
 
         return queryFactory
-                .select(new QGameSearchResponse(
-                        game.id, game.name, game.imageUrl,
-                        game.originalPrice, game.currentPrice, game.discountRate,
-                        game.isPlusExclusive, game.saleEndDate, game.pioneerName,
-                        game.inCatalog, game.createdAt,
-                        game.isPs5ProEnhanced,
-                        game.bestSellerRank, game.mostDownloadedRank,
-                        game.mcMetaScore, game.igdbCriticScore, game.vibeTags,
-                        game.allTimeLowPrice, game.isAllTimeLowNew
-                ))
+                .select(searchResponseProjection())
                 .from(game)
                 .where(
                         game.id.ne(excludeGameId),
@@ -128,6 +115,98 @@ public class GameRepositoryCustomImpl implements GameRepositoryCustom {
                 .fetch();
     }
 
+    @Override
+    public List<GameSearchResponse> findSearchResponsesByIds(List<Long> gameIds) {
+        if (gameIds.isEmpty()) return List.of();
+
+        Map<Long, GameSearchResponse> byId = queryFactory
+                .select(searchResponseProjection())
+                .from(game)
+                .where(game.id.in(gameIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(GameSearchResponse::getId, Function.identity()));
+
+        // IN 절은 순서를 보장하지 않으므로 인덱스가 정한 순서로 재정렬
+        return gameIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private QGameSearchResponse searchResponseProjection() {
+        return new QGameSearchResponse(
+                game.id, game.name, game.imageUrl,
+                game.originalPrice, game.currentPrice, game.discountRate,
+                game.isPlusExclusive, game.saleEndDate, game.pioneerName,
+                game.inCatalog, game.createdAt,
+                game.isPs5ProEnhanced,
+                game.bestSellerRank, game.mostDownloadedRank,
+                game.mcMetaScore, game.igdbCriticScore, game.vibeTags,
+                game.allTimeLowPrice, game.isAllTimeLowNew,
+                game.priceVerdict
+        );
+    }
+
+    private BooleanExpression[] searchConditions(GameSearchCondition condition) {
+        return new BooleanExpression[]{
+                nameContains(condition.getKeyword()),
+                priceBetween(condition.getMinPrice(), condition.getMaxPrice()),
+                discountRateGoe(condition.getMinDiscountRate()),
+                metaScoreGoe(condition.getMinMetaScore()),
+                userScoreGoe(condition.getMinUserScore()),
+                platformEq(condition.getPlatform()),
+                plusExclusiveEq(condition.getIsPlusExclusive()),
+                genreEq(condition.getGenre()),
+                inCatalogEq(condition.getInCatalog()),
+                isAllTimeLow(condition.getIsAllTimeLow()),
+                ps5ProEnhancedEq(condition.getIsPs5ProEnhanced()),
+                bestSellerEq(condition.getIsBestSeller()),
+                mostDownloadedEq(condition.getIsMostDownloaded()),
+                isClosingSoon(condition.getIsClosingSoon()),
+                isNewDiscount(condition.getIsNewDiscount()),
+                playTimeBetween(condition.getMinPlayTime(), condition.getMaxPlayTime()),
+                vibeTagsContains(condition.getVibeTags())
+        };
+    }
+
+    /**
+     * 커서 정렬 키 컬럼. 숫자 컬럼은 대소 비교를 위해 ComparableExpression으로 감싼다.
+     */
+    private ComparableExpression<?> cursorKey(CursorSort sort) {
+        return switch (sort) {
+            case LAST_UPDATED -> game.lastUpdated;
+            case PRICE -> Expressions.comparableTemplate(Integer.class, "{0}", game.currentPrice);
+            case DISCOUNT_RATE -> Expressions.comparableTemplate(Integer.class, "{0}", game.discountRate);
+            case META_SCORE -> Expressions.comparableTemplate(Integer.class, "coalesce({0}, {1})",
+                    game.mcMetaScore, game.igdbCriticScore);
+            case SALE_END_DATE -> game.saleEndDate;
+            case RELEASE_DATE -> game.releaseDate;
+            case PLAY_TIME -> Expressions.comparableTemplate(Double.class, "{0}", game.hltbMainStory);
+            case BEST_SELLER_RANK -> Expressions.comparableTemplate(Integer.class, "{0}", game.bestSellerRank);
+            case MOST_DOWNLOADED_RANK -> Expressions.comparableTemplate(Integer.class, "{0}", game.mostDownloadedRank);
+        };
+    }
+
+    /**
+     * (key, id DESC) 순서에서 커서 행보다 뒤에 오는 행 조건.
+     * SQL 비교 연산은 null을 다루지 못하므로 null 위치(NULLS FIRST/LAST)에 따라 IS NULL 분기를 직접 붙인다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private BooleanExpression seekAfter(ComparableExpression key, Object value, Long id,
+                                        boolean ascending, boolean nullsFirst) {
+        if (value == null) {
+            BooleanExpression sameKeyAfter = key.isNull().and(game.id.lt(id));
+            // null 구간이 앞이면 null이 아닌 행은 모두 뒤에 있다
+            return nullsFirst ? sameKeyAfter.or(key.isNotNull()) : sameKeyAfter;
+        }
+
+        Comparable comparable = (Comparable) value;
+        BooleanExpression after = (ascending ? key.gt(comparable) : key.lt(comparable))
+                .or(key.eq(comparable).and(game.id.lt(id)));
+        return nullsFirst ? after : after.or(key.isNull());
+    }
+
     private BooleanExpression nameContains(String keyword) {
         if (!hasText(keyword)) return null;
 
@@ -301,17 +380,4 @@ public class GameRepositoryCustomImpl implements GameRepositoryCustom {
                 .limit(limit)
                 .fetch();
     }
-
-    @Override
-    public long countMustPlayGames() {
-        Long count = queryFactory
-                .select(game.count())
-                .from(game)
-                .where(
-                        game.mcMetaScore.goe(85).or(game.mcMetaScore.isNull().and(game.igdbCriticScore.goe(85))),
-                        game.discountRate.goe(50)
-                )
-                .fetchOne();
-        return count != null ? count : 0L;
-    }
 }
@@ -0,0 +1,11 @@
+package com.pstracker.catalog_service.catalog.repository;
+
+import com.pstracker.catalog_service.catalog.domain.IgdbMatchCache;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface IgdbMatchCacheRepository extends JpaRepository<IgdbMatchCache, Long> {
+
+    Optional<IgdbMatchCache> findByTitleKey(String titleKey);
+}
@@ -0,0 +1,65 @@
+package com.pstracker.catalog_service.catalog.repository;
+
+import com.pstracker.catalog_service.catalog.event.GamePriceChangedEvent;
+import com.pstracker.catalog_service.global.jdbc.SkipLockedSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 가격 하락 아웃박스 INSERT·선점.
+ * - INSERT는 수집 트랜잭션 안에서 호출되므로 커밋/롤백을 upsert와 함께 한다.
+ * - PriceChangeOutbox는 IDENTITY 전략이라 세일 날 하락 수백 건을 한 번에 쓰는 일괄 수집 경로를 위해 JDBC batch로 쓴다.
+ * - 선점은 FOR UPDATE SKIP LOCKED. 처리·삭제까지 같은 트랜잭션이라 행 락이 곧 임대다. (다른 레플리카는 기다리지 않고 건너뜀)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PriceChangeOutboxJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO price_change_outbox " +
+            "(game_id, game_name, ps_store_id, old_price, new_price, discount_rate, image_url, attempts, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?)";
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SkipLockedSupport skipLockedSupport;
+
+    public void batchInsert(List<GamePriceChangedEvent> changes, LocalDateTime createdAt) {
+        if (changes.isEmpty()) return;
+
+        Timestamp createdAtTs = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, changes, BATCH_SIZE, (ps, c) -> {
+            ps.setLong(1, c.getGameId());
+            ps.setString(2, c.getGameName());
+            ps.setString(3, c.getPsStoreId());
+            ps.setInt(4, c.getOldPrice());
+            ps.setInt(5, c.getNewPrice());
+            ps.setInt(6, c.getDiscountRate());
+            ps.setString(7, c.getImageUrl());
+            ps.setTimestamp(8, createdAtTs);
+        });
+    }
+
+    /**
+     * ids 중 아직 대기 중이고 다른 트랜잭션이 잡지 않은 행을 잠가 돌려준다. 호출 측 트랜잭션 안에서 써야 한다.
+     * (SKIP LOCKED 미지원 DB(H2 테스트)에서는 잠그지 않고 읽기만 함)
+     */
+    public List<Long> lockPending(Collection<Long> ids, int maxAttempts) {
+        if (ids.isEmpty()) return List.of();
+
+        List<Object> args = new ArrayList<>(ids);
+        args.add(maxAttempts);
+        String sql = "SELECT id FROM price_change_outbox WHERE id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?"))
+                + ") AND attempts < ? ORDER BY id"
+                + (skipLockedSupport.isSupported() ? " FOR UPDATE SKIP LOCKED" : "");
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+}
@@ -0,0 +1,50 @@
+package com.pstracker.catalog_service.catalog.repository;
+
+import com.pstracker.catalog_service.catalog.domain.PriceChangeOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PriceChangeOutboxRepository extends JpaRepository<PriceChangeOutbox, Long> {
+
+    /**
+     * 처리 대기 중인 아웃박스 id (오래된 순, 잠그지 않음 — 실제 선점은 PriceChangeOutboxJdbcRepository.lockPending)
+     */
+    @Query("SELECT o.id FROM PriceChangeOutbox o WHERE o.attempts < :maxAttempts ORDER BY o.id ASC")
+    List<Long> findPendingIds(@Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    List<PriceChangeOutbox> findAllByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @Query("SELECT COUNT(o) FROM PriceChangeOutbox o WHERE o.attempts < :maxAttempts")
+    long countPending(@Param("maxAttempts") int maxAttempts);
+
+    /**
+     * 가장 오래된 대기 행의 기록 시각 (지연 gauge용, 없으면 null)
+     */
+    @Query("SELECT MIN(o.createdAt) FROM PriceChangeOutbox o WHERE o.attempts < :maxAttempts")
+    LocalDateTime findOldestPendingCreatedAt(@Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("DELETE FROM PriceChangeOutbox o WHERE o.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE PriceChangeOutbox o SET o.attempts = o.attempts + 1 WHERE o.id IN :ids")
+    int increaseAttempts(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 시도 횟수를 다 쓴 행 (데드레터, 보관 기간 동안 남겨 둠)
+     */
+    @Query("SELECT COUNT(o) FROM PriceChangeOutbox o WHERE o.attempts >= :maxAttempts")
+    long countDeadLetters(@Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("DELETE FROM PriceChangeOutbox o WHERE o.attempts >= :maxAttempts AND o.createdAt < :before")
+    int deleteDeadLettersCreatedBefore(@Param("maxAttempts") int maxAttempts, @Param("before") LocalDateTime before);
+}
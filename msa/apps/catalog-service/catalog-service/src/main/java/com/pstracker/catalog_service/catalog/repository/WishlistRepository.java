@@ -1,12 +1,14 @@
 package com.pstracker.catalog_service.catalog.repository;
 
 import com.pstracker.catalog_service.catalog.domain.Wishlist;
+import com.pstracker.catalog_service.catalog.dto.WatcherStats;
 import com.pstracker.catalog_service.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -25,6 +27,9 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long>, Wishl
     @Query("SELECT w FROM Wishlist w JOIN FETCH w.member WHERE w.game.id = :gameId")
     List<Wishlist> findAllByGameIdWithMember(@Param("gameId") Long gameId);
 
+    @Query("SELECT w FROM Wishlist w JOIN FETCH w.member WHERE w.game.id IN :gameIds")
+    List<Wishlist> findAllByGameIdInWithMember(@Param("gameIds") Collection<Long> gameIds);
+
     long countByMemberId(Long memberId);
 
     long count();
@@ -34,11 +39,13 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long>, Wishl
             "WHERE w.member.id = :memberId AND g.discountRate > 0")
     int sumSavedAmountByMemberId(@Param("memberId") Long memberId);
 
-    int countByGameId(Long gameId);
-
-    @Query("SELECT CAST(AVG(w.targetPrice) AS int) FROM Wishlist w " +
-            "WHERE w.game.id = :gameId AND w.targetPrice IS NOT NULL AND w.targetPrice > 0")
-    Integer getAverageTargetPriceByGameId(@Param("gameId") Long gameId);
+    /**
+     * 찜 수와 평균 목표가(목표가 > 0 인 찜만)를 1번의 집계로 조회
+     */
+    @Query("SELECT new com.pstracker.catalog_service.catalog.dto.WatcherStats(" +
+            "COUNT(w), CAST(AVG(CASE WHEN w.targetPrice > 0 THEN w.targetPrice END) AS int)) " +
+            "FROM Wishlist w WHERE w.game.id = :gameId")
+    WatcherStats getWatcherStatsByGameId(@Param("gameId") Long gameId);
 
     @Modifying
     @Query("UPDATE Wishlist w SET w.targetPrice = null WHERE w.game.id = :gameId AND w.targetPrice >= :newOriginalPrice")
@@ -1,7 +1,9 @@
 package com.pstracker.catalog_service.catalog.repository;
 
+import com.pstracker.catalog_service.catalog.dto.MemberGameState;
 import com.pstracker.catalog_service.catalog.dto.QWishlistResponse;
 import com.pstracker.catalog_service.catalog.dto.WishlistResponse;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +14,7 @@ import org.springframework.data.support.PageableExecutionUtils;
 import java.util.List;
 
 import static com.pstracker.catalog_service.catalog.domain.QGame.game;
+import static com.pstracker.catalog_service.catalog.domain.QGameVote.gameVote;
 import static com.pstracker.catalog_service.catalog.domain.QWishlist.wishlist;
 
 @RequiredArgsConstructor
@@ -33,7 +36,7 @@ public class WishlistRepositoryCustomImpl implements WishlistRepositoryCustom {
                         game.inCatalog, game.pioneerName,
                         game.createdAt, wishlist.createdAt,
                         game.isPs5ProEnhanced, game.vibeTags,
-                        game.isAllTimeLowNew
+                        game.isAllTimeLowNew, game.priceVerdict
                 ))
                 .from(wishlist)
                 .join(wishlist.game, game)
@@ -50,4 +53,21 @@ public class WishlistRepositoryCustomImpl implements WishlistRepositoryCustom {
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
+
+    /**
+     * 게임 상세의 회원별 상태. 찜(member 연관)과 투표(memberId 컬럼)를 게임 기준 LEFT JOIN으로 묶어 1번에 조회
+     * (회원·게임 쌍마다 찜·투표는 최대 1건 — uk_member_game_vote 및 토글 로직으로 보장)
+     */
+    @Override
+    public MemberGameState findMemberGameState(Long memberId, Long gameId) {
+        MemberGameState state = queryFactory
+                .select(Projections.constructor(MemberGameState.class,
+                        wishlist.id, wishlist.targetPrice, gameVote.voteType))
+                .from(game)
+                .leftJoin(wishlist).on(wishlist.game.id.eq(game.id), wishlist.member.id.eq(memberId))
+                .leftJoin(gameVote).on(gameVote.game.id.eq(game.id), gameVote.memberId.eq(memberId))
+                .where(game.id.eq(gameId))
+                .fetchFirst();
+        return state != null ? state : MemberGameState.NONE;
+    }
 }
@@ -0,0 +1,455 @@
+package com.pstracker.catalog_service.catalog.scheduler;
+
+import com.pstracker.catalog_service.catalog.domain.CrawlShardCompletion;
+import com.pstracker.catalog_service.catalog.repository.CrawlShardCompletionRepository;
+import com.pstracker.catalog_service.catalog.service.CacheWarmUpService;
+import com.pstracker.catalog_service.catalog.service.CatalogService;
+import com.pstracker.catalog_service.catalog.service.CollectStats;
+import com.pstracker.catalog_service.global.client.collector.CollectorApiClient;
+import com.pstracker.catalog_service.global.client.collector.CollectorClientManager;
+import com.pstracker.catalog_service.global.client.collector.dto.CrawlShardRequest;
+import com.pstracker.catalog_service.global.client.collector.dto.CrawlTriggerRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executor;
+
+/**
+ * 야간 배치 수집 샤드 디스패처 (작업 큐).
+ * - 시작하면 수집기마다 탐색 작업(Pre-Phase·Phase 0·Phase 2)을 1개씩 보내고, 업데이트 대상 URL은 큐에 쌓는다.
+ * - 수집기가 샤드 완료를 알리면(InternalWebhookController) 고정 지연 없이 바로 다음 샤드를 보낸다.
+ * - 수집기당 동시 샤드 수는 max-in-flight-per-collector까지.
+ * - 샤드 크기 = 수집기별 측정 처리량(URL/초, EWMA) × target-shard-duration (min~max 범위). 측정 전에는 initial-shard-size.
+ * - shard-timeout 안에 완료 신호가 없으면 샤드를 큐 앞으로 되돌리고, 전송에 실패한 수집기는 retry-backoff 동안 건너뛴다. (tick)
+ * - 큐와 진행 중 샤드가 모두 비면 소요 시간·수집 통계를 남기고 캐시 웜업을 시작한다.
+ *   보낼 수 있는 수집기가 없어 진행 중 샤드 없이 max-idle-ticks번 연속 tick이 지나면 남은 URL을 버리고 실행을 끝낸다.
+ * - 실행 상태는 메모리에 있다. 야간 시작(CrawlerScheduler)은 레플리카마다 돌므로 배치 수집 스케줄은 한 레플리카에서만 켠다.
+ *   완료 콜백은 어느 레플리카로든 올 수 있어, 샤드 id에 인스턴스 id를 넣고 모르는 샤드의 완료 신호는
+ *   CrawlShardCompletion으로 DB에 남긴다. 샤드를 보낸 레플리카가 tick에서 가져가 완료 처리한다. (다음 샤드는 최대 tick 간격만큼 늦음)
+ * - 업데이트 대상 조회(DB)·완료 신호 조회는 락 밖에서 하고, 결과만 락 안에서 반영한다.
+ * - 메트릭: crawler.dispatch.shards{result=completed|timeout|rejected|relayed}, crawler.dispatch.runs{result=completed|abandoned},
+ *   crawler.dispatch.run 전체 소요 시간, crawler.dispatch.pending 남은 URL 수
+ */
+@Slf4j
+@Component
+public class CrawlShardDispatcher {
+
+    // 처리량 EWMA 가중치 (최근 샤드 비중)
+    private static final double THROUGHPUT_SMOOTHING = 0.5;
+
+    private final CollectorClientManager clientManager;
+    private final CatalogService catalogService;
+    private final CrawlShardCompletionRepository completionRepository;
+    private final CollectStats collectStats;
+    private final CacheWarmUpService cacheWarmUpService;
+    private final String secretKey;
+    private final Settings settings;
+    private final Executor sender;
+    private final Clock clock;
+
+    private final Counter completedShards;
+    private final Counter timedOutShards;
+    private final Counter rejectedShards;
+    private final Counter relayedShards;
+    private final Counter completedRuns;
+    private final Counter abandonedRuns;
+    private final Timer runTimer;
+
+    // 샤드 id 접두사. 레플리카·재기동마다 달라서 다른 인스턴스가 보낸 샤드와 겹치지 않는다.
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+
+    // 아래 상태는 모두 this 락으로 보호
+    private final Deque<String> pendingTargets = new ArrayDeque<>();
+    private final Map<String, Shard> inFlight = new HashMap<>();
+    private final List<CollectorSlot> slots = new ArrayList<>();
+    private Instant runStartedAt; // null이면 쉬는 중
+    private long runId;
+    private long shardSequence;
+    private int dispatchedShards;
+    private int idleTicks; // 진행 중 샤드 없이 지난 연속 tick 수
+
+    /**
+     * @param maxInFlightPerCollector 수집기 1대에 동시에 맡기는 샤드 수
+     * @param targetShardDuration 샤드 1개가 걸리길 바라는 시간 (크기 산정 기준)
+     * @param shardTimeout 완료 신호를 기다리는 최대 시간
+     * @param retryBackoff 전송 실패(바쁨·연결 불가) 수집기를 건너뛰는 시간
+     * @param maxIdleTicks 보낼 수 있는 수집기가 없는 상태로 이만큼 tick이 지나면 실행 포기
+     */
+    record Settings(int maxInFlightPerCollector, int initialShardSize, int minShardSize, int maxShardSize,
+                    Duration targetShardDuration, Duration shardTimeout, Duration retryBackoff, int maxIdleTicks) {}
+
+    /**
+     * @param urls 비어 있으면 탐색 작업
+     */
+    private record Shard(String id, CollectorSlot slot, List<String> urls, Instant dispatchedAt) {
+        boolean discovery() {
+            return urls.isEmpty();
+        }
+    }
+
+    private static final class CollectorSlot {
+        private final int index;
+        private final CollectorApiClient client;
+        private int inFlight;
+        private boolean discoveryPending = true;
+        private double throughput = Double.NaN; // URL/초
+        private Instant retryAt;
+
+        private CollectorSlot(int index, CollectorApiClient client) {
+            this.index = index;
+            this.client = client;
+        }
+
+        private void recordThroughput(int urls, Duration elapsed) {
+            double rate = urls / Math.max(1.0, elapsed.toMillis() / 1000.0);
+            throughput = Double.isNaN(throughput) ? rate
+                    : THROUGHPUT_SMOOTHING * rate + (1 - THROUGHPUT_SMOOTHING) * throughput;
+        }
+
+        private int nextShardSize(Settings settings) {
+            if (Double.isNaN(throughput)) return settings.initialShardSize();
+            long size = Math.round(throughput * settings.targetShardDuration().toSeconds());
+            return Math.clamp(size, settings.minShardSize(), settings.maxShardSize());
+        }
+    }
+
+    @Autowired
+    public CrawlShardDispatcher(CollectorClientManager clientManager,
+                                CatalogService catalogService,
+                                CrawlShardCompletionRepository completionRepository,
+                                CollectStats collectStats,
+                                CacheWarmUpService cacheWarmUpService,
+                                MeterRegistry meterRegistry,
+                                @Value("${crawler.secret-key}") String secretKey,
+                                @Value("${crawler.dispatch.max-in-flight-per-collector:1}") int maxInFlightPerCollector,
+                                @Value("${crawler.dispatch.initial-shard-size:50}") int initialShardSize,
+                                @Value("${crawler.dispatch.min-shard-size:20}") int minShardSize,
+                                @Value("${crawler.dispatch.max-shard-size:500}") int maxShardSize,
+                                @Value("${crawler.dispatch.target-shard-duration:PT10M}") Duration targetShardDuration,
+                                @Value("${crawler.dispatch.shard-timeout:PT45M}") Duration shardTimeout,
+                                @Value("${crawler.dispatch.retry-backoff:PT1M}") Duration retryBackoff,
+                                @Value("${crawler.dispatch.max-idle-ticks:20}") int maxIdleTicks) {
+        this(clientManager, catalogService, completionRepository, collectStats, cacheWarmUpService, meterRegistry,
+                secretKey, new Settings(maxInFlightPerCollector, initialShardSize, minShardSize, maxShardSize,
+                        targetShardDuration, shardTimeout, retryBackoff, maxIdleTicks),
+                command -> Thread.ofVirtual().start(command), Clock.systemUTC());
+    }
+
+    CrawlShardDispatcher(CollectorClientManager clientManager, CatalogService catalogService,
+                         CrawlShardCompletionRepository completionRepository, CollectStats collectStats,
+                         CacheWarmUpService cacheWarmUpService, MeterRegistry meterRegistry, String secretKey,
+                         Settings settings, Executor sender, Clock clock) {
+        this.clientManager = clientManager;
+        this.catalogService = catalogService;
+        this.completionRepository = completionRepository;
+        this.collectStats = collectStats;
+        this.cacheWarmUpService = cacheWarmUpService;
+        this.secretKey = secretKey;
+        this.settings = settings;
+        this.sender = sender;
+        this.clock = clock;
+        this.completedShards = meterRegistry.counter("crawler.dispatch.shards", "result", "completed");
+        this.timedOutShards = meterRegistry.counter("crawler.dispatch.shards", "result", "timeout");
+        this.rejectedShards = meterRegistry.counter("crawler.dispatch.shards", "result", "rejected");
+        this.relayedShards = meterRegistry.counter("crawler.dispatch.shards", "result", "relayed");
+        this.completedRuns = meterRegistry.counter("crawler.dispatch.runs", "result", "completed");
+        this.abandonedRuns = meterRegistry.counter("crawler.dispatch.runs", "result", "abandoned");
+        this.runTimer = meterRegistry.timer("crawler.dispatch.run");
+        meterRegistry.gauge("crawler.dispatch.pending", this, CrawlShardDispatcher::pendingTargetCount);
+    }
+
+    /**
+     * 매일 자정 (CrawlerScheduler). 전날 실행이 끝나지 않고 남아 있으면 버리고 새로 시작한다.
+     */
+    public void startNightly() {
+        List<String> targets = catalogService.getGamesToUpdate();
+        List<CollectorApiClient> clients = clientManager.getAll();
+
+        synchronized (this) {
+            if (isRunning()) {
+                log.warn("이전 야간 수집이 끝나지 않은 채 남아 있어 버리고 새로 시작합니다. (남은 URL {}건, 진행 중 샤드 {}개)",
+                        pendingTargets.size(), inFlight.size());
+            }
+            begin(targets, clients);
+        }
+    }
+
+    /**
+     * 수동 트리거 (관리자)
+     * @return 이미 진행 중이어서 시작하지 않았으면 false
+     */
+    public boolean startManual() {
+        if (isRunning()) { // 대상 조회 전에 먼저 거른다
+            log.warn("야간 수집이 이미 진행 중이라 수동 트리거를 무시합니다.");
+            return false;
+        }
+        List<String> targets = catalogService.getGamesToUpdate();
+        List<CollectorApiClient> clients = clientManager.getAll();
+
+        synchronized (this) {
+            if (isRunning()) {
+                log.warn("야간 수집이 이미 진행 중이라 수동 트리거를 무시합니다.");
+                return false;
+            }
+            begin(targets, clients);
+            return true;
+        }
+    }
+
+    /**
+     * 샤드 완료 신호 (수집기 → InternalWebhookController)
+     * - 다른 레플리카가 보낸 샤드면 DB에 남겨 두고 false를 돌려준다. (다음 샤드는 보낸 레플리카가 tick에서 보냄)
+     * @return 같은 수집기에 샤드가 남아 있는지 (다음 샤드를 바로 보냈으면 true)
+     */
+    public boolean complete(String shardId, int processed, int failed) {
+        synchronized (this) {
+            Shard shard = inFlight.remove(shardId);
+            if (shard != null) {
+                return completed(shard, processed, failed);
+            }
+        }
+        if (shardId.startsWith(instanceId + "-")) {
+            log.warn("알 수 없는 샤드 완료 신호 무시 (만료됐거나 이전 실행): {}", shardId);
+            return false;
+        }
+
+        completionRepository.save(CrawlShardCompletion.create(shardId, processed, failed, LocalDateTime.now(clock)));
+        relayedShards.increment();
+        log.info("다른 레플리카의 샤드 {} 완료 신호를 DB에 남김", shardId);
+        return false;
+    }
+
+    private boolean completed(Shard shard, int processed, int failed) {
+        String shardId = shard.id();
+        CollectorSlot slot = shard.slot();
+        slot.inFlight--;
+        slot.retryAt = null;
+
+        Duration elapsed = Duration.between(shard.dispatchedAt(), clock.instant());
+        if (shard.discovery()) {
+            log.info("탐색 작업 {} 완료 — 수집기 #{}, {}초", shardId, slot.index, elapsed.toSeconds());
+        } else {
+            slot.recordThroughput(shard.urls().size(), elapsed);
+            completedShards.increment();
+            log.info("샤드 {} 완료 — 수집기 #{}, {}건 (처리 {}, 실패 {}) {}초, 처리량 {}/s",
+                    shardId, slot.index, shard.urls().size(), processed, failed, elapsed.toSeconds(),
+                    String.format("%.2f", slot.throughput));
+        }
+
+        dispatch();
+        boolean continued = slot.inFlight > 0;
+        finishIfDone();
+        return continued;
+    }
+
+    /**
+     * 다른 레플리카에 남은 완료 신호를 반영하고, 완료 신호가 끊긴 샤드를 되돌리고, 재시도 대기가 끝난 수집기에 다시 배분한다.
+     */
+    @Scheduled(fixedDelayString = "${crawler.dispatch.tick-interval:PT30S}")
+    public void tick() {
+        if (!isRunning()) return;
+
+        applyRelayedCompletions();
+        completionRepository.deleteReceivedBefore(LocalDateTime.now(clock).minus(settings.shardTimeout()));
+        expireAndDispatch();
+    }
+
+    private void applyRelayedCompletions() {
+        List<String> waiting;
+        synchronized (this) {
+            waiting = List.copyOf(inFlight.keySet());
+        }
+        if (waiting.isEmpty()) return;
+
+        List<CrawlShardCompletion> completions = completionRepository.findAllById(waiting);
+        if (completions.isEmpty()) return;
+
+        synchronized (this) {
+            for (CrawlShardCompletion completion : completions) {
+                Shard shard = inFlight.remove(completion.getShardId());
+                if (shard != null) {
+                    completed(shard, completion.getProcessed(), completion.getFailed());
+                }
+            }
+        }
+        completionRepository.deleteAllByIdInBatch(completions.stream().map(CrawlShardCompletion::getShardId).toList());
+    }
+
+    private synchronized void expireAndDispatch() {
+        if (!isRunning()) return;
+
+        Instant now = clock.instant();
+        List<Shard> expired = inFlight.values().stream()
+                .filter(shard -> shard.dispatchedAt().plus(settings.shardTimeout()).isBefore(now))
+                .toList();
+        for (Shard shard : expired) {
+            inFlight.remove(shard.id());
+            release(shard);
+            timedOutShards.increment();
+            log.warn("샤드 {} 완료 신호 없음 ({} 초과) — 수집기 #{}, {}건 큐로 되돌림",
+                    shard.id(), settings.shardTimeout(), shard.slot().index, shard.urls().size());
+        }
+
+        dispatch();
+        finishIfDone();
+        abandonIfIdle();
+    }
+
+    public synchronized boolean isRunning() {
+        return runStartedAt != null;
+    }
+
+    synchronized int pendingTargetCount() {
+        return pendingTargets.size();
+    }
+
+    private void begin(List<String> targets, List<CollectorApiClient> clients) {
+        pendingTargets.clear();
+        inFlight.clear();
+        slots.clear();
+        runId++;
+        shardSequence = 0;
+        dispatchedShards = 0;
+        idleTicks = 0;
+        runStartedAt = clock.instant();
+
+        pendingTargets.addAll(targets);
+        for (int i = 0; i < clients.size(); i++) {
+            slots.add(new CollectorSlot(i, clients.get(i)));
+        }
+        log.info("야간 수집 시작 — 수집기 {}대, 업데이트 대상 {}건", slots.size(), targets.size());
+
+        dispatch();
+        finishIfDone();
+    }
+
+    /**
+     * 여유가 있는 수집기마다 상한까지 샤드를 잘라 배정한다. 전송(HTTP)은 락 밖에서 sender가 한다.
+     */
+    private void dispatch() {
+        if (!isRunning()) return;
+
+        Instant now = clock.instant();
+        for (CollectorSlot slot : slots) {
+            // 전송 실패가 바로 반영되는 경우(재시도 대기 진입)에도 같은 수집기로 다시 보내지 않도록 매번 확인
+            while (slot.inFlight < settings.maxInFlightPerCollector()
+                    && (slot.retryAt == null || !now.isBefore(slot.retryAt))) {
+                Shard shard = nextShard(slot, now);
+                if (shard == null) break;
+
+                slot.inFlight++;
+                dispatchedShards++;
+                inFlight.put(shard.id(), shard);
+                sender.execute(() -> send(shard));
+            }
+        }
+    }
+
+    private Shard nextShard(CollectorSlot slot, Instant now) {
+        if (slot.discoveryPending) {
+            slot.discoveryPending = false;
+            return new Shard(nextShardId(), slot, List.of(), now);
+        }
+        if (pendingTargets.isEmpty()) return null;
+
+        int size = Math.min(slot.nextShardSize(settings), pendingTargets.size());
+        List<String> urls = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            urls.add(pendingTargets.pollFirst());
+        }
+        return new Shard(nextShardId(), slot, List.copyOf(urls), now);
+    }
+
+    private String nextShardId() {
+        return instanceId + "-" + runId + "-" + (++shardSequence);
+    }
+
+    private void send(Shard shard) {
+        CollectorApiClient client = shard.slot().client;
+        try {
+            String response = shard.discovery()
+                    ? client.triggerBatchCrawl(new CrawlTriggerRequest(secretKey, null, shard.id()))
+                    : client.triggerShardCrawl(new CrawlShardRequest(secretKey, shard.id(), shard.urls()));
+            log.debug("샤드 {} 전송 — 수집기 #{} ({}건). Response: {}",
+                    shard.id(), shard.slot().index, shard.urls().size(), response);
+        } catch (Exception e) {
+            log.warn("샤드 {} 전송 실패 — 수집기 #{}: {}", shard.id(), shard.slot().index, e.getMessage());
+            rejected(shard);
+        }
+    }
+
+    private synchronized void rejected(Shard shard) {
+        if (inFlight.remove(shard.id()) == null) return; // 이미 만료됐거나 새 실행이 시작됨
+
+        release(shard);
+        rejectedShards.increment();
+        shard.slot().retryAt = clock.instant().plus(settings.retryBackoff());
+        dispatch();
+        finishIfDone();
+    }
+
+    /**
+     * 샤드 자리를 비우고 URL은 큐 앞으로 되돌린다. 탐색 작업은 다시 보내지 않는다. (수집기가 아직 돌고 있을 수 있음)
+     */
+    private void release(Shard shard) {
+        shard.slot().inFlight--;
+        List<String> urls = shard.urls();
+        for (int i = urls.size() - 1; i >= 0; i--) {
+            pendingTargets.addFirst(urls.get(i));
+        }
+    }
+
+    private void finishIfDone() {
+        if (!isRunning() || !pendingTargets.isEmpty() || !inFlight.isEmpty()) return;
+        if (slots.stream().anyMatch(slot -> slot.discoveryPending)) return;
+
+        completedRuns.increment();
+        finish("야간 수집 완료");
+    }
+
+    /**
+     * 진행 중 샤드가 하나도 없는데 일이 남아 있으면 보낼 수 있는 수집기가 없는 것. (전부 재시도 대기이거나 수집기 0대)
+     * 연속 max-idle-ticks번이면 남은 URL을 버리고 실행을 끝내 정리·웜업이 돌게 한다.
+     */
+    private void abandonIfIdle() {
+        if (!isRunning()) return;
+        if (!inFlight.isEmpty()) {
+            idleTicks = 0;
+            return;
+        }
+        if (++idleTicks < settings.maxIdleTicks()) {
+            log.warn("보낼 수 있는 수집기 없음 ({}/{}) — 남은 URL {}건", idleTicks, settings.maxIdleTicks(), pendingTargets.size());
+            return;
+        }
+
+        log.error("보낼 수 있는 수집기가 없어 야간 수집을 포기합니다. (tick {}번 연속, 남은 URL {}건)",
+                idleTicks, pendingTargets.size());
+        pendingTargets.clear();
+        slots.forEach(slot -> slot.discoveryPending = false);
+        abandonedRuns.increment();
+        finish("야간 수집 중단");
+    }
+
+    private void finish(String result) {
+        Duration took = Duration.between(runStartedAt, clock.instant());
+        runTimer.record(took);
+        runStartedAt = null;
+
+        CollectStats.Report report = collectStats.snapshotAndReset();
+        log.info("{} — {}분, 샤드 {}개 | 전체 반영 {}건, 변경 없음 생략 {}건 (생략 비율 {}%)",
+                result, took.toMinutes(), dispatchedShards, report.applied(), report.unchanged(),
+                Math.round(report.skipRatio() * 100));
+        cacheWarmUpService.warmUpAsync();
+    }
+}
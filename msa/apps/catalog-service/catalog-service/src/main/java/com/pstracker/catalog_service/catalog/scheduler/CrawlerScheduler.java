@@ -20,45 +20,20 @@ public class CrawlerScheduler {
     private String internalSecretKey;
 
     private final CollectorClientManager clientManager;
+    private final CrawlShardDispatcher crawlShardDispatcher;
 
     /** 랭킹 타입 목록 — 인덱스 순서대로 수집기 인스턴스에 round-robin 배분 */
     private static final String[] RANKING_TYPES = {"BEST_SELLER", "MOST_DOWNLOADED"};
 
-    /** 보조 수집기 기동 지연 간격 (5분) — Phase 0 완료 후 Phase 1-B 시작 보장 */
-    private static final long SHARD_DELAY_MS = 5 * 60 * 1000L;
-
     /**
-     * 매일 자정(00:00)에 배치 수집 트리거.
-     * 모든 수집기 인스턴스를 기동하되, 주 수집기(#0)는 즉시,
-     * 보조 수집기(#1~)는 SHARD_DELAY_MS 간격으로 순차 기동.
-     * 각 수집기는 자체 SHARD_ID 환경변수로 담당 범위를 결정함.
+     * 매일 자정(00:00)에 배치 수집 시작.
+     * 수집기별 탐색 작업과 업데이트 대상 샤드 배분은 CrawlShardDispatcher가 맡는다.
+     * (수집기가 샤드 완료를 알리는 즉시 다음 샤드를 보내므로 수집기 간 고정 기동 지연이 없음)
      */
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
     public void scheduleCrawling() {
-        log.info("Scheduled Task: Triggering Batch Crawlers ({} instances)...", clientManager.getAll().size());
-        List<CollectorApiClient> clients = clientManager.getAll();
-
-        for (int i = 0; i < clients.size(); i++) {
-            final int shardIdx = i;
-            final CollectorApiClient client = clients.get(i);
-            final long delayMs = shardIdx * SHARD_DELAY_MS;
-
-            Thread.ofVirtual().start(() -> {
-                try {
-                    if (delayMs > 0) {
-                        log.info("배치 수집기 #{}: {}분 후 기동 예정", shardIdx, delayMs / 60_000);
-                        Thread.sleep(delayMs);
-                    }
-                    String response = client.triggerBatchCrawl(new CrawlTriggerRequest(internalSecretKey));
-                    log.info("배치 수집기 #{} 기동 완료. Response: {}", shardIdx, response);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    log.warn("배치 수집기 #{} 기동 인터럽트됨", shardIdx);
-                } catch (Exception e) {
-                    log.error("배치 수집기 #{} 기동 실패: {}", shardIdx, e.getMessage());
-                }
-            });
-        }
+        log.info("Scheduled Task: Starting batch crawl dispatch ({} instances)...", clientManager.getAll().size());
+        crawlShardDispatcher.startNightly();
     }
 
     /**
@@ -87,22 +62,8 @@ public class CrawlerScheduler {
     /** 수동 배치 트리거 (AdminController → CatalogController에서 호출) */
     public void triggerCrawler() {
         log.info("Triggering manual batch crawl ({} instances)...", clientManager.getAll().size());
-        List<CollectorApiClient> clients = clientManager.getAll();
-        for (int i = 0; i < clients.size(); i++) {
-            final int shardIdx = i;
-            final CollectorApiClient client = clients.get(i);
-            final long delayMs = shardIdx * SHARD_DELAY_MS;
-            Thread.ofVirtual().start(() -> {
-                try {
-                    if (delayMs > 0) Thread.sleep(delayMs);
-                    String response = client.triggerBatchCrawl(new CrawlTriggerRequest(internalSecretKey));
-                    log.info("수동 배치 수집기 #{} 기동 완료. Response: {}", shardIdx, response);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                } catch (Exception e) {
-                    log.error("수동 배치 수집기 #{} 기동 실패: {}", shardIdx, e.getMessage());
-                }
-            });
+        if (!crawlShardDispatcher.startManual()) {
+            throw new IllegalStateException("배치 수집이 이미 진행 중입니다.");
         }
     }
 }
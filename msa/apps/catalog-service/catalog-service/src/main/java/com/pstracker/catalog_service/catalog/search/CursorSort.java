@@ -0,0 +1,115 @@
+package com.pstracker.catalog_service.catalog.search;
+
+import com.pstracker.catalog_service.catalog.dto.GameSearchCondition;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 커서(keyset) 페이지네이션이 지원하는 정렬 키.
+ * - null 처리는 GameRepositoryCustomImpl.getOrderSpecifiers와 동일하다.
+ *   (saleEndDate·playTime은 NULLS LAST, 나머지는 MySQL 기본: ASC면 null이 앞, DESC면 null이 뒤)
+ * - 커서에는 정렬 키를 문자열로 담고, DB 경로는 쿼리 파라미터 타입으로, 인덱스 경로는 double 컬럼 값으로 변환한다.
+ */
+public enum CursorSort {
+
+    LAST_UPDATED("lastUpdated", KeyType.DATE_TIME, false),
+    PRICE("price", KeyType.INTEGER, false),
+    DISCOUNT_RATE("discountRate", KeyType.INTEGER, false),
+    META_SCORE("metaScore", KeyType.INTEGER, false),
+    SALE_END_DATE("saleEndDate", KeyType.DATE, true),
+    RELEASE_DATE("releaseDate", KeyType.DATE, false),
+    PLAY_TIME("playTime", KeyType.DOUBLE, true),
+    BEST_SELLER_RANK("bestSellerRank", KeyType.INTEGER, false),
+    MOST_DOWNLOADED_RANK("mostDownloadedRank", KeyType.INTEGER, false);
+
+    private enum KeyType { INTEGER, DOUBLE, DATE, DATE_TIME }
+
+    private final String property;
+    private final KeyType keyType;
+    private final boolean nullsLast;
+
+    CursorSort(String property, KeyType keyType, boolean nullsLast) {
+        this.property = property;
+        this.keyType = keyType;
+        this.nullsLast = nullsLast;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * 정렬 방향에 따른 null 위치. NULLS LAST 고정 컬럼이 아니면 ASC일 때만 null이 앞에 온다.
+     */
+    public boolean nullsFirst(boolean ascending) {
+        return !nullsLast && ascending;
+    }
+
+    /**
+     * 검색 조건·정렬에서 커서 정렬 키를 고른다.
+     * - 베스트셀러/최다 다운로드 필터는 순위 오름차순이 우선 (기존 Page 모드와 동일)
+     * - 커서 모드는 첫 번째 정렬 기준 하나만 사용하며, 모르는 속성은 lastUpdated로 취급한다.
+     */
+    static CursorSort of(Sort sort, GameSearchCondition condition) {
+        if (Boolean.TRUE.equals(condition.getIsBestSeller())) return BEST_SELLER_RANK;
+        if (Boolean.TRUE.equals(condition.getIsMostDownloaded())) return MOST_DOWNLOADED_RANK;
+
+        Sort.Order first = sort.stream().findFirst().orElse(null);
+        if (first == null) return LAST_UPDATED;
+        for (CursorSort value : values()) {
+            if (value.property.equals(first.getProperty())) return value;
+        }
+        return LAST_UPDATED;
+    }
+
+    /**
+     * 커서 문자열 키 → DB 쿼리 파라미터 (Integer / Double / LocalDate / LocalDateTime)
+     */
+    public Object parse(String key) {
+        if (key == null) return null;
+        return switch (keyType) {
+            case INTEGER -> Integer.valueOf(key);
+            case DOUBLE -> Double.valueOf(key);
+            case DATE -> LocalDate.parse(key);
+            case DATE_TIME -> LocalDateTime.parse(key);
+        };
+    }
+
+    /**
+     * DB 조회 값 → 커서 문자열 키
+     */
+    public String format(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * 커서 문자열 키 → 검색 인덱스 컬럼 값 (날짜는 epoch day, 일시는 UTC epoch milli, null은 NaN)
+     */
+    double toIndexValue(String key) {
+        if (key == null) return Double.NaN;
+        return switch (keyType) {
+            case INTEGER, DOUBLE -> Double.parseDouble(key);
+            case DATE -> LocalDate.parse(key).toEpochDay();
+            case DATE_TIME -> LocalDateTime.parse(key).toInstant(ZoneOffset.UTC).toEpochMilli();
+        };
+    }
+
+    /**
+     * 검색 인덱스 컬럼 값 → 커서 문자열 키
+     */
+    String fromIndexValue(double value) {
+        if (Double.isNaN(value)) return null;
+        return switch (keyType) {
+            case INTEGER -> String.valueOf((long) value);
+            case DOUBLE -> String.valueOf(value);
+            case DATE -> LocalDate.ofEpochDay((long) value).toString();
+            case DATE_TIME -> LocalDateTime.ofEpochSecond(
+                    Math.floorDiv((long) value, 1000L),
+                    (int) Math.floorMod((long) value, 1000L) * 1_000_000,
+                    ZoneOffset.UTC).toString();
+        };
+    }
+}
@@ -0,0 +1,237 @@
+package com.pstracker.catalog_service.catalog.search;
+
+import java.util.*;
+
+/**
+ * 게임 이름 키워드 검색용 역색인.
+ * - 정규화(소문자 + 공백 제거)한 name·englishName·chosungName·searchKeywords의 문자 bigram(1글자 키워드는 unigram) posting list
+ * - ChosungUtils.extract 결과(chosungName)에 대한 prefix trie — 자동완성에서 접두 일치를 우선 노출
+ * - posting 교집합은 후보일 뿐이므로 마지막에 실제 부분 문자열 포함 여부로 검증한다.
+ *   (GameRepositoryCustomImpl.nameContains의 REPLACE/LIKE/JSON_SEARCH 조건과 같은 결과)
+ * - 동기화는 소유자인 GameSearchIndex의 lock에 맡긴다. (이 클래스 자체는 thread-safe 하지 않음)
+ */
+final class GameNameIndex {
+
+    private final Map<Integer, Posting> bigrams = new HashMap<>();
+    private final Map<Integer, Posting> unigrams = new HashMap<>();
+    private final TrieNode chosungTrie = new TrieNode();
+
+    /** slot별 정규화된 검색 대상 문자열 (name, englishName, chosungName, searchKeywords...) */
+    private final Map<Integer, String[]> termsBySlot = new HashMap<>();
+    private final Map<Integer, String> chosungBySlot = new HashMap<>();
+
+    static String normalize(String text) {
+        if (text == null) return null;
+        String normalized = text.strip().replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    void put(int slot, String name, String englishName, String chosungName, List<String> searchKeywords) {
+        remove(slot);
+
+        List<String> terms = new ArrayList<>();
+        addIfPresent(terms, normalize(name));
+        addIfPresent(terms, normalize(englishName));
+        String chosung = normalize(chosungName);
+        addIfPresent(terms, chosung);
+        if (searchKeywords != null) {
+            searchKeywords.forEach(keyword -> addIfPresent(terms, normalize(keyword)));
+        }
+        if (terms.isEmpty()) return;
+
+        String[] termArray = terms.toArray(new String[0]);
+        termsBySlot.put(slot, termArray);
+        for (String term : termArray) {
+            forEachGram(term, (map, key) -> map.computeIfAbsent(key, k -> new Posting()).add(slot));
+        }
+
+        if (chosung != null) {
+            chosungBySlot.put(slot, chosung);
+            chosungTrie.insert(chosung, slot);
+        }
+    }
+
+    void remove(int slot) {
+        String[] terms = termsBySlot.remove(slot);
+        if (terms != null) {
+            for (String term : terms) {
+                forEachGram(term, (map, key) -> {
+                    Posting posting = map.get(key);
+                    if (posting != null) {
+                        posting.remove(slot);
+                        if (posting.size == 0) map.remove(key);
+                    }
+                });
+            }
+        }
+        String chosung = chosungBySlot.remove(slot);
+        if (chosung != null) {
+            chosungTrie.remove(chosung, slot);
+        }
+    }
+
+    void clear() {
+        bigrams.clear();
+        unigrams.clear();
+        termsBySlot.clear();
+        chosungBySlot.clear();
+        chosungTrie.children.clear();
+        chosungTrie.slots.clear();
+    }
+
+    /**
+     * 키워드를 부분 문자열로 포함하는 slot 집합.
+     * @param keyword 정규화된 키워드
+     */
+    BitSet match(String keyword) {
+        BitSet result = new BitSet();
+        if (keyword == null) return result;
+
+        int[] candidates = candidates(keyword);
+        for (int slot : candidates) {
+            if (containsKeyword(slot, keyword)) {
+                result.set(slot);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 초성 prefix trie에서 접두 일치 slot을 짧은 문자열 순으로 최대 limit개 수집한다.
+     */
+    List<Integer> prefixMatches(String keyword, int limit) {
+        if (keyword == null || limit <= 0) return List.of();
+        TrieNode node = chosungTrie.find(keyword);
+        if (node == null) return List.of();
+
+        List<Integer> result = new ArrayList<>();
+        Deque<TrieNode> queue = new ArrayDeque<>();
+        queue.add(node);
+        while (!queue.isEmpty() && result.size() < limit) {
+            TrieNode current = queue.poll();
+            for (Integer slot : current.slots) {
+                if (result.size() >= limit) break;
+                result.add(slot);
+            }
+            queue.addAll(current.children.values());
+        }
+        return result;
+    }
+
+    private boolean containsKeyword(int slot, String keyword) {
+        String[] terms = termsBySlot.get(slot);
+        if (terms == null) return false;
+        for (String term : terms) {
+            if (term.contains(keyword)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 키워드의 모든 gram posting 교집합. 가장 짧은 posting을 기준으로 나머지에 포함 여부를 확인한다.
+     */
+    private int[] candidates(String keyword) {
+        List<Posting> postings = new ArrayList<>();
+        boolean[] missing = {false};
+        forEachGram(keyword, (map, key) -> {
+            if (keyword.length() > 1 && map == unigrams) return;
+            Posting posting = map.get(key);
+            if (posting == null) missing[0] = true;
+            else postings.add(posting);
+        });
+        if (missing[0] || postings.isEmpty()) return new int[0];
+
+        postings.sort(Comparator.comparingInt(p -> p.size));
+        Posting smallest = postings.get(0);
+        int[] result = new int[smallest.size];
+        int count = 0;
+        outer:
+        for (int i = 0; i < smallest.size; i++) {
+            int slot = smallest.slots[i];
+            for (int j = 1; j < postings.size(); j++) {
+                if (!postings.get(j).contains(slot)) continue outer;
+            }
+            result[count++] = slot;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private interface GramConsumer {
+        void accept(Map<Integer, Posting> map, int key);
+    }
+
+    /** 1글자는 unigram, 2글자 이상은 unigram + bigram 모두 방문 (1글자 키워드 검색 지원) */
+    private void forEachGram(String term, GramConsumer consumer) {
+        Set<Integer> seenUnigrams = new HashSet<>();
+        Set<Integer> seenBigrams = new HashSet<>();
+        for (int i = 0; i < term.length(); i++) {
+            int unigram = term.charAt(i);
+            if (seenUnigrams.add(unigram)) consumer.accept(unigrams, unigram);
+            if (i + 1 < term.length()) {
+                int bigram = (term.charAt(i) << 16) | term.charAt(i + 1);
+                if (seenBigrams.add(bigram)) consumer.accept(bigrams, bigram);
+            }
+        }
+    }
+
+    private static void addIfPresent(List<String> terms, String term) {
+        if (term != null) terms.add(term);
+    }
+
+    /**
+     * 정렬된 int 배열 posting list. BitSet 대비 희소한 gram에서 메모리를 크게 아낀다.
+     */
+    private static final class Posting {
+        private int[] slots = new int[4];
+        private int size = 0;
+
+        void add(int slot) {
+            int pos = Arrays.binarySearch(slots, 0, size, slot);
+            if (pos >= 0) return;
+            int insertAt = -pos - 1;
+            if (size == slots.length) slots = Arrays.copyOf(slots, size * 2);
+            System.arraycopy(slots, insertAt, slots, insertAt + 1, size - insertAt);
+            slots[insertAt] = slot;
+            size++;
+        }
+
+        void remove(int slot) {
+            int pos = Arrays.binarySearch(slots, 0, size, slot);
+            if (pos < 0) return;
+            System.arraycopy(slots, pos + 1, slots, pos, size - pos - 1);
+            size--;
+        }
+
+        boolean contains(int slot) {
+            return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+        }
+    }
+
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> children = new TreeMap<>();
+        private final List<Integer> slots = new ArrayList<>(1);
+
+        void insert(String text, int slot) {
+            TrieNode node = this;
+            for (int i = 0; i < text.length(); i++) {
+                node = node.children.computeIfAbsent(text.charAt(i), k -> new TrieNode());
+            }
+            node.slots.add(slot);
+        }
+
+        void remove(String text, int slot) {
+            TrieNode node = find(text);
+            if (node != null) {
+                node.slots.remove(Integer.valueOf(slot));
+            }
+        }
+
+        TrieNode find(String prefix) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.children.get(prefix.charAt(i));
+            }
+            return node;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.pstracker.catalog_service.catalog.search;
+
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.domain.Platform;
+import com.pstracker.catalog_service.catalog.dto.GameSearchRow;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 인덱스에 적재되는 게임 1건의 스냅샷.
+ * - 엔티티가 아닌 불변 값이므로 트랜잭션 커밋 이후(afterCommit)에 안전하게 인덱스에 반영할 수 있다.
+ * - metaScore/userScore는 검색 조건과 동일하게 MC 값이 없을 때만 IGDB 값으로 대체한다.
+ * - discountRecordedOn이 null이면 인덱스에 있던 기존 값(오늘 할인 이력 기록일)을 유지한다.
+ */
+public record GameSearchDocument(
+        Long id,
+        String psStoreId,
+        String familyId,
+        String name,
+        String englishName,
+        String chosungName,
+        List<String> searchKeywords,
+        String imageUrl,
+        Integer currentPrice,
+        Integer discountRate,
+        Integer allTimeLowPrice,
+        Integer metaScore,
+        Double userScore,
+        Double playTime,
+        LocalDate saleEndDate,
+        LocalDate releaseDate,
+        LocalDateTime lastUpdated,
+        boolean plusExclusive,
+        boolean inCatalog,
+        boolean ps5ProEnhanced,
+        Integer bestSellerRank,
+        Integer mostDownloadedRank,
+        Set<String> genres,
+        Set<Platform> platforms,
+        List<String> vibeTags,
+        LocalDate discountRecordedOn
+) {
+
+    /**
+     * 영속성 컨텍스트 안에서 엔티티로부터 문서를 만든다. (gameGenres·platforms 지연 로딩 발생 가능)
+     */
+    public static GameSearchDocument from(Game game, LocalDate discountRecordedOn) {
+        Set<String> genres = game.getGameGenres().stream()
+                .map(gameGenre -> gameGenre.getGenre().getName())
+                .collect(Collectors.toSet());
+        Set<Platform> platforms = game.getPlatforms().isEmpty()
+                ? Set.of() : EnumSet.copyOf(game.getPlatforms());
+        Integer metaScore = game.getMcMetaScore() != null ? game.getMcMetaScore() : game.getIgdbCriticScore();
+        Double userScore = game.getMcUserScore() != null ? game.getMcUserScore() : game.getIgdbUserScore();
+
+        return new GameSearchDocument(
+                game.getId(),
+                game.getPsStoreId(),
+                game.getFamilyId(),
+                game.getName(),
+                game.getEnglishName(),
+                game.getChosungName(),
+                game.getSearchKeywords() != null ? List.copyOf(game.getSearchKeywords()) : List.of(),
+                game.getImageUrl(),
+                game.getCurrentPrice(),
+                game.getDiscountRate(),
+                game.getAllTimeLowPrice(),
+                metaScore,
+                userScore,
+                game.getHltbMainStory(),
+                game.getSaleEndDate(),
+                game.getReleaseDate(),
+                game.getLastUpdated(),
+                game.isPlusExclusive(),
+                game.isInCatalog(),
+                game.isPs5ProEnhanced(),
+                game.getBestSellerRank(),
+                game.getMostDownloadedRank(),
+                genres,
+                platforms,
+                game.getVibeTags() != null ? List.copyOf(game.getVibeTags()) : List.of(),
+                discountRecordedOn
+        );
+    }
+
+    /**
+     * 전체 적재: 프로젝션 1행 + 별도 쿼리로 미리 모아둔 장르·플랫폼·할인 기록일
+     */
+    public static GameSearchDocument from(GameSearchRow row, Set<String> genres, Set<Platform> platforms,
+                                          LocalDate discountRecordedOn) {
+        return new GameSearchDocument(
+                row.id(),
+                row.psStoreId(),
+                row.familyId(),
+                row.name(),
+                row.englishName(),
+                row.chosungName(),
+                row.searchKeywords() != null ? List.copyOf(row.searchKeywords()) : List.of(),
+                row.imageUrl(),
+                row.currentPrice(),
+                row.discountRate(),
+                row.allTimeLowPrice(),
+                row.metaScore(),
+                row.userScore(),
+                row.playTime(),
+                row.saleEndDate(),
+                row.releaseDate(),
+                row.lastUpdated(),
+                row.plusExclusive(),
+                row.inCatalog(),
+                row.ps5ProEnhanced(),
+                row.bestSellerRank(),
+                row.mostDownloadedRank(),
+                genres != null ? genres : Set.of(),
+                platforms != null ? platforms : Set.of(),
+                row.vibeTags() != null ? List.copyOf(row.vibeTags()) : List.of(),
+                discountRecordedOn
+        );
+    }
+}
@@ -0,0 +1,888 @@
+package com.pstracker.catalog_service.catalog.search;
+
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.domain.Platform;
+import com.pstracker.catalog_service.catalog.dto.GameCursorPageResponse;
+import com.pstracker.catalog_service.catalog.dto.GameGenreResult;
+import com.pstracker.catalog_service.catalog.dto.GameSearchCondition;
+import com.pstracker.catalog_service.catalog.dto.GameSearchResponse;
+import com.pstracker.catalog_service.catalog.dto.GameSuggestResponse;
+import com.pstracker.catalog_service.catalog.repository.GameGenreRepository;
+import com.pstracker.catalog_service.catalog.repository.GamePriceHistoryRepository;
+import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.catalog.search.TopSlots.SlotComparator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * 게임 검색용 인메모리 컬럼형 인덱스.
+ * - 게임 1건 = slot 1개. 컬럼은 slot 번호로 접근하는 원시 배열(double, NaN = null)로 보관한다.
+ * - 불리언 필터(PS Plus, 카탈로그, PS5 Pro)는 BitSet, 장르/플랫폼/바이브 태그는 posting list(BitSet),
+ *   가격·할인율·평점·플레이타임은 정렬 컬럼(SortedColumn) 이분 탐색으로 후보를 좁힌다.
+ * - 키워드는 GameNameIndex(bigram 역색인 + 초성 prefix trie)로 처리하며, 자동완성(suggest)도 DB 없이 응답한다.
+ * - 상세 화면용 패밀리 묶음(familyId → slot)과 장르 겹침 기반 연관 게임 계산(RelatedGamesStore)도 같은 데이터를 쓴다.
+ * - 검색은 필터/정렬/카운트까지 메모리에서 끝내고 최종 페이지의 게임 ID만 반환한다. (DB는 PK IN 1번으로 hydrate)
+ * - 변경은 upsert·랭킹 갱신·관리자 수정 시점에 커밋 이후 증분 반영하므로 평시에는 전체 재적재가 필요 없다.
+ *   전체 적재 중에 들어온 증분 변경은 기록해 두었다가 스냅샷으로 교체한 직후 같은 순서로 다시 적용한다.
+ * - 적재 전이면 Optional.empty()를 반환하고 호출부가 DB 검색으로 폴백한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameSearchIndex {
+
+    public enum RankType { BEST_SELLER, MOST_DOWNLOADED }
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final GameRepository gameRepository;
+    private final GameGenreRepository gameGenreRepository;
+    private final GamePriceHistoryRepository priceHistoryRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+    // 전체 적재 중에 반영된 증분 변경 (스냅샷 교체 뒤 다시 적용, write lock으로 보호). 적재 중이 아니면 null
+    private List<Runnable> changesDuringRebuild;
+
+    // --- slot 관리 ---
+    private final Map<Long, Integer> slotByGameId = new HashMap<>();
+    private final Map<String, Integer> slotByPsStoreId = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private int slotCount = 0;
+
+    // --- 컬럼 (slot 인덱스, NaN = null) ---
+    private long[] gameIds = new long[0];
+    private String[] psStoreIds = new String[0];
+    private String[] familyIds = new String[0];
+    private String[] names = new String[0];
+    private String[] englishNames = new String[0];
+    private String[] chosungNames = new String[0];
+    private String[] imageUrls = new String[0];
+    private double[] prices = new double[0];
+    private double[] discountRates = new double[0];
+    private double[] allTimeLowPrices = new double[0];
+    private double[] metaScores = new double[0];
+    private double[] userScores = new double[0];
+    private double[] playTimes = new double[0];
+    private double[] saleEndDays = new double[0];
+    private double[] releaseDays = new double[0];
+    private double[] lastUpdatedMillis = new double[0];
+    private double[] bestSellerRanks = new double[0];
+    private double[] mostDownloadedRanks = new double[0];
+    private double[] discountRecordedDays = new double[0];
+
+    // --- 비트셋 / posting list ---
+    private final BitSet live = new BitSet();
+    private final BitSet plusExclusive = new BitSet();
+    private final BitSet inCatalog = new BitSet();
+    private final BitSet ps5ProEnhanced = new BitSet();
+    private final Map<String, BitSet> genrePostings = new HashMap<>();
+    private final Map<Platform, BitSet> platformPostings = new EnumMap<>(Platform.class);
+    private final Map<String, BitSet> vibeTagPostings = new HashMap<>();
+    private final Map<String, BitSet> familyPostings = new HashMap<>();
+    private final GameNameIndex nameIndex = new GameNameIndex();
+
+    // --- 범위 조건용 정렬 컬럼 (변경은 put/clearSlot에서 증분 반영, 전체 정렬은 rebuild 때만) ---
+    private SortedColumn priceColumn = SortedColumn.empty();
+    private SortedColumn discountColumn = SortedColumn.empty();
+    private SortedColumn metaScoreColumn = SortedColumn.empty();
+    private SortedColumn playTimeColumn = SortedColumn.empty();
+
+    /**
+     * 검색 결과: 최종 페이지의 게임 ID(정렬 순서 유지)와 전체 매칭 건수.
+     */
+    public record Hits(List<Long> gameIds, long total) {
+        public Page<GameSearchResponse> toPage(List<GameSearchResponse> content, Pageable pageable) {
+            return new PageImpl<>(content, pageable, total);
+        }
+    }
+
+    /**
+     * 커서 모드 검색 결과: 이번 페이지의 게임 ID와 다음 커서. (전체 건수는 세지 않는다)
+     */
+    public record CursorHits(List<Long> gameIds, SearchCursor next, boolean hasNext) {
+        public GameCursorPageResponse toResponse(List<GameSearchResponse> content) {
+            return new GameCursorPageResponse(content, hasNext ? next.encode() : null, hasNext);
+        }
+    }
+
+    // RelatedGamesStore 등 인덱스를 읽는 기동 리스너보다 먼저 적재
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotByGameId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * DB 전체 적재 (기동 시 1회).
+     * 게임(검색 컬럼 프로젝션)·장르·플랫폼·오늘 할인 이력을 각각 1번의 쿼리로 모은 뒤 write lock 안에서 통째로 교체한다.
+     * 조회는 lock 밖에서 하므로, 그 사이 커밋된 증분 변경은 교체 직후 다시 적용해 스냅샷의 옛 값으로 덮이지 않게 한다.
+     */
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        write(() -> changesDuringRebuild = new ArrayList<>());
+        try {
+            Map<Long, Set<String>> genresByGameId = gameGenreRepository.findAllGameGenres().stream()
+                    .collect(Collectors.groupingBy(GameGenreResult::getGameId,
+                            Collectors.mapping(GameGenreResult::getGenreName, Collectors.toSet())));
+
+            Map<Long, Set<Platform>> platformsByGameId = new HashMap<>();
+            for (Object[] row : gameRepository.findAllPlatformMappings()) {
+                platformsByGameId.computeIfAbsent((Long) row[0], k -> EnumSet.noneOf(Platform.class))
+                        .add((Platform) row[1]);
+            }
+
+            Map<Long, LocalDate> discountRecordedByGameId = new HashMap<>();
+            for (Object[] row : priceHistoryRepository.findLatestDiscountRecordedAt(LocalDate.now().atStartOfDay())) {
+                discountRecordedByGameId.put((Long) row[0], ((LocalDateTime) row[1]).toLocalDate());
+            }
+
+            List<GameSearchDocument> documents = gameRepository.findAllSearchRows().stream()
+                    .map(row -> GameSearchDocument.from(
+                            row,
+                            genresByGameId.get(row.id()),
+                            platformsByGameId.get(row.id()),
+                            discountRecordedByGameId.get(row.id())))
+                    .toList();
+
+            int replayed;
+            lock.writeLock().lock();
+            try {
+                clear();
+                documents.forEach(this::put);
+                replayed = changesDuringRebuild.size();
+                changesDuringRebuild.forEach(Runnable::run);
+                rebuildSortedColumns();
+                ready = true;
+            } finally {
+                changesDuringRebuild = null;
+                lock.writeLock().unlock();
+            }
+            log.info("🔎 게임 검색 인덱스 적재 완료: {}건, 적재 중 변경 {}건 재적용 ({}ms)",
+                    documents.size(), replayed, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 적재 실패 시 ready=false 유지 → 검색은 DB 경로로 폴백 (이전 인덱스가 있었다면 증분 변경은 이미 반영돼 있음)
+            write(() -> changesDuringRebuild = null);
+            log.error("게임 검색 인덱스 적재 실패. DB 검색으로 폴백합니다.", e);
+        }
+    }
+
+    // ========== 증분 반영 ==========
+
+    /**
+     * 엔티티 변경분을 커밋 이후에 반영한다. (롤백 시 인덱스 오염 방지)
+     * 문서는 호출 시점(영속성 컨텍스트 안)에 미리 만들어 둔다.
+     */
+    public void indexAfterCommit(Game game) {
+        indexAfterCommit(game, null);
+    }
+
+    public void indexAfterCommit(Game game, LocalDate discountRecordedOn) {
+        if (game == null || game.getId() == null) return;
+        GameSearchDocument document = GameSearchDocument.from(game, discountRecordedOn);
+        afterCommit(() -> index(document));
+    }
+
+    /**
+     * 일괄 수집 경로 — 문서 묶음을 커밋 이후 쓰기 락 1번으로 반영
+     */
+    public void indexAllAfterCommit(List<GameSearchDocument> documents) {
+        if (documents == null || documents.isEmpty()) return;
+        List<GameSearchDocument> snapshot = List.copyOf(documents);
+        afterCommit(() -> indexAll(snapshot));
+    }
+
+    public void removeAfterCommit(Collection<Long> gameIds) {
+        if (gameIds == null || gameIds.isEmpty()) return;
+        List<Long> snapshot = List.copyOf(gameIds);
+        afterCommit(() -> remove(snapshot));
+    }
+
+    /**
+     * 수집 내용이 그대로라 lastUpdated만 바뀐 게임 (최근 갱신순 정렬 반영)
+     */
+    public void touchAfterCommit(Collection<Long> gameIds, LocalDateTime lastUpdated) {
+        if (gameIds == null || gameIds.isEmpty()) return;
+        List<Long> snapshot = List.copyOf(gameIds);
+        afterCommit(() -> touch(snapshot, lastUpdated));
+    }
+
+    /**
+     * AI 배치처럼 영속성 컨텍스트 밖에서 바이브 태그·검색 키워드만 바뀐 경우.
+     */
+    public void updateAiInsights(Long gameId, List<String> vibeTags, List<String> searchKeywords) {
+        recordChange(() -> {
+            Integer slot = slotByGameId.get(gameId);
+            if (slot == null) return;
+            clearPostings(vibeTagPostings, slot);
+            addPostings(vibeTagPostings, vibeTags, slot);
+            nameIndex.put(slot, names[slot], englishNames[slot], chosungNames[slot], searchKeywords);
+        });
+    }
+
+    public void index(GameSearchDocument document) {
+        recordChange(() -> put(document));
+    }
+
+    public void indexAll(Collection<GameSearchDocument> documents) {
+        recordChange(() -> documents.forEach(this::put));
+    }
+
+    public void remove(Collection<Long> gameIds) {
+        recordChange(() -> {
+            for (Long gameId : gameIds) {
+                Integer slot = slotByGameId.remove(gameId);
+                if (slot == null) continue;
+                slotByPsStoreId.remove(psStoreIds[slot]);
+                clearSlot(slot);
+                freeSlots.push(slot);
+            }
+        });
+    }
+
+    public void touch(Collection<Long> gameIds, LocalDateTime lastUpdated) {
+        double millis = lastUpdated.toInstant(ZoneOffset.UTC).toEpochMilli();
+        recordChange(() -> {
+            for (Long gameId : gameIds) {
+                Integer slot = slotByGameId.get(gameId);
+                if (slot != null) {
+                    lastUpdatedMillis[slot] = millis;
+                }
+            }
+        });
+    }
+
+    /**
+     * 랭킹 전체 교체 (RankingsUpdatedListener — 랭킹 커밋 이후). psStoreIds 순서가 곧 순위(1부터)이며, 목록에 없는 게임의 순위는 비운다.
+     */
+    public void replaceRanks(RankType type, List<String> psStoreIds) {
+        recordChange(() -> {
+            double[] column = type == RankType.BEST_SELLER ? bestSellerRanks : mostDownloadedRanks;
+            Arrays.fill(column, Double.NaN);
+            for (int i = 0; i < psStoreIds.size(); i++) {
+                Integer slot = slotByPsStoreId.get(psStoreIds.get(i));
+                if (slot != null && Double.isNaN(column[slot])) { // 같은 게임이 반복되면 앞 순위 유지 (GameRankingJdbcRepository와 동일)
+                    column[slot] = i + 1;
+                }
+            }
+        });
+    }
+
+    // ========== 검색 ==========
+
+    /**
+     * 조건·정렬·페이지를 메모리에서 처리해 최종 페이지의 게임 ID와 전체 건수를 반환한다.
+     * @return 인덱스 미적재 또는 미지원 조건이면 Optional.empty()
+     */
+    public Optional<Hits> search(GameSearchCondition condition, Pageable pageable) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet matched = filter(condition, LocalDate.now());
+            int[] page = TopSlots.page(matched, pageable.getOffset(), pageable.getPageSize(),
+                    comparator(pageable.getSort(), condition));
+
+            return Optional.of(new Hits(toGameIds(page), matched.cardinality()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 커서 모드 검색. 필터는 search와 같고, 커서 위치보다 뒤에 있는 행 중 정렬 순서상 size+1개만 골라
+     * 다음 페이지 존재 여부를 판단한다. 커서에 담긴 키 값과 비교하므로 그 사이 마지막 행의 값이 바뀌어도 위치가 흔들리지 않는다.
+     * @return 인덱스 미적재 시 Optional.empty()
+     */
+    public Optional<CursorHits> searchAfter(GameSearchCondition condition, SearchCursor cursor, int size) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet matched = filter(condition, LocalDate.now());
+            double[] column = column(cursor.sort());
+            boolean ascending = cursor.ascending();
+            boolean nullsLast = !cursor.sort().nullsFirst(ascending);
+
+            if (!cursor.isFirst()) {
+                double cursorKey = cursor.sort().toIndexValue(cursor.key());
+                long cursorId = cursor.id();
+                retain(matched, slot -> {
+                    int cmp = compareValues(column[slot], cursorKey, ascending, nullsLast);
+                    return cmp > 0 || (cmp == 0 && gameIds[slot] < cursorId);
+                });
+            }
+
+            SlotComparator comparator = order(column, ascending, nullsLast).thenComparing(idDesc());
+            int[] slots = TopSlots.page(matched, 0, size + 1, comparator);
+
+            boolean hasNext = slots.length > size;
+            int[] page = hasNext ? Arrays.copyOf(slots, size) : slots;
+            SearchCursor next = null;
+            if (page.length > 0) {
+                int last = page[page.length - 1];
+                next = cursor.next(cursor.sort().fromIndexValue(column[last]), gameIds[last]);
+            }
+            return Optional.of(new CursorHits(toGameIds(page), next, hasNext));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 이름 자동완성. 초성 prefix 일치를 먼저 채우고, 남는 자리는 부분 일치(slot 순)로 채운다.
+     * @return 인덱스 미적재 시 Optional.empty()
+     */
+    public Optional<List<GameSuggestResponse>> suggest(String keyword, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        String normalized = GameNameIndex.normalize(keyword);
+        if (normalized == null) {
+            return Optional.of(List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            LinkedHashSet<Integer> slots = new LinkedHashSet<>(nameIndex.prefixMatches(normalized, limit));
+            BitSet contains = nameIndex.match(normalized);
+            for (int slot = contains.nextSetBit(0); slot >= 0 && slots.size() < limit; slot = contains.nextSetBit(slot + 1)) {
+                slots.add(slot);
+            }
+            return Optional.of(slots.stream()
+                    .map(slot -> new GameSuggestResponse(gameIds[slot], names[slot], imageUrls[slot]))
+                    .toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 같은 familyId(시리즈/에디션 묶음)에 속한 게임 ID. upsert 시 문서와 함께 증분 갱신된다.
+     * @return 인덱스 미적재 시 Optional.empty()
+     */
+    public Optional<List<Long>> familyGameIds(String familyId) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        if (familyId == null) {
+            return Optional.of(List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet posting = familyPostings.get(familyId);
+            if (posting == null) {
+                return Optional.of(List.of());
+            }
+            return Optional.of(posting.stream().mapToObj(slot -> gameIds[slot]).toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 게임의 연관 게임 상위 limit개를 한 번에 계산한다. (야간 추천 단계)
+     * @return 게임 ID → 연관 게임 ID 배열 (순위 순), 인덱스 미적재 시 Optional.empty()
+     */
+    public Optional<Map<Long, long[]>> computeRelated(int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, long[]> result = new HashMap<>(slotByGameId.size() * 2);
+            int[] overlap = new int[slotCount];
+            for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+                result.put(gameIds[slot], relatedOf(slot, limit, overlap));
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게임 1건의 연관 게임 상위 limit개. 야간 계산 이후 새로 들어온 게임용.
+     * @return 인덱스 미적재 또는 인덱스에 없는 게임이면 Optional.empty()
+     */
+    public Optional<long[]> computeRelated(Long gameId, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Integer slot = slotByGameId.get(gameId);
+            if (slot == null) {
+                return Optional.empty();
+            }
+            return Optional.of(relatedOf(slot, limit, new int[slotCount]));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 장르를 하나 이상 공유하는 게임 중 평점 75 이상(또는 평점 없음)인 게임을
+     * 겹치는 장르 수 → 할인율 → 평점(null 마지막) → 최근 갱신 → id 내림차순으로 골라 limit개 반환.
+     * (기존 GameRepositoryCustomImpl.findRelatedGames의 필터·정렬에 장르 겹침 수를 1순위로 추가)
+     * @param overlap slot별 겹침 수 누적용 작업 배열 (호출 후 0으로 되돌려 재사용)
+     */
+    private long[] relatedOf(int slot, int limit, int[] overlap) {
+        List<Integer> candidates = new ArrayList<>();
+        for (BitSet posting : genrePostings.values()) {
+            if (!posting.get(slot)) continue;
+            for (int other = posting.nextSetBit(0); other >= 0; other = posting.nextSetBit(other + 1)) {
+                if (other == slot) continue;
+                if (overlap[other]++ == 0) {
+                    candidates.add(other);
+                }
+            }
+        }
+
+        SlotComparator byOverlap = (a, b) -> Integer.compare(overlap[b], overlap[a]);
+        TopSlots top = new TopSlots(limit, byOverlap
+                .thenComparing(order(discountRates, false, false))
+                .thenComparing(order(metaScores, false, true))
+                .thenComparing(order(lastUpdatedMillis, false, false))
+                .thenComparing(idDesc()));
+        for (int other : candidates) {
+            if (Double.isNaN(metaScores[other]) || metaScores[other] >= 75) {
+                top.offer(other);
+            }
+        }
+        long[] related = Arrays.stream(top.toSortedArray()).mapToLong(other -> gameIds[other]).toArray();
+
+        candidates.forEach(other -> overlap[other] = 0);
+        return related;
+    }
+
+    private BitSet filter(GameSearchCondition condition, LocalDate today) {
+        BitSet result = (BitSet) live.clone();
+
+        // 0. 키워드 (이름·영문명·초성·AI 검색 키워드 부분 일치)
+        if (hasText(condition.getKeyword())) {
+            result.and(nameIndex.match(GameNameIndex.normalize(condition.getKeyword())));
+        }
+
+        // 1. 정렬 컬럼 범위 조건
+        if (condition.getMinPrice() != null || condition.getMaxPrice() != null) {
+            result.and(priceColumn.range(bound(condition.getMinPrice()), true,
+                    bound(condition.getMaxPrice()), true));
+        }
+        if (condition.getMinDiscountRate() != null) {
+            result.and(discountColumn.range(bound(condition.getMinDiscountRate()), true, null, false));
+        }
+        if (condition.getMinMetaScore() != null) {
+            result.and(metaScoreColumn.range(bound(condition.getMinMetaScore()), true, null, false));
+        }
+        if (condition.getMinPlayTime() != null || condition.getMaxPlayTime() != null) {
+            result.and(playTimeColumn.range(condition.getMinPlayTime(), false, condition.getMaxPlayTime(), true));
+        }
+
+        // 2. 비트셋 / posting list
+        if (Boolean.TRUE.equals(condition.getIsPlusExclusive())) result.and(plusExclusive);
+        if (Boolean.TRUE.equals(condition.getInCatalog())) result.and(inCatalog);
+        if (Boolean.TRUE.equals(condition.getIsPs5ProEnhanced())) result.and(ps5ProEnhanced);
+        if (condition.getPlatform() != null) {
+            result.and(platformPostings.getOrDefault(condition.getPlatform(), new BitSet()));
+        }
+        if (hasText(condition.getGenre())) {
+            result.and(genrePostings.getOrDefault(condition.getGenre(), new BitSet()));
+        }
+        if (condition.getVibeTags() != null && !condition.getVibeTags().isEmpty()) {
+            BitSet anyTag = new BitSet();
+            condition.getVibeTags().forEach(tag -> {
+                BitSet posting = vibeTagPostings.get(tag);
+                if (posting != null) anyTag.or(posting);
+            });
+            result.and(anyTag);
+        }
+
+        // 3. 나머지 스칼라 조건은 좁혀진 후보만 순회
+        if (condition.getMinUserScore() != null) {
+            double min = condition.getMinUserScore();
+            retain(result, slot -> !Double.isNaN(userScores[slot]) && userScores[slot] >= min);
+        }
+        if (Boolean.TRUE.equals(condition.getIsAllTimeLow())) {
+            retain(result, slot -> discountRates[slot] > 0 && prices[slot] <= allTimeLowPrices[slot]);
+        }
+        if (Boolean.TRUE.equals(condition.getIsBestSeller())) {
+            retain(result, slot -> !Double.isNaN(bestSellerRanks[slot]));
+        }
+        if (Boolean.TRUE.equals(condition.getIsMostDownloaded())) {
+            retain(result, slot -> !Double.isNaN(mostDownloadedRanks[slot]));
+        }
+        if (Boolean.TRUE.equals(condition.getIsClosingSoon())) {
+            double from = today.toEpochDay();
+            double to = today.plusDays(1).toEpochDay();
+            retain(result, slot -> saleEndDays[slot] >= from && saleEndDays[slot] <= to);
+        }
+        if (Boolean.TRUE.equals(condition.getIsNewDiscount())) {
+            double todayDay = today.toEpochDay();
+            retain(result, slot -> discountRecordedDays[slot] == todayDay);
+        }
+        return result;
+    }
+
+    /**
+     * GameRepositoryCustomImpl.getOrderSpecifiers와 동일한 정렬 규칙.
+     * - 베스트셀러/최다 다운로드 필터가 있으면 해당 순위 오름차순이 모든 정렬보다 우선
+     * - null 처리: saleEndDate·playTime은 NULLS LAST, 나머지는 MySQL 기본(null이 가장 작은 값)
+     * - DB와 달리 결과 순서가 흔들리지 않도록 마지막에 id 내림차순을 붙인다.
+     */
+    private SlotComparator comparator(Sort sort, GameSearchCondition condition) {
+        SlotComparator idDesc = idDesc();
+
+        if (Boolean.TRUE.equals(condition.getIsBestSeller())) {
+            return order(bestSellerRanks, true, false).thenComparing(idDesc);
+        }
+        if (Boolean.TRUE.equals(condition.getIsMostDownloaded())) {
+            return order(mostDownloadedRanks, true, false).thenComparing(idDesc);
+        }
+
+        SlotComparator result = null;
+        for (Sort.Order sortOrder : sort) {
+            boolean asc = sortOrder.isAscending();
+            SlotComparator next = switch (sortOrder.getProperty()) {
+                case "price" -> order(prices, asc, false);
+                case "discountRate" -> order(discountRates, asc, false);
+                case "metaScore" -> order(metaScores, asc, false);
+                case "saleEndDate" -> order(saleEndDays, asc, true);
+                case "releaseDate" -> order(releaseDays, asc, false);
+                case "playTime" -> order(playTimes, asc, true);
+                default -> order(lastUpdatedMillis, asc, false);
+            };
+            result = result == null ? next : result.thenComparing(next);
+        }
+        return result == null ? idDesc : result.thenComparing(idDesc);
+    }
+
+    private static SlotComparator order(double[] column, boolean ascending, boolean nullsLast) {
+        return (a, b) -> compareValues(column[a], column[b], ascending, nullsLast);
+    }
+
+    private SlotComparator idDesc() {
+        return (a, b) -> Long.compare(gameIds[b], gameIds[a]);
+    }
+
+    private List<Long> toGameIds(int[] slots) {
+        List<Long> ids = new ArrayList<>(slots.length);
+        for (int slot : slots) ids.add(gameIds[slot]);
+        return ids;
+    }
+
+    private static int compareValues(double x, double y, boolean ascending, boolean nullsLast) {
+        boolean xNull = Double.isNaN(x);
+        boolean yNull = Double.isNaN(y);
+        if (xNull || yNull) {
+            if (xNull && yNull) return 0;
+            int nullFirst = xNull ? -1 : 1;
+            if (nullsLast) return -nullFirst;
+            return ascending ? nullFirst : -nullFirst;
+        }
+        int cmp = Double.compare(x, y);
+        return ascending ? cmp : -cmp;
+    }
+
+    private double[] column(CursorSort sort) {
+        return switch (sort) {
+            case LAST_UPDATED -> lastUpdatedMillis;
+            case PRICE -> prices;
+            case DISCOUNT_RATE -> discountRates;
+            case META_SCORE -> metaScores;
+            case SALE_END_DATE -> saleEndDays;
+            case RELEASE_DATE -> releaseDays;
+            case PLAY_TIME -> playTimes;
+            case BEST_SELLER_RANK -> bestSellerRanks;
+            case MOST_DOWNLOADED_RANK -> mostDownloadedRanks;
+        };
+    }
+
+    // ========== 내부 구현 (write lock 보유 상태에서 호출) ==========
+
+    /**
+     * 증분 변경을 write lock 안에서 적용하고, 전체 적재 중이면 교체 후 다시 적용하도록 기록한다.
+     * change는 실행 시점의 컬럼을 다시 읽어야 하므로 slot·배열을 미리 잡아 두지 않는다.
+     */
+    private void recordChange(Runnable change) {
+        write(() -> {
+            change.run();
+            if (changesDuringRebuild != null) changesDuringRebuild.add(change);
+        });
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(GameSearchDocument doc) {
+        Integer existing = slotByGameId.get(doc.id());
+        int slot;
+        double discountRecorded = Double.NaN;
+        if (existing != null) {
+            slot = existing;
+            discountRecorded = discountRecordedDays[slot];
+            slotByPsStoreId.remove(psStoreIds[slot]);
+            clearSlot(slot);
+        } else {
+            slot = freeSlots.isEmpty() ? slotCount++ : freeSlots.pop();
+            ensureCapacity(slot + 1);
+        }
+
+        slotByGameId.put(doc.id(), slot);
+        if (doc.psStoreId() != null) {
+            slotByPsStoreId.put(doc.psStoreId(), slot);
+        }
+
+        gameIds[slot] = doc.id();
+        psStoreIds[slot] = doc.psStoreId();
+        familyIds[slot] = doc.familyId();
+        names[slot] = doc.name();
+        englishNames[slot] = doc.englishName();
+        chosungNames[slot] = doc.chosungName();
+        imageUrls[slot] = doc.imageUrl();
+        prices[slot] = toDouble(doc.currentPrice());
+        discountRates[slot] = toDouble(doc.discountRate());
+        allTimeLowPrices[slot] = toDouble(doc.allTimeLowPrice());
+        metaScores[slot] = toDouble(doc.metaScore());
+        userScores[slot] = toDouble(doc.userScore());
+        playTimes[slot] = toDouble(doc.playTime());
+        saleEndDays[slot] = doc.saleEndDate() != null ? doc.saleEndDate().toEpochDay() : Double.NaN;
+        releaseDays[slot] = doc.releaseDate() != null ? doc.releaseDate().toEpochDay() : Double.NaN;
+        lastUpdatedMillis[slot] = doc.lastUpdated() != null
+                ? doc.lastUpdated().toInstant(ZoneOffset.UTC).toEpochMilli() : Double.NaN;
+        bestSellerRanks[slot] = toDouble(doc.bestSellerRank());
+        mostDownloadedRanks[slot] = toDouble(doc.mostDownloadedRank());
+        discountRecordedDays[slot] = doc.discountRecordedOn() != null
+                ? doc.discountRecordedOn().toEpochDay() : discountRecorded;
+
+        live.set(slot);
+        plusExclusive.set(slot, doc.plusExclusive());
+        inCatalog.set(slot, doc.inCatalog());
+        ps5ProEnhanced.set(slot, doc.ps5ProEnhanced());
+        addPostings(genrePostings, doc.genres(), slot);
+        doc.platforms().forEach(platform ->
+                platformPostings.computeIfAbsent(platform, k -> new BitSet()).set(slot));
+        addPostings(vibeTagPostings, doc.vibeTags(), slot);
+        if (doc.familyId() != null) {
+            familyPostings.computeIfAbsent(doc.familyId(), k -> new BitSet()).set(slot);
+        }
+        nameIndex.put(slot, doc.name(), doc.englishName(), doc.chosungName(), doc.searchKeywords());
+
+        priceColumn.update(slot, prices[slot]);
+        discountColumn.update(slot, discountRates[slot]);
+        metaScoreColumn.update(slot, metaScores[slot]);
+        playTimeColumn.update(slot, playTimes[slot]);
+    }
+
+    private void clearSlot(int slot) {
+        live.clear(slot);
+        plusExclusive.clear(slot);
+        inCatalog.clear(slot);
+        ps5ProEnhanced.clear(slot);
+        clearPostings(genrePostings, slot);
+        platformPostings.values().forEach(posting -> posting.clear(slot));
+        clearPostings(vibeTagPostings, slot);
+        clearFamily(slot);
+        nameIndex.remove(slot);
+        psStoreIds[slot] = null;
+        names[slot] = null;
+        englishNames[slot] = null;
+        chosungNames[slot] = null;
+        imageUrls[slot] = null;
+        for (double[] column : numericColumns()) {
+            column[slot] = Double.NaN;
+        }
+        priceColumn.remove(slot);
+        discountColumn.remove(slot);
+        metaScoreColumn.remove(slot);
+        playTimeColumn.remove(slot);
+    }
+
+    private void clear() {
+        slotByGameId.clear();
+        slotByPsStoreId.clear();
+        freeSlots.clear();
+        slotCount = 0;
+        live.clear();
+        plusExclusive.clear();
+        inCatalog.clear();
+        ps5ProEnhanced.clear();
+        genrePostings.clear();
+        platformPostings.clear();
+        vibeTagPostings.clear();
+        familyPostings.clear();
+        nameIndex.clear();
+        gameIds = new long[0];
+        psStoreIds = new String[0];
+        familyIds = new String[0];
+        names = new String[0];
+        englishNames = new String[0];
+        chosungNames = new String[0];
+        imageUrls = new String[0];
+        prices = new double[0];
+        discountRates = new double[0];
+        allTimeLowPrices = new double[0];
+        metaScores = new double[0];
+        userScores = new double[0];
+        playTimes = new double[0];
+        saleEndDays = new double[0];
+        releaseDays = new double[0];
+        lastUpdatedMillis = new double[0];
+        bestSellerRanks = new double[0];
+        mostDownloadedRanks = new double[0];
+        discountRecordedDays = new double[0];
+        priceColumn = SortedColumn.empty();
+        discountColumn = SortedColumn.empty();
+        metaScoreColumn = SortedColumn.empty();
+        playTimeColumn = SortedColumn.empty();
+    }
+
+    private void ensureCapacity(int required) {
+        if (gameIds.length >= required) return;
+        int capacity = Math.max(INITIAL_CAPACITY, Math.max(required, gameIds.length * 2));
+        gameIds = Arrays.copyOf(gameIds, capacity);
+        psStoreIds = Arrays.copyOf(psStoreIds, capacity);
+        familyIds = Arrays.copyOf(familyIds, capacity);
+        names = Arrays.copyOf(names, capacity);
+        englishNames = Arrays.copyOf(englishNames, capacity);
+        chosungNames = Arrays.copyOf(chosungNames, capacity);
+        imageUrls = Arrays.copyOf(imageUrls, capacity);
+        prices = grow(prices, capacity);
+        discountRates = grow(discountRates, capacity);
+        allTimeLowPrices = grow(allTimeLowPrices, capacity);
+        metaScores = grow(metaScores, capacity);
+        userScores = grow(userScores, capacity);
+        playTimes = grow(playTimes, capacity);
+        saleEndDays = grow(saleEndDays, capacity);
+        releaseDays = grow(releaseDays, capacity);
+        lastUpdatedMillis = grow(lastUpdatedMillis, capacity);
+        bestSellerRanks = grow(bestSellerRanks, capacity);
+        mostDownloadedRanks = grow(mostDownloadedRanks, capacity);
+        discountRecordedDays = grow(discountRecordedDays, capacity);
+    }
+
+    private List<double[]> numericColumns() {
+        return List.of(prices, discountRates, allTimeLowPrices, metaScores, userScores, playTimes,
+                saleEndDays, releaseDays, lastUpdatedMillis, bestSellerRanks, mostDownloadedRanks,
+                discountRecordedDays);
+    }
+
+    // 전체 적재 직후 한 번에 정렬해 적재 중 쌓인 delta를 정리한다
+    private void rebuildSortedColumns() {
+        priceColumn = SortedColumn.build(prices, live);
+        discountColumn = SortedColumn.build(discountRates, live);
+        metaScoreColumn = SortedColumn.build(metaScores, live);
+        playTimeColumn = SortedColumn.build(playTimes, live);
+    }
+
+    private static void addPostings(Map<String, BitSet> postings, Collection<String> keys, int slot) {
+        if (keys == null) return;
+        for (String key : keys) {
+            if (key != null) {
+                postings.computeIfAbsent(key, k -> new BitSet()).set(slot);
+            }
+        }
+    }
+
+    private static void clearPostings(Map<String, BitSet> postings, int slot) {
+        postings.values().forEach(posting -> posting.clear(slot));
+    }
+
+    // 패밀리는 게임 수만큼 많으므로 전체 순회 대신 slot의 familyId로 바로 찾아 지운다
+    private void clearFamily(int slot) {
+        String familyId = familyIds[slot];
+        if (familyId == null) return;
+        BitSet posting = familyPostings.get(familyId);
+        if (posting != null) {
+            posting.clear(slot);
+            if (posting.isEmpty()) familyPostings.remove(familyId);
+        }
+        familyIds[slot] = null;
+    }
+
+    private static void retain(BitSet bits, IntPredicate predicate) {
+        for (int slot = bits.nextSetBit(0); slot >= 0; slot = bits.nextSetBit(slot + 1)) {
+            if (!predicate.test(slot)) {
+                bits.clear(slot);
+            }
+        }
+    }
+
+    private static double[] grow(double[] column, int capacity) {
+        int oldLength = column.length;
+        double[] grown = Arrays.copyOf(column, capacity);
+        Arrays.fill(grown, oldLength, capacity, Double.NaN);
+        return grown;
+    }
+
+    private static Double bound(Integer value) {
+        return value != null ? value.doubleValue() : null;
+    }
+
+    private static double toDouble(Integer value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    private static double toDouble(Double value) {
+        return value != null ? value : Double.NaN;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.pstracker.catalog_service.catalog.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임별 연관 게임(장르 겹침 + 평점 기반 추천) 사전 계산 결과.
+ * - 게임 ID → 연관 게임 ID long[] 로만 보관하고, 상세 조회 시에는 PK IN 1번으로 최신 가격과 함께 읽는다.
+ * - 기동 시와 일배치 완료 웜업(CacheWarmUpService)에서 GameSearchIndex 데이터로 통째로 다시 계산해 교체한다.
+ * - 계산 이후 새로 들어온 게임은 첫 조회 때 1건만 계산해 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RelatedGamesStore {
+
+    public static final int RELATED_GAME_COUNT = 4;
+
+    private final GameSearchIndex gameSearchIndex;
+
+    private volatile Map<Long, long[]> relatedByGameId = new ConcurrentHashMap<>();
+
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * @return 계산한 게임 수 (인덱스 미적재면 -1, 기존 결과 유지)
+     */
+    public int rebuild() {
+        long start = System.currentTimeMillis();
+        Optional<Map<Long, long[]>> computed = gameSearchIndex.computeRelated(RELATED_GAME_COUNT);
+        if (computed.isEmpty()) {
+            log.warn("검색 인덱스 미적재로 연관 게임 계산을 건너뜁니다.");
+            return -1;
+        }
+
+        relatedByGameId = new ConcurrentHashMap<>(computed.get());
+        log.info("연관 게임 사전 계산 완료: {}건 ({}ms)", relatedByGameId.size(), System.currentTimeMillis() - start);
+        return relatedByGameId.size();
+    }
+
+    /**
+     * @return 연관 게임 ID (순위 순). 인덱스 미적재 등으로 알 수 없으면 Optional.empty() → 호출부가 DB 쿼리로 폴백
+     */
+    public Optional<List<Long>> relatedGameIds(Long gameId) {
+        Map<Long, long[]> snapshot = relatedByGameId;
+        long[] related = snapshot.get(gameId);
+        if (related == null) {
+            Optional<long[]> computed = gameSearchIndex.computeRelated(gameId, RELATED_GAME_COUNT);
+            if (computed.isEmpty()) {
+                return Optional.empty();
+            }
+            related = computed.get();
+            snapshot.put(gameId, related);
+        }
+        return Optional.of(Arrays.stream(related).boxed().toList());
+    }
+}
@@ -0,0 +1,73 @@
+package com.pstracker.catalog_service.catalog.search;
+
+import com.pstracker.catalog_service.catalog.dto.GameSearchCondition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 게임 검색 커서(keyset) 페이지네이션 위치.
+ * - 마지막으로 내려준 행의 정렬 키(key)와 id를 담아, 다음 요청은 OFFSET 없이 그 뒤부터 읽는다.
+ * - 클라이언트에는 "정렬|방향|키|id"를 base64url로 감싼 불투명 문자열로만 노출한다.
+ * - id가 null이면 첫 페이지(시작 위치)다.
+ */
+public record SearchCursor(CursorSort sort, boolean ascending, String key, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 첫 페이지 위치. 정렬 방향은 순위 정렬이면 항상 오름차순, 그 외에는 첫 번째 정렬 기준을 따른다. (기본 lastUpdated DESC)
+     */
+    public static SearchCursor start(Sort sort, GameSearchCondition condition) {
+        CursorSort cursorSort = CursorSort.of(sort, condition);
+        boolean ascending = switch (cursorSort) {
+            case BEST_SELLER_RANK, MOST_DOWNLOADED_RANK -> true;
+            default -> sort.stream().findFirst().map(Sort.Order::isAscending).orElse(false);
+        };
+        return new SearchCursor(cursorSort, ascending, null, null);
+    }
+
+    /**
+     * 클라이언트가 보낸 커서를 해석한다. 요청의 정렬 조건과 다르면 다른 순서의 위치이므로 거부한다.
+     */
+    public static SearchCursor decode(String token, SearchCursor start) {
+        SearchCursor cursor = decode(token);
+        if (cursor.sort != start.sort || cursor.ascending != start.ascending) {
+            throw new IllegalArgumentException("커서의 정렬 조건이 요청과 일치하지 않습니다.");
+        }
+        return cursor;
+    }
+
+    static SearchCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            CursorSort sort = CursorSort.valueOf(parts[0]);
+            String key = parts[2].isEmpty() ? null : parts[2];
+            sort.parse(key); // 키 형식 검증
+            return new SearchCursor(sort, "A".equals(parts[1]), key, Long.valueOf(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(DELIMITER, sort.name(), ascending ? "A" : "D", key != null ? key : "", String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+
+    /**
+     * 같은 정렬 조건에서 다음 페이지 위치
+     */
+    public SearchCursor next(String key, Long id) {
+        return new SearchCursor(sort, ascending, key, id);
+    }
+}
@@ -0,0 +1,189 @@
+package com.pstracker.catalog_service.catalog.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 범위 조건 전용 정렬 컬럼.
+ * - (값, slot) 쌍을 값 오름차순으로 정렬한 원시 배열(base)로 보관하고, 이분 탐색으로 범위 경계를 찾는다.
+ * - null(값 없음) slot은 포함하지 않으므로 범위 조건에서 자연스럽게 제외된다. (SQL 비교 연산과 동일)
+ * - 변경은 증분으로 반영한다. 바뀐 slot은 base에서 무효(stale) 표시만 하고 새 값은 정렬되지 않은 delta 버퍼에 쌓는다.
+ *   delta가 임계치(base의 1/8, 최소 1024건)를 넘으면 그 변경 시점에 base와 선형 병합한다. (검색 경로에서는 재정렬하지 않음)
+ * - 스레드 안전하지 않다. GameSearchIndex의 lock 아래에서만 접근한다. (range는 read lock, update/remove는 write lock)
+ */
+final class SortedColumn {
+
+    private static final int MIN_MERGE_THRESHOLD = 1024;
+    private static final int INITIAL_DELTA_CAPACITY = 16;
+
+    private double[] values;
+    private int[] slots;
+
+    // base에 남아 있지만 더 이상 유효하지 않은 slot
+    private final BitSet stale = new BitSet();
+
+    // 병합 전 변경분 (정렬되지 않음)
+    private final BitSet deltaMembers = new BitSet();
+    private double[] deltaValues = new double[INITIAL_DELTA_CAPACITY];
+    private int[] deltaSlots = new int[INITIAL_DELTA_CAPACITY];
+    private int deltaCount = 0;
+
+    private SortedColumn(double[] values, int[] slots) {
+        this.values = values;
+        this.slots = slots;
+    }
+
+    /**
+     * @param column   slot별 값 (NaN = null)
+     * @param live     살아있는 slot
+     */
+    static SortedColumn build(double[] column, BitSet live) {
+        int count = 0;
+        int[] candidates = new int[live.cardinality()];
+        for (int slot = live.nextSetBit(0); slot >= 0; slot = live.nextSetBit(slot + 1)) {
+            if (!Double.isNaN(column[slot])) {
+                candidates[count++] = slot;
+            }
+        }
+
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) order[i] = candidates[i];
+        Arrays.sort(order, (a, b) -> Double.compare(column[a], column[b]));
+
+        double[] values = new double[count];
+        int[] slots = new int[count];
+        for (int i = 0; i < count; i++) {
+            slots[i] = order[i];
+            values[i] = column[order[i]];
+        }
+        return new SortedColumn(values, slots);
+    }
+
+    static SortedColumn empty() {
+        return new SortedColumn(new double[0], new int[0]);
+    }
+
+    /**
+     * slot의 값을 교체한다. NaN이면 제거와 같다.
+     */
+    void update(int slot, double value) {
+        remove(slot);
+        if (Double.isNaN(value)) return;
+
+        if (deltaCount == deltaSlots.length) {
+            deltaValues = Arrays.copyOf(deltaValues, deltaCount * 2);
+            deltaSlots = Arrays.copyOf(deltaSlots, deltaCount * 2);
+        }
+        deltaValues[deltaCount] = value;
+        deltaSlots[deltaCount] = slot;
+        deltaCount++;
+        deltaMembers.set(slot);
+
+        if (deltaCount > Math.max(MIN_MERGE_THRESHOLD, values.length >>> 3)) {
+            merge();
+        }
+    }
+
+    void remove(int slot) {
+        stale.set(slot);
+        if (!deltaMembers.get(slot)) return;
+
+        for (int i = 0; i < deltaCount; i++) {
+            if (deltaSlots[i] == slot) {
+                deltaCount--;
+                deltaValues[i] = deltaValues[deltaCount];
+                deltaSlots[i] = deltaSlots[deltaCount];
+                break;
+            }
+        }
+        deltaMembers.clear(slot);
+    }
+
+    /**
+     * 범위에 드는 slot 집합을 반환한다. 경계가 null이면 해당 방향은 열린 범위.
+     */
+    BitSet range(Double lower, boolean lowerInclusive, Double upper, boolean upperInclusive) {
+        int from = lower == null ? 0
+                : (lowerInclusive ? lowerBound(lower) : upperBound(lower));
+        int to = upper == null ? values.length
+                : (upperInclusive ? upperBound(upper) : lowerBound(upper));
+
+        BitSet result = new BitSet();
+        for (int i = from; i < to; i++) {
+            if (!stale.get(slots[i])) {
+                result.set(slots[i]);
+            }
+        }
+        for (int i = 0; i < deltaCount; i++) {
+            double value = deltaValues[i];
+            boolean aboveLower = lower == null || (lowerInclusive ? value >= lower : value > lower);
+            boolean belowUpper = upper == null || (upperInclusive ? value <= upper : value < upper);
+            if (aboveLower && belowUpper) {
+                result.set(deltaSlots[i]);
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        int count = deltaCount;
+        for (int slot : slots) {
+            if (!stale.get(slot)) count++;
+        }
+        return count;
+    }
+
+    /** delta를 정렬한 뒤 무효 항목을 걸러내며 base와 병합한다. O(n + k log k) */
+    private void merge() {
+        Integer[] order = new Integer[deltaCount];
+        for (int i = 0; i < deltaCount; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(deltaValues[a], deltaValues[b]));
+
+        double[] mergedValues = new double[values.length + deltaCount];
+        int[] mergedSlots = new int[values.length + deltaCount];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        while (i < values.length || j < deltaCount) {
+            if (i < values.length && stale.get(slots[i])) {
+                i++;
+                continue;
+            }
+            if (j >= deltaCount || (i < values.length && values[i] <= deltaValues[order[j]])) {
+                mergedValues[size] = values[i];
+                mergedSlots[size++] = slots[i++];
+            } else {
+                mergedValues[size] = deltaValues[order[j]];
+                mergedSlots[size++] = deltaSlots[order[j++]];
+            }
+        }
+
+        values = Arrays.copyOf(mergedValues, size);
+        slots = Arrays.copyOf(mergedSlots, size);
+        stale.clear();
+        deltaMembers.clear();
+        deltaCount = 0;
+    }
+
+    /** value 이상인 첫 위치 */
+    private int lowerBound(double value) {
+        int lo = 0, hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    /** value 초과인 첫 위치 */
+    private int upperBound(double value) {
+        int lo = 0, hi = values.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] <= value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
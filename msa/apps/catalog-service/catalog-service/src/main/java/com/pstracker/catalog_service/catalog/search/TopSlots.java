@@ -0,0 +1,108 @@
+package com.pstracker.catalog_service.catalog.search;
+
+import java.util.BitSet;
+
+/**
+ * 정렬 순서상 앞쪽 k개 slot만 고르는 bounded heap (원시 int 배열, 박싱 없음).
+ * - 지금까지 고른 k개 중 가장 뒤에 오는 slot을 루트에 둔다. 새 slot이 루트보다 앞이면 루트를 교체한다. (n log k)
+ * - 검색 결과는 보통 수천 건이고 필요한 건 offset + size개뿐이라 전체 정렬 대신 쓴다.
+ */
+final class TopSlots {
+
+    /**
+     * slot 두 개의 정렬 순서. 음수면 a가 앞.
+     */
+    @FunctionalInterface
+    interface SlotComparator {
+        int compare(int a, int b);
+
+        default SlotComparator thenComparing(SlotComparator next) {
+            return (a, b) -> {
+                int cmp = compare(a, b);
+                return cmp != 0 ? cmp : next.compare(a, b);
+            };
+        }
+    }
+
+    private final int limit;
+    private final SlotComparator comparator;
+    private final int[] heap;
+    private int size = 0;
+
+    TopSlots(int limit, SlotComparator comparator) {
+        this.limit = limit;
+        this.comparator = comparator;
+        this.heap = new int[limit];
+    }
+
+    /**
+     * @return bits 중 정렬 순서상 [offset, offset + size) 구간의 slot (순서대로)
+     */
+    static int[] page(BitSet bits, long offset, int size, SlotComparator comparator) {
+        long total = bits.cardinality();
+        if (size <= 0 || offset >= total) return new int[0];
+
+        TopSlots top = new TopSlots((int) Math.min(offset + size, total), comparator);
+        for (int slot = bits.nextSetBit(0); slot >= 0; slot = bits.nextSetBit(slot + 1)) {
+            top.offer(slot);
+        }
+        int[] sorted = top.toSortedArray();
+        int from = (int) offset;
+        int[] page = new int[sorted.length - from];
+        System.arraycopy(sorted, from, page, 0, page.length);
+        return page;
+    }
+
+    void offer(int slot) {
+        if (limit == 0) return;
+        if (size < limit) {
+            heap[size] = slot;
+            siftUp(size++);
+        } else if (comparator.compare(slot, heap[0]) < 0) {
+            heap[0] = slot;
+            siftDown(0, size);
+        }
+    }
+
+    /**
+     * 고른 slot을 앞에서부터 순서대로 (힙은 비워진다)
+     */
+    int[] toSortedArray() {
+        int[] sorted = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            sorted[i] = heap[0];
+            heap[0] = heap[i];
+            siftDown(0, i);
+        }
+        size = 0;
+        return sorted;
+    }
+
+    // 루트가 가장 뒤에 오는 slot이 되도록 유지
+    private void siftUp(int index) {
+        int slot = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (comparator.compare(slot, heap[parent]) <= 0) break;
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = slot;
+    }
+
+    private void siftDown(int index, int end) {
+        int slot = heap[index];
+        int half = end >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < end && comparator.compare(heap[right], heap[child]) > 0) {
+                child = right;
+            }
+            if (comparator.compare(slot, heap[child]) >= 0) break;
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = slot;
+    }
+}
@@ -0,0 +1,80 @@
+package com.pstracker.catalog_service.catalog.service;
+
+import com.pstracker.catalog_service.catalog.search.RelatedGamesStore;
+import com.pstracker.catalog_service.insights.service.InsightsService;
+import com.pstracker.catalog_service.subscription.service.SubscriptionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 일배치 완료 후 로컬 캐시 웜업 (refresh-ahead).
+ * - clear() 대신 새 값을 계산한 뒤 put으로 교체하므로 조회는 웜업 중에도 이전 값을 받는다. (빈 캐시 → DB 몰림 방지)
+ * - 단계: 연관 게임 사전 계산 → 큐레이션 테마 → Insights 스냅샷 → PS Plus 가격. 한 단계가 실패해도 다음 단계는 진행한다.
+ * - 단계별 소요 시간은 cache.warmup{stage=...} 타이머로 actuator 메트릭에 노출된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheWarmUpService {
+
+    private static final String WARMUP_TIMER = "cache.warmup";
+
+    private final GameReadService gameReadService;
+    private final RelatedGamesStore relatedGamesStore;
+    private final InsightsService insightsService;
+    private final SubscriptionService subscriptionService;
+    private final MeterRegistry meterRegistry;
+
+    // 배치 완료 콜백이 겹쳐 들어와도 웜업은 한 번만 돈다
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Async
+    public void warmUpAsync() {
+        warmUp();
+    }
+
+    /**
+     * @return 이미 다른 웜업이 진행 중이어서 건너뛰었으면 false
+     */
+    public boolean warmUp() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("캐시 웜업이 이미 진행 중이라 이번 요청은 건너뜁니다.");
+            return false;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            runStage("related", relatedGamesStore::rebuild);
+            runStage("curation", () -> {
+                int warmed = gameReadService.warmCurationCache();
+                log.info("큐레이션 캐시 웜업: {}개 키 교체", warmed);
+            });
+            runStage("insights", insightsService::refreshInsightsCache);
+            runStage("psPlusPricing", subscriptionService::warmPsPlusPricingCache);
+            log.info("일배치 캐시 웜업 완료 ({}ms)", System.currentTimeMillis() - start);
+            return true;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void runStage(String stage, Runnable task) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            task.run();
+        } catch (Exception e) {
+            outcome = "failure";
+            log.error("캐시 웜업 단계 실패: {}", stage, e);
+        } finally {
+            long elapsed = sample.stop(meterRegistry.timer(WARMUP_TIMER, "stage", stage, "outcome", outcome));
+            log.debug("캐시 웜업 단계 {} ({}ms, {})", stage, TimeUnit.NANOSECONDS.toMillis(elapsed), outcome);
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.pstracker.catalog_service.catalog.service;
 
+import com.pstracker.catalog_service.ai.service.AiService;
 import com.pstracker.catalog_service.catalog.domain.*;
 import com.pstracker.catalog_service.catalog.dto.*;
 import com.pstracker.catalog_service.catalog.dto.igdb.IgdbGameResponse;
+import com.pstracker.catalog_service.catalog.event.GameEnrichmentRequestedEvent;
 import com.pstracker.catalog_service.catalog.event.GamePriceChangedEvent;
 import com.pstracker.catalog_service.catalog.repository.*;
+import com.pstracker.catalog_service.catalog.search.GameSearchDocument;
+import com.pstracker.catalog_service.catalog.search.GameSearchIndex;
+import com.pstracker.catalog_service.catalog.search.SearchCursor;
 import com.pstracker.catalog_service.global.client.collector.CollectorClientManager;
 import com.pstracker.catalog_service.global.client.collector.dto.SingleCrawlRequest;
-import com.pstracker.catalog_service.global.domain.PriceVerdict;
-import com.pstracker.catalog_service.global.util.PriceVerdictCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,13 +20,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -32,28 +36,39 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CatalogService {
 
-    private static final String PS_STORE_BASE_URL = "https://store.playstation.com/ko-kr/product/";
+    private static final String PS_STORE_BASE_URL = CrawlTarget.PS_STORE_BASE_URL;
+
+    // 크롤러 타겟 피드 keyset 청크 크기, 첫 청크 커서 (last_updated_at 하한)
+    private static final int CRAWL_TARGET_CHUNK_SIZE = 1000;
+    private static final LocalDateTime CRAWL_TARGET_FEED_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    // 일괄 수집 1회 최대 건수 (트랜잭션·IN절 크기 상한)
+    public static final int MAX_BULK_COLLECT_SIZE = 500;
 
     @Value("${crawler.secret-key}")
     private String internalSecretKey;
 
     private final GameRepository gameRepository;
     private final GamePriceHistoryRepository priceHistoryRepository;
+    private final GamePriceHistoryJdbcRepository priceHistoryJdbcRepository;
+    private final PriceChangeOutboxJdbcRepository priceChangeOutboxJdbcRepository;
     private final GameGenreRepository gameGenreRepository;
     private final WishlistRepository wishlistRepository;
     private final GenreRepository genreRepository;
     private final GameVoteRepository gameVoteRepository;
     private final CrawlJobRepository crawlJobRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final IgdbEnrichmentService igdbEnrichmentService;
-    private final Executor igdbExecutor;
 
     private final GameReadService gameReadService;
     private final GameScouterService gameScouterService;
+    private final PriceSeriesService priceSeriesService;
     private final CollectorClientManager clientManager;
+    private final GameSearchIndex gameSearchIndex;
+    private final CollectStats collectStats;
 
     /**
      * 게임 데이터 수집 및 저장 (Upsert)
+     * - 마지막으로 반영한 요청과 내용 지문이 같으면 게임·이력을 로딩하지 않고 수집 시각만 갱신한다.
      * @param request 수집 요청 DTO
      */
     @Transactional
@@ -65,43 +80,51 @@ public class CatalogService {
             return;
         }
 
-        // IGDB 호출 선제 시작 — DB 작업과 병렬로 진행
-        String searchTitle = StringUtils.hasText(request.getEnglishTitle())
-                ? request.getEnglishTitle() : request.getTitle();
-        CompletableFuture<IgdbGameResponse> igdbFuture =
-                CompletableFuture.supplyAsync(() -> fetchIgdbSafely(searchTitle), igdbExecutor);
+        long startNanos = System.nanoTime();
+        long fingerprint = CollectFingerprint.of(request);
+        Optional<Long> unchangedGameId = gameRepository.findIdByPsStoreIdAndCollectFingerprint(request.getPsStoreId(), fingerprint);
+        if (unchangedGameId.isPresent()) {
+            Long gameId = unchangedGameId.get();
+            touchUnchanged(List.of(gameId));
+            eventPublisher.publishEvent(new GameEnrichmentRequestedEvent(Map.of(gameId, searchTitleOf(request)), Set.of()));
+            if (isRecentRelease(request)) {
+                requeueRecentGameForScraping(gameId, CrawlJob.TargetType.METACRITIC);
+                requeueRecentGameForScraping(gameId, CrawlJob.TargetType.HLTB);
+            }
+            collectStats.recordUnchanged(1, System.nanoTime() - startNanos);
+            return;
+        }
 
         Set<Genre> genreEntities = resolveGenres(request.getGenreIds());
         Game game = findOrCreateGame(request);
         boolean isNewGame = game.getId() == null;
         Integer oldOriginalPrice = game.getOriginalPrice();
 
-        updateGameMetadata(game, request, genreEntities);
-        boolean editionContentsChanged = game.updateEditionContents(request.getEditionContents());
-
-        // DB 작업이 끝난 시점에 IGDB 결과 합류
-        applyIgdbRatings(game, igdbFuture.join(), searchTitle);
-
-        game.updatePriceSearchInfo(
-                request.getOriginalPrice(),
-                request.getCurrentPrice(),
-                request.getDiscountRate(),
-                request.isPlusExclusive(),
-                request.getSaleEndDate(),
-                request.isInCatalog()
-        );
+        boolean editionContentsChanged = applyCollectedData(game, request, genreEntities);
 
         // 정가가 영구 인하된 경우, 모순된 목표가를 가진 위시리스트 일괄 초기화
         Integer newOriginalPrice = request.getOriginalPrice();
         if (oldOriginalPrice != null && newOriginalPrice != null && newOriginalPrice < oldOriginalPrice) {
             wishlistRepository.resetInvalidTargetPrices(game.getId(), newOriginalPrice);
+            gameReadService.evictWatcherStats(game.getId());
             log.debug("정가 영구 인하 감지 ({} -> {}). 관련 목표 가격 초기화 완료.", oldOriginalPrice, newOriginalPrice);
         }
 
+        game.updateCollectFingerprint(fingerprint);
         gameRepository.save(game);
-        processPriceInfo(game, request);
+        boolean historySaved = processPriceInfo(game, request);
+        game.refreshPriceVerdict();
         gameReadService.evictGameDetailCache(game.getId());
 
+        // 검색 인덱스 증분 반영 (커밋 이후) — 오늘 할인 이력이 새로 기록됐으면 '신규 할인' 필터에도 반영
+        LocalDate discountRecordedOn = historySaved && request.getDiscountRate() != null && request.getDiscountRate() > 0
+                ? LocalDate.now() : null;
+        gameSearchIndex.indexAfterCommit(game, discountRecordedOn);
+
+        // IGDB 평점·AI 인사이트는 커밋 이후 보강 파이프라인이 채운다 (외부 API 대기 중 커넥션 점유 방지)
+        eventPublisher.publishEvent(new GameEnrichmentRequestedEvent(Map.of(game.getId(), searchTitleOf(request)),
+                game.needsAiInsights() ? Set.of(game.getId()) : Set.of()));
+
         // editionContents 변경 시에만 같은 family 게임들의 캐시도 무효화
         // (다른 에디션 상세 페이지의 familyGames 배열 안에 있는 이 게임의 contents가 stale해지기 때문)
         if (editionContentsChanged) {
@@ -109,12 +132,226 @@ public class CatalogService {
         }
 
         // 신규 게임 또는 최근 출시(1개월 이내)면 메타크리틱/HLTB 스크래핑 큐에 등록
-        boolean isRecentRelease = request.getReleaseDate() != null
-                && request.getReleaseDate().isAfter(LocalDate.now().minusMonths(1));
-        if (isNewGame || isRecentRelease) {
+        if (isNewGame || isRecentRelease(request)) {
             requeueRecentGameForScraping(game.getId(), CrawlJob.TargetType.METACRITIC);
             requeueRecentGameForScraping(game.getId(), CrawlJob.TargetType.HLTB);
         }
+        collectStats.recordApplied(1, System.nanoTime() - startNanos);
+    }
+
+    private static boolean isRecentRelease(CollectRequest request) {
+        return request.getReleaseDate() != null
+                && request.getReleaseDate().isAfter(LocalDate.now().minusMonths(1));
+    }
+
+    /**
+     * 내용이 그대로인 게임: 수집 시각만 좁은 UPDATE 1번으로 갱신 (엔티티 로딩·dirty checking·이력 조회 없음)
+     */
+    private void touchUnchanged(Collection<Long> gameIds) {
+        LocalDateTime now = LocalDateTime.now();
+        gameRepository.touchLastUpdated(gameIds, now);
+        gameSearchIndex.touchAfterCommit(gameIds, now);
+    }
+
+    /**
+     * 게임 데이터 일괄 수집 (Bulk Upsert)
+     * - 단건 upsert와 같은 규칙으로 저장하되, 기존 게임·장르·최신 가격 이력은 배치 전체에 대해 IN절로 한 번씩만 조회한다.
+     * - 가격 이력·가격 하락 아웃박스는 JDBC batch INSERT로 쓰고, 캐시 무효화·검색 인덱스 반영은 배치당 한 번씩 처리한다.
+     * - 가격 0/누락 또는 psStoreId 누락 건은 건너뛰고, 배치 안에서 같은 psStoreId가 반복되면 마지막 요청만 반영한다.
+     * - 마지막으로 반영한 요청과 내용 지문이 같은 게임은 수집 시각만 UPDATE 1번으로 갱신하고 나머지 단계에서 뺀다.
+     * @param requests 수집 요청 DTO 목록 (최대 MAX_BULK_COLLECT_SIZE건)
+     * @return 처리 결과 요약
+     */
+    @Transactional
+    public BulkCollectResponse upsertGameDataBulk(List<CollectRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return new BulkCollectResponse(0, 0, 0, 0, 0, 0);
+        }
+        if (requests.size() > MAX_BULK_COLLECT_SIZE) {
+            throw new IllegalArgumentException("일괄 수집은 한 번에 최대 " + MAX_BULK_COLLECT_SIZE + "건까지 가능합니다.");
+        }
+
+        // 0. 유효성 필터 + 배치 내 중복 제거
+        Map<String, CollectRequest> byPsStoreId = new LinkedHashMap<>();
+        for (CollectRequest request : requests) {
+            if (!StringUtils.hasText(request.getPsStoreId())
+                    || request.getCurrentPrice() == null || request.getCurrentPrice() == 0) {
+                log.warn("Invalid price data (0 or null). Skipping bulk upsert for: {}", request.getTitle());
+                continue;
+            }
+            byPsStoreId.put(request.getPsStoreId(), request);
+        }
+        int skipped = requests.size() - byPsStoreId.size();
+        if (byPsStoreId.isEmpty()) {
+            return new BulkCollectResponse(requests.size(), 0, skipped, 0, 0, 0);
+        }
+
+        // 1. 내용 지문 비교: 그대로인 게임은 수집 시각만 갱신하고 이후 단계에서 제외
+        long startNanos = System.nanoTime();
+        Map<String, Long> fingerprints = new HashMap<>(byPsStoreId.size() * 2);
+        byPsStoreId.forEach((psStoreId, request) -> fingerprints.put(psStoreId, CollectFingerprint.of(request)));
+        Map<Long, CollectRequest> unchangedRequests = new HashMap<>();
+        for (Object[] row : gameRepository.findCollectFingerprintsByPsStoreIdIn(byPsStoreId.keySet())) {
+            String psStoreId = (String) row[0];
+            if (row[2].equals(fingerprints.get(psStoreId))) {
+                unchangedRequests.put((Long) row[1], byPsStoreId.remove(psStoreId));
+            }
+        }
+        Map<Long, String> searchTitles = new HashMap<>();
+        if (!unchangedRequests.isEmpty()) {
+            touchUnchanged(unchangedRequests.keySet());
+            unchangedRequests.forEach((gameId, request) -> {
+                searchTitles.put(gameId, searchTitleOf(request));
+                if (isRecentRelease(request)) {
+                    requeueRecentGameForScraping(gameId, CrawlJob.TargetType.METACRITIC);
+                    requeueRecentGameForScraping(gameId, CrawlJob.TargetType.HLTB);
+                }
+            });
+        }
+        int unchanged = unchangedRequests.size();
+        long appliedStartNanos = System.nanoTime();
+        collectStats.recordUnchanged(unchanged, appliedStartNanos - startNanos);
+        if (byPsStoreId.isEmpty()) {
+            eventPublisher.publishEvent(new GameEnrichmentRequestedEvent(searchTitles, Set.of()));
+            log.info("Bulk upsert: {} received, all {} unchanged, {} skipped", requests.size(), unchanged, skipped);
+            return new BulkCollectResponse(requests.size(), unchanged, skipped, 0, 0, unchanged);
+        }
+
+        // 2. 배치 전체의 장르·기존 게임·최신 가격 이력을 IN절로 한 번씩 조회
+        Map<String, Genre> genresByName = resolveGenresByName(byPsStoreId.values().stream()
+                .flatMap(r -> parseGenreNames(r.getGenreIds()).stream())
+                .distinct()
+                .toList());
+        Map<String, Game> existingGames = gameRepository.findAllByPsStoreIdInWithGenres(byPsStoreId.keySet()).stream()
+                .collect(Collectors.toMap(Game::getPsStoreId, g -> g));
+        Map<Long, GamePriceHistory> latestHistories = existingGames.isEmpty() ? Map.of()
+                : priceHistoryRepository.findLatestByGameIds(existingGames.values().stream().map(Game::getId).toList()).stream()
+                        .collect(Collectors.toMap(h -> h.getGame().getId(), h -> h));
+
+        // 3. 게임별 메타데이터·가격 반영 (신규 게임만 INSERT, 기존 게임은 dirty checking으로 UPDATE 배치)
+        List<BulkItem> items = new ArrayList<>(byPsStoreId.size());
+        List<Game> newGames = new ArrayList<>();
+        for (CollectRequest request : byPsStoreId.values()) {
+            Game game = existingGames.get(request.getPsStoreId());
+            boolean isNewGame = game == null;
+            if (isNewGame) {
+                game = createGame(request);
+                newGames.add(game);
+            }
+            Integer oldOriginalPrice = game.getOriginalPrice();
+            Set<Genre> genres = parseGenreNames(request.getGenreIds()).stream()
+                    .map(genresByName::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+
+            boolean editionContentsChanged = applyCollectedData(game, request, genres);
+            game.updateCollectFingerprint(fingerprints.get(request.getPsStoreId()));
+            items.add(new BulkItem(game, request, isNewGame, oldOriginalPrice, editionContentsChanged));
+        }
+        gameRepository.saveAll(newGames);
+
+        // 4. 정가 영구 인하 → 모순된 목표가 초기화 (드문 경우라 게임별 UPDATE)
+        for (BulkItem item : items) {
+            Integer newOriginalPrice = item.request().getOriginalPrice();
+            if (item.oldOriginalPrice() != null && newOriginalPrice != null && newOriginalPrice < item.oldOriginalPrice()) {
+                wishlistRepository.resetInvalidTargetPrices(item.game().getId(), newOriginalPrice);
+                gameReadService.evictWatcherStats(item.game().getId());
+            }
+        }
+
+        // 5. 가격 이력: 변동분만 모아 JDBC batch INSERT → 압축 시계열에 덧붙이기
+        LocalDateTime now = LocalDateTime.now();
+        List<GamePriceHistory> newHistories = new ArrayList<>();
+        List<PriceSeriesService.PricePoint> seriesPoints = new ArrayList<>();
+        List<GamePriceChangedEvent> priceDrops = new ArrayList<>();
+        List<GameSearchDocument> documents = new ArrayList<>(items.size());
+        for (BulkItem item : items) {
+            Game game = item.game();
+            CollectRequest request = item.request();
+            Optional<GamePriceHistory> latestHistoryOpt = Optional.ofNullable(latestHistories.get(game.getId()));
+
+            boolean historySaved = shouldSaveHistory(latestHistoryOpt, request);
+            if (historySaved) {
+                newHistories.add(GamePriceHistory.create(
+                        game,
+                        request.getOriginalPrice(),
+                        request.getCurrentPrice(),
+                        request.getDiscountRate(),
+                        request.isPlusExclusive(),
+                        request.getSaleEndDate(),
+                        request.isInCatalog()
+                ));
+                game.increasePriceHistoryCount();
+                seriesPoints.add(new PriceSeriesService.PricePoint(game, request.getCurrentPrice(), request.getDiscountRate()));
+                int discountRate = request.getDiscountRate() != null ? request.getDiscountRate() : 0;
+                priceDropEvent(game, latestHistoryOpt, request.getCurrentPrice(), discountRate)
+                        .ifPresent(priceDrops::add);
+            }
+            game.refreshPriceVerdict();
+
+            LocalDate discountRecordedOn = historySaved && request.getDiscountRate() != null && request.getDiscountRate() > 0
+                    ? now.toLocalDate() : null;
+            documents.add(GameSearchDocument.from(game, discountRecordedOn));
+        }
+        priceHistoryJdbcRepository.batchInsert(newHistories, now);
+        priceSeriesService.appendAll(now.toLocalDate(), seriesPoints);
+        priceChangeOutboxJdbcRepository.batchInsert(priceDrops, now);
+
+        // 6. 배치 단위 후처리: 보강(IGDB·AI) 요청·캐시 무효화·검색 인덱스는 한 번씩
+        items.forEach(item -> searchTitles.put(item.game().getId(), searchTitleOf(item.request())));
+        Set<Long> aiGameIds = items.stream()
+                .map(BulkItem::game)
+                .filter(Game::needsAiInsights)
+                .map(Game::getId)
+                .collect(Collectors.toSet());
+        eventPublisher.publishEvent(new GameEnrichmentRequestedEvent(searchTitles, aiGameIds));
+        gameReadService.evictGameDetailCaches(items.stream().map(item -> item.game().getId()).toList());
+        gameSearchIndex.indexAllAfterCommit(documents);
+
+        for (BulkItem item : items) {
+            Game game = item.game();
+            if (item.editionContentsChanged()) {
+                gameReadService.evictFamilyGameDetailCaches(game.getFamilyId(), game.getId());
+            }
+            if (item.isNewGame() || isRecentRelease(item.request())) {
+                requeueRecentGameForScraping(game.getId(), CrawlJob.TargetType.METACRITIC);
+                requeueRecentGameForScraping(game.getId(), CrawlJob.TargetType.HLTB);
+            }
+        }
+
+        collectStats.recordApplied(items.size(), System.nanoTime() - appliedStartNanos);
+
+        log.info("Bulk upsert: {} received, {} upserted ({} new, {} unchanged), {} skipped, {} price changes, {} drops",
+                requests.size(), items.size() + unchanged, newGames.size(), unchanged, skipped,
+                newHistories.size(), priceDrops.size());
+        return new BulkCollectResponse(requests.size(), items.size() + unchanged, skipped,
+                newHistories.size(), priceDrops.size(), unchanged);
+    }
+
+    private record BulkItem(Game game, CollectRequest request, boolean isNewGame,
+                            Integer oldOriginalPrice, boolean editionContentsChanged) {}
+
+    private static String searchTitleOf(CollectRequest request) {
+        return StringUtils.hasText(request.getEnglishTitle()) ? request.getEnglishTitle() : request.getTitle();
+    }
+
+    /**
+     * 수집 데이터 반영 (단건·일괄 공통): 메타데이터·플랫폼·에디션 구성 → 가격 검색 정보
+     * @return editionContents가 바뀌었으면 true
+     */
+    private boolean applyCollectedData(Game game, CollectRequest request, Set<Genre> genres) {
+        updateGameMetadata(game, request, genres);
+        boolean editionContentsChanged = game.updateEditionContents(request.getEditionContents());
+
+        game.updatePriceSearchInfo(
+                request.getOriginalPrice(),
+                request.getCurrentPrice(),
+                request.getDiscountRate(),
+                request.isPlusExclusive(),
+                request.getSaleEndDate(),
+                request.isInCatalog()
+        );
+        return editionContentsChanged;
     }
 
     /**
@@ -124,15 +361,24 @@ public class CatalogService {
      * @return 장르 엔티티 집합
      */
     private Set<Genre> resolveGenres(String genreIds) {
-        if (!StringUtils.hasText(genreIds)) return new HashSet<>();
+        return new HashSet<>(resolveGenresByName(parseGenreNames(genreIds)).values());
+    }
 
-        List<String> names = Arrays.stream(genreIds.split(","))
+    private static List<String> parseGenreNames(String genreIds) {
+        if (!StringUtils.hasText(genreIds)) return List.of();
+        return Arrays.stream(genreIds.split(","))
                 .map(String::strip)
                 .filter(s -> !s.isBlank())
                 .distinct()
                 .toList();
+    }
 
-        if (names.isEmpty()) return new HashSet<>();
+    /**
+     * @param names 장르 이름 목록 (중복 없음)
+     * @return 이름 → 장르 엔티티 (없던 장르는 저장 후 포함)
+     */
+    private Map<String, Genre> resolveGenresByName(List<String> names) {
+        if (names.isEmpty()) return new HashMap<>();
 
         // 1번의 IN절 SELECT로 기존 장르 모두 조회
         Map<String, Genre> existingByName = genreRepository.findByNameIn(names)
@@ -157,7 +403,7 @@ public class CatalogService {
             }
         }
 
-        return new HashSet<>(existingByName.values());
+        return existingByName;
     }
 
     /**
@@ -167,15 +413,19 @@ public class CatalogService {
      */
     private Game findOrCreateGame(CollectRequest request) {
         return gameRepository.findByPsStoreIdWithGenres(request.getPsStoreId())
-                .orElseGet(() -> Game.create(
-                        request.getPsStoreId(),
-                        request.getTitle(),
-                        request.getEnglishTitle(),
-                        request.getPublisher(),
-                        request.getImageUrl(),
-                        request.getDescription(),
-                        request.getReleaseDate()
-                ));
+                .orElseGet(() -> createGame(request));
+    }
+
+    private static Game createGame(CollectRequest request) {
+        return Game.create(
+                request.getPsStoreId(),
+                request.getTitle(),
+                request.getEnglishTitle(),
+                request.getPublisher(),
+                request.getImageUrl(),
+                request.getDescription(),
+                request.getReleaseDate()
+        );
     }
 
     /**
@@ -223,41 +473,74 @@ public class CatalogService {
     }
 
     /**
-     * IGDB 평점을 게임 엔티티에 적용한다.
-     * igdbInfo가 null(Miss/실패)이면 기존 값을 그대로 유지한다.
+     * IGDB 평점 일괄 반영 (수집 커밋 이후 EnrichmentPipeline 워커에서 호출되는 짧은 트랜잭션)
+     * - 게임 IN절 조회 1번 → 평점 반영 → 상세 캐시 무효화·검색 인덱스 갱신은 묶어서 한 번씩
+     * - 그 사이 삭제된 게임은 건너뛴다.
+     * @param ratingsByGameId gameId → IGDB 매칭 결과
+     * @return 반영한 게임 수
      */
-    private void applyIgdbRatings(Game game, IgdbGameResponse igdbInfo, String searchTitle) {
-        if (igdbInfo == null) {
-            log.debug("IGDB Miss or Failed: {}", searchTitle);
-            return;
+    @Transactional
+    public int applyIgdbRatings(Map<Long, IgdbGameResponse> ratingsByGameId) {
+        if (ratingsByGameId.isEmpty()) return 0;
+
+        List<Game> games = gameRepository.findAllByIdInWithGenres(ratingsByGameId.keySet());
+        List<GameSearchDocument> documents = new ArrayList<>(games.size());
+        for (Game game : games) {
+            IgdbGameResponse igdbInfo = ratingsByGameId.get(game.getId());
+            Integer criticScore = igdbInfo.criticScore() != null ? (int) Math.round(igdbInfo.criticScore()) : null;
+            game.updateIgdbRatings(criticScore, igdbInfo.criticCount(), igdbInfo.userScore(), igdbInfo.userCount());
+            documents.add(GameSearchDocument.from(game, null));
         }
-        Integer criticScore = igdbInfo.criticScore() != null ? (int) Math.round(igdbInfo.criticScore()) : null;
-        game.updateIgdbRatings(criticScore, igdbInfo.criticCount(), igdbInfo.userScore(), igdbInfo.userCount());
-        log.debug("IGDB Ratings updated for: {}", searchTitle);
+
+        List<Long> gameIds = games.stream().map(Game::getId).toList();
+        gameReadService.evictGameDetailCaches(gameIds);
+        gameSearchIndex.indexAllAfterCommit(documents);
+        return games.size();
     }
 
     /**
-     * IGDB API 호출 — 예외 발생 시 null 반환 (내부 로직에 영향 없음)
+     * AI 요약·감성 태그·검색 키워드 일괄 반영 (EnrichmentPipeline 워커에서 AI 호출 1번마다 호출되는 짧은 트랜잭션)
+     * - AI 응답에서 빠진 게임은 '#미분류'·빈 키워드로 채워 다시 대상이 되지 않게 한다.
+     * @param gameIds AI에 보낸 게임
+     * @param insightsByGameId gameId → AI 응답
+     * @return AI 응답으로 채운 게임 수
      */
-    private IgdbGameResponse fetchIgdbSafely(String searchTitle) {
-        try {
-            return igdbEnrichmentService.searchGame(searchTitle);
-        } catch (Exception e) {
-            log.warn("IGDB Sync Failed for '{}': {}", searchTitle, e.getMessage());
-            return null;
+    @Transactional
+    public int applyAiInsights(Collection<Long> gameIds, Map<Long, AiService.AiInsightDto> insightsByGameId) {
+        if (gameIds.isEmpty()) return 0;
+
+        List<Game> games = gameRepository.findAllByIdInWithGenres(gameIds);
+        List<GameSearchDocument> documents = new ArrayList<>(games.size());
+        int updated = 0;
+        for (Game game : games) {
+            AiService.AiInsightDto insight = insightsByGameId.get(game.getId());
+            if (insight != null) {
+                game.updateAiInsights(insight.summary(), insight.vibeTags());
+                game.updateSearchKeywords(insight.searchKeywords());
+                updated++;
+            } else {
+                game.updateAiInsights(game.getDescription(), List.of("#미분류"));
+                game.updateSearchKeywords(List.of());
+            }
+            documents.add(GameSearchDocument.from(game, null));
         }
+
+        gameReadService.evictGameDetailCaches(games.stream().map(Game::getId).toList());
+        gameSearchIndex.indexAllAfterCommit(documents);
+        return updated;
     }
 
     /**
      * 가격 정보 처리: 변동 감지, 이력 저장, 가격 하락 알림 발행
      * @param game 게임 엔티티
      * @param request 수집 요청 DTO
+     * @return 가격 이력을 새로 저장했으면 true
      */
-    private void processPriceInfo(Game game, CollectRequest request) {
+    private boolean processPriceInfo(Game game, CollectRequest request) {
         Optional<GamePriceHistory> latestHistoryOpt = priceHistoryRepository.findTopByGameOrderByCreatedAtDesc(game);
 
         if (!shouldSaveHistory(latestHistoryOpt, request)) {
-            return;
+            return false;
         }
 
         priceHistoryRepository.save(GamePriceHistory.create(
@@ -269,9 +552,12 @@ public class CatalogService {
                 request.getSaleEndDate(),
                 request.isInCatalog()
         ));
+        game.increasePriceHistoryCount();
+        priceSeriesService.append(game, LocalDate.now(), request.getCurrentPrice(), request.getDiscountRate());
         log.debug("Price Updated: {} ({} KRW)", game.getName(), request.getCurrentPrice());
 
-        publishAlertIfDropped(game, latestHistoryOpt, request.getCurrentPrice(), request.getDiscountRate());
+        recordPriceDropIfAny(game, latestHistoryOpt, request.getCurrentPrice(), request.getDiscountRate());
+        return true;
     }
 
     /**
@@ -292,42 +578,83 @@ public class CatalogService {
     }
 
     /**
-     * 가격 하락 시 알림 이벤트 발행
+     * 가격 하락 시 알림 아웃박스에 기록 (같은 트랜잭션 — 알림은 PriceChangeOutboxWorker가 커밋 이후 발송)
      * @param game 게임 엔티티
      * @param oldHistoryOpt 이전 가격 이력 Optional
      * @param newPrice 새로운 가격
      * @param newDiscountRate 새로운 할인율
      */
-    private void publishAlertIfDropped(Game game, Optional<GamePriceHistory> oldHistoryOpt, int newPrice, int newDiscountRate) {
-        if (oldHistoryOpt.isEmpty()) return;
+    private void recordPriceDropIfAny(Game game, Optional<GamePriceHistory> oldHistoryOpt, int newPrice, int newDiscountRate) {
+        priceDropEvent(game, oldHistoryOpt, newPrice, newDiscountRate)
+                .ifPresent(drop -> priceChangeOutboxJdbcRepository.batchInsert(List.of(drop), LocalDateTime.now()));
+    }
+
+    private Optional<GamePriceChangedEvent> priceDropEvent(Game game, Optional<GamePriceHistory> oldHistoryOpt,
+                                                           int newPrice, int newDiscountRate) {
+        if (oldHistoryOpt.isEmpty()) return Optional.empty();
 
         Integer oldPrice = oldHistoryOpt.get().getPrice();
-        if (newPrice < oldPrice) {
-            log.info("Price Drop! {} ({} -> {})", game.getName(), oldPrice, newPrice);
-            eventPublisher.publishEvent(new GamePriceChangedEvent(
-                    game.getId(), game.getName(), game.getPsStoreId(),
-                    oldPrice, newPrice, newDiscountRate, game.getImageUrl()
-            ));
-        }
+        if (newPrice >= oldPrice) return Optional.empty();
+
+        log.info("Price Drop! {} ({} -> {})", game.getName(), oldPrice, newPrice);
+        return Optional.of(new GamePriceChangedEvent(
+                game.getId(), game.getName(), game.getPsStoreId(),
+                oldPrice, newPrice, newDiscountRate, game.getImageUrl()
+        ));
     }
 
     /**
      * 업데이트가 필요한 게임 목록 조회 (지난 1일간 업데이트되지 않은 게임)
      * @return 업데이트 대상 게임 PS 스토어 URL 리스트
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<String> getGamesToUpdate() {
+        List<String> urls = new ArrayList<>();
+        forEachCrawlTargetChunk(0, 1, chunk -> chunk.forEach(target -> urls.add(target.url())));
+        return urls;
+    }
+
+    /**
+     * 크롤러 타겟 피드 — 업데이트 대상을 CRAWL_TARGET_CHUNK_SIZE개씩 keyset으로 읽어 청크마다 consumer에 넘긴다.
+     * 트랜잭션을 열지 않아 청크 조회마다 커넥션을 잡았다 놓으므로, 느린 클라이언트로 스트리밍해도 커넥션을 붙잡지 않는다.
+     * @param shardId 0 ~ shardTotal-1
+     * @param shardTotal 컬렉터 샤드 수 (1이면 전체)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void forEachCrawlTargetChunk(int shardId, int shardTotal, Consumer<List<CrawlTarget>> consumer) {
+        validateShard(shardId, shardTotal);
+
         LocalDate today = LocalDate.now();
-        return gameRepository.findGamesToUpdate(today.atStartOfDay(), today).stream()
-                .map(game -> PS_STORE_BASE_URL + game.getPsStoreId())
-                .toList();
+        LocalDateTime afterUpdated = CRAWL_TARGET_FEED_START;
+        long afterId = 0L;
+        while (true) {
+            List<CrawlTarget> chunk = gameRepository.findCrawlTargets(today.atStartOfDay(), today,
+                    afterUpdated, afterId, shardTotal, shardId, PageRequest.of(0, CRAWL_TARGET_CHUNK_SIZE));
+            if (chunk.isEmpty()) return;
+
+            consumer.accept(chunk);
+            if (chunk.size() < CRAWL_TARGET_CHUNK_SIZE) return;
+
+            CrawlTarget last = chunk.get(chunk.size() - 1);
+            afterUpdated = last.lastUpdated();
+            afterId = last.id();
+        }
+    }
+
+    public void validateShard(int shardId, int shardTotal) {
+        if (shardTotal < 1 || shardId < 0 || shardId >= shardTotal) {
+            throw new IllegalArgumentException("샤드 범위가 올바르지 않습니다. (shardId=" + shardId + ", shardTotal=" + shardTotal + ")");
+        }
     }
 
     /**
-     * 게임 검색
-     * @return 검색 결과 페이지
+     * 게임 이름 자동완성 — 검색 인덱스(bigram + 초성 trie)로 DB 커넥션 없이 응답, 인덱스 적재 전에는 DB 검색
+     * @return 자동완성 후보 리스트
      */
+    @Transactional(propagation = Propagation.SUPPORTS) // 인덱스 응답 경로에서 readOnly 트랜잭션(커넥션 획득)을 열지 않음
     public List<GameSuggestResponse> suggestGames(String keyword, int limit) {
-        return gameRepository.suggestByName(keyword, limit);
+        return gameSearchIndex.suggest(keyword, limit)
+                .orElseGet(() -> gameRepository.suggestByName(keyword, limit));
     }
 
     public Page<GameSearchResponse> searchGames(GameSearchCondition condition, Pageable pageable, Long memberId) {
@@ -337,13 +664,36 @@ public class CatalogService {
             return gameReadService.searchGamesForCuration(condition, safe);
         }
 
-        Page<GameSearchResponse> result = gameRepository.searchGames(condition, safe);
+        // 인메모리 인덱스로 필터·정렬·카운트 후 최종 페이지만 PK로 hydrate (미지원 조건이면 DB 검색으로 폴백)
+        Page<GameSearchResponse> result = gameSearchIndex.search(condition, safe)
+                .map(hits -> hits.toPage(gameRepository.findSearchResponsesByIds(hits.gameIds()), safe))
+                .orElseGet(() -> gameRepository.searchGames(condition, safe));
         if (!result.isEmpty()) {
             enrichSearchResults(result.getContent(), memberId);
         }
         return result;
     }
 
+    /**
+     * 커서(keyset) 모드 검색 — 무한 스크롤용. OFFSET·COUNT 없이 커서 뒤의 한 페이지만 읽는다.
+     * 정렬은 첫 번째 기준 하나만 사용하며, 큐레이션 캐시는 거치지 않는다.
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     */
+    public GameCursorPageResponse searchGamesByCursor(GameSearchCondition condition, String cursor,
+                                                      Pageable pageable, Long memberId) {
+        int size = Math.min(pageable.getPageSize(), 50);
+        SearchCursor start = SearchCursor.start(pageable.getSort(), condition);
+        SearchCursor after = StringUtils.hasText(cursor) ? SearchCursor.decode(cursor, start) : start;
+
+        GameCursorPageResponse result = gameSearchIndex.searchAfter(condition, after, size)
+                .map(hits -> hits.toResponse(gameRepository.findSearchResponsesByIds(hits.gameIds())))
+                .orElseGet(() -> gameRepository.searchGamesAfter(condition, after, size));
+        if (!result.content().isEmpty()) {
+            enrichSearchResults(result.content(), memberId);
+        }
+        return result;
+    }
+
     public void refreshCurationCache() {
         gameReadService.refreshCurationCache();
     }
@@ -358,31 +708,27 @@ public class CatalogService {
         // 1. 순수 게임 정보 가져오기 (캐시 적용됨)
         GameDetailResponse baseResponse = gameReadService.getBaseGameDetail(gameId);
 
-        // 2. 유저별 동적 데이터 순차 조회
-        Optional<Wishlist> myWish = memberId != null
-                ? wishlistRepository.findByMemberIdAndGameId(memberId, gameId)
-                : Optional.empty();
-        Optional<GameVote> myVote = memberId != null
-                ? gameVoteRepository.findByMemberIdAndGameId(memberId, gameId)
-                : Optional.empty();
-        int totalWatchers = wishlistRepository.countByGameId(gameId);
+        // 2. 유저별 동적 데이터 — 찜·투표를 1번의 조회로, 관심 통계는 게임 단위 캐시에서
+        MemberGameState myState = memberId != null
+                ? wishlistRepository.findMemberGameState(memberId, gameId)
+                : MemberGameState.NONE;
+        WatcherStats watcherStats = gameReadService.getWatcherStats(gameId);
+        int totalWatchers = watcherStats.totalWatchers().intValue();
 
         // 3. 결과 조합
-        boolean isLiked = myWish.isPresent();
-        Integer myTargetPrice = myWish.map(Wishlist::getTargetPrice).orElse(null);
-        VoteType userVote = myVote.map(GameVote::getVoteType).orElse(null);
+        boolean isLiked = myState.liked();
+        Integer myTargetPrice = myState.targetPrice();
+        VoteType userVote = myState.voteType();
 
-        Integer avgTargetPrice = (totalWatchers >= 2)
-                ? wishlistRepository.getAverageTargetPriceByGameId(gameId)
-                : null;
+        Integer avgTargetPrice = (totalWatchers >= 2) ? watcherStats.avgTargetPrice() : null;
 
-        // 4. 방어력 티어 계산 (캐시된 이력 데이터 활용)
-        GameDetailResponse.DefenseInfo defenseInfo = gameScouterService.calculateDefenseTier(
+        // 4. 방어력 티어 계산 (캐시된 압축 시계열을 1회 순회)
+        GameDetailResponse.DefenseInfo defenseInfo = gameScouterService.calculateDefenseTierFromSeries(
                 baseResponse.originalPrice(),
                 baseResponse.currentPrice(),
                 baseResponse.lowestPrice(),
                 baseResponse.releaseDate(),
-                baseResponse.priceHistory()
+                baseResponse.priceSeries()
         );
 
         return baseResponse.withDynamicData(
@@ -401,9 +747,11 @@ public class CatalogService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 게임을 찾을 수 없습니다. id=" + gameId));
 
         gameRepository.delete(game);
+        priceSeriesService.deleteByGameIds(List.of(gameId));
 
-        // 삭제 후 캐시도 제거
+        // 삭제 후 캐시·검색 인덱스에서도 제거
         gameReadService.evictGameDetailCache(gameId);
+        gameSearchIndex.removeAfterCommit(List.of(gameId));
     }
 
     /**
@@ -416,6 +764,7 @@ public class CatalogService {
         wishlistRepository.deleteByGameIds(gameIds);
         gameVoteRepository.deleteByGameIds(gameIds);
         crawlJobRepository.deleteByGameIds(gameIds);
+        priceSeriesService.deleteByGameIds(gameIds);
 
         // 2. Game 엔티티 삭제 — JPA cascade로 game_genres(CascadeType.ALL), game_platforms(@ElementCollection) 처리
         List<Game> games = gameRepository.findAllById(gameIds);
@@ -423,6 +772,7 @@ public class CatalogService {
             gameRepository.delete(game);
             gameReadService.evictGameDetailCache(game.getId());
         }
+        gameSearchIndex.removeAfterCommit(gameIds);
     }
 
     /**
@@ -439,6 +789,8 @@ public class CatalogService {
 
         // name, englishName, imageUrl — 크롤러의 "최초 1회 설정" 제약 없이 자유롭게 수정
         game.adminUpdateBasicInfo(req.name(), req.englishName(), req.imageUrl());
+        // 관리자가 바꾼 게임은 다음 수집 요청을 지문 비교 없이 전체 반영
+        game.clearCollectFingerprint();
 
         // IGDB 평점 — null 전달 시 해당 필드 초기화 (관리자 의도적 삭제 허용)
         game.adminUpdateIgdbRatings(req.igdbCriticScore(), req.igdbCriticCount(),
@@ -457,9 +809,10 @@ public class CatalogService {
         game.updatePlayTimes(req.hltbMainStory(), req.hltbMainExtra(), req.hltbCompletionist());
 
         gameReadService.evictGameDetailCache(gameId);
+        gameSearchIndex.indexAfterCommit(game);
     }
 
-    /** 검색 결과에 장르·찜 여부·가격 판정을 일괄 세팅 (gameIds 추출 1회) */
+    /** 검색 결과에 장르·찜 여부를 일괄 세팅 (gameIds 추출 1회, 가격 판정은 Game 컬럼에서 함께 조회됨) */
     private void enrichSearchResults(List<GameSearchResponse> games, Long memberId) {
         List<Long> gameIds = games.stream().map(GameSearchResponse::getId).toList();
 
@@ -474,19 +827,6 @@ public class CatalogService {
             Set<Long> likedIds = new HashSet<>(wishlistRepository.findGameIdsByMemberIdAndGameIdIn(memberId, gameIds));
             games.forEach(dto -> dto.setLiked(likedIds.contains(dto.getId())));
         }
-
-        Map<Long, Integer> historyCountMap = priceHistoryRepository.countGroupByGameId(gameIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> ((Long) arr[1]).intValue()
-                ));
-        games.forEach(dto -> {
-            int historySize = historyCountMap.getOrDefault(dto.getId(), 0);
-            PriceVerdict verdict = PriceVerdictCalculator.forGame(
-                    dto.getPrice(), dto.getOriginalPrice(), dto.getAllTimeLowPrice(), historySize);
-            dto.setPriceVerdict(verdict.name());
-        });
     }
 
     /**
@@ -523,7 +863,8 @@ public class CatalogService {
                 gameId,
                 targetType,
                 CrawlJob.JobStatus.PENDING,
-                finishedStatuses
+                finishedStatuses,
+                LocalDateTime.now()
         );
 
         // 3. 이력이 아예 없는 경우 신규 생성
@@ -0,0 +1,86 @@
+package com.pstracker.catalog_service.catalog.service;
+
+import com.pstracker.catalog_service.catalog.dto.CollectRequest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 수집 요청 내용 지문 (Game.collectFingerprint).
+ * - upsert가 실제로 반영하는 필드를 모두 포함한다. (가격·할인·세일 종료일·PS Plus·카탈로그 여부뿐 아니라 메타데이터까지 넣어야 생략해도 결과가 같다)
+ * - 장르·플랫폼은 순서와 무관하게 정렬해서, 에디션 구성은 화면 표시 순서가 의미 있으므로 순서 그대로 넣는다.
+ * - SHA-256 앞 8바이트 (게임 1개 안에서 어제/오늘 요청 비교용이라 충돌 확률은 무시 가능)
+ * - 필드 구성을 바꾸면 VERSION을 올린다. 모든 게임이 다음 수집에서 한 번씩 전체 반영된다.
+ */
+final class CollectFingerprint {
+
+    private static final String VERSION = "v1";
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char ITEM_SEPARATOR = '\u001E';
+    private static final String NULL = "\u0000";
+
+    private CollectFingerprint() {
+    }
+
+    static long of(CollectRequest request) {
+        StringBuilder sb = new StringBuilder(512).append(VERSION);
+        field(sb, request.getTitle());
+        field(sb, request.getEnglishTitle());
+        field(sb, request.getPublisher());
+        field(sb, request.getImageUrl());
+        field(sb, request.getDescription());
+        field(sb, request.getOriginalPrice());
+        field(sb, request.getCurrentPrice());
+        field(sb, request.getDiscountRate());
+        field(sb, request.getSaleEndDate());
+        field(sb, request.getReleaseDate());
+        field(sb, request.isPlusExclusive());
+        field(sb, request.isInCatalog());
+        field(sb, request.isPs5ProEnhanced());
+        items(sb, request.getGenreIds() == null ? null
+                : Arrays.stream(request.getGenreIds().split(","))
+                        .map(String::strip)
+                        .filter(s -> !s.isBlank())
+                        .distinct()
+                        .sorted()
+                        .toList());
+        items(sb, request.getPlatforms() == null ? null
+                : request.getPlatforms().stream()
+                        .filter(Objects::nonNull)
+                        .map(p -> p.strip().toUpperCase())
+                        .distinct()
+                        .sorted()
+                        .toList());
+        items(sb, request.getEditionContents());
+
+        return ByteBuffer.wrap(sha256(sb.toString())).getLong();
+    }
+
+    private static void field(StringBuilder sb, Object value) {
+        sb.append(FIELD_SEPARATOR).append(value == null ? NULL : value.toString());
+    }
+
+    private static void items(StringBuilder sb, List<String> values) {
+        sb.append(FIELD_SEPARATOR);
+        if (values == null) {
+            sb.append(NULL);
+            return;
+        }
+        for (String value : values) {
+            sb.append(value == null ? NULL : value).append(ITEM_SEPARATOR);
+        }
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
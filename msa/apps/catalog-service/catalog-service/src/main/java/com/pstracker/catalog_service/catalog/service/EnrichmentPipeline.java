@@ -0,0 +1,434 @@
+package com.pstracker.catalog_service.catalog.service;
+
+import com.pstracker.catalog_service.ai.service.AiService;
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.dto.igdb.IgdbGameResponse;
+import com.pstracker.catalog_service.catalog.event.GameEnrichmentRequestedEvent;
+import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.global.util.TokenBucket;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 수집 이후 보강 파이프라인 (IGDB 평점 → AI 요약·감성 태그·검색 키워드).
+ * - 수집 트랜잭션은 스토어 데이터만 커밋하고, 커밋 이후 게임 id만 넘긴다. (GameEnrichmentListener)
+ * - 단계마다 크기 제한 큐 + 전용 워커. 큐가 가득 차면 버리고 센다 (IGDB는 다음 수집, AI는 새벽 백필이 다시 채움).
+ * - IGDB: 워커 igdb.workers개가 최대 igdb.batch-size건씩 IgdbGateway에 맡기고(초당 요청 제한은 게이트웨이), 결과는 짧은 트랜잭션 1번으로 반영.
+ * - AI: 워커 1개가 AI_BATCH_SIZE건씩 묶어(ai.linger까지 대기) 호출 1번. 호출 간격은 토큰 버킷(ai.calls-per-minute),
+ *   하루 호출 수는 ai.daily-calls (KST 자정 초기화). 429면 다음 날까지 멈춘다.
+ * - 실패한 작업은 max-attempts까지 재시도 대기열에 (지금 + retry-delay) 시각과 함께 두고, 워커가 루프마다 시각이 지난 것만
+ *   큐로 옮긴다. 워커는 재시도를 기다리며 멈추지 않는다.
+ * - 메트릭: enrichment.tasks{stage,result=completed|unclassified|retried|failed|dropped}, enrichment.queue{stage},
+ *   enrichment.retry_queue{stage}
+ */
+@Slf4j
+@Component
+public class EnrichmentPipeline {
+
+    // AI 호출 1번에 묶는 게임 수 (프롬프트 크기 기준)
+    static final int AI_BATCH_SIZE = 5;
+
+    private static final String IGDB = "igdb";
+    private static final String AI = "ai";
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("Asia/Seoul");
+    // 워커가 종료 신호·할당량 초기화를 확인하는 간격
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final Duration QUOTA_CHECK_INTERVAL = Duration.ofMinutes(1);
+
+    private final IgdbEnrichmentService igdbEnrichmentService;
+    private final AiService aiService;
+    private final CatalogService catalogService;
+    private final GameRepository gameRepository;
+    private final MeterRegistry meterRegistry;
+    private final Settings settings;
+    private final TokenBucket aiRateLimiter;
+    private final Clock clock;
+
+    private final BlockingQueue<IgdbTask> igdbQueue;
+    private final BlockingQueue<AiTask> aiQueue;
+    // retry-delay가 고정이라 넣는 순서가 곧 due 순서
+    private final BlockingQueue<Retry<IgdbTask>> igdbRetries;
+    private final BlockingQueue<Retry<AiTask>> aiRetries;
+    // AI 큐에 들어 있는 게임 (수집·백필이 같은 게임을 겹쳐 넣지 않도록)
+    private final Set<Long> aiQueuedIds = ConcurrentHashMap.newKeySet();
+
+    // AI 일일 호출 수 (this 락으로 보호)
+    private LocalDate quotaDate;
+    private int aiCallsToday;
+
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * @param queueCapacity 단계별 큐 크기
+     * @param maxAttempts 작업 1건의 최대 시도 횟수
+     * @param retryDelay 실패 후 다시 큐에 넣기까지 대기
+     * @param aiLinger AI 묶음이 AI_BATCH_SIZE건으로 찰 때까지 기다리는 최대 시간
+     */
+    record Settings(int queueCapacity, int igdbWorkers, int igdbBatchSize, int maxAttempts, Duration retryDelay,
+                    boolean aiEnabled, int aiDailyCalls, Duration aiLinger) {}
+
+    record IgdbTask(Long gameId, String searchTitle, int attempts) {}
+
+    record AiTask(Long gameId, int attempts) {}
+
+    private record Retry<T>(T task, Instant dueAt) {}
+
+    @Autowired
+    public EnrichmentPipeline(IgdbEnrichmentService igdbEnrichmentService,
+                              AiService aiService,
+                              CatalogService catalogService,
+                              GameRepository gameRepository,
+                              MeterRegistry meterRegistry,
+                              @Value("${enrichment.queue-capacity:10000}") int queueCapacity,
+                              @Value("${enrichment.igdb.workers:2}") int igdbWorkers,
+                              @Value("${enrichment.igdb.batch-size:50}") int igdbBatchSize,
+                              @Value("${enrichment.max-attempts:3}") int maxAttempts,
+                              @Value("${enrichment.retry-delay:PT1M}") Duration retryDelay,
+                              @Value("${enrichment.ai.enabled:false}") boolean aiEnabled,
+                              @Value("${enrichment.ai.daily-calls:20}") int aiDailyCalls,
+                              @Value("${enrichment.ai.calls-per-minute:6}") double aiCallsPerMinute,
+                              @Value("${enrichment.ai.linger:PT30S}") Duration aiLinger) {
+        this(igdbEnrichmentService, aiService, catalogService, gameRepository, meterRegistry,
+                new Settings(queueCapacity, igdbWorkers, igdbBatchSize, maxAttempts, retryDelay,
+                        aiEnabled, aiDailyCalls, aiLinger),
+                new TokenBucket(aiCallsPerMinute / 60.0), Clock.systemUTC());
+    }
+
+    EnrichmentPipeline(IgdbEnrichmentService igdbEnrichmentService, AiService aiService,
+                       CatalogService catalogService, GameRepository gameRepository,
+                       MeterRegistry meterRegistry, Settings settings, TokenBucket aiRateLimiter, Clock clock) {
+        this.igdbEnrichmentService = igdbEnrichmentService;
+        this.aiService = aiService;
+        this.catalogService = catalogService;
+        this.gameRepository = gameRepository;
+        this.meterRegistry = meterRegistry;
+        this.settings = settings;
+        this.aiRateLimiter = aiRateLimiter;
+        this.clock = clock;
+        this.igdbQueue = new LinkedBlockingQueue<>(settings.queueCapacity());
+        this.aiQueue = new LinkedBlockingQueue<>(settings.queueCapacity());
+        this.igdbRetries = new LinkedBlockingQueue<>(settings.queueCapacity());
+        this.aiRetries = new LinkedBlockingQueue<>(settings.queueCapacity());
+
+        Gauge.builder("enrichment.queue", igdbQueue, Collection::size).tag("stage", IGDB).register(meterRegistry);
+        Gauge.builder("enrichment.queue", aiQueue, Collection::size).tag("stage", AI).register(meterRegistry);
+        Gauge.builder("enrichment.retry_queue", igdbRetries, Collection::size).tag("stage", IGDB).register(meterRegistry);
+        Gauge.builder("enrichment.retry_queue", aiRetries, Collection::size).tag("stage", AI).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        for (int i = 0; i < settings.igdbWorkers(); i++) {
+            workers.add(Thread.ofPlatform().daemon().name("enrichment-igdb-" + i).start(this::igdbLoop));
+        }
+        if (settings.aiEnabled()) {
+            workers.add(Thread.ofPlatform().daemon().name("enrichment-ai").start(this::aiLoop));
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        // 남은 작업은 버린다 (IGDB는 다음 수집, AI는 새벽 백필이 다시 채움)
+        log.info("Enrichment pipeline stopped. Dropped igdb={}, ai={}",
+                igdbQueue.size() + igdbRetries.size(), aiQueue.size() + aiRetries.size());
+    }
+
+    /**
+     * 수집 커밋 이후 호출. 큐에 넣기만 하고 바로 돌아온다.
+     */
+    public void submit(GameEnrichmentRequestedEvent event) {
+        event.getSearchTitlesByGameId().forEach((gameId, title) -> offerIgdb(new IgdbTask(gameId, title, 0)));
+        if (settings.aiEnabled()) {
+            event.getAiGameIds().forEach(gameId -> offerAi(new AiTask(gameId, 0)));
+        }
+    }
+
+    /**
+     * 새벽 백필: 수집으로 다시 들어오지 않는 미보강 게임을 오늘 남은 AI 할당량만큼 큐에 채운다.
+     */
+    @Scheduled(cron = "${enrichment.ai.backfill-cron:0 0 3 * * *}", zone = "Asia/Seoul")
+    public void seedAiBacklog() {
+        if (!settings.aiEnabled()) return;
+
+        int limit = remainingAiCalls() * AI_BATCH_SIZE - aiQueue.size();
+        if (limit <= 0) return;
+
+        List<Long> gameIds = gameRepository.findIdsNeedingAiInsights(
+                Game.CRAWLER_PLACEHOLDER_DESCRIPTION, PageRequest.of(0, limit));
+        gameIds.forEach(gameId -> offerAi(new AiTask(gameId, 0)));
+        log.info("AI enrichment backlog seeded: {} games (limit {})", gameIds.size(), limit);
+    }
+
+    // --- IGDB ---
+
+    private void igdbLoop() {
+        while (running) {
+            try {
+                promoteDueRetries();
+                List<IgdbTask> batch = takeBatch(igdbQueue, settings.igdbBatchSize(), Duration.ZERO);
+                if (!batch.isEmpty()) processIgdbBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    void processIgdbBatch(List<IgdbTask> batch) {
+        Map<Long, String> searchTitles = new HashMap<>(batch.size() * 2);
+        batch.forEach(task -> searchTitles.put(task.gameId(), task.searchTitle()));
+        try {
+            IgdbEnrichmentService.Resolution resolution = igdbEnrichmentService.resolveAll(searchTitles);
+            Map<Long, IgdbGameResponse> matched = resolution.matched();
+            int updated = matched.isEmpty() ? 0 : catalogService.applyIgdbRatings(matched);
+
+            // IGDB 호출이 실패한 게임은 "결과 없음"이 아니므로 완료로 세지 않고 재시도
+            List<IgdbTask> failed = batch.stream()
+                    .filter(task -> resolution.failedGameIds().contains(task.gameId()))
+                    .toList();
+            count(IGDB, "completed", batch.size() - failed.size());
+            if (!failed.isEmpty()) {
+                log.warn("IGDB 조회 실패 ({}/{}건)", failed.size(), batch.size());
+                retryIgdb(failed);
+            }
+            log.debug("IGDB Ratings updated: {}/{} games", updated, searchTitles.size());
+        } catch (RuntimeException e) {
+            log.warn("IGDB 보강 실패 ({}건): {}", batch.size(), e.getMessage());
+            retryIgdb(batch);
+        }
+    }
+
+    // 시도 횟수가 남은 작업만 retry-delay 후 다시 큐에 넣는다 (포기한 게임은 다음 수집 때 다시 들어옴)
+    private void retryIgdb(List<IgdbTask> tasks) {
+        List<IgdbTask> retries = tasks.stream()
+                .filter(task -> task.attempts() + 1 < settings.maxAttempts())
+                .map(task -> new IgdbTask(task.gameId(), task.searchTitle(), task.attempts() + 1))
+                .toList();
+        count(IGDB, "failed", tasks.size() - retries.size());
+        count(IGDB, "retried", retries.size());
+        scheduleRetries(igdbRetries, IGDB, retries);
+    }
+
+    private void offerIgdb(IgdbTask task) {
+        if (!igdbQueue.offer(task)) {
+            count(IGDB, "dropped", 1);
+        }
+    }
+
+    // --- AI ---
+
+    private void aiLoop() {
+        while (running) {
+            try {
+                promoteDueRetries();
+                if (remainingAiCalls() == 0) {
+                    sleep(QUOTA_CHECK_INTERVAL);
+                    continue;
+                }
+                List<AiTask> batch = takeBatch(aiQueue, AI_BATCH_SIZE, settings.aiLinger());
+                if (!batch.isEmpty()) processAiBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("AI 보강 워커 오류", e);
+            }
+        }
+    }
+
+    void processAiBatch(List<AiTask> batch) throws InterruptedException {
+        batch.forEach(task -> aiQueuedIds.remove(task.gameId()));
+
+        // 큐에서 기다리는 사이 이미 채워진 게임은 건너뛴다
+        List<Long> gameIds = batch.stream().map(AiTask::gameId).toList();
+        List<Game> games;
+        try {
+            games = gameRepository.findAllById(gameIds).stream()
+                    .filter(Game::needsAiInsights)
+                    .toList();
+        } catch (RuntimeException e) {
+            log.warn("AI 보강 대상 조회 실패 ({}건): {}", batch.size(), e.getMessage());
+            retryAi(batch);
+            return;
+        }
+        if (games.isEmpty()) return;
+
+        if (!tryAcquireAiCall()) {
+            batch.forEach(this::offerAi);
+            return;
+        }
+        aiRateLimiter.acquire();
+
+        List<AiService.AiInsightDto> insights;
+        try {
+            insights = aiService.generateBatchInsights(games);
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            log.warn("AI 일일 할당량(Quota) 초과. 다음 날까지 AI 보강을 멈춥니다.");
+            exhaustAiQuota();
+            batch.forEach(this::offerAi);
+            return;
+        } catch (RuntimeException e) {
+            log.warn("AI 호출 실패 ({}건): {}", games.size(), e.getMessage());
+            retryAi(batch);
+            return;
+        }
+        if (insights.isEmpty()) {
+            log.warn("AI 응답 파싱 실패 또는 빈 응답 ({}건). {} 후 재시도합니다.", games.size(), settings.retryDelay());
+            retryAi(batch);
+            return;
+        }
+
+        Map<Long, AiService.AiInsightDto> insightsByGameId = insights.stream()
+                .filter(insight -> insight.id() != null)
+                .collect(Collectors.toMap(AiService.AiInsightDto::id, Function.identity(), (first, second) -> first));
+        try {
+            int updated = catalogService.applyAiInsights(games.stream().map(Game::getId).toList(), insightsByGameId);
+            count(AI, "completed", updated);
+            count(AI, "unclassified", games.size() - updated);
+        } catch (RuntimeException e) {
+            log.warn("AI 보강 결과 반영 실패 ({}건): {}", games.size(), e.getMessage());
+            retryAi(batch);
+        }
+    }
+
+    // 시도 횟수가 남은 작업만 retry-delay 후 다시 큐에 넣는다 (포기한 게임은 다음 백필 대상)
+    private void retryAi(List<AiTask> batch) {
+        List<AiTask> retries = batch.stream()
+                .filter(task -> task.attempts() + 1 < settings.maxAttempts())
+                .map(task -> new AiTask(task.gameId(), task.attempts() + 1))
+                .toList();
+        count(AI, "failed", batch.size() - retries.size());
+        count(AI, "retried", retries.size());
+        scheduleRetries(aiRetries, AI, retries);
+    }
+
+    private void offerAi(AiTask task) {
+        if (!aiQueuedIds.add(task.gameId())) return;
+        if (!aiQueue.offer(task)) {
+            aiQueuedIds.remove(task.gameId());
+            count(AI, "dropped", 1);
+        }
+    }
+
+    synchronized int remainingAiCalls() {
+        rollQuotaDate();
+        return Math.max(0, settings.aiDailyCalls() - aiCallsToday);
+    }
+
+    private synchronized boolean tryAcquireAiCall() {
+        rollQuotaDate();
+        if (aiCallsToday >= settings.aiDailyCalls()) return false;
+        aiCallsToday++;
+        return true;
+    }
+
+    private synchronized void exhaustAiQuota() {
+        rollQuotaDate();
+        aiCallsToday = settings.aiDailyCalls();
+    }
+
+    private void rollQuotaDate() {
+        LocalDate today = LocalDate.now(clock.withZone(QUOTA_ZONE));
+        if (!today.equals(quotaDate)) {
+            quotaDate = today;
+            aiCallsToday = 0;
+        }
+    }
+
+    // --- 재시도 대기열 ---
+
+    private <T> void scheduleRetries(BlockingQueue<Retry<T>> retries, String stage, List<T> tasks) {
+        Instant dueAt = clock.instant().plus(settings.retryDelay());
+        for (T task : tasks) {
+            if (!retries.offer(new Retry<>(task, dueAt))) {
+                count(stage, "dropped", 1);
+            }
+        }
+    }
+
+    /**
+     * 재시도 시각이 지난 작업을 단계 큐로 옮긴다. (워커 루프마다)
+     */
+    void promoteDueRetries() {
+        promote(igdbRetries, this::offerIgdb);
+        promote(aiRetries, this::offerAi);
+    }
+
+    private <T> void promote(BlockingQueue<Retry<T>> retries, Consumer<T> offer) {
+        Instant now = clock.instant();
+        // 꺼내는 쪽만 직렬화하면 peek한 항목과 poll한 항목이 같다
+        synchronized (retries) {
+            while (!retries.isEmpty() && !retries.peek().dueAt().isAfter(now)) {
+                offer.accept(retries.poll().task());
+            }
+        }
+    }
+
+    // --- Helpers ---
+
+    int queuedIgdbCount() {
+        return igdbQueue.size();
+    }
+
+    int queuedAiCount() {
+        return aiQueue.size();
+    }
+
+    /**
+     * 첫 작업은 POLL_INTERVAL까지 기다리고, 이후 linger 동안 maxSize까지 모은다.
+     */
+    private static <T> List<T> takeBatch(BlockingQueue<T> queue, int maxSize, Duration linger) throws InterruptedException {
+        T first = queue.poll(POLL_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) return List.of();
+
+        List<T> batch = new ArrayList<>(maxSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + linger.toNanos();
+        while (batch.size() < maxSize) {
+            queue.drainTo(batch, maxSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxSize || remaining <= 0) break;
+            T next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) break;
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private static void sleep(Duration duration) throws InterruptedException {
+        if (!duration.isZero()) Thread.sleep(duration);
+    }
+
+    private void count(String stage, String result, int amount) {
+        if (amount > 0) {
+            meterRegistry.counter("enrichment.tasks", "stage", stage, "result", result).increment(amount);
+        }
+    }
+}
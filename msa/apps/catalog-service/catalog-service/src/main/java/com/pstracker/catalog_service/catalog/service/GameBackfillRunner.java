@@ -0,0 +1,64 @@
+package com.pstracker.catalog_service.catalog.service;
+
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 게임 전체를 id 오름차순 청크로 순회하는 일회성 백필 실행기.
+ * - 청크마다 트랜잭션을 따로 열고 커밋한다. (영속성 컨텍스트·락이 청크 단위로 정리되어 전체 스캔 동안 쌓이지 않음)
+ * - 호출하는 쪽은 트랜잭션 밖에서 불러야 한다. 바깥 트랜잭션이 있으면 청크가 거기에 합류해 청크 분리 효과가 없다.
+ * - 중간에 실패하면 이전 청크까지는 반영된 상태로 멈춘다. 백필은 재실행해도 결과가 같게 작성할 것.
+ */
+@Slf4j
+@Component
+public class GameBackfillRunner {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final GameRepository gameRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private record Chunk(int size, Long lastId) {}
+
+    public GameBackfillRunner(GameRepository gameRepository, PlatformTransactionManager transactionManager) {
+        this.gameRepository = gameRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param name 로그용 작업 이름
+     * @param chunkHandler 청크 트랜잭션 안에서 게임 목록(최대 CHUNK_SIZE건)을 처리
+     * @return 처리한 게임 수
+     */
+    public int run(String name, Consumer<List<Game>> chunkHandler) {
+        long start = System.currentTimeMillis();
+        int processed = 0;
+        long lastId = 0L;
+
+        while (true) {
+            long after = lastId;
+            Chunk chunk = transactionTemplate.execute(status -> {
+                List<Game> games = gameRepository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, CHUNK_SIZE));
+                if (games.isEmpty()) return null;
+
+                chunkHandler.accept(games);
+                return new Chunk(games.size(), games.get(games.size() - 1).getId());
+            });
+            if (chunk == null) break;
+
+            processed += chunk.size();
+            lastId = chunk.lastId();
+        }
+
+        log.info("{} 백필 완료: {}건 ({}ms)", name, processed, System.currentTimeMillis() - start);
+        return processed;
+    }
+}
@@ -1,16 +1,18 @@
 package com.pstracker.catalog_service.catalog.service;
 
 import com.pstracker.catalog_service.catalog.domain.Game;
-import com.pstracker.catalog_service.catalog.domain.GamePriceHistory;
+import com.pstracker.catalog_service.catalog.domain.PriceSeries;
 import com.pstracker.catalog_service.catalog.dto.AdminGameDetailResponse;
 import com.pstracker.catalog_service.catalog.dto.GameDetailResponse;
 import com.pstracker.catalog_service.catalog.dto.GameSearchCondition;
 import com.pstracker.catalog_service.catalog.dto.GameSearchResponse;
-import com.pstracker.catalog_service.catalog.repository.GamePriceHistoryRepository;
+import com.pstracker.catalog_service.catalog.dto.WatcherStats;
 import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.catalog.repository.WishlistRepository;
+import com.pstracker.catalog_service.catalog.search.GameSearchIndex;
+import com.pstracker.catalog_service.catalog.search.RelatedGamesStore;
 import com.pstracker.catalog_service.global.config.GlobalCacheConfig;
 import com.pstracker.catalog_service.global.domain.PriceVerdict;
-import com.pstracker.catalog_service.global.util.PriceVerdictCalculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
@@ -20,9 +22,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
@@ -30,11 +35,20 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class GameReadService {
 
-    private static final int RECOMMEND_GAME_COUNT = 4;
+    // 큐레이션 캐시 maximumSize(30)와 맞춤. 웜업 대상 키가 캐시 용량을 넘지 않도록 제한
+    private static final int MAX_CURATION_KEYS = 30;
 
     private final GameRepository gameRepository;
-    private final GamePriceHistoryRepository priceHistoryRepository;
+    private final PriceSeriesService priceSeriesService;
+    private final WishlistRepository wishlistRepository;
     private final CacheManager cacheManager;
+    private final GameSearchIndex gameSearchIndex;
+    private final RelatedGamesStore relatedGamesStore;
+
+    // 큐레이션 캐시 키 → 원본 검색 조건. 배치 완료 후 웜업에서 같은 키를 다시 계산하는 데 사용
+    private final Map<String, CurationQuery> curationQueries = new ConcurrentHashMap<>();
+
+    private record CurationQuery(GameSearchCondition condition, Pageable pageable) {}
 
     /**
      * 큐레이션 테마 미리보기 검색 (캐시 적용).
@@ -45,7 +59,22 @@ public class GameReadService {
     @Cacheable(cacheNames = GlobalCacheConfig.CURATION_CACHE,
                key = "#condition.curationCacheKey() + '_' + #pageable.sort.toString()")
     public Page<GameSearchResponse> searchGamesForCuration(GameSearchCondition condition, Pageable pageable) {
-        return gameRepository.searchGames(condition, pageable);
+        String key = curationCacheKey(condition, pageable);
+        if (curationQueries.size() < MAX_CURATION_KEYS || curationQueries.containsKey(key)) {
+            curationQueries.put(key, new CurationQuery(condition, pageable));
+        }
+        return loadCuration(condition, pageable);
+    }
+
+    private Page<GameSearchResponse> loadCuration(GameSearchCondition condition, Pageable pageable) {
+        return gameSearchIndex.search(condition, pageable)
+                .map(hits -> hits.toPage(gameRepository.findSearchResponsesByIds(hits.gameIds()), pageable))
+                .orElseGet(() -> gameRepository.searchGames(condition, pageable));
+    }
+
+    // @Cacheable 키 SpEL과 동일한 형식
+    private static String curationCacheKey(GameSearchCondition condition, Pageable pageable) {
+        return condition.curationCacheKey() + "_" + pageable.getSort().toString();
     }
 
     public void refreshCurationCache() {
@@ -56,6 +85,30 @@ public class GameReadService {
         }
     }
 
+    /**
+     * 지금까지 요청된 큐레이션 키를 다시 계산해 put으로 교체 (refresh-ahead).
+     * clear() 없이 키 단위로 덮어쓰므로 웜업 중에도 조회는 이전 값을 받는다.
+     * 한 키의 계산이 실패하면 해당 키만 evict해 다음 요청에서 다시 계산하게 둔다.
+     * @return 교체한 키 수
+     */
+    public int warmCurationCache() {
+        var cache = cacheManager.getCache(GlobalCacheConfig.CURATION_CACHE);
+        if (cache == null) return 0;
+
+        int warmed = 0;
+        for (Map.Entry<String, CurationQuery> entry : curationQueries.entrySet()) {
+            CurationQuery query = entry.getValue();
+            try {
+                cache.put(entry.getKey(), loadCuration(query.condition(), query.pageable()));
+                warmed++;
+            } catch (Exception e) {
+                cache.evict(entry.getKey());
+                log.warn("큐레이션 캐시 웜업 실패 (key={}): {}", entry.getKey(), e.getMessage());
+            }
+        }
+        return warmed;
+    }
+
     public void evictGameDetailCache(Long gameId) {
         if (gameId != null) {
             var cache = cacheManager.getCache(GlobalCacheConfig.GAME_DETAIL_CACHE);
@@ -66,6 +119,16 @@ public class GameReadService {
         }
     }
 
+    /**
+     * 일괄 수집 경로 — 배치에서 바뀐 게임들의 상세 캐시를 한 번에 무효화
+     */
+    public void evictGameDetailCaches(Collection<Long> gameIds) {
+        var cache = cacheManager.getCache(GlobalCacheConfig.GAME_DETAIL_CACHE);
+        if (cache == null || gameIds.isEmpty()) return;
+        gameIds.forEach(cache::evict);
+        log.debug("🧹 Cache Evicted for {} games", gameIds.size());
+    }
+
     /**
      * 같은 familyId를 공유하는 다른 에디션들의 캐시를 일괄 무효화.
      * editionContents가 변경된 경우에만 호출해야 함.
@@ -76,7 +139,7 @@ public class GameReadService {
         var cache = cacheManager.getCache(GlobalCacheConfig.GAME_DETAIL_CACHE);
         if (cache == null) return;
 
-        gameRepository.findIdsByFamilyId(familyId).stream()
+        familyGameIds(familyId).stream()
                 .filter(id -> !id.equals(currentGameId))
                 .forEach(id -> {
                     cache.evict(id);
@@ -84,25 +147,29 @@ public class GameReadService {
                 });
     }
 
+    /**
+     * 게임별 관심 통계 (찜 수·평균 목표가). 조회자와 무관하므로 게임 단위로 캐싱하고,
+     * 찜 토글(WishlistService)·목표가 일괄 초기화 시 커밋 이후 evict된다.
+     */
+    @Cacheable(cacheNames = GlobalCacheConfig.WATCHER_STATS_CACHE, key = "#gameId")
+    public WatcherStats getWatcherStats(Long gameId) {
+        return wishlistRepository.getWatcherStatsByGameId(gameId);
+    }
+
+    public void evictWatcherStats(Long gameId) {
+        var cache = cacheManager.getCache(GlobalCacheConfig.WATCHER_STATS_CACHE);
+        if (cache != null && gameId != null) {
+            cache.evict(gameId);
+        }
+    }
+
     @Cacheable(value = GlobalCacheConfig.GAME_DETAIL_CACHE, key = "#gameId")
     public GameDetailResponse getBaseGameDetail(Long gameId) {
         Game game = gameRepository.findByIdWithGenres(gameId)
                 .orElseThrow(() -> new IllegalArgumentException("Game not found: " + gameId));
 
-        // 1. 가격 이력 → 차트 DTO + 판정에 필요한 컨텍스트
-        List<GamePriceHistory> histories = priceHistoryRepository.findAllByGameIdOrderByCreatedAtAsc(gameId);
-        int historySize = histories.size();
-        Integer originalPrice = game.getOriginalPrice() != null ? game.getOriginalPrice() : 0;
-        Integer lowestPrice = game.getAllTimeLowPrice() != null ? game.getAllTimeLowPrice() : 0;
-
-        List<GameDetailResponse.PriceHistoryDto> historyDtos = histories.stream()
-                .map(h -> new GameDetailResponse.PriceHistoryDto(
-                        h.getCreatedAt().toLocalDate(),
-                        h.getPrice(),
-                        h.getDiscountRate(),
-                        PriceVerdictCalculator.forGame(h.getPrice(), originalPrice, lowestPrice, historySize)
-                ))
-                .toList();
+        // 1. 가격 이력 → 압축 시계열 1행 (차트 DTO는 응답 직전에 펼치므로 캐시에는 원시 배열만 보관)
+        PriceSeries priceSeries = priceSeriesService.load(gameId);
 
         // 2. 패밀리 게임 (같은 시리즈/에디션) — 정가 오름차순
         List<GameDetailResponse.FamilyGameDto> familyGames = buildFamilyGames(game.getFamilyId());
@@ -110,22 +177,31 @@ public class GameReadService {
         // 3. 연관 게임 (장르 기반 추천)
         List<GameDetailResponse.RelatedGameDto> relatedGames = buildRelatedGames(game);
 
-        return GameDetailResponse.from(game, historyDtos, false, familyGames, relatedGames);
+        return GameDetailResponse.from(game, priceSeries, false, familyGames, relatedGames);
     }
 
-    private List<GameDetailResponse.FamilyGameDto> buildFamilyGames(String familyId) {
-        List<Game> familyList = gameRepository.findByFamilyIdOrderByOriginalPriceAsc(familyId);
-        if (familyList.isEmpty()) return List.of();
+    /**
+     * 패밀리 게임 ID는 검색 인덱스의 familyId 묶음(upsert 시 증분 갱신)에서 얻고, 인덱스 미적재 시에만 DB 조회
+     */
+    private List<Long> familyGameIds(String familyId) {
+        return gameSearchIndex.familyGameIds(familyId)
+                .orElseGet(() -> gameRepository.findIdsByFamilyId(familyId));
+    }
 
-        Map<Long, Integer> historyCountMap = countHistoryByGameIds(
-                familyList.stream().map(Game::getId).toList());
+    private List<GameDetailResponse.FamilyGameDto> buildFamilyGames(String familyId) {
+        if (familyId == null) return List.of();
+        List<Long> familyIds = familyGameIds(familyId);
+        if (familyIds.isEmpty()) return List.of();
+
+        // PK IN 조회 후 정가 오름차순 (MySQL ORDER BY와 동일하게 null이 먼저)
+        List<Game> familyList = gameRepository.findAllById(familyIds).stream()
+                .sorted(Comparator.comparing(Game::getOriginalPrice, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(Game::getId))
+                .toList();
 
         return familyList.stream()
                 .map(g -> {
-                    PriceVerdict verdict = PriceVerdictCalculator.forGame(
-                            g.getCurrentPrice(), g.getOriginalPrice(), g.getAllTimeLowPrice(),
-                            historyCountMap.getOrDefault(g.getId(), 0)
-                    );
+                    PriceVerdict verdict = g.getPriceVerdict() != null ? g.getPriceVerdict() : PriceVerdict.TRACKING;
                     return new GameDetailResponse.FamilyGameDto(
                             g.getId(), g.getName(), g.getOriginalPrice(),
                             g.getCurrentPrice(), g.getDiscountRate(), g.isPlusExclusive(),
@@ -139,15 +215,9 @@ public class GameReadService {
         List<GameSearchResponse> rawList = getRelatedGames(game);
         if (rawList.isEmpty()) return List.of();
 
-        Map<Long, Integer> historyCountMap = countHistoryByGameIds(
-                rawList.stream().map(GameSearchResponse::getId).toList());
-
         return rawList.stream()
                 .map(r -> {
-                    PriceVerdict verdict = PriceVerdictCalculator.forGame(
-                            r.getPrice(), r.getOriginalPrice(), r.getAllTimeLowPrice(),
-                            historyCountMap.getOrDefault(r.getId(), 0)
-                    );
+                    PriceVerdict verdict = PriceVerdict.valueOf(r.getPriceVerdict());
                     return new GameDetailResponse.RelatedGameDto(
                             r.getId(), r.getName(), r.getImageUrl(),
                             r.getOriginalPrice(), r.getPrice(), r.getDiscountRate(),
@@ -157,22 +227,20 @@ public class GameReadService {
                 .toList();
     }
 
-    /** gameId 목록으로 가격 이력 건수를 일괄 조회해 Map으로 반환 */
-    private Map<Long, Integer> countHistoryByGameIds(List<Long> gameIds) {
-        return priceHistoryRepository.countGroupByGameId(gameIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> ((Long) arr[1]).intValue()
-                ));
-    }
-
+    /**
+     * 야간에 사전 계산된 연관 게임 ID를 PK IN 1번으로 읽는다. 계산 결과가 없을 때(인덱스 미적재)만 장르 조인 쿼리로 폴백
+     */
     private List<GameSearchResponse> getRelatedGames(Game game) {
+        Optional<List<Long>> precomputed = relatedGamesStore.relatedGameIds(game.getId());
+        if (precomputed.isPresent()) {
+            return gameRepository.findSearchResponsesByIds(precomputed.get());
+        }
+
         List<Long> genreIds = game.getGameGenres().stream()
                 .map(gg -> gg.getGenre().getId())
                 .toList();
         if (genreIds.isEmpty()) return List.of();
-        return gameRepository.findRelatedGames(genreIds, game.getId(), RECOMMEND_GAME_COUNT);
+        return gameRepository.findRelatedGames(genreIds, game.getId(), RelatedGamesStore.RELATED_GAME_COUNT);
     }
 
     /**
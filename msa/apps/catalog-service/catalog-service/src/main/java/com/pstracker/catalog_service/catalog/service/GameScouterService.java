@@ -1,5 +1,6 @@
 package com.pstracker.catalog_service.catalog.service;
 
+import com.pstracker.catalog_service.catalog.domain.PriceSeries;
 import com.pstracker.catalog_service.catalog.dto.GameDetailResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -30,21 +31,45 @@ public class GameScouterService {
             LocalDate releaseDate,
             List<GameDetailResponse.PriceHistoryDto> history) {
 
+        return calculateDefenseTierFromSeries(originalPrice, currentPrice, lowestPrice, releaseDate, toSeries(history));
+    }
+
+    /**
+     * 압축 시계열 기반 방어도 분석. 최저가·추적 시작일·할인 횟수·마지막 할인일을 한 번의 순회로 모은다.
+     */
+    public GameDetailResponse.DefenseInfo calculateDefenseTierFromSeries(
+            Integer originalPrice,
+            Integer currentPrice,
+            Integer lowestPrice,
+            LocalDate releaseDate,
+            PriceSeries history) {
+
         if (originalPrice == null || originalPrice == 0 || history == null || history.isEmpty()) {
             return new GameDetailResponse.DefenseInfo("등급 외", 0, 0, null, null, null, false, null);
         }
 
         // ─────────────────────────────────────────────────────────
-        // 핵심 신호 계산
+        // 핵심 신호 계산 (1회 순회)
         // ─────────────────────────────────────────────────────────
 
+        int minPrice = Integer.MAX_VALUE;
+        int firstDay = Integer.MAX_VALUE;
+        int lastSaleDay = Integer.MIN_VALUE;
+        int discountCount = 0;
+        for (int i = 0; i < history.size(); i++) {
+            int price = history.priceAt(i);
+            int day = history.epochDayAt(i);
+            if (price > 0 && price < minPrice) minPrice = price;
+            if (day < firstDay) firstDay = day;
+            if (history.discountRateAt(i) > 0) {
+                discountCount++;
+                if (day > lastSaleDay) lastSaleDay = day;
+            }
+        }
+
         int safeLowest = (lowestPrice != null && lowestPrice > 0 && lowestPrice < originalPrice)
                 ? lowestPrice
-                : history.stream()
-                        .filter(h -> h.price() != null && h.price() > 0)
-                        .mapToInt(GameDetailResponse.PriceHistoryDto::price)
-                        .min()
-                        .orElse(originalPrice);
+                : (minPrice != Integer.MAX_VALUE ? minPrice : originalPrice);
 
         boolean hasValidLowest = safeLowest < originalPrice;
 
@@ -56,18 +81,11 @@ public class GameScouterService {
         long monthsSinceRelease = releaseDate != null
                 ? ChronoUnit.MONTHS.between(releaseDate, LocalDate.now()) : 99L;
 
-        LocalDate trackingStart = history.stream()
-                .map(GameDetailResponse.PriceHistoryDto::date)
-                .min(LocalDate::compareTo)
-                .orElse(LocalDate.now());
+        LocalDate trackingStart = LocalDate.ofEpochDay(firstDay);
         long tracked = Math.max(1, ChronoUnit.MONTHS.between(trackingStart, LocalDate.now()));
 
-        boolean firstWasDiscounted = history.get(0).discountRate() != null
-                && history.get(0).discountRate() > 0;
-
-        int discountCount = (int) history.stream()
-                .filter(h -> h.discountRate() != null && h.discountRate() > 0)
-                .count();
+        boolean firstWasDiscounted = history.discountRateAt(0) > 0;
+        LocalDate lastSaleDate = discountCount > 0 ? LocalDate.ofEpochDay(lastSaleDay) : null;
 
         int countForFreq = firstWasDiscounted ? Math.max(1, discountCount - 1) : discountCount;
         double monthsPerDiscount = discountCount > 0
@@ -87,7 +105,7 @@ public class GameScouterService {
                     Double mps = countForFreq > 1 ? monthsPerDiscount : null;
                     return new GameDetailResponse.DefenseInfo(
                             "신작 재할인", tracked, discountCount, mr, mps,
-                            computeNextSaleEstimate(history, monthsPerDiscount, countForFreq),
+                            computeNextSaleEstimate(lastSaleDate, monthsPerDiscount, countForFreq),
                             firstWasDiscounted, trackingStart);
                 }
                 boolean lateTracking = (monthsSinceRelease - tracked) >= 2;
@@ -137,7 +155,7 @@ public class GameScouterService {
 
         int maxRateInt = (int) Math.round(maxRate);
         Double mps = countForFreq > 1 ? monthsPerDiscount : null;
-        LocalDate nextSale = computeNextSaleEstimate(history, monthsPerDiscount, countForFreq);
+        LocalDate nextSale = computeNextSaleEstimate(lastSaleDate, monthsPerDiscount, countForFreq);
 
         String tier;
         if (maxRate <= 25.0)      tier = "A급 방패";
@@ -154,16 +172,27 @@ public class GameScouterService {
      * 할인이 1회 이하(패턴 없음)이면 null을 반환합니다.
      */
     private LocalDate computeNextSaleEstimate(
-            List<GameDetailResponse.PriceHistoryDto> history,
+            LocalDate lastSaleDate,
             double monthsPerDiscount,
             int countForFreq) {
         if (countForFreq <= 1) return null;
-        LocalDate lastSaleDate = history.stream()
-                .filter(h -> h.discountRate() != null && h.discountRate() > 0)
-                .map(GameDetailResponse.PriceHistoryDto::date)
-                .max(LocalDate::compareTo)
-                .orElse(null);
         if (lastSaleDate == null) return null;
         return lastSaleDate.plusMonths(Math.round(monthsPerDiscount));
     }
+
+    // DTO 리스트 → 시계열 (가격·할인율 null은 0으로 — 기존 필터 조건 price > 0 / discountRate > 0과 동일하게 취급)
+    private static PriceSeries toSeries(List<GameDetailResponse.PriceHistoryDto> history) {
+        if (history == null) return null;
+        int n = history.size();
+        int[] days = new int[n];
+        int[] prices = new int[n];
+        int[] rates = new int[n];
+        for (int i = 0; i < n; i++) {
+            GameDetailResponse.PriceHistoryDto h = history.get(i);
+            days[i] = (int) h.date().toEpochDay();
+            prices[i] = h.price() != null ? h.price() : 0;
+            rates[i] = h.discountRate() != null ? h.discountRate() : 0;
+        }
+        return PriceSeries.of(days, prices, rates);
+    }
 }
@@ -1,112 +1,57 @@
 package com.pstracker.catalog_service.catalog.service;
 
-import com.pstracker.catalog_service.catalog.dto.igdb.IgdbAuthResponse;
 import com.pstracker.catalog_service.catalog.dto.igdb.IgdbGameResponse;
-import com.pstracker.catalog_service.global.client.igdb.IgdbAuthClient;
-import com.pstracker.catalog_service.global.client.igdb.IgdbGameClient;
-import com.pstracker.catalog_service.global.util.GameTitleNormalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
-import static org.springframework.util.StringUtils.hasText;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+/**
+ * IGDB 평점 조회 진입점. 실제 호출(배치·속도 제한·3단계 검색·매칭 캐시)은 IgdbGateway가 담당한다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class IgdbEnrichmentService {
 
-    @Value("${igdb.client-id}")
-    private String clientId;
-
-    @Value("${igdb.client-secret}")
-    private String clientSecret;
-
-    private final IgdbAuthClient igdbAuthClient;
-    private final IgdbGameClient igdbGameClient;
-
-    private String accessToken;
-
-    private void refreshAccessToken() {
-        try {
-            log.debug("Requesting new IGDB Access Token...");
-            IgdbAuthResponse response = igdbAuthClient.getAccessToken(clientId, clientSecret, "client_credentials");
-
-            if (response != null && response.accessToken() != null) {
-                this.accessToken = response.accessToken();
-                log.info("IGDB Token acquired! Expires in: {}s", response.expiresIn());
-            }
-        } catch (Exception e) {
-            log.error("Failed to get IGDB token", e);
-            throw new RuntimeException("IGDB Auth Failed");
-        }
-    }
-
-    public IgdbGameResponse searchGame(String gameTitle) {
-        if (this.accessToken == null) refreshAccessToken();
-        IgdbGameResponse result = null;
-
-        // 1. 인코딩 찌꺼기 및 구두점만 제거 (에디션 등 원본 유지)
-        String stage1Title = GameTitleNormalizer.cleanMojibakeOnly(gameTitle, false);
-        if (hasText(stage1Title)) {
-            result = searchByName(stage1Title, "[Stage 1] Exact/Edition Search");
-            if (result != null) return result;
-        }
-
-        // 2. 2차 정규화 (에디션, 플랫폼, 마케팅 용어 제거)
-        String stage2Title = GameTitleNormalizer.normalizeAggressive(stage1Title);
-        // Stage1과 결과가 다를 때만(무언가 잘려 나갔을 때만) 검색 시도 (네트워크 낭비 방지)
-        if (hasText(stage2Title) && !stage2Title.equals(stage1Title)) {
-            result = searchByName(stage2Title, "[Stage 2] Normalized Search");
-            if (result != null) return result;
-        }
-
-        // 3. 핵심 타이틀만 추출
-        String rawCoreTitle = GameTitleNormalizer.extractCoreTitle(gameTitle);
-        String stage3Title = GameTitleNormalizer.normalizeAggressive(GameTitleNormalizer.cleanMojibakeOnly(rawCoreTitle, false));
-
-        if (hasText(stage3Title) && !stage3Title.equals(stage2Title)) {
-            result = searchByName(stage3Title, "[Stage 3] Core Keyword Search");
-        }
-
-        if (result == null) {
-            log.warn("FAILED ALL 3 STAGES: Raw='{}', Stage3='{}'", gameTitle, stage3Title);
-        }
-
-        return result;
-    }
-
-    private IgdbGameResponse searchByName(String title, String logPrefix) {
-        String cleanTitle = title.replace("\"", "");
-        String query = String.format(
-                "fields name, aggregated_rating, aggregated_rating_count, rating, rating_count, summary, total_rating_count;" +
-                        "search \"%s\";" +
-                        "limit 10;",
-                cleanTitle
-        );
-        return executeQuery(query, logPrefix + ": " + cleanTitle);
-    }
-
-    private IgdbGameResponse executeQuery(String queryBody, String logPrefix) {
-        try {
-            List<IgdbGameResponse> responses = igdbGameClient.search(clientId, "Bearer " + accessToken, queryBody);
-
-            if (responses != null && !responses.isEmpty()) {
-                return responses.stream()
-                        .sorted((g1, g2) -> {
-                            int count1 = (g1.totalRatingCount() == null) ? 0 : g1.totalRatingCount();
-                            int count2 = (g2.totalRatingCount() == null) ? 0 : g2.totalRatingCount();
-                            return Integer.compare(count2, count1); // 리뷰 수 내림차순
-                        })
-                        .findFirst()
-                        .orElse(responses.get(0));
+    private final IgdbGateway igdbGateway;
+
+    /**
+     * 게임별 조회 결과. 매칭 실패(결과 없음)한 게임은 어느 쪽에도 없다.
+     * @param matched gameId → 매칭 결과
+     * @param failedGameIds IGDB 호출이 실패해 결과를 알 수 없는 게임 (다시 시도할 대상)
+     */
+    public record Resolution(Map<Long, IgdbGameResponse> matched, Set<Long> failedGameIds) {}
+
+    /**
+     * 여러 게임의 검색을 한꺼번에 게이트웨이에 맡기고 모두 끝날 때까지 기다린다. (같은 배치로 묶여 전송됨)
+     * @param searchTitlesByGameId gameId → 검색 타이틀
+     */
+    public Resolution resolveAll(Map<Long, String> searchTitlesByGameId) {
+        Map<Long, CompletableFuture<IgdbGameResponse>> futures = new HashMap<>();
+        searchTitlesByGameId.forEach((gameId, title) -> futures.put(gameId, igdbGateway.lookup(title)));
+
+        Map<Long, IgdbGameResponse> matched = new HashMap<>();
+        Set<Long> failedGameIds = new HashSet<>();
+        futures.forEach((gameId, future) -> {
+            try {
+                IgdbGameResponse response = future.join();
+                if (response != null) {
+                    matched.put(gameId, response);
+                } else {
+                    log.debug("IGDB Miss: {}", searchTitlesByGameId.get(gameId));
+                }
+            } catch (CompletionException e) {
+                log.debug("IGDB Failed: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                failedGameIds.add(gameId);
             }
-        } catch (Exception e) {
-            log.warn("IGDB Error [{}]: {}", logPrefix, e.getMessage());
-        }
-        return null;
+        });
+        return new Resolution(matched, failedGameIds);
     }
-}
+}
\ No newline at end of file
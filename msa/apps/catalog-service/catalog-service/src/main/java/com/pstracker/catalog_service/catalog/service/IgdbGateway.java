@@ -0,0 +1,343 @@
+package com.pstracker.catalog_service.catalog.service;
+
+import com.pstracker.catalog_service.catalog.dto.igdb.IgdbGameResponse;
+import com.pstracker.catalog_service.catalog.dto.igdb.IgdbMultiQueryResponse;
+import com.pstracker.catalog_service.global.client.igdb.IgdbGameClient;
+import com.pstracker.catalog_service.global.client.igdb.IgdbTokenManager;
+import com.pstracker.catalog_service.global.util.GameTitleNormalizer;
+import com.pstracker.catalog_service.global.util.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * IGDB 검색 게이트웨이.
+ * - lookup()은 대기열에 넣고 Future만 돌려준다. 디스패처 스레드가 대기 중인 검색을 linger 동안 모아 /multiquery 요청 1번(최대 10개 쿼리)으로 보낸다.
+ * - 요청은 토큰 버킷(igdb.gateway.requests-per-second)을 통과해야 전송되므로 수집이 몰려도 IGDB 초당 한도를 넘지 않는다.
+ * - 3단계 검색(원본 → 정규화 → 핵심 키워드)은 단계마다 다음 배치에 다시 실린다. 같은 타이틀을 동시에 요청하면 Future 1개를 공유한다.
+ * - 다음 단계로는 IGDB가 정상 응답했는데 결과가 없을 때만 넘어간다. 요청이 실패하면(429·5xx·타임아웃) 같은 단계를
+ *   retry-backoff(실패마다 2배) 뒤 다시 싣고, 한 단계에서 max-retries번 넘게 실패하면 Future를 예외로 끝낸다. (호출 측이 재시도)
+ * - 결과는 IgdbMatchCacheService에 저장하고, 캐시가 있으면 대기열을 거치지 않는다. (예외로 끝난 검색은 저장하지 않음)
+ */
+@Slf4j
+@Component
+public class IgdbGateway {
+
+    // IGDB /multiquery 요청당 쿼리 수 상한
+    static final int MAX_QUERIES_PER_REQUEST = 10;
+
+    private static final String FIELDS =
+            "fields name, aggregated_rating, aggregated_rating_count, rating, rating_count, summary, total_rating_count;";
+
+    private final IgdbTokenManager tokenManager;
+    private final IgdbGameClient igdbGameClient;
+    private final IgdbMatchCacheService matchCacheService;
+    private final Executor igdbExecutor;
+    private final String clientId;
+    private final TokenBucket rateLimiter;
+    private final long lingerNanos;
+    private final Duration retryBackoff;
+    private final int maxRetries;
+
+    private final LinkedBlockingQueue<PendingLookup> queue = new LinkedBlockingQueue<>();
+    private final Map<String, PendingLookup> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter successRequests;
+    private final Counter failedRequests;
+    private final DistributionSummary batchSize;
+
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public IgdbGateway(IgdbTokenManager tokenManager,
+                       IgdbGameClient igdbGameClient,
+                       IgdbMatchCacheService matchCacheService,
+                       Executor igdbExecutor,
+                       MeterRegistry meterRegistry,
+                       @Value("${igdb.client-id}") String clientId,
+                       @Value("${igdb.gateway.requests-per-second:4}") double requestsPerSecond,
+                       @Value("${igdb.gateway.linger:PT0.05S}") Duration linger,
+                       @Value("${igdb.gateway.retry-backoff:PT1S}") Duration retryBackoff,
+                       @Value("${igdb.gateway.max-retries:3}") int maxRetries) {
+        this.tokenManager = tokenManager;
+        this.igdbGameClient = igdbGameClient;
+        this.matchCacheService = matchCacheService;
+        this.igdbExecutor = igdbExecutor;
+        this.clientId = clientId;
+        this.rateLimiter = new TokenBucket(requestsPerSecond);
+        this.lingerNanos = linger.toNanos();
+        this.retryBackoff = retryBackoff;
+        this.maxRetries = maxRetries;
+
+        this.successRequests = meterRegistry.counter("igdb.gateway.requests", "outcome", "success");
+        this.failedRequests = meterRegistry.counter("igdb.gateway.requests", "outcome", "failure");
+        this.batchSize = DistributionSummary.builder("igdb.gateway.batch.size")
+                .description("/multiquery 요청 1건에 실린 쿼리 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("igdb.gateway.queue", queue, Collection::size);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        dispatcher = Thread.ofPlatform().daemon().name("igdb-gateway").start(this::dispatchLoop);
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (dispatcher != null) dispatcher.interrupt();
+        // 종료 시 남은 검색은 실패로 끝낸다 (캐시에는 저장하지 않음)
+        List<PendingLookup> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(lookup -> fail(lookup, "게이트웨이 종료"));
+    }
+
+    /**
+     * @return 매칭된 IGDB 게임 (3단계 모두 결과 없음이면 null).
+     *         IGDB 호출 실패가 max-retries를 넘거나 게이트웨이가 종료되면 IllegalStateException으로 끝난다.
+     */
+    public CompletableFuture<IgdbGameResponse> lookup(String gameTitle) {
+        Optional<IgdbMatchCacheService.CachedMatch> cached = findCached(gameTitle);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(cached.get().response());
+        }
+
+        List<String> stages = searchStages(gameTitle);
+        if (stages.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (!running) {
+            return CompletableFuture.failedFuture(new IllegalStateException("IGDB 게이트웨이가 종료되었습니다."));
+        }
+
+        PendingLookup created = new PendingLookup(gameTitle, stages);
+        PendingLookup lookup = inFlight.putIfAbsent(gameTitle, created);
+        if (lookup != null) return lookup.future;
+
+        queue.offer(created);
+        return created.future;
+    }
+
+    /**
+     * 타이틀별 검색어 목록 (앞 단계와 같아지는 단계는 생략)
+     */
+    static List<String> searchStages(String gameTitle) {
+        if (!hasText(gameTitle)) return List.of();
+        List<String> stages = new ArrayList<>(3);
+
+        // 1. 인코딩 찌꺼기 및 구두점만 제거 (에디션 등 원본 유지)
+        String stage1Title = GameTitleNormalizer.cleanMojibakeOnly(gameTitle, false);
+        if (hasText(stage1Title)) stages.add(stage1Title);
+
+        // 2. 2차 정규화 (에디션, 플랫폼, 마케팅 용어 제거) — Stage1과 다를 때만
+        String stage2Title = GameTitleNormalizer.normalizeAggressive(stage1Title);
+        if (hasText(stage2Title) && !stage2Title.equals(stage1Title)) stages.add(stage2Title);
+
+        // 3. 핵심 타이틀만 추출
+        String rawCoreTitle = GameTitleNormalizer.extractCoreTitle(gameTitle);
+        String stage3Title = GameTitleNormalizer.normalizeAggressive(GameTitleNormalizer.cleanMojibakeOnly(rawCoreTitle, false));
+        if (hasText(stage3Title) && !stage3Title.equals(stage2Title)) stages.add(stage3Title);
+
+        return stages;
+    }
+
+    private void dispatchLoop() {
+        while (running) {
+            List<PendingLookup> batch = new ArrayList<>(MAX_QUERIES_PER_REQUEST);
+            try {
+                fillBatch(batch);
+                rateLimiter.acquire();
+                igdbExecutor.execute(() -> send(batch));
+            } catch (InterruptedException e) {
+                batch.forEach(lookup -> fail(lookup, "게이트웨이 종료"));
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("IGDB 게이트웨이 디스패치 오류", e);
+                batch.forEach(lookup -> fail(lookup, "디스패치 오류: " + e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * 첫 검색이 들어오면 linger 동안 (또는 10개가 찰 때까지) 더 모은다.
+     */
+    private void fillBatch(List<PendingLookup> batch) throws InterruptedException {
+        batch.add(queue.take());
+
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < MAX_QUERIES_PER_REQUEST) {
+            long remaining = deadline - System.nanoTime();
+            PendingLookup next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) break;
+            batch.add(next);
+        }
+    }
+
+    private void send(List<PendingLookup> batch) {
+        batchSize.record(batch.size());
+        Map<String, List<IgdbGameResponse>> resultsByName;
+        String token = null;
+        try {
+            token = tokenManager.getToken();
+            List<IgdbMultiQueryResponse> responses =
+                    igdbGameClient.multiQuery(clientId, "Bearer " + token, buildMultiQuery(batch));
+            resultsByName = responses == null ? Map.of() : responses.stream()
+                    .filter(r -> r.name() != null)
+                    .collect(Collectors.toMap(IgdbMultiQueryResponse::name,
+                            r -> r.result() != null ? r.result() : List.of(), (a, b) -> a));
+            successRequests.increment();
+        } catch (Exception e) {
+            failedRequests.increment();
+            if (e instanceof HttpClientErrorException.Unauthorized && token != null) {
+                tokenManager.invalidate(token); // 다음 요청에서 재발급
+            }
+            log.warn("IGDB multiquery 실패 ({}건): {}", batch.size(), e.getMessage());
+            batch.forEach(lookup -> onStageResult(lookup, List.of(), true));
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            onStageResult(batch.get(i), resultsByName.getOrDefault(String.valueOf(i), List.of()), false);
+        }
+    }
+
+    private void onStageResult(PendingLookup lookup, List<IgdbGameResponse> responses, boolean errored) {
+        if (errored) {
+            onStageError(lookup);
+            return;
+        }
+
+        IgdbGameResponse best = pickBest(responses);
+        if (best != null) {
+            storeSafely(() -> matchCacheService.storeMatch(lookup.title, best));
+            finish(lookup, best);
+            return;
+        }
+
+        if (++lookup.stage < lookup.stages.size() && running) {
+            lookup.stageErrors = 0;
+            queue.offer(lookup);
+            return;
+        }
+
+        log.warn("FAILED ALL {} STAGES: Raw='{}'", lookup.stages.size(), lookup.title);
+        storeSafely(() -> matchCacheService.storeMiss(lookup.title));
+        finish(lookup, null);
+    }
+
+    /**
+     * 요청 실패는 "결과 없음"이 아니므로 같은 단계를 백오프 뒤 다시 싣는다.
+     */
+    private void onStageError(PendingLookup lookup) {
+        if (++lookup.stageErrors > maxRetries || !running) {
+            log.warn("IGDB 검색 포기 ({}번 실패): Raw='{}', stage={}", lookup.stageErrors, lookup.title, lookup.stage + 1);
+            fail(lookup, lookup.stageErrors + "번 연속 요청 실패");
+            return;
+        }
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(lookup.stageErrors - 1, 10));
+        try {
+            CompletableFuture.delayedExecutor(backoff.toMillis(), TimeUnit.MILLISECONDS, igdbExecutor)
+                    .execute(() -> requeue(lookup));
+        } catch (RuntimeException e) {
+            log.warn("IGDB 검색 재시도 예약 실패: Raw='{}', {}", lookup.title, e.getMessage());
+            fail(lookup, "재시도 예약 실패: " + e.getMessage());
+        }
+    }
+
+    // 백오프 사이 종료됐으면 대기열이 비워진 뒤라 직접 끝낸다
+    private void requeue(PendingLookup lookup) {
+        if (running) {
+            queue.offer(lookup);
+        } else {
+            fail(lookup, "게이트웨이 종료");
+        }
+    }
+
+    private void finish(PendingLookup lookup, IgdbGameResponse result) {
+        inFlight.remove(lookup.title, lookup);
+        lookup.future.complete(result);
+    }
+
+    private void fail(PendingLookup lookup, String reason) {
+        inFlight.remove(lookup.title, lookup);
+        lookup.future.completeExceptionally(new IllegalStateException("IGDB 검색 실패 (" + lookup.title + "): " + reason));
+    }
+
+    private static String buildMultiQuery(List<PendingLookup> batch) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < batch.size(); i++) {
+            String searchTitle = batch.get(i).currentStageTitle().replace("\"", "");
+            body.append("query games \"").append(i).append("\" {")
+                    .append(FIELDS)
+                    .append("search \"").append(searchTitle).append("\";")
+                    .append("limit 10;")
+                    .append("};\n");
+        }
+        return body.toString();
+    }
+
+    // 리뷰 수(totalRatingCount)가 가장 많은 게임
+    private static IgdbGameResponse pickBest(List<IgdbGameResponse> responses) {
+        if (responses == null || responses.isEmpty()) return null;
+        return responses.stream()
+                .max(Comparator.comparingInt(g -> g.totalRatingCount() == null ? 0 : g.totalRatingCount()))
+                .orElse(null);
+    }
+
+    private Optional<IgdbMatchCacheService.CachedMatch> findCached(String gameTitle) {
+        try {
+            return matchCacheService.find(gameTitle);
+        } catch (Exception e) {
+            log.warn("IGDB 매칭 캐시 조회 실패, IGDB로 조회합니다: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static void storeSafely(Runnable store) {
+        try {
+            store.run();
+        } catch (Exception e) {
+            log.warn("IGDB 매칭 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 대기 중인 검색 1건. stage/stageErrors는 대기열을 통해 한 스레드씩만 넘겨받으므로 동기화하지 않는다.
+     */
+    private static final class PendingLookup {
+        private final String title;
+        private final List<String> stages;
+        private final CompletableFuture<IgdbGameResponse> future = new CompletableFuture<>();
+        private int stage;
+        // 현재 단계에서 연속으로 실패한 요청 수 (다음 단계로 넘어가면 0)
+        private int stageErrors;
+
+        private PendingLookup(String title, List<String> stages) {
+            this.title = title;
+            this.stages = stages;
+        }
+
+        private String currentStageTitle() {
+            return stages.get(stage);
+        }
+    }
+}
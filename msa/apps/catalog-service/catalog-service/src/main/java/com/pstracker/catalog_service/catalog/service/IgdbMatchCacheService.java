@@ -0,0 +1,120 @@
+package com.pstracker.catalog_service.catalog.service;
+
+import com.pstracker.catalog_service.catalog.domain.IgdbMatchCache;
+import com.pstracker.catalog_service.catalog.dto.igdb.IgdbGameResponse;
+import com.pstracker.catalog_service.catalog.repository.IgdbMatchCacheRepository;
+import com.pstracker.catalog_service.global.util.GameTitleNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Optional;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * IGDB 타이틀 매칭 결과 영구 캐시.
+ * - 키: 1단계 정규화(인코딩 찌꺼기·구두점 제거) 후 소문자 타이틀. 같은 카탈로그를 다시 크롤링하면 IGDB 호출 없이 캐시에서 끝난다.
+ * - 매칭 성공은 positive-ttl, 3단계 모두 결과 없음은 negative-ttl 동안 보관한다.
+ * - 조회 결과는 igdb.match.cache{result=hit|negative_hit|miss} 카운터로 노출된다. (만료된 행은 miss)
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class IgdbMatchCacheService {
+
+    private static final int MAX_KEY_LENGTH = 300;
+
+    private final IgdbMatchCacheRepository matchCacheRepository;
+    private final Duration positiveTtl;
+    private final Duration negativeTtl;
+    private final Counter hitCounter;
+    private final Counter negativeHitCounter;
+    private final Counter missCounter;
+
+    public IgdbMatchCacheService(IgdbMatchCacheRepository matchCacheRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${igdb.cache.positive-ttl:P30D}") Duration positiveTtl,
+                                 @Value("${igdb.cache.negative-ttl:P7D}") Duration negativeTtl) {
+        this.matchCacheRepository = matchCacheRepository;
+        this.positiveTtl = positiveTtl;
+        this.negativeTtl = negativeTtl;
+        this.hitCounter = meterRegistry.counter("igdb.match.cache", "result", "hit");
+        this.negativeHitCounter = meterRegistry.counter("igdb.match.cache", "result", "negative_hit");
+        this.missCounter = meterRegistry.counter("igdb.match.cache", "result", "miss");
+    }
+
+    /**
+     * 캐시 조회 결과.
+     * @param response 매칭된 IGDB 게임 (부정 캐시면 null)
+     */
+    public record CachedMatch(IgdbGameResponse response) {
+        public boolean isNegative() {
+            return response == null;
+        }
+    }
+
+    /**
+     * @return 유효한 캐시가 있으면 결과(부정 캐시 포함), 없거나 만료됐으면 empty
+     */
+    public Optional<CachedMatch> find(String gameTitle) {
+        String key = toKey(gameTitle);
+        if (key == null) return Optional.empty();
+
+        Optional<IgdbMatchCache> cached = matchCacheRepository.findByTitleKey(key)
+                .filter(c -> !c.isExpired(LocalDateTime.now()));
+        if (cached.isEmpty()) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+
+        IgdbMatchCache entry = cached.get();
+        (entry.isMatched() ? hitCounter : negativeHitCounter).increment();
+        return Optional.of(new CachedMatch(entry.toResponse()));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void storeMatch(String gameTitle, IgdbGameResponse response) {
+        store(gameTitle, response, positiveTtl);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void storeMiss(String gameTitle) {
+        store(gameTitle, null, negativeTtl);
+    }
+
+    private void store(String gameTitle, IgdbGameResponse response, Duration ttl) {
+        String key = toKey(gameTitle);
+        if (key == null) return;
+
+        LocalDateTime expiresAt = LocalDateTime.now().plus(ttl);
+        // 저장은 repository 호출 단위 트랜잭션으로 처리한다. (동시 INSERT 충돌이 호출부 트랜잭션을 rollback-only로 만들지 않도록)
+        try {
+            IgdbMatchCache cache = matchCacheRepository.findByTitleKey(key).orElse(null);
+            if (cache != null) {
+                cache.update(response, expiresAt);
+                matchCacheRepository.save(cache);
+            } else {
+                matchCacheRepository.saveAndFlush(IgdbMatchCache.create(key, response, expiresAt));
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 같은 타이틀을 동시에 수집한 다른 요청이 먼저 저장한 경우 (결과는 동일하므로 무시)
+            log.debug("IGDB 매칭 캐시 동시 저장 무시: {}", key);
+        }
+    }
+
+    static String toKey(String gameTitle) {
+        if (!hasText(gameTitle)) return null;
+        String cleaned = GameTitleNormalizer.cleanMojibakeOnly(gameTitle, false);
+        String key = (hasText(cleaned) ? cleaned : gameTitle).trim().toLowerCase(Locale.ROOT);
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+}
@@ -0,0 +1,151 @@
+package com.pstracker.catalog_service.catalog.service;
+
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.domain.GamePriceSeries;
+import com.pstracker.catalog_service.catalog.domain.PriceSeries;
+import com.pstracker.catalog_service.catalog.repository.GamePriceHistoryRepository;
+import com.pstracker.catalog_service.catalog.repository.GamePriceSeriesRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임별 가격 이력 압축 시계열(GamePriceSeries) 관리.
+ * - 쓰기: upsert(processPriceInfo)에서 이력 1건이 저장될 때마다 포인트 1개를 덧붙인다.
+ * - 읽기: 상세 조회 캐시 미스 시 행 1개만 읽어 디코딩한다. 아직 시계열이 없는 게임은 이력 원시 값으로 구성만 하고 저장하지 않는다. (읽기 전용 트랜잭션)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PriceSeriesService {
+
+    private final GamePriceSeriesRepository priceSeriesRepository;
+    private final GamePriceHistoryRepository priceHistoryRepository;
+    private final GameBackfillRunner backfillRunner;
+
+    public PriceSeries load(Long gameId) {
+        return priceSeriesRepository.findById(gameId)
+                .map(GamePriceSeries::toSeries)
+                .orElseGet(() -> buildFromHistory(List.of(gameId)).getOrDefault(gameId, PriceSeries.EMPTY));
+    }
+
+    public record PricePoint(Game game, Integer price, Integer discountRate) {}
+
+    /**
+     * 이력 1건 저장 직후 호출 (game.priceHistoryCount는 이미 증가된 상태).
+     */
+    @Transactional
+    public void append(Game game, LocalDate date, Integer price, Integer discountRate) {
+        appendAll(date, List.of(new PricePoint(game, price, discountRate)));
+    }
+
+    /**
+     * 여러 게임에 포인트 1개씩 덧붙인다. (일괄 수집 경로: 시계열 조회 IN 1번 + 재구성 대상 이력 조회 IN 1번)
+     * 시계열이 없거나 포인트 수가 이력 건수와 어긋나 있으면 이력 전체로 다시 만든다. (방금 저장된 이력 포함)
+     */
+    @Transactional
+    public void appendAll(LocalDate date, List<PricePoint> points) {
+        if (points.isEmpty()) return;
+
+        Map<Long, GamePriceSeries> existing = new HashMap<>();
+        priceSeriesRepository.findAllById(points.stream().map(p -> p.game().getId()).toList())
+                .forEach(s -> existing.put(s.getGameId(), s));
+
+        List<Game> toRebuild = new ArrayList<>();
+        for (PricePoint point : points) {
+            Game game = point.game();
+            GamePriceSeries series = existing.get(game.getId());
+
+            if (series != null && series.getPointCount() + 1 == game.getPriceHistoryCount()) {
+                series.append(date, point.price(), point.discountRate());
+            } else if (series == null && game.getPriceHistoryCount() == 1) {
+                // 신규 게임의 첫 이력은 이력을 다시 읽지 않고 바로 생성
+                GamePriceSeries created = GamePriceSeries.create(game.getId(), PriceSeries.EMPTY);
+                created.append(date, point.price(), point.discountRate());
+                priceSeriesRepository.save(created);
+            } else {
+                toRebuild.add(game);
+            }
+        }
+        if (toRebuild.isEmpty()) return;
+
+        Map<Long, PriceSeries> rebuilt = buildFromHistory(toRebuild.stream().map(Game::getId).toList());
+        for (Game game : toRebuild) {
+            PriceSeries series = rebuilt.getOrDefault(game.getId(), PriceSeries.EMPTY);
+            GamePriceSeries entity = existing.get(game.getId());
+            if (entity != null) {
+                log.debug("가격 시계열 불일치로 재구성 (gameId={}, points={}, historyCount={})",
+                        game.getId(), entity.getPointCount(), game.getPriceHistoryCount());
+                entity.replace(series);
+            } else {
+                priceSeriesRepository.save(GamePriceSeries.create(game.getId(), series));
+            }
+        }
+    }
+
+    @Transactional
+    public void deleteByGameIds(List<Long> gameIds) {
+        priceSeriesRepository.deleteByGameIds(gameIds);
+    }
+
+    /**
+     * 시계열 테이블 도입 이전 게임 일괄 백필. 청크(GameBackfillRunner)마다 이력 원시 값 조회 1번으로 구성해 교체하고 청크별로 커밋한다.
+     * 재실행해도 결과는 같다. (클래스의 읽기 전용 트랜잭션에 묶이지 않도록 트랜잭션 없이 실행)
+     * @return 처리한 게임 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int backfill() {
+        return backfillRunner.run("가격 시계열", games -> {
+            List<Long> gameIds = games.stream().map(Game::getId).toList();
+            Map<Long, PriceSeries> built = buildFromHistory(gameIds);
+            Map<Long, GamePriceSeries> existing = new HashMap<>();
+            priceSeriesRepository.findAllById(gameIds).forEach(s -> existing.put(s.getGameId(), s));
+
+            for (Long gameId : gameIds) {
+                PriceSeries series = built.getOrDefault(gameId, PriceSeries.EMPTY);
+                GamePriceSeries entity = existing.get(gameId);
+                if (entity != null) {
+                    entity.replace(series);
+                } else {
+                    priceSeriesRepository.save(GamePriceSeries.create(gameId, series));
+                }
+            }
+        });
+    }
+
+    private Map<Long, PriceSeries> buildFromHistory(List<Long> gameIds) {
+        List<Object[]> rows = priceHistoryRepository.findSeriesPointsByGameIds(gameIds);
+        Map<Long, PriceSeries> result = new HashMap<>();
+
+        int from = 0;
+        while (from < rows.size()) {
+            Long gameId = (Long) rows.get(from)[0];
+            int to = from;
+            while (to < rows.size() && gameId.equals(rows.get(to)[0])) to++;
+
+            int n = to - from;
+            int[] days = new int[n];
+            int[] prices = new int[n];
+            int[] rates = new int[n];
+            for (int i = 0; i < n; i++) {
+                Object[] row = rows.get(from + i);
+                days[i] = (int) ((LocalDateTime) row[1]).toLocalDate().toEpochDay();
+                prices[i] = row[2] != null ? (Integer) row[2] : 0;
+                rates[i] = row[3] != null ? (Integer) row[3] : 0;
+            }
+            result.put(gameId, PriceSeries.of(days, prices, rates));
+            from = to;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package com.pstracker.catalog_service.catalog.service;
+
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.repository.GamePriceHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Game.priceHistoryCount / priceVerdict 일회성 백필.
+ * - 컬럼 추가 이전에 적재된 게임은 이력 건수 0, 판정 null 상태이므로 실제 이력 건수로 한 번 맞춰준다.
+ * - 이후에는 upsert(processPriceInfo)에서 증분 갱신되므로 다시 실행할 필요가 없다. (재실행해도 결과는 같음)
+ */
+@Service
+@RequiredArgsConstructor
+public class PriceVerdictBackfillService {
+
+    private final GameBackfillRunner backfillRunner;
+    private final GamePriceHistoryRepository priceHistoryRepository;
+
+    /**
+     * 청크(GameBackfillRunner)마다 이력 건수를 GROUP BY 1번으로 모아 반영. 청크별 트랜잭션으로 커밋한다.
+     * @return 처리한 게임 수
+     */
+    public int backfill() {
+        return backfillRunner.run("가격 판정", games -> {
+            List<Long> gameIds = games.stream().map(Game::getId).toList();
+            Map<Long, Integer> historyCountMap = priceHistoryRepository.countGroupByGameId(gameIds)
+                    .stream()
+                    .collect(Collectors.toMap(
+                            arr -> (Long) arr[0],
+                            arr -> ((Long) arr[1]).intValue()
+                    ));
+
+            games.forEach(game -> game.backfillPriceVerdict(historyCountMap.getOrDefault(game.getId(), 0)));
+        });
+    }
+}
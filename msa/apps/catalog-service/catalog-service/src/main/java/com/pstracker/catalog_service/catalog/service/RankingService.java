@@ -1,9 +1,12 @@
 package com.pstracker.catalog_service.catalog.service;
 
 import com.pstracker.catalog_service.catalog.dto.RankingUpdateRequest;
-import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.catalog.event.RankingsUpdatedEvent;
+import com.pstracker.catalog_service.catalog.repository.GameRankingJdbcRepository;
+import com.pstracker.catalog_service.catalog.search.GameSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,11 +17,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class RankingService {
 
-    private final GameRepository gameRepository;
+    private final GameRankingJdbcRepository gameRankingJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 랭킹 일괄 업데이트
-     * - 엔티티를 메모리에 로드하지 않고 벌크 UPDATE로 처리하여 메모리·쿼리 수 최소화
+     * - 엔티티를 로드하지 않고, 기존 순위 초기화 1문장 + CASE 식 UPDATE(500개당 1문장)로 처리해 트랜잭션·행 잠금 시간을 최소화
+     * - 검색 인덱스·큐레이션 캐시는 커밋 이후 RankingsUpdatedListener가 한 번에 갱신
      */
     @Transactional
     public void updateRankings(RankingUpdateRequest request) {
@@ -27,33 +32,27 @@ public class RankingService {
 
         log.info("[Ranking Update] Type: {}, Target Count: {}", type, psStoreIds.size());
 
-        // 1. 기존 랭킹 전체 초기화 (UPDATE 1방)
+        long start = System.currentTimeMillis();
+        GameSearchIndex.RankType rankType;
+        int successCount;
         switch (type) {
-            case "BEST_SELLER"      -> gameRepository.clearBestSellerRanks();
-            case "MOST_DOWNLOADED"  -> gameRepository.clearMostDownloadedRanks();
+            case "BEST_SELLER" -> {
+                rankType = GameSearchIndex.RankType.BEST_SELLER;
+                successCount = gameRankingJdbcRepository.replaceBestSellerRanks(psStoreIds);
+            }
+            case "MOST_DOWNLOADED" -> {
+                rankType = GameSearchIndex.RankType.MOST_DOWNLOADED;
+                successCount = gameRankingJdbcRepository.replaceMostDownloadedRanks(psStoreIds);
+            }
             default -> {
                 log.error("알 수 없는 랭킹 타입입니다: {}", type);
                 return;
             }
         }
 
-        // 2. 순위별 벌크 UPDATE (엔티티 로딩 없이 psStoreId → rank 직접 업데이트)
-        int successCount = 0;
-        for (int i = 0; i < psStoreIds.size(); i++) {
-            String psStoreId = psStoreIds.get(i);
-            int rank = i + 1;
-            int updated = switch (type) {
-                case "BEST_SELLER"  -> gameRepository.updateBestSellerRank(psStoreId, rank);
-                default             -> gameRepository.updateMostDownloadedRank(psStoreId, rank);
-            };
-
-            if (updated > 0) {
-                successCount++;
-            } else {
-                log.debug("DB 미존재 게임 스킵 (PS_STORE_ID: {})", psStoreId);
-            }
-        }
+        eventPublisher.publishEvent(new RankingsUpdatedEvent(rankType, psStoreIds));
 
-        log.info("[Ranking Update] 완료! 총 {}개 중 {}개 매칭 및 랭킹 부여 성공.", psStoreIds.size(), successCount);
+        log.info("[Ranking Update] 완료! 총 {}개 중 {}개 매칭 및 랭킹 부여 성공. ({}ms)",
+                psStoreIds.size(), successCount, System.currentTimeMillis() - start);
     }
-}
\ No newline at end of file
+}
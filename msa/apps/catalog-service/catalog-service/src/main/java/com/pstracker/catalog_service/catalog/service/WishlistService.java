@@ -5,14 +5,13 @@ import com.pstracker.catalog_service.catalog.domain.Wishlist;
 import com.pstracker.catalog_service.catalog.dto.GameGenreResult;
 import com.pstracker.catalog_service.catalog.dto.WishlistResponse;
 import com.pstracker.catalog_service.catalog.repository.GameGenreRepository;
-import com.pstracker.catalog_service.catalog.repository.GamePriceHistoryRepository;
 import com.pstracker.catalog_service.catalog.repository.GameRepository;
 import com.pstracker.catalog_service.catalog.repository.WishlistRepository;
-import com.pstracker.catalog_service.global.domain.PriceVerdict;
-import com.pstracker.catalog_service.global.util.PriceVerdictCalculator;
+import com.pstracker.catalog_service.global.config.GlobalCacheConfig;
 import com.pstracker.catalog_service.member.domain.Member;
 import com.pstracker.catalog_service.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -34,7 +33,6 @@ public class WishlistService {
     private final WishlistRepository wishlistRepository;
     private final GameRepository gameRepository;
     private final GameGenreRepository gameGenreRepository;
-    private final GamePriceHistoryRepository priceHistoryRepository;
     private final MemberRepository memberRepository; // Proxy 조회용
 
     /**
@@ -43,6 +41,7 @@ public class WishlistService {
      * - 없으면 -> 저장 (return true)
      */
     @Transactional
+    @CacheEvict(cacheNames = GlobalCacheConfig.WATCHER_STATS_CACHE, key = "#gameId")
     public String toggleWishlist(Long memberId, Long gameId, Integer targetPrice) {
         Game game = gameRepository.findById(gameId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 게임을 찾을 수 없습니다."));
@@ -102,7 +101,7 @@ public class WishlistService {
     }
 
     /**
-     * 찜 목록에 장르 정보 및 가격 판정 매핑
+     * 찜 목록에 장르 정보 매핑 (가격 판정은 Game 컬럼에서 함께 조회됨)
      * - 게임 ID 리스트로 한 번에 조회하여 N+1 문제 방지
      */
     private void markGameGenre(List<WishlistResponse> wishlist) {
@@ -113,18 +112,5 @@ public class WishlistService {
                 .collect(Collectors.groupingBy(
                         GameGenreResult::getGameId, Collectors.mapping(GameGenreResult::getGenreName, Collectors.toList())));
         wishlist.forEach(dto -> dto.setGenres(gameGenreMap.getOrDefault(dto.getGameId(), List.of())));
-
-        Map<Long, Integer> historyCountMap = priceHistoryRepository.countGroupByGameId(gameIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> ((Long) arr[1]).intValue()
-                ));
-        wishlist.forEach(dto -> {
-            int historySize = historyCountMap.getOrDefault(dto.getGameId(), 0);
-            PriceVerdict verdict = PriceVerdictCalculator.forGame(
-                    dto.getCurrentPrice(), dto.getOriginalPrice(), dto.getLowestPrice(), historySize);
-            dto.setPriceVerdict(verdict.name());
-        });
     }
 }
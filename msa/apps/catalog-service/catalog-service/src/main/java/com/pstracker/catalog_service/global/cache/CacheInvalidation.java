@@ -0,0 +1,14 @@
+package com.pstracker.catalog_service.global.cache;
+
+/**
+ * 레플리카 간 L1 무효화 메시지.
+ * @param origin    발행한 인스턴스 ID (자기 자신이 보낸 메시지는 무시)
+ * @param cacheName 대상 캐시
+ * @param key       대상 키, null이면 캐시 전체
+ */
+public record CacheInvalidation(String origin, String cacheName, String key) {
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.pstracker.catalog_service.global.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * L1(Caffeine) 무효화를 모든 레플리카에 전파하는 채널.
+ * - 구현: LocalCacheInvalidationBus(단일 JVM 대용, 테스트용) / RedisCacheInvalidationBus(Redis pub/sub)
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
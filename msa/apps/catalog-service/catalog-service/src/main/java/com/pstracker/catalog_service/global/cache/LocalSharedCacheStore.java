@@ -0,0 +1,47 @@
+package com.pstracker.catalog_service.global.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 저장소 없이 L2를 흉내 내는 in-memory 구현 (cache.l2.type=local).
+ * 같은 인스턴스를 여러 TwoTierCache가 공유하면 한 JVM 안에서 다중 레플리카를 재현할 수 있다.
+ */
+public class LocalSharedCacheStore implements SharedCacheStore {
+
+    private record Entry(byte[] value, long expiresAt) {}
+
+    private final Map<String, Map<String, Entry>> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        Map<String, Entry> cache = caches.get(cacheName);
+        if (cache == null) return null;
+
+        Entry entry = cache.get(key);
+        if (entry == null) return null;
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            cache.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, Duration ttl) {
+        caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+                .put(key, new Entry(value, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        Map<String, Entry> cache = caches.get(cacheName);
+        if (cache != null) cache.remove(key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        caches.remove(cacheName);
+    }
+}
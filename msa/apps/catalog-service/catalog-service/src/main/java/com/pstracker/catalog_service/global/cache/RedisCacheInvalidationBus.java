@@ -0,0 +1,45 @@
+package com.pstracker.catalog_service.global.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 무효화 채널 (cache.l2.type=redis). 메시지는 CacheInvalidation JSON.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final ChannelTopic TOPIC = new ChannelTopic("pstracker:cache:invalidation");
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(TOPIC.getTopic(), objectMapper.writeValueAsBytes(invalidation));
+        } catch (IOException e) {
+            throw new IllegalStateException("캐시 무효화 메시지 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(objectMapper.readValue(message.getBody(), CacheInvalidation.class));
+            } catch (IOException e) {
+                log.warn("캐시 무효화 메시지 해석 실패: {}", e.getMessage());
+            }
+        }, TOPIC);
+    }
+}
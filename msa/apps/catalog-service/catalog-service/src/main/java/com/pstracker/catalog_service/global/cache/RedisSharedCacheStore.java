@@ -0,0 +1,72 @@
+package com.pstracker.catalog_service.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis L2 저장소 (cache.l2.type=redis). 키는 "pstracker:cache:{cacheName}::{key}".
+ * clear는 KEYS 대신 SCAN으로 해당 캐시 prefix만 지운다.
+ */
+@RequiredArgsConstructor
+public class RedisSharedCacheStore implements SharedCacheStore {
+
+    private static final String KEY_PREFIX = "pstracker:cache:";
+    private static final int SCAN_BATCH = 500;
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+
+    @Override
+    public byte[] get(String cacheName, String key) {
+        return redisTemplate.opsForValue().get(redisKey(cacheName, key));
+    }
+
+    @Override
+    public void put(String cacheName, String key, byte[] value, Duration ttl) {
+        redisTemplate.opsForValue().set(redisKey(cacheName, key), value, ttl);
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        redisTemplate.delete(redisKey(cacheName, key));
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(KEY_PREFIX + cacheName + "::*")
+                .count(SCAN_BATCH)
+                .build();
+
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            List<byte[]> batch = new ArrayList<>(SCAN_BATCH);
+            try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() == SCAN_BATCH) {
+                        delete(connection, batch);
+                    }
+                }
+            }
+            delete(connection, batch);
+            return null;
+        });
+    }
+
+    private static void delete(RedisConnection connection, List<byte[]> keys) {
+        if (keys.isEmpty()) return;
+        connection.keyCommands().del(keys.toArray(byte[][]::new));
+        keys.clear();
+    }
+
+    private static String redisKey(String cacheName, String key) {
+        return KEY_PREFIX + cacheName + "::" + key;
+    }
+}
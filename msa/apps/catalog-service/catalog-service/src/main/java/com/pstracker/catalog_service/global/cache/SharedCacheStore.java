@@ -0,0 +1,18 @@
+package com.pstracker.catalog_service.global.cache;
+
+import java.time.Duration;
+
+/**
+ * 레플리카가 함께 보는 L2 캐시 저장소. 값은 이미 직렬화된 byte[]로만 주고받는다.
+ * - 구현: LocalSharedCacheStore(단일 JVM 대용, 테스트용) / RedisSharedCacheStore(다중 레플리카)
+ */
+public interface SharedCacheStore {
+
+    byte[] get(String cacheName, String key);
+
+    void put(String cacheName, String key, byte[] value, Duration ttl);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+}
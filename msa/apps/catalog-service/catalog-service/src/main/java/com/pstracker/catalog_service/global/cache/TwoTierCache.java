@@ -0,0 +1,186 @@
+package com.pstracker.catalog_service.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * L1(Caffeine, 인스턴스 로컬) + L2(SharedCacheStore, 레플리카 공유) 2단 캐시.
+ * - 조회: L1 → L2(역직렬화 후 L1 적재) → 로더 실행 후 L1·L2 적재
+ * - put/evict/clear: L2에 먼저 반영한 뒤 무효화 메시지를 발행해 다른 레플리카의 L1만 비운다.
+ *   (다른 레플리카는 다음 조회에서 L2의 새 값을 읽음)
+ * - L2에는 JDK 직렬화한 byte[]를 저장하므로 캐시 값은 Serializable이어야 한다.
+ * - 키는 L1·L2·무효화 메시지 모두 String.valueOf(key)로 통일한다. (Long gameId도 문자열로)
+ * - L2 장애 시에는 예외를 삼키고 L1만으로 동작한다.
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final SharedCacheStore shared;
+    private final CacheInvalidationBus bus;
+    private final String origin;
+    private final Duration ttl;
+
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer = new DeserializingConverter();
+
+    private final Counter sharedHits;
+    private final Counter sharedMisses;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+                        SharedCacheStore shared,
+                        CacheInvalidationBus bus,
+                        String origin,
+                        Duration ttl,
+                        MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.local = local;
+        this.shared = shared;
+        this.bus = bus;
+        this.origin = origin;
+        this.ttl = ttl;
+        this.sharedHits = meterRegistry.counter("cache.l2.gets", "cache", name, "result", "hit");
+        this.sharedMisses = meterRegistry.counter("cache.l2.gets", "cache", name, "result", "miss");
+        bus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String k = String.valueOf(key);
+        Object value = local.getIfPresent(k);
+        if (value != null) return value;
+
+        value = readShared(k);
+        if (value != null) {
+            local.put(k, value);
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String k = String.valueOf(key);
+        return (T) fromStoreValue(local.get(k, ignored -> {
+            Object cached = readShared(k);
+            if (cached != null) return cached;
+
+            Object loaded;
+            try {
+                loaded = toStoreValue(valueLoader.call());
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            writeShared(k, loaded);
+            return loaded;
+        }));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String k = String.valueOf(key);
+        Object storeValue = toStoreValue(value);
+        writeShared(k, storeValue);
+        local.put(k, storeValue);
+        broadcast(k);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String k = String.valueOf(key);
+        evictShared(k);
+        local.invalidate(k);
+        broadcast(k);
+    }
+
+    @Override
+    public void clear() {
+        try {
+            shared.clear(name);
+        } catch (Exception e) {
+            log.warn("L2 캐시 clear 실패 ({}): {}", name, e.getMessage());
+        }
+        local.invalidateAll();
+        broadcast(null);
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (!name.equals(invalidation.cacheName()) || origin.equals(invalidation.origin())) return;
+
+        if (invalidation.isClear()) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(invalidation.key());
+        }
+    }
+
+    private Object readShared(String key) {
+        byte[] bytes;
+        try {
+            bytes = shared.get(name, key);
+        } catch (Exception e) {
+            log.warn("L2 캐시 조회 실패 ({} / {}): {}", name, key, e.getMessage());
+            return null;
+        }
+        if (bytes == null) {
+            sharedMisses.increment();
+            return null;
+        }
+
+        try {
+            Object value = deserializer.convert(bytes);
+            sharedHits.increment();
+            return value;
+        } catch (Exception e) {
+            // 배포로 클래스 구조가 바뀐 값 등 → 버리고 다시 계산
+            log.warn("L2 캐시 역직렬화 실패, 항목 폐기 ({} / {}): {}", name, key, e.getMessage());
+            sharedMisses.increment();
+            evictShared(key);
+            return null;
+        }
+    }
+
+    private void writeShared(String key, Object storeValue) {
+        try {
+            shared.put(name, key, serializer.convert(storeValue), ttl);
+        } catch (Exception e) {
+            log.warn("L2 캐시 저장 실패 ({} / {}): {}", name, key, e.getMessage());
+        }
+    }
+
+    private void evictShared(String key) {
+        try {
+            shared.evict(name, key);
+        } catch (Exception e) {
+            log.warn("L2 캐시 evict 실패 ({} / {}): {}", name, key, e.getMessage());
+        }
+    }
+
+    private void broadcast(String key) {
+        try {
+            bus.publish(new CacheInvalidation(origin, name, key));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 전파 실패 ({} / {}): {}", name, key, e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.pstracker.catalog_service.global.client.collector;
 
+import com.pstracker.catalog_service.global.client.collector.dto.CrawlShardRequest;
 import com.pstracker.catalog_service.global.client.collector.dto.CrawlTriggerRequest;
 import com.pstracker.catalog_service.global.client.collector.dto.ScrapingQueueRequest;
 import com.pstracker.catalog_service.global.client.collector.dto.SingleCrawlRequest;
@@ -13,6 +14,9 @@ public interface CollectorApiClient {
     @PostExchange("/run")
     String triggerBatchCrawl(@RequestBody CrawlTriggerRequest request);
 
+    @PostExchange("/run-shard")
+    String triggerShardCrawl(@RequestBody CrawlShardRequest request);
+
     @PostExchange("/run-ranking")
     String triggerRankingCrawl(@RequestBody CrawlTriggerRequest request);
 
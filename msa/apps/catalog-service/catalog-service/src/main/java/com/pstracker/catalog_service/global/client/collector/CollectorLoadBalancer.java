@@ -0,0 +1,200 @@
+package com.pstracker.catalog_service.global.client.collector;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * 수집기 선택 (최소 부하 + 상태 점수).
+ * - 수집기마다 진행 중 작업 수, 전송 지연(EWMA), 오류율(EWMA)을 기록한다.
+ * - acquire()는 쓸 수 있는 수집기 중 진행 중 작업이 가장 적은 곳을 고른다. 같으면 오류율 → 지연 순.
+ *   (한가한 정상 수집기를 먼저 고르므로 보통 전송 1번으로 끝난다)
+ * - 연속 오류가 eject-after-errors번이면 ejection 동안 빼고, 다시 실패할 때마다 2배(max-ejection 상한). 성공하면 초기화.
+ * - 바쁨(409)은 오류로 세지 않고 busy-backoff 동안만 건너뛴다.
+ * - 메트릭: crawler.collector.in_flight / latency / error_rate {collector}, crawler.collector.ejections{collector}
+ */
+@Slf4j
+@Component
+public class CollectorLoadBalancer {
+
+    // 지연·오류율 EWMA 가중치 (최근 전송 비중)
+    private static final double SMOOTHING = 0.3;
+
+    private final Settings settings;
+    private final Clock clock;
+    private final List<Collector> collectors = new ArrayList<>();
+
+    /**
+     * @param ejectAfterErrors 이만큼 연속 실패하면 제외
+     * @param ejection 첫 제외 시간 (반복되면 2배씩)
+     * @param maxEjection 제외 시간 상한
+     * @param busyBackoff 바쁨(409) 응답 후 건너뛰는 시간
+     */
+    record Settings(int ejectAfterErrors, Duration ejection, Duration maxEjection, Duration busyBackoff) {}
+
+    /**
+     * 수집기 1대의 부하·상태. 필드는 모두 CollectorLoadBalancer 락으로 보호.
+     */
+    public static final class Collector {
+        private final int index;
+        private final CollectorApiClient client;
+        private final Counter ejectionCounter;
+        private int inFlight;
+        private double latencyMillis = Double.NaN;
+        private double errorRate;
+        private int consecutiveErrors;
+        private int ejections;
+        private Instant unavailableUntil;
+
+        private Collector(int index, CollectorApiClient client, Counter ejectionCounter) {
+            this.index = index;
+            this.client = client;
+            this.ejectionCounter = ejectionCounter;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public CollectorApiClient client() {
+            return client;
+        }
+
+        private boolean available(Instant now, int maxInFlight) {
+            return inFlight < maxInFlight && (unavailableUntil == null || !now.isBefore(unavailableUntil));
+        }
+
+        private double latencyOrZero() {
+            return Double.isNaN(latencyMillis) ? 0 : latencyMillis;
+        }
+    }
+
+    @Autowired
+    public CollectorLoadBalancer(CollectorClientManager clientManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${crawler.balancer.eject-after-errors:3}") int ejectAfterErrors,
+                                 @Value("${crawler.balancer.ejection:PT30S}") Duration ejection,
+                                 @Value("${crawler.balancer.max-ejection:PT10M}") Duration maxEjection,
+                                 @Value("${crawler.balancer.busy-backoff:PT30S}") Duration busyBackoff) {
+        this(clientManager, meterRegistry, new Settings(ejectAfterErrors, ejection, maxEjection, busyBackoff),
+                Clock.systemUTC());
+    }
+
+    CollectorLoadBalancer(CollectorClientManager clientManager, MeterRegistry meterRegistry,
+                          Settings settings, Clock clock) {
+        this.settings = settings;
+        this.clock = clock;
+
+        List<CollectorApiClient> clients = clientManager.getAll();
+        for (int i = 0; i < clients.size(); i++) {
+            String tag = String.valueOf(i);
+            Collector collector = new Collector(i, clients.get(i),
+                    meterRegistry.counter("crawler.collector.ejections", "collector", tag));
+            collectors.add(collector);
+            Gauge.builder("crawler.collector.in_flight", this, balancer -> balancer.inFlight(collector))
+                    .tag("collector", tag).register(meterRegistry);
+            Gauge.builder("crawler.collector.latency", this, balancer -> balancer.latencyMillis(collector))
+                    .tag("collector", tag).baseUnit("milliseconds").register(meterRegistry);
+            Gauge.builder("crawler.collector.error_rate", this, balancer -> balancer.errorRate(collector))
+                    .tag("collector", tag).register(meterRegistry);
+        }
+    }
+
+    /**
+     * 지금 더 맡길 수 있는 작업 수 (제외·바쁨 수집기 빼고)
+     */
+    public synchronized int freeCapacity(int maxInFlightPerCollector) {
+        Instant now = clock.instant();
+        return collectors.stream()
+                .filter(collector -> collector.available(now, maxInFlightPerCollector))
+                .mapToInt(collector -> maxInFlightPerCollector - collector.inFlight)
+                .sum();
+    }
+
+    /**
+     * 가장 한가한 정상 수집기 자리를 잡는다. 전송 결과는 onSent·onBusy·onError 중 하나로, 작업이 끝나면 release로 알린다.
+     * @return 쓸 수 있는 수집기가 없으면 empty
+     */
+    public synchronized Optional<Collector> acquire(int maxInFlightPerCollector) {
+        Instant now = clock.instant();
+        Optional<Collector> picked = collectors.stream()
+                .filter(collector -> collector.available(now, maxInFlightPerCollector))
+                .min(Comparator.<Collector>comparingInt(collector -> collector.inFlight)
+                        .thenComparingDouble(collector -> collector.errorRate)
+                        .thenComparingDouble(Collector::latencyOrZero));
+        picked.ifPresent(collector -> collector.inFlight++);
+        return picked;
+    }
+
+    /**
+     * 전송 성공 — 자리는 작업이 끝날 때(release)까지 유지
+     */
+    public synchronized void onSent(Collector collector, Duration latency) {
+        recordLatency(collector, latency);
+        collector.errorRate = (1 - SMOOTHING) * collector.errorRate;
+        collector.consecutiveErrors = 0;
+        collector.ejections = 0;
+        collector.unavailableUntil = null;
+    }
+
+    /**
+     * 바쁨(409) — 자리를 반납하고 잠시 건너뛴다. 상태 점수에는 반영하지 않는다.
+     */
+    public synchronized void onBusy(Collector collector) {
+        collector.inFlight--;
+        collector.unavailableUntil = clock.instant().plus(settings.busyBackoff());
+    }
+
+    /**
+     * 전송 실패(연결 불가·5xx 등) — 자리를 반납하고, 연속 실패가 쌓이면 제외한다.
+     */
+    public synchronized void onError(Collector collector, Duration latency) {
+        collector.inFlight--;
+        recordLatency(collector, latency);
+        collector.errorRate = SMOOTHING + (1 - SMOOTHING) * collector.errorRate;
+        collector.consecutiveErrors++;
+        if (collector.consecutiveErrors < settings.ejectAfterErrors()) return;
+
+        Duration ejection = settings.ejection().multipliedBy(1L << Math.min(collector.ejections, 20));
+        if (ejection.compareTo(settings.maxEjection()) > 0) ejection = settings.maxEjection();
+        collector.ejections++;
+        collector.unavailableUntil = clock.instant().plus(ejection);
+        collector.ejectionCounter.increment();
+        log.warn("수집기 #{} 연속 실패 {}회 — {}초 동안 제외 (오류율 {})", collector.index, collector.consecutiveErrors,
+                ejection.toSeconds(), String.format("%.2f", collector.errorRate));
+    }
+
+    /**
+     * 작업 완료(콜백)·시간 초과로 자리 반납
+     */
+    public synchronized void release(Collector collector) {
+        if (collector.inFlight > 0) collector.inFlight--;
+    }
+
+    synchronized int inFlight(Collector collector) {
+        return collector.inFlight;
+    }
+
+    synchronized double latencyMillis(Collector collector) {
+        return collector.latencyMillis;
+    }
+
+    synchronized double errorRate(Collector collector) {
+        return collector.errorRate;
+    }
+
+    private static void recordLatency(Collector collector, Duration latency) {
+        double millis = latency.toNanos() / 1_000_000.0;
+        collector.latencyMillis = Double.isNaN(collector.latencyMillis) ? millis
+                : SMOOTHING * millis + (1 - SMOOTHING) * collector.latencyMillis;
+    }
+}
@@ -0,0 +1,8 @@
+package com.pstracker.catalog_service.global.client.collector.dto;
+
+import java.util.List;
+
+/**
+ * 업데이트 대상 샤드 1개 (CrawlShardDispatcher → 수집기 /run-shard). 끝나면 shardId로 완료 콜백을 보낸다.
+ */
+public record CrawlShardRequest(String secretKey, String shardId, List<String> urls) {}
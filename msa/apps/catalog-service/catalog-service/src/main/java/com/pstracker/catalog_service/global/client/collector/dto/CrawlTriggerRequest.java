@@ -2,9 +2,16 @@ package com.pstracker.catalog_service.global.client.collector.dto;
 
 import java.util.List;
 
-public record CrawlTriggerRequest(String secretKey, List<String> types) {
+/**
+ * @param shardId 디스패처가 준 탐색 작업 ID (있으면 Phase 1 없이 탐색만 하고 샤드 완료 콜백으로 알림)
+ */
+public record CrawlTriggerRequest(String secretKey, List<String> types, String shardId) {
     /** 기존 호출부 하위 호환 — types 없이 secretKey만 전달 시 전체 실행 */
     public CrawlTriggerRequest(String secretKey) {
-        this(secretKey, null);
+        this(secretKey, null, null);
+    }
+
+    public CrawlTriggerRequest(String secretKey, List<String> types) {
+        this(secretKey, types, null);
     }
 }
@@ -1,6 +1,7 @@
 package com.pstracker.catalog_service.global.client.igdb;
 
 import com.pstracker.catalog_service.catalog.dto.igdb.IgdbGameResponse;
+import com.pstracker.catalog_service.catalog.dto.igdb.IgdbMultiQueryResponse;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.service.annotation.HttpExchange;
@@ -17,4 +18,12 @@ public interface IgdbGameClient {
             @RequestHeader("Authorization") String authorization,
             @RequestBody String query
     );
+
+    // 여러 검색을 요청 1번에 묶어 보낸다 (요청당 최대 10개 쿼리)
+    @PostExchange(value = "/multiquery", contentType = "text/plain")
+    List<IgdbMultiQueryResponse> multiQuery(
+            @RequestHeader("Client-ID") String clientId,
+            @RequestHeader("Authorization") String authorization,
+            @RequestBody String query
+    );
 }
@@ -0,0 +1,149 @@
+package com.pstracker.catalog_service.global.client.igdb;
+
+import com.pstracker.catalog_service.catalog.dto.igdb.IgdbAuthResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * IGDB(Twitch) OAuth 액세스 토큰 관리.
+ * - 읽기는 AtomicReference 조회뿐이라 락이 없다.
+ * - 만료 refresh-before 전부터는 현재 토큰을 그대로 돌려주면서 백그라운드에서 미리 재발급한다.
+ * - 동시에 재발급이 필요해져도 발급 요청은 1번만 나가고, 나머지는 같은 Future를 기다린다. (토큰이 없거나 만료된 경우에만 대기)
+ * - 메트릭: igdb.token.refresh{outcome} 재발급 소요 시간, igdb.token.waits 재발급을 기다린 요청 수
+ */
+@Slf4j
+@Component
+public class IgdbTokenManager {
+
+    private final IgdbAuthClient igdbAuthClient;
+    private final Executor igdbExecutor;
+    private final String clientId;
+    private final String clientSecret;
+    private final Duration refreshBefore;
+    private final Clock clock;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter waits;
+
+    private final AtomicReference<AccessToken> current = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<AccessToken>> refreshing = new AtomicReference<>();
+
+    @Autowired
+    public IgdbTokenManager(IgdbAuthClient igdbAuthClient,
+                            Executor igdbExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${igdb.client-id}") String clientId,
+                            @Value("${igdb.client-secret}") String clientSecret,
+                            @Value("${igdb.token.refresh-before:P1D}") Duration refreshBefore) {
+        this(igdbAuthClient, igdbExecutor, meterRegistry, clientId, clientSecret, refreshBefore, Clock.systemUTC());
+    }
+
+    IgdbTokenManager(IgdbAuthClient igdbAuthClient, Executor igdbExecutor, MeterRegistry meterRegistry,
+                     String clientId, String clientSecret, Duration refreshBefore, Clock clock) {
+        this.igdbAuthClient = igdbAuthClient;
+        this.igdbExecutor = igdbExecutor;
+        this.clientId = clientId;
+        this.clientSecret = clientSecret;
+        this.refreshBefore = refreshBefore;
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.waits = meterRegistry.counter("igdb.token.waits");
+    }
+
+    /**
+     * @return 유효한 액세스 토큰. 발급 실패 시 예외
+     */
+    public String getToken() {
+        AccessToken token = current.get();
+        Instant now = clock.instant();
+        if (token != null && now.isBefore(token.expiresAt())) {
+            if (!now.isBefore(token.refreshAt())) {
+                refresh(); // 미리 재발급 (기다리지 않음)
+            }
+            return token.value();
+        }
+
+        waits.increment();
+        return refresh().join().value();
+    }
+
+    /**
+     * 401을 받은 토큰을 버린다. 그 사이 이미 새 토큰으로 바뀌었으면 아무것도 하지 않는다.
+     */
+    public void invalidate(String rejectedToken) {
+        AccessToken token = current.get();
+        if (token != null && token.value().equals(rejectedToken)) {
+            current.compareAndSet(token, null);
+        }
+    }
+
+    private CompletableFuture<AccessToken> refresh() {
+        while (true) {
+            CompletableFuture<AccessToken> inFlight = refreshing.get();
+            if (inFlight != null) return inFlight;
+
+            CompletableFuture<AccessToken> created = new CompletableFuture<>();
+            if (refreshing.compareAndSet(null, created)) {
+                try {
+                    igdbExecutor.execute(() -> issue(created));
+                } catch (RuntimeException e) {
+                    // 실행기가 거절하면(종료 중·포화) 이번 재발급을 실패로 끝내 다음 요청이 다시 시도하게 한다
+                    refreshing.compareAndSet(created, null);
+                    created.completeExceptionally(e);
+                    log.error("Failed to schedule IGDB token refresh: {}", e.getMessage());
+                }
+                return created;
+            }
+        }
+    }
+
+    private void issue(CompletableFuture<AccessToken> result) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            log.debug("Requesting new IGDB Access Token...");
+            IgdbAuthResponse response = igdbAuthClient.getAccessToken(clientId, clientSecret, "client_credentials");
+            if (response == null || response.accessToken() == null || response.expiresIn() == null) {
+                throw new IllegalStateException("IGDB Auth Failed");
+            }
+
+            AccessToken token = AccessToken.of(response.accessToken(), clock.instant(),
+                    Duration.ofSeconds(response.expiresIn()), refreshBefore);
+            current.set(token);
+            refreshing.set(null);
+            result.complete(token);
+            log.info("IGDB Token acquired! Expires in: {}s", response.expiresIn());
+        } catch (Exception e) {
+            outcome = "failure";
+            refreshing.set(null);
+            result.completeExceptionally(e);
+            log.error("Failed to get IGDB token: {}", e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("igdb.token.refresh", "outcome", outcome));
+        }
+    }
+
+    /**
+     * @param refreshAt 이 시각부터 백그라운드 재발급 시작 (수명이 짧은 토큰은 수명의 절반 지점)
+     */
+    private record AccessToken(String value, Instant refreshAt, Instant expiresAt) {
+
+        static AccessToken of(String value, Instant issuedAt, Duration lifetime, Duration refreshBefore) {
+            Duration margin = refreshBefore.compareTo(lifetime.dividedBy(2)) < 0 ? refreshBefore : lifetime.dividedBy(2);
+            Instant expiresAt = issuedAt.plus(lifetime);
+            return new AccessToken(value, expiresAt.minus(margin), expiresAt);
+        }
+    }
+}
@@ -2,16 +2,23 @@ package com.pstracker.catalog_service.global.config;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pstracker.catalog_service.global.cache.CacheInvalidationBus;
+import com.pstracker.catalog_service.global.cache.SharedCacheStore;
+import com.pstracker.catalog_service.global.cache.TwoTierCache;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
@@ -22,34 +29,28 @@ public class GlobalCacheConfig {
     public static final String INSIGHTS_CACHE = "insightsCache";
     public static final String CURATION_CACHE = "curationCache";
     public static final String PS_PLUS_PRICING_CACHE = "psPlusPricingCache";
+    public static final String WATCHER_STATS_CACHE = "watcherStatsCache";
 
-    public static final String INSIGHT_KEY_ALL_TIME_LOW = "'allTimeLow'";
-    public static final String INSIGHT_KEY_MUST_PLAY = "'mustPlay'";
-    public static final String INSIGHT_KEY_TOTAL_TRACKED = "'totalTracked'";
-    public static final String INSIGHT_KEY_DISCOUNT_SUMMARY = "'discountSummary'";
-    public static final String INSIGHT_KEY_LAST_SYNC = "'lastSync'";
-    public static final String INSIGHT_KEY_TOTAL_WISHED = "'totalWished'";
-    public static final String INSIGHT_KEY_CLOSING_SOON = "'closingSoon'";
-    public static final String INSIGHT_KEY_NEW_DISCOUNT = "'newDiscount'";
-    public static final String INSIGHT_KEY_PS5_PRO = "'insight_ps5_pro'";
-    public static final String INSIGHT_KEY_IN_CATALOG = "'insight_in_catalog'";
-    public static final String INSIGHT_KEY_PLUS_EXCLUSIVE = "'insight_plus_exclusive'";
-
-    public static final String INSIGHT_KEY_PT_SHORT = "'ptShort'";
-    public static final String INSIGHT_KEY_PT_MEDIUM = "'ptMedium'";
-    public static final String INSIGHT_KEY_PT_LONG = "'ptLong'";
-    public static final String INSIGHT_KEY_PT_EPIC = "'ptEpic'";
-
-    public static final String INSIGHT_KEY_VERDICT_BUY_NOW    = "'verdictBuyNow'";
-    public static final String INSIGHT_KEY_VERDICT_GOOD_OFFER = "'verdictGoodOffer'";
-    public static final String INSIGHT_KEY_VERDICT_WAIT       = "'verdictWait'";
-    public static final String INSIGHT_KEY_VERDICT_TRACKING   = "'verdictTracking'";
+    // 인사이트 대시보드 스냅샷 단일 키 (@Cacheable SpEL이 아닌 Cache API에서 직접 사용)
+    public static final String INSIGHT_KEY_SNAPSHOT = "insightsSnapshot";
 
     public static final String TRENDING_CACHE = "trendingCache";
     public static final String TRENDING_KEY_TOP_GAMES = "'trendingTopGames'";
 
+    // 무효화 메시지에서 자기 자신이 보낸 것을 걸러내기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 게임 상세·인사이트·큐레이션은 L2(SharedCacheConfig)가 구성되면 2단 캐시로 등록된다.
+     * L2가 없으면(cache.l2.type=none) 기존과 동일한 Caffeine 단독 캐시.
+     */
     @Bean
-    public CacheManager cacheManager(MeterRegistry meterRegistry) {
+    public CacheManager cacheManager(MeterRegistry meterRegistry,
+                                     ObjectProvider<SharedCacheStore> sharedCacheStore,
+                                     ObjectProvider<CacheInvalidationBus> cacheInvalidationBus) {
+        SharedCacheStore shared = sharedCacheStore.getIfAvailable();
+        CacheInvalidationBus bus = cacheInvalidationBus.getIfAvailable();
+
         // 1. 게임 상세 캐시 (전체 게임 수 ~2,000개 기준, 1GB 서버 메모리 고려)
         Cache<Object, Object> gameDetailNative = Caffeine.newBuilder()
                 .expireAfterWrite(24, TimeUnit.HOURS)
@@ -57,16 +58,18 @@ public class GlobalCacheConfig {
                 .recordStats()
                 .build();
         CaffeineCacheMetrics.monitor(meterRegistry, gameDetailNative, GAME_DETAIL_CACHE);
-        CaffeineCache gameDetailCache = new CaffeineCache(GAME_DETAIL_CACHE, gameDetailNative);
+        org.springframework.cache.Cache gameDetailCache = tiered(GAME_DETAIL_CACHE, gameDetailNative,
+                Duration.ofHours(24), shared, bus, meterRegistry);
 
-        // 2. 인사이트 통계 캐시
+        // 2. 인사이트 통계 캐시 (InsightsSnapshot 1건, 일배치 완료 시 통째로 교체)
         Cache<Object, Object> insightsNative = Caffeine.newBuilder()
                 .expireAfterWrite(24, TimeUnit.HOURS)
-                .maximumSize(50)
+                .maximumSize(1)
                 .recordStats()
                 .build();
         CaffeineCacheMetrics.monitor(meterRegistry, insightsNative, INSIGHTS_CACHE);
-        CaffeineCache insightsCache = new CaffeineCache(INSIGHTS_CACHE, insightsNative);
+        org.springframework.cache.Cache insightsCache = tiered(INSIGHTS_CACHE, insightsNative,
+                Duration.ofHours(24), shared, bus, meterRegistry);
 
         // 3. PS Plus 구독 가격 캐시 (단일 항목, 가격 변경 시 또는 일배치 완료 시 초기화)
         Cache<Object, Object> psPlusPricingNative = Caffeine.newBuilder()
@@ -84,7 +87,8 @@ public class GlobalCacheConfig {
                 .recordStats()
                 .build();
         CaffeineCacheMetrics.monitor(meterRegistry, curationNative, CURATION_CACHE);
-        CaffeineCache curationCache = new CaffeineCache(CURATION_CACHE, curationNative);
+        org.springframework.cache.Cache curationCache = tiered(CURATION_CACHE, curationNative,
+                Duration.ofHours(24), shared, bus, meterRegistry);
 
         // 5. 트렌딩(찜 TOP N) 캐시 (1시간 TTL — 찜 변화에 빠르게 반응)
         Cache<Object, Object> trendingNative = Caffeine.newBuilder()
@@ -95,8 +99,28 @@ public class GlobalCacheConfig {
         CaffeineCacheMetrics.monitor(meterRegistry, trendingNative, TRENDING_CACHE);
         CaffeineCache trendingCache = new CaffeineCache(TRENDING_CACHE, trendingNative);
 
+        // 6. 게임별 관심 통계 캐시 (찜 수·평균 목표가). 찜 변경 트랜잭션이 커밋된 뒤에 evict되도록 트랜잭션 인식 래핑
+        Cache<Object, Object> watcherStatsNative = Caffeine.newBuilder()
+                .expireAfterWrite(1, TimeUnit.HOURS)
+                .maximumSize(2_000)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, watcherStatsNative, WATCHER_STATS_CACHE);
+        org.springframework.cache.Cache watcherStatsCache = new TransactionAwareCacheDecorator(
+                tiered(WATCHER_STATS_CACHE, watcherStatsNative, Duration.ofHours(1), shared, bus, meterRegistry));
+
         SimpleCacheManager manager = new SimpleCacheManager();
-        manager.setCaches(List.of(gameDetailCache, insightsCache, psPlusPricingCache, curationCache, trendingCache));
+        manager.setCaches(List.of(gameDetailCache, insightsCache, psPlusPricingCache, curationCache, trendingCache,
+                watcherStatsCache));
         return manager;
     }
+
+    private org.springframework.cache.Cache tiered(String name, Cache<Object, Object> nativeCache, Duration ttl,
+                                                   SharedCacheStore shared, CacheInvalidationBus bus,
+                                                   MeterRegistry meterRegistry) {
+        if (shared == null || bus == null) {
+            return new CaffeineCache(name, nativeCache);
+        }
+        return new TwoTierCache(name, nativeCache, shared, bus, instanceId, ttl, meterRegistry);
+    }
 }
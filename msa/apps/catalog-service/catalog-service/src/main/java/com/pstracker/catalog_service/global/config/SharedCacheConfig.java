@@ -0,0 +1,74 @@
+package com.pstracker.catalog_service.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pstracker.catalog_service.global.cache.CacheInvalidationBus;
+import com.pstracker.catalog_service.global.cache.LocalCacheInvalidationBus;
+import com.pstracker.catalog_service.global.cache.LocalSharedCacheStore;
+import com.pstracker.catalog_service.global.cache.RedisCacheInvalidationBus;
+import com.pstracker.catalog_service.global.cache.RedisSharedCacheStore;
+import com.pstracker.catalog_service.global.cache.SharedCacheStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 2단 캐시(L1 Caffeine + L2 공유 저장소)의 L2 구성. cache.l2.type으로 선택한다.
+ * - none(기본): L2 없음. GlobalCacheConfig가 기존처럼 Caffeine 캐시만 등록 (단일 인스턴스 운영)
+ * - local: in-memory 대용 구현. 외부 의존 없이 2단 캐시 경로를 검증할 때(테스트) 사용
+ * - redis: Redis에 직렬화 값 저장 + pub/sub로 레플리카 간 L1 무효화 (다중 레플리카 운영)
+ */
+@Configuration
+public class SharedCacheConfig {
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "cache.l2", name = "type", havingValue = "local")
+    static class Local {
+
+        @Bean
+        public SharedCacheStore sharedCacheStore() {
+            return new LocalSharedCacheStore();
+        }
+
+        @Bean
+        public CacheInvalidationBus cacheInvalidationBus() {
+            return new LocalCacheInvalidationBus();
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "cache.l2", name = "type", havingValue = "redis")
+    static class Redis {
+
+        @Bean
+        public RedisTemplate<String, byte[]> sharedCacheRedisTemplate(RedisConnectionFactory connectionFactory) {
+            RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+            template.setConnectionFactory(connectionFactory);
+            template.setKeySerializer(RedisSerializer.string());
+            template.setValueSerializer(RedisSerializer.byteArray());
+            return template;
+        }
+
+        @Bean
+        public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            return container;
+        }
+
+        @Bean
+        public SharedCacheStore sharedCacheStore(RedisTemplate<String, byte[]> sharedCacheRedisTemplate) {
+            return new RedisSharedCacheStore(sharedCacheRedisTemplate);
+        }
+
+        @Bean
+        public CacheInvalidationBus cacheInvalidationBus(RedisTemplate<String, byte[]> sharedCacheRedisTemplate,
+                                                         RedisMessageListenerContainer cacheInvalidationListenerContainer,
+                                                         ObjectMapper objectMapper) {
+            return new RedisCacheInvalidationBus(sharedCacheRedisTemplate, cacheInvalidationListenerContainer, objectMapper);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.pstracker.catalog_service.global.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * SELECT ... FOR UPDATE SKIP LOCKED 지원 여부 (MySQL·PostgreSQL만, H2 테스트 DB는 미지원으로 본다).
+ * 큐 테이블을 여러 레플리카가 나눠 가져갈 때 쓴다. (JobLeaseJdbcRepository, PriceChangeOutboxJdbcRepository)
+ */
+@Component
+@RequiredArgsConstructor
+public class SkipLockedSupport {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean supported;
+
+    public boolean isSupported() {
+        Boolean result = supported;
+        if (result == null) {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            result = "MySQL".equalsIgnoreCase(product) || "PostgreSQL".equalsIgnoreCase(product);
+            supported = result;
+        }
+        return result;
+    }
+}
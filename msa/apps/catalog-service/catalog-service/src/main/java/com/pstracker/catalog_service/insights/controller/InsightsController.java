@@ -1,6 +1,7 @@
 package com.pstracker.catalog_service.insights.controller;
 
 import com.pstracker.catalog_service.insights.dto.DiscountSummaryResponse;
+import com.pstracker.catalog_service.insights.dto.InsightsSnapshot;
 import com.pstracker.catalog_service.insights.dto.TrendingGameResponse;
 import com.pstracker.catalog_service.insights.service.InsightsService;
 import lombok.RequiredArgsConstructor;
@@ -20,18 +21,20 @@ public class InsightsController {
 
     @GetMapping("/summary")
     public ResponseEntity<Map<String, Object>> getInsightsSummary() {
+        // 모든 카운터를 같은 시점의 스냅샷 1개에서 읽는다
+        InsightsSnapshot snapshot = insightsService.getSnapshot();
         Map<String, Object> response = new HashMap<>();
 
         // 1. 역대 최저가 게임 수
-        response.put("allTimeLowCount", insightsService.getAllTimeLowCount());
+        response.put("allTimeLowCount", snapshot.allTimeLowCount());
 
         // 2. 머스트 플레이 갓겜 수
-        response.put("mustPlayCount", insightsService.getMustPlayCount());
+        response.put("mustPlayCount", snapshot.mustPlayCount());
 
         // 3. 총 트래킹 중인 타이틀 수
-        response.put("totalTrackedCount", insightsService.getTotalTrackedCount());
+        response.put("totalTrackedCount", snapshot.totalTrackedCount());
 
-        DiscountSummaryResponse discount = insightsService.getDiscountSummary();
+        DiscountSummaryResponse discount = snapshot.discountSummary();
 
         // 4. 할인 중
         response.put("totalDiscountedGames", discount.totalDiscountedGames());
@@ -40,37 +43,37 @@ public class InsightsController {
         response.put("totalDiscountAmount", discount.totalDiscountAmount());
 
         // 6. 마지막 동기화 시간
-        response.put("lastSyncTime", insightsService.getLastSyncTime());
+        response.put("lastSyncTime", snapshot.lastSyncTime());
 
         // 7. 총 찜한 게임 수
-        response.put("totalWishlistCount", insightsService.getTotalWishlistCount());
+        response.put("totalWishlistCount", snapshot.totalWishlistCount());
 
         // 8. 마감 임박 게임 수
-        response.put("closingSoonCount", insightsService.getClosingSoonCount());
+        response.put("closingSoonCount", snapshot.closingSoonCount());
 
         // 9. 신규 할인 게임 수
-        response.put("newDiscountCount", insightsService.getNewDiscountCount());
+        response.put("newDiscountCount", snapshot.newDiscountCount());
 
         // 10. PS5 Pro 향상 게임 수
-        response.put("ps5ProCount", insightsService.getPs5ProEnhancedCount());
+        response.put("ps5ProCount", snapshot.ps5ProCount());
 
         // 11. 스페셜 카탈로그 게임 수
-        response.put("inCatalogCount", insightsService.getInCatalogCount());
+        response.put("inCatalogCount", snapshot.inCatalogCount());
 
         // 12. PLUS 전용 할인 게임 수
-        response.put("plusExclusiveCount", insightsService.getPlusExclusiveCount());
+        response.put("plusExclusiveCount", snapshot.plusExclusiveCount());
 
         // 13. 플레이타임 분포 구간별 카운트
-        response.put("ptShortCount", insightsService.getShortPlayTimeCount());
-        response.put("ptMediumCount", insightsService.getMediumPlayTimeCount());
-        response.put("ptLongCount", insightsService.getLongPlayTimeCount());
-        response.put("ptEpicCount", insightsService.getEpicPlayTimeCount());
+        response.put("ptShortCount", snapshot.ptShortCount());
+        response.put("ptMediumCount", snapshot.ptMediumCount());
+        response.put("ptLongCount", snapshot.ptLongCount());
+        response.put("ptEpicCount", snapshot.ptEpicCount());
 
         // 14. Verdict 현황 집계
-        response.put("verdictBuyNow", insightsService.getVerdictBuyNowCount());
-        response.put("verdictGoodOffer", insightsService.getVerdictGoodOfferCount());
-        response.put("verdictWait", insightsService.getVerdictWaitCount());
-        response.put("verdictTracking", insightsService.getVerdictTrackingCount());
+        response.put("verdictBuyNow", snapshot.verdictBuyNow());
+        response.put("verdictGoodOffer", snapshot.verdictGoodOffer());
+        response.put("verdictWait", snapshot.verdictWait());
+        response.put("verdictTracking", snapshot.verdictTracking());
 
         return ResponseEntity.ok(response);
     }
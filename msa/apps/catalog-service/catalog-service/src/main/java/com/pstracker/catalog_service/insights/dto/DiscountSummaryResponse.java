@@ -1,4 +1,6 @@
 package com.pstracker.catalog_service.insights.dto;
 
-public record DiscountSummaryResponse(long totalDiscountedGames, long totalDiscountAmount) {
+import java.io.Serializable;
+
+public record DiscountSummaryResponse(long totalDiscountedGames, long totalDiscountAmount) implements Serializable {
 }
@@ -0,0 +1,63 @@
+package com.pstracker.catalog_service.insights.dto;
+
+import com.pstracker.catalog_service.catalog.dto.GameInsightsAggregate;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 인사이트 대시보드 카운터 전체를 한 시점에 계산한 불변 스냅샷.
+ * 캐시에 통째로 교체(put)되므로 요청은 항상 같은 시점의 값 묶음을 본다.
+ */
+public record InsightsSnapshot(
+        long allTimeLowCount,
+        long mustPlayCount,
+        long totalTrackedCount,
+        DiscountSummaryResponse discountSummary,
+        String lastSyncTime,
+        long totalWishlistCount,
+        long closingSoonCount,
+        long newDiscountCount,
+        long ps5ProCount,
+        long inCatalogCount,
+        long plusExclusiveCount,
+        long ptShortCount,
+        long ptMediumCount,
+        long ptLongCount,
+        long ptEpicCount,
+        long verdictBuyNow,
+        long verdictGoodOffer,
+        long verdictWait,
+        long verdictTracking,
+        LocalDateTime builtAt
+) implements Serializable {
+
+    public static InsightsSnapshot of(GameInsightsAggregate games, long newDiscountCount, long totalWishlistCount) {
+        return new InsightsSnapshot(
+                value(games.allTimeLow()),
+                value(games.mustPlay()),
+                value(games.totalTracked()),
+                new DiscountSummaryResponse(value(games.totalDiscounted()), value(games.totalDiscountAmount())),
+                games.lastUpdated() != null ? games.lastUpdated().toString() : "기록 없음",
+                totalWishlistCount,
+                value(games.closingSoon()),
+                newDiscountCount,
+                value(games.ps5ProEnhanced()),
+                value(games.inCatalog()),
+                value(games.plusExclusive()),
+                value(games.ptShort()),
+                value(games.ptMedium()),
+                value(games.ptLong()),
+                value(games.ptEpic()),
+                value(games.verdictBuyNow()),
+                value(games.verdictGoodOffer()),
+                value(games.verdictWait()),
+                value(games.verdictTracking()),
+                LocalDateTime.now()
+        );
+    }
+
+    private static long value(Long count) {
+        return count != null ? count : 0L;
+    }
+}
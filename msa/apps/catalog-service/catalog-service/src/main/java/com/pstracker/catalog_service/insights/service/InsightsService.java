@@ -1,15 +1,17 @@
 package com.pstracker.catalog_service.insights.service;
 
 import com.pstracker.catalog_service.catalog.domain.Game;
-import com.pstracker.catalog_service.catalog.repository.GamePriceHistoryRepository;
+import com.pstracker.catalog_service.catalog.dto.GameInsightsAggregate;
 import com.pstracker.catalog_service.catalog.repository.GameRepository;
 import com.pstracker.catalog_service.insights.dto.TrendingGameResponse;
 import com.pstracker.catalog_service.catalog.repository.WishlistRepository;
 import com.pstracker.catalog_service.global.domain.PriceVerdict;
-import com.pstracker.catalog_service.global.util.PriceVerdictCalculator;
-import com.pstracker.catalog_service.insights.dto.DiscountSummaryResponse;
+import com.pstracker.catalog_service.insights.dto.InsightsSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
@@ -17,11 +19,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.pstracker.catalog_service.global.config.GlobalCacheConfig.*;
@@ -32,153 +35,70 @@ import static com.pstracker.catalog_service.global.config.GlobalCacheConfig.*;
 @Transactional(readOnly = true)
 public class InsightsService {
 
+    private static final String SNAPSHOT_BUILD_TIMER = "insights.snapshot.build";
+
     private final GameRepository gameRepository;
     private final WishlistRepository wishlistRepository;
-    private final GamePriceHistoryRepository priceHistoryRepository;
     private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * 역대 최저가 타이틀 수 조회
-     * @return 역대 최저가 타이틀 수
-     */
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_ALL_TIME_LOW)
-    public long getAllTimeLowCount() {
-        return gameRepository.countAllTimeLowGamesFast();
-    }
-
-    /**
-     * 머스트 플레이 타이틀 수 조회
-     * @return 머스트 플레이 타이틀 수
+     * 인사이트 대시보드 스냅샷 조회.
+     * 캐시에 없을 때만 계산하며, Caffeine get(key, loader)가 동시 요청을 1번의 계산으로 합친다.
      */
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_MUST_PLAY)
-    public long getMustPlayCount() {
-        return gameRepository.countMustPlayGames();
-    }
-
-    /**
-     * 총 트래킹 타이틀 수 조회
-     * @return 총 트래킹 타이틀 수
-     */
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_TOTAL_TRACKED)
-    public long getTotalTrackedCount() {
-        return gameRepository.count();
-    }
-
-    /**
-     * 할인 요약 정보 조회
-     * @return 할인 요약 정보 (총 할인 타이틀 수, 총 할인 금액 등)
-     */
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_DISCOUNT_SUMMARY)
-    public DiscountSummaryResponse getDiscountSummary() {
-        long totalDiscounted = gameRepository.countTotalDiscountedGames();
-        Long dbTotalAmount = gameRepository.sumTotalDiscountAmount();
-        long actualTotalAmount = (dbTotalAmount != null) ? dbTotalAmount : 0L;
-        return new DiscountSummaryResponse(totalDiscounted, actualTotalAmount);
-    }
-
-    /**
-     * 인사이트 캐시 초기화 (관리자 기능 + 배치 스케줄러 종료 후 호출)
-     */
-    public void refreshInsightsCache() {
-        var cache = cacheManager.getCache(INSIGHTS_CACHE);
-        if (cache != null) {
-            cache.clear();
-            log.info("Insights 로컬 캐시(Caffeine) 전체 초기화 완료.");
-        }
-    }
-
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_LAST_SYNC)
-    public String getLastSyncTime() {
-        LocalDateTime lastUpdateTime = gameRepository.findLatestUpdateDateTime();
-        return lastUpdateTime != null ? lastUpdateTime.toString() : "기록 없음";
-    }
-
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_TOTAL_WISHED)
-    public long getTotalWishlistCount() {
-        return wishlistRepository.count();
+    public InsightsSnapshot getSnapshot() {
+        return insightsCache().get(INSIGHT_KEY_SNAPSHOT, this::buildSnapshot);
     }
 
     /**
      * 마감 임박(오늘 또는 내일 할인 종료) 게임 수 조회
      */
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_CLOSING_SOON)
     public long getClosingSoonCount() {
-        LocalDate tomorrow = LocalDate.now().plusDays(1);
-        return gameRepository.countClosingSoonGames(tomorrow);
+        return getSnapshot().closingSoonCount();
     }
 
     /**
      * 오늘 새롭게 할인이 시작된 게임 수 조회
      */
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_NEW_DISCOUNT)
     public long getNewDiscountCount() {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = LocalDate.now().atTime(LocalTime.MAX);
-        return gameRepository.countNewDiscountGames(startOfDay, endOfDay);
-    }
-
-    /**
-     * 할인 중인 PS5 Pro 향상 게임 수 조회
-     */
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_PS5_PRO)
-    public long getPs5ProEnhancedCount() {
-        return gameRepository.countPs5ProEnhancedDeals();
+        return getSnapshot().newDiscountCount();
     }
 
     /**
-     * 할인 중인 스페셜 카탈로그 게임 수 조회
+     * 인사이트 캐시 갱신 (관리자 기능 + 배치 스케줄러 종료 후 호출)
+     * - 새 스냅샷을 먼저 계산한 뒤 put으로 통째로 교체 → 갱신 직후 첫 요청도 콜드 집계를 기다리지 않는다.
+     * - 계산 실패 시에는 기존 스냅샷을 비워 다음 요청에서 다시 계산하게 한다.
      */
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_IN_CATALOG)
-    public long getInCatalogCount() {
-        return gameRepository.countInCatalogDeals();
+    public void refreshInsightsCache() {
+        Cache cache = insightsCache();
+        try {
+            cache.put(INSIGHT_KEY_SNAPSHOT, buildSnapshot());
+            log.info("Insights 스냅샷 교체 완료.");
+        } catch (Exception e) {
+            cache.evict(INSIGHT_KEY_SNAPSHOT);
+            log.error("Insights 스냅샷 생성 실패. 다음 요청에서 다시 계산합니다.", e);
+        }
     }
 
     /**
-     * PLUS 전용 할인 게임 수 조회
+     * games 조건부 집계 1번 + 오늘 신규 할인(가격 이력) 1번 + 찜 개수 1번으로 전체 카운터를 계산
      */
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_PLUS_EXCLUSIVE)
-    public long getPlusExclusiveCount() {
-        return gameRepository.countPlusExclusiveDeals();
-    }
+    private InsightsSnapshot buildSnapshot() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        LocalDate today = LocalDate.now();
 
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_PT_SHORT)
-    public long getShortPlayTimeCount() {
-        return gameRepository.countShortPlayTimeGames();
-    }
+        GameInsightsAggregate games = gameRepository.aggregateInsights(today.plusDays(1));
+        long newDiscountCount = gameRepository.countNewDiscountGames(today.atStartOfDay(), today.atTime(LocalTime.MAX));
+        long totalWishlistCount = wishlistRepository.count();
+        InsightsSnapshot snapshot = InsightsSnapshot.of(games, newDiscountCount, totalWishlistCount);
 
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_PT_MEDIUM)
-    public long getMediumPlayTimeCount() {
-        return gameRepository.countMediumPlayTimeGames();
+        long elapsed = sample.stop(meterRegistry.timer(SNAPSHOT_BUILD_TIMER));
+        log.info("Insights 스냅샷 생성 ({}ms)", TimeUnit.NANOSECONDS.toMillis(elapsed));
+        return snapshot;
     }
 
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_PT_LONG)
-    public long getLongPlayTimeCount() {
-        return gameRepository.countLongPlayTimeGames();
-    }
-
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_PT_EPIC)
-    public long getEpicPlayTimeCount() {
-        return gameRepository.countEpicPlayTimeGames();
-    }
-
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_VERDICT_BUY_NOW)
-    public long getVerdictBuyNowCount() {
-        return gameRepository.countVerdictBuyNow();
-    }
-
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_VERDICT_GOOD_OFFER)
-    public long getVerdictGoodOfferCount() {
-        return gameRepository.countVerdictGoodOffer();
-    }
-
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_VERDICT_WAIT)
-    public long getVerdictWaitCount() {
-        return gameRepository.countVerdictWait();
-    }
-
-    @Cacheable(cacheNames = INSIGHTS_CACHE, key = INSIGHT_KEY_VERDICT_TRACKING)
-    public long getVerdictTrackingCount() {
-        return gameRepository.countVerdictTracking();
+    private Cache insightsCache() {
+        return Objects.requireNonNull(cacheManager.getCache(INSIGHTS_CACHE));
     }
 
     @Cacheable(cacheNames = TRENDING_CACHE, key = TRENDING_KEY_TOP_GAMES)
@@ -189,20 +109,11 @@ public class InsightsService {
         Map<Long, Game> gameMap = gameRepository.findAllById(topGameIds).stream()
                 .collect(Collectors.toMap(Game::getId, g -> g));
 
-        Map<Long, Integer> historyCountMap = priceHistoryRepository.countGroupByGameId(topGameIds)
-                .stream()
-                .collect(Collectors.toMap(
-                        arr -> (Long) arr[0],
-                        arr -> ((Long) arr[1]).intValue()
-                ));
-
         List<TrendingGameResponse> result = new ArrayList<>();
         for (int i = 0; i < topGameIds.size(); i++) {
             Game game = gameMap.get(topGameIds.get(i));
             if (game == null) continue;
-            int historySize = historyCountMap.getOrDefault(game.getId(), 0);
-            PriceVerdict verdict = PriceVerdictCalculator.forGame(
-                    game.getCurrentPrice(), game.getOriginalPrice(), game.getAllTimeLowPrice(), historySize);
+            PriceVerdict verdict = game.getPriceVerdict() != null ? game.getPriceVerdict() : PriceVerdict.TRACKING;
             result.add(new TrendingGameResponse(
                     i + 1,
                     game.getId(),
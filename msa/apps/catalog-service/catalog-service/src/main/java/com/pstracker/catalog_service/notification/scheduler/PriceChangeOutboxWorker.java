@@ -0,0 +1,218 @@
+package com.pstracker.catalog_service.notification.scheduler;
+
+import com.pstracker.catalog_service.catalog.repository.PriceChangeOutboxRepository;
+import com.pstracker.catalog_service.notification.service.FcmService;
+import com.pstracker.catalog_service.notification.service.PriceDropNotificationService;
+import com.pstracker.catalog_service.notification.service.PriceDropNotificationService.Batch;
+import com.pstracker.catalog_service.notification.service.PriceDropNotificationService.PushMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가격 하락 아웃박스 드레인.
+ * - poll-interval마다 대기 행이 없어질 때까지 batch-size씩 처리한다. (묶음 1개 = 트랜잭션 1개, 행 선점은 SKIP LOCKED)
+ * - 묶음이 실패하면 반씩 나눠 다시 처리해 실패하는 행만 골라내고, 그 행의 시도 횟수만 올린다. (정상 행은 그대로 처리)
+ *   max-attempts에 닿은 행은 데드레터로 남기고(로그·메트릭), dead-letter-retention이 지나면 지운다.
+ * - 푸시는 커밋 이후 최대 push-concurrency개만 동시에 보낸다.
+ * - 메트릭: notification.outbox.events{result=processed|failed|dead_lettered} 처리량, notification.outbox.pushes{outcome} 푸시 결과,
+ *   notification.outbox.batch 묶음 처리 시간, notification.outbox.delivery.lag 하락 기록 → 알림 저장까지 걸린 시간,
+ *   notification.outbox.pending / notification.outbox.lag.seconds 남은 행 수와 가장 오래된 대기 행의 나이,
+ *   notification.outbox.dead_letter 데드레터 행 수
+ */
+@Slf4j
+@Component
+public class PriceChangeOutboxWorker {
+
+    private final PriceDropNotificationService notificationService;
+    private final PriceChangeOutboxRepository outboxRepository;
+    private final FcmService fcmService;
+    private final int batchSize;
+    private final int pushConcurrency;
+    private final int maxAttempts;
+    private final Duration deadLetterRetention;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter processedEvents;
+    private final Counter failedEvents;
+    private final Counter deadLetteredEvents;
+    private final Counter savedNotifications;
+    private final Counter sentPushes;
+    private final Counter failedPushes;
+    private final Timer deliveryLag;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private final AtomicLong deadLetters = new AtomicLong();
+
+    public PriceChangeOutboxWorker(PriceDropNotificationService notificationService,
+                                   PriceChangeOutboxRepository outboxRepository,
+                                   FcmService fcmService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${notification.outbox.batch-size:200}") int batchSize,
+                                   @Value("${notification.outbox.push-concurrency:8}") int pushConcurrency,
+                                   @Value("${notification.outbox.max-attempts:5}") int maxAttempts,
+                                   @Value("${notification.outbox.dead-letter-retention:P7D}") Duration deadLetterRetention) {
+        this.notificationService = notificationService;
+        this.outboxRepository = outboxRepository;
+        this.fcmService = fcmService;
+        this.batchSize = batchSize;
+        this.pushConcurrency = pushConcurrency;
+        this.maxAttempts = maxAttempts;
+        this.deadLetterRetention = deadLetterRetention;
+        this.meterRegistry = meterRegistry;
+        this.processedEvents = meterRegistry.counter("notification.outbox.events", "result", "processed");
+        this.failedEvents = meterRegistry.counter("notification.outbox.events", "result", "failed");
+        this.deadLetteredEvents = meterRegistry.counter("notification.outbox.events", "result", "dead_lettered");
+        this.savedNotifications = meterRegistry.counter("notification.outbox.notifications");
+        this.sentPushes = meterRegistry.counter("notification.outbox.pushes", "outcome", "sent");
+        this.failedPushes = meterRegistry.counter("notification.outbox.pushes", "outcome", "failed");
+        this.deliveryLag = meterRegistry.timer("notification.outbox.delivery.lag");
+        meterRegistry.gauge("notification.outbox.pending", pending);
+        meterRegistry.gauge("notification.outbox.lag.seconds", lagSeconds);
+        meterRegistry.gauge("notification.outbox.dead_letter", deadLetters);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval:PT5S}")
+    public void drain() {
+        int processed = 0;
+        while (true) {
+            List<Long> ids;
+            try {
+                ids = notificationService.findPendingIds(batchSize, maxAttempts);
+            } catch (Exception e) {
+                log.error("❌ 가격 하락 아웃박스 조회 실패: {}", e.getMessage());
+                break;
+            }
+            if (ids.isEmpty()) break;
+
+            int events;
+            try {
+                events = process(ids);
+            } catch (Exception e) {
+                log.warn("가격 하락 아웃박스 묶음 처리 실패, 실패 행을 나눠서 찾습니다 ({}건): {}", ids.size(), e.getMessage());
+                try {
+                    processed += isolate(ids, e);
+                } catch (Exception markError) {
+                    log.error("❌ 가격 하락 아웃박스 시도 횟수 갱신 실패, 격리 중단: {}", markError.getMessage());
+                }
+                break; // 실패 행은 다음 주기에 다시 시도
+            }
+            // 다른 레플리카가 이미 잡고 있는 묶음 — 그쪽이 처리하도록 이번 주기는 양보
+            if (events == 0) break;
+
+            processed += events;
+            if (ids.size() < batchSize) break;
+        }
+
+        purgeDeadLetters();
+        refreshBacklog();
+        if (processed > 0) {
+            log.info("🔔 가격 하락 아웃박스 {}건 처리 (남은 {}건)", processed, pending.get());
+        }
+    }
+
+    /**
+     * 묶음 1개 처리 후 푸시 발송
+     * @return 처리한 행 수
+     */
+    private int process(List<Long> ids) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Batch batch = notificationService.processBatch(ids, maxAttempts);
+        if (batch.events() == 0) return 0;
+
+        deliveryLag.record(Duration.between(batch.oldestCreatedAt(), LocalDateTime.now()));
+        sendAll(batch.pushes());
+        sample.stop(meterRegistry.timer("notification.outbox.batch"));
+
+        processedEvents.increment(batch.events());
+        savedNotifications.increment(batch.notifications());
+        return batch.events();
+    }
+
+    /**
+     * 실패한 묶음을 반씩 나눠 다시 처리한다. 정상인 절반은 그대로 커밋되고, 혼자서도 실패하는 행만 시도 횟수를 올린다.
+     * (실패 행 k개면 트랜잭션 약 2k·log2(n)번. 시도 횟수 갱신이 실패하면 DB 장애로 보고 예외를 그대로 던져 중단)
+     * @return 처리한 행 수
+     */
+    private int isolate(List<Long> ids, Exception cause) {
+        if (ids.size() == 1) {
+            markFailed(ids.get(0), cause);
+            return 0;
+        }
+        int mid = ids.size() / 2;
+        return retry(ids.subList(0, mid)) + retry(ids.subList(mid, ids.size()));
+    }
+
+    private int retry(List<Long> ids) {
+        try {
+            return process(ids);
+        } catch (Exception e) {
+            return isolate(ids, e);
+        }
+    }
+
+    private void markFailed(Long id, Exception cause) {
+        boolean deadLettered = notificationService.markFailed(id, maxAttempts, cause.getMessage());
+        (deadLettered ? deadLetteredEvents : failedEvents).increment();
+        log.error("❌ 가격 하락 아웃박스 처리 실패 (id={}{}): {}", id, deadLettered ? ", 데드레터" : "", cause.getMessage());
+    }
+
+    /**
+     * 회원별 푸시를 가상 스레드로 보내되 동시에 pushConcurrency개까지만 (FCM 호출 폭주 방지). 모두 끝날 때까지 기다린다.
+     */
+    private void sendAll(List<PushMessage> pushes) {
+        if (pushes.isEmpty()) return;
+
+        Semaphore permits = new Semaphore(pushConcurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (PushMessage push : pushes) {
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        fcmService.sendMulticastMessage(push.tokens(), push.title(), push.body(), push.data());
+                        sentPushes.increment();
+                    } catch (Exception e) {
+                        failedPushes.increment();
+                        log.error("❌ Failed to send FCM for Member {}: {}", push.memberId(), e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void purgeDeadLetters() {
+        try {
+            int purged = notificationService.purgeDeadLetters(maxAttempts, LocalDateTime.now().minus(deadLetterRetention));
+            if (purged > 0) {
+                log.info("가격 하락 아웃박스 데드레터 {}건 정리 (보관 {})", purged, deadLetterRetention);
+            }
+        } catch (Exception e) {
+            log.warn("가격 하락 아웃박스 데드레터 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void refreshBacklog() {
+        try {
+            pending.set(outboxRepository.countPending(maxAttempts));
+            LocalDateTime oldest = outboxRepository.findOldestPendingCreatedAt(maxAttempts);
+            lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+            deadLetters.set(outboxRepository.countDeadLetters(maxAttempts));
+        } catch (Exception e) {
+            log.warn("가격 하락 아웃박스 적체 조회 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.pstracker.catalog_service.notification.service;
+
+import com.pstracker.catalog_service.catalog.domain.PriceChangeOutbox;
+import com.pstracker.catalog_service.catalog.domain.Wishlist;
+import com.pstracker.catalog_service.catalog.event.GamePriceChangedEvent;
+import com.pstracker.catalog_service.catalog.repository.PriceChangeOutboxJdbcRepository;
+import com.pstracker.catalog_service.catalog.repository.PriceChangeOutboxRepository;
+import com.pstracker.catalog_service.catalog.repository.WishlistRepository;
+import com.pstracker.catalog_service.member.domain.Member;
+import com.pstracker.catalog_service.notification.domain.FcmToken;
+import com.pstracker.catalog_service.notification.domain.Notification;
+import com.pstracker.catalog_service.notification.repository.FcmTokenRepository;
+import com.pstracker.catalog_service.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 가격 하락 아웃박스 → 알림 변환 (PriceChangeOutboxWorker에서 묶음 단위로 호출).
+ * - 아웃박스 한 묶음의 찜 목록·FCM 토큰은 IN절 1번씩만 조회한다.
+ * - DB 알림은 (회원, 게임)마다 1건, 푸시는 회원마다 1건으로 묶는다. (여러 게임이 한꺼번에 내려가면 요약 푸시)
+ * - 알림 저장과 아웃박스 삭제는 한 트랜잭션이고, 푸시 발송은 커밋 이후 워커가 한다.
+ * - 행은 FOR UPDATE SKIP LOCKED로 선점하므로 레플리카가 여럿이어도 같은 하락을 두 번 알리지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceDropNotificationService {
+
+    private final PriceChangeOutboxRepository outboxRepository;
+    private final PriceChangeOutboxJdbcRepository outboxJdbcRepository;
+    private final WishlistRepository wishlistRepository;
+    private final NotificationRepository notificationRepository;
+    private final FcmTokenRepository fcmTokenRepository;
+
+    /**
+     * 회원 1명에게 보낼 푸시 1건
+     */
+    public record PushMessage(Long memberId, List<FcmToken> tokens, String title, String body, Map<String, String> data) {}
+
+    /**
+     * @param events 처리한 아웃박스 행 수
+     * @param notifications 저장한 DB 알림 수
+     * @param oldestCreatedAt 묶음에서 가장 오래된 하락 기록 시각 (없으면 null)
+     */
+    public record Batch(int events, int notifications, List<PushMessage> pushes, LocalDateTime oldestCreatedAt) {
+        static final Batch EMPTY = new Batch(0, 0, List.of(), null);
+    }
+
+    private record Alert(GamePriceChangedEvent event, String dbTitle, String pushTitle, String message) {}
+
+    /**
+     * 대기 중인 아웃박스 id를 오래된 순으로 최대 batchSize건 (잠그지 않음, 선점은 processBatch에서)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findPendingIds(int batchSize, int maxAttempts) {
+        return outboxRepository.findPendingIds(maxAttempts, PageRequest.of(0, batchSize));
+    }
+
+    /**
+     * ids 중 다른 레플리카가 잡지 않은 대기 행을 선점(SKIP LOCKED)해 DB 알림을 저장하고 행을 지운다.
+     * 실패하면 묶음 전체가 롤백되고 시도 횟수는 그대로다. (실패 행 격리는 워커가 나눠서 다시 호출)
+     * @return 커밋 이후 보낼 푸시 목록 (선점한 행이 없으면 events = 0)
+     */
+    @Transactional
+    public Batch processBatch(List<Long> ids, int maxAttempts) {
+        List<Long> lockedIds = outboxJdbcRepository.lockPending(ids, maxAttempts);
+        if (lockedIds.isEmpty()) return Batch.EMPTY;
+        List<PriceChangeOutbox> rows = outboxRepository.findAllByIdInOrderByIdAsc(lockedIds);
+
+        // 같은 게임이 묶음 안에서 여러 번 내려갔으면 마지막 하락만 알린다 (id 오름차순이라 나중 행이 덮어씀)
+        Map<Long, GamePriceChangedEvent> latestByGameId = new LinkedHashMap<>();
+        rows.forEach(row -> latestByGameId.put(row.getGameId(), row.toEvent()));
+
+        List<Notification> notifications = new ArrayList<>();
+        Map<Long, List<Alert>> pushAlertsByMemberId = new LinkedHashMap<>();
+        for (Wishlist wish : wishlistRepository.findAllByGameIdInWithMember(latestByGameId.keySet())) {
+            GamePriceChangedEvent event = latestByGameId.get(wish.getGame().getId());
+            Member member = wish.getMember();
+            Alert alert = alertOf(event, wish.getTargetPrice());
+
+            notifications.add(Notification.create(member, alert.dbTitle(), alert.message(), event.getGameId()));
+            if (member.isPriceAlertEnabled()) {
+                pushAlertsByMemberId.computeIfAbsent(member.getId(), id -> new ArrayList<>()).add(alert);
+            }
+        }
+        notificationRepository.saveAll(notifications);
+
+        List<PushMessage> pushes = pushAlertsByMemberId.isEmpty() ? List.of()
+                : toPushMessages(pushAlertsByMemberId);
+
+        outboxRepository.deleteByIds(rows.stream().map(PriceChangeOutbox::getId).toList());
+        return new Batch(rows.size(), notifications.size(), pushes, rows.get(0).getCreatedAt());
+    }
+
+    /**
+     * 단독으로도 처리에 실패한 행 1건의 시도 횟수를 올린다. 최대 횟수에 닿으면 데드레터로 남기고 내용을 로그로 남긴다.
+     * @return 이번 실패로 데드레터가 되었으면 true
+     */
+    @Transactional
+    public boolean markFailed(Long id, int maxAttempts, String reason) {
+        if (outboxRepository.increaseAttempts(List.of(id)) == 0) return false;
+
+        PriceChangeOutbox row = outboxRepository.findById(id).orElse(null);
+        if (row == null || row.getAttempts() < maxAttempts) return false;
+
+        log.error("가격 하락 아웃박스 데드레터 (id={}, gameId={}, psStoreId={}, {}원 → {}원, 기록 {}): {}회 실패 — {}",
+                row.getId(), row.getGameId(), row.getPsStoreId(), row.getOldPrice(), row.getNewPrice(),
+                row.getCreatedAt(), row.getAttempts(), reason);
+        return true;
+    }
+
+    /**
+     * 보관 기간이 지난 데드레터 정리
+     */
+    @Transactional
+    public int purgeDeadLetters(int maxAttempts, LocalDateTime createdBefore) {
+        return outboxRepository.deleteDeadLettersCreatedBefore(maxAttempts, createdBefore);
+    }
+
+    private List<PushMessage> toPushMessages(Map<Long, List<Alert>> alertsByMemberId) {
+        Map<Long, List<FcmToken>> tokensByMemberId = fcmTokenRepository
+                .findAllByMemberIdInWithMember(List.copyOf(alertsByMemberId.keySet())).stream()
+                .collect(Collectors.groupingBy(t -> t.getMember().getId()));
+
+        List<PushMessage> pushes = new ArrayList<>();
+        alertsByMemberId.forEach((memberId, alerts) -> {
+            List<FcmToken> tokens = tokensByMemberId.get(memberId);
+            if (tokens == null || tokens.isEmpty()) return;
+
+            Alert first = alerts.get(0);
+            if (alerts.size() == 1) {
+                pushes.add(new PushMessage(memberId, tokens, first.pushTitle(), first.message(),
+                        Map.of("url", "/games?game=" + first.event().getGameId())));
+            } else {
+                pushes.add(new PushMessage(memberId, tokens,
+                        String.format("찜한 게임 %d개의 가격이 내려갔어요!", alerts.size()),
+                        String.format("%s 외 %d개 게임이 할인 중이에요.", shorten(first.event().getGameName()), alerts.size() - 1),
+                        Map.of("url", "/wishlist")));
+            }
+        });
+        return pushes;
+    }
+
+    private static Alert alertOf(GamePriceChangedEvent event, Integer targetPrice) {
+        String shortGameName = shorten(event.getGameName());
+        int currentPrice = event.getNewPrice();
+
+        if (targetPrice != null && targetPrice > 0) {
+            if (currentPrice <= targetPrice) {
+                // 시나리오 A: 현재가가 목표가 도달
+                return new Alert(event,
+                        "[목표 가격 도달] " + event.getGameName(),
+                        "목표 가격 도달! " + shortGameName,
+                        String.format("드디어 목표가(%s원)에 도달했습니다! 현재가: %s원.",
+                                String.format("%,d", targetPrice), String.format("%,d", currentPrice)));
+            }
+            // 시나리오 B: 할인은 했지만 목표가보단 비쌈
+            return new Alert(event,
+                    "[할인 시작] " + event.getGameName(),
+                    "할인이 시작되었어요! " + shortGameName,
+                    String.format("목표가(%s원)까진 아직 멀었지만, 현재 %s원(%d%% 할인)으로 떨어졌습니다.",
+                            String.format("%,d", targetPrice), String.format("%,d", currentPrice), event.getDiscountRate()));
+        }
+        // 시나리오 C: 일반 찜 (목표가 없음)
+        return new Alert(event,
+                "[가격 하락] " + event.getGameName(),
+                "가격 하락! " + shortGameName,
+                String.format("가격이 %s원으로 내려갔어요! (%d%% 할인)",
+                        String.format("%,d", currentPrice), event.getDiscountRate()));
+    }
+
+    private static String shorten(String gameName) {
+        return gameName.length() > 20 ? gameName.substring(0, 20) + "..." : gameName;
+    }
+}
@@ -2,6 +2,7 @@ package com.pstracker.catalog_service.scraping.controller;
 
 import com.pstracker.catalog_service.catalog.dto.CrawlerCallbackRequest;
 import com.pstracker.catalog_service.catalog.dto.RankingUpdateRequest;
+import com.pstracker.catalog_service.catalog.scheduler.CrawlShardDispatcher;
 import com.pstracker.catalog_service.catalog.service.RankingService;
 import com.pstracker.catalog_service.scraping.dto.*;
 import com.pstracker.catalog_service.scraping.service.HltbScrapingService;
@@ -13,6 +14,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/internal/scraping")
@@ -23,6 +26,7 @@ public class InternalWebhookController {
     private final RankingService rankingService;
     private final RatingScrapingService ratingScrapingService;
     private final HltbScrapingService hltbScrapingService;
+    private final CrawlShardDispatcher crawlShardDispatcher;
 
     @PostMapping("/callback")
     @Transactional
@@ -54,6 +58,17 @@ public class InternalWebhookController {
         return ResponseEntity.ok("Rankings processed");
     }
 
+    // 배치 샤드 완료 신호 → 같은 수집기에 다음 샤드를 바로 보냄
+    @PostMapping("/crawl-shards/{shardId}/complete")
+    public ResponseEntity<CrawlShardCompleteResponse> completeCrawlShard(
+            @PathVariable String shardId,
+            @RequestBody CrawlShardCompleteRequest request) {
+        boolean continued = crawlShardDispatcher.complete(shardId,
+                request.processed() != null ? request.processed() : 0,
+                request.failed() != null ? request.failed() : 0);
+        return ResponseEntity.ok(new CrawlShardCompleteResponse(continued));
+    }
+
     @GetMapping("/ratings/target")
     public ResponseEntity<RatingTargetResponse> getRatingTarget() {
         RatingTargetResponse target = ratingScrapingService.getPendingTarget();
@@ -64,6 +79,18 @@ public class InternalWebhookController {
         return ResponseEntity.ok(target);
     }
 
+    // 여러 건 임대 (SKIP LOCKED) — 수집기를 늘려도 같은 작업을 중복으로 가져가지 않는다
+    @GetMapping("/ratings/targets")
+    public ResponseEntity<List<RatingTargetResponse>> leaseRatingTargets(
+            @RequestParam(defaultValue = "1") int limit,
+            @RequestParam(defaultValue = RatingScrapingService.DEFAULT_LEASE_OWNER) String owner) {
+        List<RatingTargetResponse> targets = ratingScrapingService.leasePendingTargets(limit, owner);
+        if (targets.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(targets);
+    }
+
     @PostMapping("/ratings/update")
     public ResponseEntity<String> updateRatingResult(
             @RequestBody RatingUpdateRequest request) {
@@ -71,6 +98,13 @@ public class InternalWebhookController {
         return ResponseEntity.ok("Result saved successfully");
     }
 
+    // 결과 일괄 반영 — 임대한 작업 결과를 모아 1번에 (트랜잭션·캐시 무효화도 1번)
+    @PostMapping("/ratings/update/batch")
+    public ResponseEntity<ScrapingResultBatchResponse> updateRatingResults(
+            @RequestBody List<RatingUpdateRequest> requests) {
+        return ResponseEntity.ok(ratingScrapingService.updateRatingResults(requests));
+    }
+
     @GetMapping("/hltb/target")
     public ResponseEntity<HltbTargetResponse> getHltbTarget() {
         HltbTargetResponse target = hltbScrapingService.getPendingTarget();
@@ -80,9 +114,26 @@ public class InternalWebhookController {
         return ResponseEntity.ok(target);
     }
 
+    @GetMapping("/hltb/targets")
+    public ResponseEntity<List<HltbTargetResponse>> leaseHltbTargets(
+            @RequestParam(defaultValue = "1") int limit,
+            @RequestParam(defaultValue = HltbScrapingService.DEFAULT_LEASE_OWNER) String owner) {
+        List<HltbTargetResponse> targets = hltbScrapingService.leasePendingTargets(limit, owner);
+        if (targets.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(targets);
+    }
+
     @PostMapping("/hltb/update")
     public ResponseEntity<String> updateHltbResult(@RequestBody HltbUpdateRequest request) {
         hltbScrapingService.updateHltbResult(request);
         return ResponseEntity.ok("HLTB Result saved successfully");
     }
+
+    @PostMapping("/hltb/update/batch")
+    public ResponseEntity<ScrapingResultBatchResponse> updateHltbResults(
+            @RequestBody List<HltbUpdateRequest> requests) {
+        return ResponseEntity.ok(hltbScrapingService.updateHltbResults(requests));
+    }
 }
@@ -8,9 +8,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "scraping_requests", indexes = {
-        @Index(name = "idx_scraping_status_time", columnList = "status, created_at")
+        @Index(name = "idx_scraping_status_time", columnList = "status, created_at"),
+        @Index(name = "idx_scraping_lease", columnList = "status, lease_expires_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -38,6 +41,17 @@ public class ScrapingRequest extends BaseTimeEntity {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
+    // 처리 중(PROCESSING)일 때만 값이 있다 (JobLeaseJdbcRepository)
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    // 임대가 만료돼 회수된 횟수 (max-attempts에 닿으면 FAILED)
+    @Column(nullable = false)
+    private int attempts;
+
     @Builder
     public ScrapingRequest(Member member, String psStoreId, String targetUrl) {
         this.member = member;
@@ -51,13 +65,26 @@ public class ScrapingRequest extends BaseTimeEntity {
         this.status = ScrapingRequestStatus.PROCESSING;
     }
 
+    // 보낼 수 있는 수집기가 없어 임대를 풀고 대기로 되돌림 (ScrapingDispatcher)
+    public void returnToQueue() {
+        this.status = ScrapingRequestStatus.PENDING;
+        releaseLease();
+    }
+
     public void markAsCompleted() {
         this.status = ScrapingRequestStatus.COMPLETED;
+        releaseLease();
     }
 
     public void markAsFailed(String errorMessage) {
         this.status = ScrapingRequestStatus.FAILED;
         this.errorMessage = errorMessage != null && errorMessage.length() > 500
                 ? errorMessage.substring(0, 500) : errorMessage;
+        releaseLease();
+    }
+
+    private void releaseLease() {
+        this.leaseOwner = null;
+        this.leaseExpiresAt = null;
     }
 }
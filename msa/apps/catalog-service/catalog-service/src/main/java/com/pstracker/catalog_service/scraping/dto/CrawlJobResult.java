@@ -0,0 +1,14 @@
+package com.pstracker.catalog_service.scraping.dto;
+
+/**
+ * 수집기가 보내는 작업 결과 1건의 공통 필드 (메타크리틱·HLTB 결과 DTO가 구현)
+ */
+public interface CrawlJobResult {
+
+    Long jobId();
+
+    Long gameId();
+
+    // SUCCESS 또는 NOT_FOUND·BLOCKED 등 실패 사유
+    String status();
+}
@@ -0,0 +1,6 @@
+package com.pstracker.catalog_service.scraping.dto;
+
+public record CrawlShardCompleteRequest(
+        Integer processed,
+        Integer failed
+) {}
@@ -0,0 +1,6 @@
+package com.pstracker.catalog_service.scraping.dto;
+
+/**
+ * @param continued 같은 수집기에 다음 샤드를 이어서 보냈는지 (false면 이 수집기의 오늘 몫은 끝)
+ */
+public record CrawlShardCompleteResponse(boolean continued) {}
@@ -7,4 +7,4 @@ public record HltbUpdateRequest(
         Double mainStory,
         Double mainExtra,
         Double completionist
-) {}
+) implements CrawlJobResult {}
@@ -8,4 +8,4 @@ public record RatingUpdateRequest(
         Integer metaCount,
         Double userScore,
         Integer userCount
-) {}
+) implements CrawlJobResult {}
@@ -0,0 +1,8 @@
+package com.pstracker.catalog_service.scraping.dto;
+
+/**
+ * @param succeeded 게임에 반영하고 DONE으로 닫은 작업 수
+ * @param failed 수집기 실패 사유·게임 삭제로 실패 상태가 된 작업 수
+ * @param ignored 없는 작업 id라 건너뛴 결과 수
+ */
+public record ScrapingResultBatchResponse(int succeeded, int failed, int ignored) {}
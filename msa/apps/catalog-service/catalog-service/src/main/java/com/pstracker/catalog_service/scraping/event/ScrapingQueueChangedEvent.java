@@ -0,0 +1,23 @@
+package com.pstracker.catalog_service.scraping.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * VIP 수집 큐가 바뀌었다는 신호 (새 요청 등록, 수집기 완료 콜백). 커밋 이후 ScrapingDispatcher를 깨운다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ScrapingQueueChangedEvent {
+    // 완료 콜백이면 끝난 요청 id (수집기 자리 반납), 새 요청이면 null
+    private final Long finishedRequestId;
+
+    public static ScrapingQueueChangedEvent enqueued() {
+        return new ScrapingQueueChangedEvent(null);
+    }
+
+    public static ScrapingQueueChangedEvent finished(Long requestId) {
+        return new ScrapingQueueChangedEvent(requestId);
+    }
+}
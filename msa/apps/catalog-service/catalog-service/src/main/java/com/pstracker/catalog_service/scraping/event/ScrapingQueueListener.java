@@ -0,0 +1,25 @@
+package com.pstracker.catalog_service.scraping.event;
+
+import com.pstracker.catalog_service.scraping.scheduler.ScrapingDispatcher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 요청 등록·완료 콜백 커밋 이후 디스패처를 깨운다. (디스패치는 디스패처 스레드에서, 여기서는 바로 돌아옴)
+ */
+@Component
+@RequiredArgsConstructor
+public class ScrapingQueueListener {
+
+    private final ScrapingDispatcher scrapingDispatcher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleQueueChanged(ScrapingQueueChangedEvent event) {
+        if (event.getFinishedRequestId() != null) {
+            scrapingDispatcher.complete(event.getFinishedRequestId());
+        }
+        scrapingDispatcher.wake();
+    }
+}
@@ -0,0 +1,166 @@
+package com.pstracker.catalog_service.scraping.repository;
+
+import com.pstracker.catalog_service.global.jdbc.SkipLockedSupport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 작업 큐 임대(lease) — 대기 행을 N개씩 한 번에 '처리 중'으로 바꾸고 임대자·만료 시각을 찍는다.
+ * - MySQL·PostgreSQL: SELECT ... FOR UPDATE SKIP LOCKED로 다른 트랜잭션이 잡은 행은 기다리지 않고 건너뛴다.
+ *   (수집기·카탈로그 레플리카가 여럿이어도 같은 작업을 두 번 가져가지 않고, 서로의 락을 기다리지도 않음)
+ * - 그 외(H2 테스트): 잠금 없이 후보를 읽고 상태 조건을 건 UPDATE로 선점한 뒤, 이번 임대 토큰이 찍힌 행만 돌려준다.
+ * - crawl_jobs는 next_attempt_at이 지난 행만, 그 순서로 꺼낸다 (status, target_type, next_attempt_at 인덱스 한 구간).
+ * - 호출 측 트랜잭션 안에서 써야 한다. 임대는 짧은 트랜잭션으로 끝내고 실제 작업은 커밋 이후에 한다.
+ * - 영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션에서 이미 로딩한 엔티티의 상태는 바뀌지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobLeaseJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SkipLockedSupport skipLockedSupport;
+
+    public enum JobQueue {
+        VIP_SCRAPING("scraping_requests", "status = 'PENDING'", null),
+        METACRITIC("crawl_jobs", "status = 'PENDING' AND target_type = 'METACRITIC'", "next_attempt_at"),
+        HLTB("crawl_jobs", "status = 'PENDING' AND target_type = 'HLTB'", "next_attempt_at");
+
+        private final String table;
+        private final String pendingCondition;
+        // 있으면 이 시각이 지난 행만 임대하고 이 순서로 꺼낸다 (없으면 created_at 순)
+        private final String dueColumn;
+
+        JobQueue(String table, String pendingCondition, String dueColumn) {
+            this.table = table;
+            this.pendingCondition = pendingCondition;
+            this.dueColumn = dueColumn;
+        }
+
+        private String orderBy() {
+            return (dueColumn != null ? dueColumn : "created_at") + ", id";
+        }
+    }
+
+    /**
+     * 만료 임대 회수 결과
+     * @param requeued 백오프 후 다시 대기로
+     * @param failed 시도 횟수를 다 써서 FAILED로
+     */
+    public record ReapResult(int requeued, int failed) {}
+
+    /**
+     * @param owner 임대자 (수집기·인스턴스 이름). 행에는 owner#임의접미사(임대 1번마다 고유)로 찍힌다.
+     * @return 임대한 행 id (오래된 순)
+     */
+    public List<Long> claim(JobQueue queue, int limit, String owner, Duration leaseDuration) {
+        LocalDateTime now = LocalDateTime.now();
+        String leaseOwner = owner + "#" + UUID.randomUUID().toString().substring(0, 8);
+        Timestamp leaseExpiresAt = Timestamp.valueOf(now.plus(leaseDuration));
+
+        String selectSql = "SELECT id FROM " + queue.table + " WHERE " + queue.pendingCondition
+                + (queue.dueColumn != null ? " AND " + queue.dueColumn + " <= ?" : "")
+                + " ORDER BY " + queue.orderBy() + " LIMIT ?";
+        Object[] selectArgs = queue.dueColumn != null
+                ? new Object[]{Timestamp.valueOf(now), limit}
+                : new Object[]{limit};
+        if (skipLockedSupport.isSupported()) {
+            List<Long> ids = jdbcTemplate.queryForList(selectSql + " FOR UPDATE SKIP LOCKED", Long.class, selectArgs);
+            if (ids.isEmpty()) return List.of();
+            markProcessing(queue, ids, "", leaseOwner, leaseExpiresAt, now);
+            return ids;
+        }
+
+        List<Long> candidates = jdbcTemplate.queryForList(selectSql, Long.class, selectArgs);
+        if (candidates.isEmpty()) return List.of();
+        int claimed = markProcessing(queue, candidates, " AND " + queue.pendingCondition, leaseOwner, leaseExpiresAt, now);
+        if (claimed == candidates.size()) return candidates;
+
+        // 그 사이 다른 임대자가 가져간 행은 빼고 돌려준다
+        Object[] args = new Object[candidates.size() + 1];
+        candidates.toArray(args);
+        args[candidates.size()] = leaseOwner;
+        return jdbcTemplate.queryForList("SELECT id FROM " + queue.table + " WHERE id IN (" + placeholders(candidates.size())
+                + ") AND lease_owner = ? ORDER BY " + queue.orderBy(), Long.class, args);
+    }
+
+    /**
+     * 임대가 만료된 crawl_jobs 회수 (수집기가 죽었거나 결과를 보내지 못한 작업)
+     * - 시도 횟수를 1 올리고, maxAttempts에 닿으면 FAILED, 아니면 PENDING + next_attempt_at = now + 백오프.
+     *   백오프는 baseBackoff × 2^(시도-1), maxBackoff 상한. 시도 횟수 값마다 UPDATE 1번이라 문장 수는 maxAttempts개로 고정.
+     * - 임대 필드가 생기기 전부터 PROCESSING이던 행은 updated_at + legacyLeaseDuration을 만료 시각으로 본다.
+     * - next_attempt_at이 비어 있는 예전 PENDING 행은 created_at으로 채워 임대 대상에 넣는다.
+     */
+    public ReapResult reapExpiredCrawlJobs(LocalDateTime now, int maxAttempts, Duration baseBackoff,
+                                           Duration maxBackoff, Duration legacyLeaseDuration) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Timestamp legacyExpiredBefore = Timestamp.valueOf(now.minus(legacyLeaseDuration));
+        String expired = "status = 'PROCESSING' AND (lease_expires_at < ? OR (lease_expires_at IS NULL AND updated_at < ?))";
+
+        int failed = jdbcTemplate.update("UPDATE crawl_jobs SET status = 'FAILED', attempts = attempts + 1,"
+                        + " error_message = 'Lease expired " + maxAttempts + " times',"
+                        + " lease_owner = NULL, lease_expires_at = NULL, updated_at = ?"
+                        + " WHERE " + expired + " AND attempts >= ?",
+                nowTs, nowTs, legacyExpiredBefore, maxAttempts - 1);
+
+        int requeued = 0;
+        for (int attempts = 0; attempts < maxAttempts - 1; attempts++) {
+            Duration backoff = baseBackoff.multipliedBy(1L << Math.min(attempts, 30));
+            if (backoff.compareTo(maxBackoff) > 0) backoff = maxBackoff;
+            requeued += jdbcTemplate.update("UPDATE crawl_jobs SET status = 'PENDING', attempts = attempts + 1,"
+                            + " next_attempt_at = ?, lease_owner = NULL, lease_expires_at = NULL, updated_at = ?"
+                            + " WHERE " + expired + " AND attempts = ?",
+                    Timestamp.valueOf(now.plus(backoff)), nowTs, nowTs, legacyExpiredBefore, attempts);
+        }
+
+        jdbcTemplate.update("UPDATE crawl_jobs SET next_attempt_at = COALESCE(created_at, ?)"
+                + " WHERE status = 'PENDING' AND next_attempt_at IS NULL", nowTs);
+        return new ReapResult(requeued, failed);
+    }
+
+    /**
+     * 임대가 만료된 VIP 수집 요청(scraping_requests) 회수 (요청을 받은 수집기가 죽었거나 완료 콜백이 오지 않음)
+     * - 시도 횟수를 1 올리고, maxAttempts에 닿으면 FAILED(재등록 가능), 아니면 바로 PENDING. (VIP 요청은 백오프 없이 다음 디스패치에 실림)
+     * - 임대 필드가 생기기 전부터 PROCESSING이던 행은 updated_at + legacyLeaseDuration을 만료 시각으로 본다.
+     */
+    public ReapResult reapExpiredScrapingRequests(LocalDateTime now, int maxAttempts, Duration legacyLeaseDuration) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Timestamp legacyExpiredBefore = Timestamp.valueOf(now.minus(legacyLeaseDuration));
+        String expired = "status = 'PROCESSING' AND (lease_expires_at < ? OR (lease_expires_at IS NULL AND updated_at < ?))";
+
+        int failed = jdbcTemplate.update("UPDATE scraping_requests SET status = 'FAILED', attempts = attempts + 1,"
+                        + " error_message = 'Lease expired " + maxAttempts + " times',"
+                        + " lease_owner = NULL, lease_expires_at = NULL, updated_at = ?"
+                        + " WHERE " + expired + " AND attempts >= ?",
+                nowTs, nowTs, legacyExpiredBefore, maxAttempts - 1);
+        int requeued = jdbcTemplate.update("UPDATE scraping_requests SET status = 'PENDING', attempts = attempts + 1,"
+                        + " lease_owner = NULL, lease_expires_at = NULL, updated_at = ?"
+                        + " WHERE " + expired,
+                nowTs, nowTs, legacyExpiredBefore);
+        return new ReapResult(requeued, failed);
+    }
+
+    private int markProcessing(JobQueue queue, List<Long> ids, String extraCondition,
+                               String leaseOwner, Timestamp leaseExpiresAt, LocalDateTime now) {
+        List<Object> args = new ArrayList<>(ids.size() + 3);
+        args.add(leaseOwner);
+        args.add(leaseExpiresAt);
+        args.add(Timestamp.valueOf(now));
+        args.addAll(ids);
+        return jdbcTemplate.update("UPDATE " + queue.table
+                + " SET status = 'PROCESSING', lease_owner = ?, lease_expires_at = ?, updated_at = ?"
+                + " WHERE id IN (" + placeholders(ids.size()) + ")" + extraCondition, args.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.pstracker.catalog_service.scraping.scheduler;
+
+import com.pstracker.catalog_service.scraping.repository.JobLeaseJdbcRepository;
+import com.pstracker.catalog_service.scraping.repository.JobLeaseJdbcRepository.ReapResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 작업 임대 회수 (메타크리틱/HLTB 작업, VIP 수집 요청).
+ * 수집기가 죽어 PROCESSING에 멈춘 작업을 다시 대기로 돌리고(crawl_jobs는 백오프 후), max-attempts번 만료되면 FAILED로 닫는다.
+ * 메트릭: scraping.lease.reaped{queue=crawl_jobs|scraping_requests, result=requeued|failed}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlJobLeaseReaper {
+
+    private final JobLeaseJdbcRepository jobLeaseJdbcRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${scraping.lease.duration:PT15M}")
+    private Duration leaseDuration;
+
+    @Value("${scraping.lease.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${scraping.lease.retry-backoff:PT5M}")
+    private Duration retryBackoff;
+
+    @Value("${scraping.lease.max-backoff:PT6H}")
+    private Duration maxBackoff;
+
+    @Scheduled(fixedDelayString = "${scraping.lease.reap-interval:PT1M}")
+    @Transactional
+    public void reap() {
+        LocalDateTime now = LocalDateTime.now();
+        record("crawl_jobs", jobLeaseJdbcRepository.reapExpiredCrawlJobs(
+                now, maxAttempts, retryBackoff, maxBackoff, leaseDuration));
+        record("scraping_requests", jobLeaseJdbcRepository.reapExpiredScrapingRequests(
+                now, maxAttempts, leaseDuration));
+    }
+
+    private void record(String queue, ReapResult result) {
+        if (result.requeued() == 0 && result.failed() == 0) return;
+
+        meterRegistry.counter("scraping.lease.reaped", "queue", queue, "result", "requeued").increment(result.requeued());
+        meterRegistry.counter("scraping.lease.reaped", "queue", queue, "result", "failed").increment(result.failed());
+        log.warn("[LeaseReaper] 만료된 {} 임대 회수 - 재대기: {}건, 시도 초과 FAILED: {}건",
+                queue, result.requeued(), result.failed());
+    }
+}
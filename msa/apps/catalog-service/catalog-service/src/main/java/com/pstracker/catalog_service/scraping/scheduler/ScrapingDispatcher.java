@@ -0,0 +1,238 @@
+package com.pstracker.catalog_service.scraping.scheduler;
+
+import com.pstracker.catalog_service.global.client.collector.CollectorLoadBalancer;
+import com.pstracker.catalog_service.global.client.collector.CollectorLoadBalancer.Collector;
+import com.pstracker.catalog_service.global.client.collector.dto.ScrapingQueueRequest;
+import com.pstracker.catalog_service.scraping.domain.ScrapingRequest;
+import com.pstracker.catalog_service.scraping.service.ScrapingQueueManager;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * VIP 수집 요청 디스패처 (푸시 방식).
+ * - 새 요청 등록·수집기 완료 콜백이 커밋되면 wake()로 바로 깨어나(ScrapingQueueListener), 빈 자리만큼 요청을 임대해 보낸다.
+ * - 수집기당 동시 요청 수는 max-in-flight-per-collector까지. 완료 콜백이 오면 자리를 반납하고 다음 요청을 보낸다.
+ * - 수집기 선택·바쁨(409)·연속 실패 제외는 CollectorLoadBalancer가 한다. 실패하면 다음 수집기로, 보낼 곳이 없으면 요청을 대기로 되돌린다.
+ * - request-timeout 안에 콜백이 없으면 자리만 반납한다. (수집기가 아직 처리 중일 수 있어 요청 상태는 건드리지 않음)
+ * - 주기 폴링(poll-interval)은 신호를 놓친 경우(다른 레플리카·재시작)를 위한 안전망.
+ * - 자리 계산은 인스턴스 메모리 기준이라, 카탈로그 레플리카가 여럿이면 수집기당 상한도 레플리카 수만큼 늘어난다.
+ * - 메트릭: scraping.dispatch.requests{result=dispatched|requeued|failed|timeout}, scraping.dispatch.wait 대기 시간,
+ *   scraping.dispatch.in_flight 진행 중 요청 수
+ */
+@Slf4j
+@Component
+public class ScrapingDispatcher {
+
+    private final ScrapingQueueManager scrapingQueueManager;
+    private final CollectorLoadBalancer loadBalancer;
+    private final String secretKey;
+    private final Settings settings;
+    private final Executor executor;
+    private final Clock clock;
+
+    private final Counter dispatchedRequests;
+    private final Counter requeuedRequests;
+    private final Counter failedRequests;
+    private final Counter timedOutRequests;
+    private final Timer queueWait;
+
+    // 신호 합치기: 디스패치 도중 들어온 신호는 루프를 한 번 더 돌게 만든다
+    private final AtomicBoolean wakeRequested = new AtomicBoolean();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    // 완료 콜백을 기다리는 요청 (this 락으로 보호)
+    private final Map<Long, InFlight> inFlight = new HashMap<>();
+
+    /**
+     * @param maxInFlightPerCollector 수집기 1대에 동시에 맡기는 요청 수 (수집기는 받은 요청을 자체 VIP 큐에서 차례로 처리)
+     * @param requestTimeout 완료 콜백을 기다리는 최대 시간
+     */
+    record Settings(int maxInFlightPerCollector, Duration requestTimeout) {}
+
+    private record InFlight(Long requestId, Collector collector, Instant dispatchedAt) {}
+
+    @Autowired
+    public ScrapingDispatcher(ScrapingQueueManager scrapingQueueManager,
+                              CollectorLoadBalancer loadBalancer,
+                              MeterRegistry meterRegistry,
+                              @Value("${crawler.secret-key}") String secretKey,
+                              @Value("${scraping.dispatch.max-in-flight-per-collector:3}") int maxInFlightPerCollector,
+                              @Value("${scraping.dispatch.request-timeout:PT15M}") Duration requestTimeout) {
+        this(scrapingQueueManager, loadBalancer, meterRegistry, secretKey,
+                new Settings(maxInFlightPerCollector, requestTimeout),
+                command -> Thread.ofVirtual().start(command), Clock.systemDefaultZone());
+    }
+
+    ScrapingDispatcher(ScrapingQueueManager scrapingQueueManager, CollectorLoadBalancer loadBalancer,
+                       MeterRegistry meterRegistry, String secretKey, Settings settings,
+                       Executor executor, Clock clock) {
+        this.scrapingQueueManager = scrapingQueueManager;
+        this.loadBalancer = loadBalancer;
+        this.secretKey = secretKey;
+        this.settings = settings;
+        this.executor = executor;
+        this.clock = clock;
+        this.dispatchedRequests = meterRegistry.counter("scraping.dispatch.requests", "result", "dispatched");
+        this.requeuedRequests = meterRegistry.counter("scraping.dispatch.requests", "result", "requeued");
+        this.failedRequests = meterRegistry.counter("scraping.dispatch.requests", "result", "failed");
+        this.timedOutRequests = meterRegistry.counter("scraping.dispatch.requests", "result", "timeout");
+        this.queueWait = meterRegistry.timer("scraping.dispatch.wait");
+        meterRegistry.gauge("scraping.dispatch.in_flight", this, ScrapingDispatcher::inFlightCount);
+    }
+
+    /**
+     * 대기 요청이 생겼거나 자리가 비었다는 신호. 디스패치는 executor에서 하고 바로 돌아온다.
+     */
+    public void wake() {
+        wakeRequested.set(true);
+        executor.execute(this::drain);
+    }
+
+    /**
+     * 완료 콜백 (ScrapingWebhookService → ScrapingQueueListener). 다른 레플리카가 보낸 요청이면 무시한다.
+     */
+    public synchronized void complete(Long requestId) {
+        InFlight entry = inFlight.remove(requestId);
+        if (entry == null) return;
+
+        loadBalancer.release(entry.collector());
+        log.debug("VIP 수집 완료 — 수집기 #{} (requestId: {}, {}초)", entry.collector().index(), requestId,
+                Duration.between(entry.dispatchedAt(), clock.instant()).toSeconds());
+    }
+
+    /**
+     * 안전망: 콜백이 끊긴 요청의 자리를 반납하고 대기 요청을 다시 확인한다.
+     */
+    @Scheduled(fixedDelayString = "${scraping.dispatch.poll-interval:PT60S}")
+    public void poll() {
+        expireTimedOut();
+        wake();
+    }
+
+    synchronized int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private void drain() {
+        if (!draining.compareAndSet(false, true)) return; // 진행 중인 루프가 신호를 이어받는다
+        try {
+            while (wakeRequested.getAndSet(false)) {
+                dispatchAvailable();
+            }
+        } catch (Exception e) {
+            log.error("VIP 수집 디스패치 실패", e);
+        } finally {
+            draining.set(false);
+        }
+        // 루프를 빠져나온 직후 들어온 신호
+        if (wakeRequested.get()) drain();
+    }
+
+    /**
+     * 빈 자리만큼 임대해 보내기를 자리가 없거나 큐가 빌 때까지 반복
+     */
+    private void dispatchAvailable() {
+        while (true) {
+            int capacity = loadBalancer.freeCapacity(settings.maxInFlightPerCollector());
+            if (capacity == 0) return;
+
+            List<ScrapingRequest> requests = scrapingQueueManager.leasePendingRequests(capacity);
+            if (requests.isEmpty()) return;
+
+            List<Long> unsent = new ArrayList<>();
+            for (ScrapingRequest request : requests) {
+                if (!send(request)) unsent.add(request.getId());
+            }
+            if (!unsent.isEmpty()) {
+                scrapingQueueManager.returnRequestsToQueue(unsent);
+                requeuedRequests.increment(unsent.size());
+                log.warn("보낼 수 있는 수집기가 없어 VIP 요청 {}건을 대기로 되돌림", unsent.size());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 로드밸런서가 고른 수집기에 보내고, 실패하면 다음 수집기로 넘어간다.
+     * 콜백이 전송 응답보다 먼저 올 수 있어 보내기 전에 진행 중으로 등록한다.
+     * @return 보냈거나 실패로 닫았으면 true, 보낼 수집기가 없어 대기로 되돌려야 하면 false
+     */
+    private boolean send(ScrapingRequest request) {
+        Optional<Collector> picked;
+        while ((picked = loadBalancer.acquire(settings.maxInFlightPerCollector())).isPresent()) {
+            Collector collector = picked.get();
+            Instant sentAt = clock.instant();
+            track(request.getId(), collector, sentAt);
+            try {
+                collector.client().triggerScrapingQueue(new ScrapingQueueRequest(request.getId(), request.getPsStoreId(), secretKey));
+                loadBalancer.onSent(collector, Duration.between(sentAt, clock.instant()));
+                dispatchedRequests.increment();
+                recordQueueWait(request.getCreatedAt());
+                log.debug("VIP 수집 요청 전송 — 수집기 #{} (psStoreId: {})", collector.index(), request.getPsStoreId());
+                return true;
+            } catch (HttpClientErrorException e) {
+                untrack(request.getId());
+                if (e.getStatusCode().value() == 409) {
+                    log.warn("수집기 #{} 작업 중 (409), 다음 수집기 시도...", collector.index());
+                    loadBalancer.onBusy(collector);
+                    continue;
+                }
+                // 요청 자체가 잘못된 경우 — 수집기 상태와 무관
+                loadBalancer.release(collector);
+                log.error("수집기 통신 실패 (psStoreId: {})", request.getPsStoreId(), e);
+                scrapingQueueManager.markRequestAsFailed(request.getId(), e.getMessage());
+                failedRequests.increment();
+                return true;
+            } catch (RestClientException e) {
+                untrack(request.getId());
+                log.warn("수집기 #{} 전송 실패, 다음 수집기 시도... ({})", collector.index(), e.getMessage());
+                loadBalancer.onError(collector, Duration.between(sentAt, clock.instant()));
+            }
+        }
+        return false;
+    }
+
+    // 등록부터 수집기 전송까지 걸린 시간
+    private void recordQueueWait(LocalDateTime createdAt) {
+        if (createdAt == null) return;
+        queueWait.record(Duration.between(createdAt.atZone(clock.getZone()).toInstant(), clock.instant()));
+    }
+
+    private synchronized void track(Long requestId, Collector collector, Instant sentAt) {
+        inFlight.put(requestId, new InFlight(requestId, collector, sentAt));
+    }
+
+    private synchronized void untrack(Long requestId) {
+        inFlight.remove(requestId);
+    }
+
+    private synchronized void expireTimedOut() {
+        Instant now = clock.instant();
+        List<InFlight> expired = inFlight.values().stream()
+                .filter(entry -> entry.dispatchedAt().plus(settings.requestTimeout()).isBefore(now))
+                .toList();
+        for (InFlight entry : expired) {
+            inFlight.remove(entry.requestId());
+            loadBalancer.release(entry.collector());
+            timedOutRequests.increment();
+            log.warn("VIP 수집 완료 콜백 없음 ({} 초과) — 수집기 #{} 자리 반납 (requestId: {})",
+                    settings.requestTimeout(), entry.collector().index(), entry.requestId());
+        }
+    }
+}
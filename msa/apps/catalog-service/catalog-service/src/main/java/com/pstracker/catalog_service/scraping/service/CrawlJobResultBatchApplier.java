@@ -0,0 +1,102 @@
+package com.pstracker.catalog_service.scraping.service;
+
+import com.pstracker.catalog_service.catalog.domain.CrawlJob;
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.repository.CrawlJobRepository;
+import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.catalog.search.GameSearchDocument;
+import com.pstracker.catalog_service.catalog.search.GameSearchIndex;
+import com.pstracker.catalog_service.catalog.service.GameReadService;
+import com.pstracker.catalog_service.scraping.dto.CrawlJobResult;
+import com.pstracker.catalog_service.scraping.dto.ScrapingResultBatchResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * 작업 결과 일괄 반영 공통 흐름 (RatingScrapingService·HltbScrapingService — 수집기가 백필 결과를 모아 1번에 보냄)
+ * - 작업 id·게임 IN절 조회 1번씩 → 성공 결과만 게임에 반영(변경분은 JDBC 배치 UPDATE) → 작업 상태는 같은 결과(CrawlJob.Outcome)끼리 UPDATE 1번
+ * - 상세 캐시 무효화·검색 인덱스 갱신은 묶어서 한 번씩
+ * - 없는 작업 id는 건너뛰고, 그 사이 삭제된 게임의 작업은 FAILED로 닫는다. 같은 작업 id가 반복되면 마지막 결과를 쓴다.
+ * - 호출 측 트랜잭션 안에서 써야 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CrawlJobResultBatchApplier {
+
+    // 결과 일괄 반영 1번에 받는 최대 건수
+    public static final int MAX_RESULT_BATCH_SIZE = 200;
+
+    private final CrawlJobRepository crawlJobRepository;
+    private final GameRepository gameRepository;
+    private final GameSearchIndex gameSearchIndex;
+    private final GameReadService gameReadService;
+
+    /**
+     * @param label 로그 접두어 (예: "메타크리틱 일괄")
+     * @param applySuccess SUCCESS 결과를 게임 엔티티에 반영
+     */
+    public <T extends CrawlJobResult> ScrapingResultBatchResponse apply(String label, List<T> results,
+                                                                       BiConsumer<Game, T> applySuccess) {
+        validate(results);
+        Map<Long, T> resultsByJobId = new LinkedHashMap<>();
+        results.forEach(result -> resultsByJobId.put(result.jobId(), result));
+
+        Set<Long> knownJobIds = new HashSet<>(crawlJobRepository.findExistingIds(resultsByJobId.keySet()));
+        Map<Long, Game> gamesById = gameRepository.findAllByIdInWithGenres(
+                        resultsByJobId.values().stream().map(CrawlJobResult::gameId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Game::getId, game -> game));
+
+        Map<CrawlJob.Outcome, List<Long>> jobIdsByOutcome = new LinkedHashMap<>();
+        Map<Long, Game> updatedGames = new LinkedHashMap<>();
+        for (T result : resultsByJobId.values()) {
+            if (!knownJobIds.contains(result.jobId())) continue;
+
+            Game game = gamesById.get(result.gameId());
+            CrawlJob.Outcome outcome;
+            if (game == null) {
+                log.warn("[{}] 게임(ID:{})이 삭제됨. Job(ID:{}) 무효화.", label, result.gameId(), result.jobId());
+                outcome = CrawlJob.Outcome.GAME_DELETED;
+            } else if ("SUCCESS".equals(result.status())) {
+                applySuccess.accept(game, result);
+                updatedGames.put(game.getId(), game);
+                outcome = CrawlJob.Outcome.DONE;
+            } else {
+                outcome = CrawlJob.Outcome.reported(result.status());
+            }
+            jobIdsByOutcome.computeIfAbsent(outcome, key -> new ArrayList<>()).add(result.jobId());
+        }
+        jobIdsByOutcome.forEach((outcome, jobIds) ->
+                crawlJobRepository.updateStatusByIds(jobIds, outcome.status(), outcome.errorMessage()));
+
+        if (!updatedGames.isEmpty()) {
+            gameReadService.evictGameDetailCaches(updatedGames.keySet());
+            gameSearchIndex.indexAllAfterCommit(updatedGames.values().stream()
+                    .map(game -> GameSearchDocument.from(game, null))
+                    .toList());
+        }
+
+        int succeeded = jobIdsByOutcome.getOrDefault(CrawlJob.Outcome.DONE, List.of()).size();
+        int ignored = resultsByJobId.size() - knownJobIds.size();
+        int failed = resultsByJobId.size() - ignored - succeeded;
+        if (ignored > 0) {
+            log.warn("[{}] 없는 Job ID {}건은 건너뜀", label, ignored);
+        }
+        log.info("[{}] 결과 반영 - 성공: {}건, 실패: {}건", label, succeeded, failed);
+        return new ScrapingResultBatchResponse(succeeded, failed, ignored);
+    }
+
+    private static void validate(List<? extends CrawlJobResult> results) {
+        if (results == null || results.isEmpty() || results.size() > MAX_RESULT_BATCH_SIZE) {
+            throw new IllegalArgumentException("결과는 1~" + MAX_RESULT_BATCH_SIZE + "건씩 보내야 합니다.");
+        }
+        if (results.stream().anyMatch(result -> result == null || result.jobId() == null || result.gameId() == null)) {
+            throw new IllegalArgumentException("jobId와 gameId는 필수입니다.");
+        }
+    }
+}
@@ -4,15 +4,22 @@ import com.pstracker.catalog_service.catalog.domain.CrawlJob;
 import com.pstracker.catalog_service.catalog.domain.Game;
 import com.pstracker.catalog_service.catalog.repository.CrawlJobRepository;
 import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.catalog.search.GameSearchIndex;
 import com.pstracker.catalog_service.global.util.GameTitleNormalizer;
 import com.pstracker.catalog_service.scraping.dto.RatingTargetResponse;
 import com.pstracker.catalog_service.scraping.dto.RatingUpdateRequest;
+import com.pstracker.catalog_service.scraping.dto.ScrapingResultBatchResponse;
+import com.pstracker.catalog_service.scraping.repository.JobLeaseJdbcRepository;
+import com.pstracker.catalog_service.scraping.repository.JobLeaseJdbcRepository.JobQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static org.springframework.util.StringUtils.hasText;
 
@@ -21,36 +28,62 @@ import static org.springframework.util.StringUtils.hasText;
 @RequiredArgsConstructor
 public class RatingScrapingService {
 
+    // 한 번에 임대할 수 있는 최대 작업 수, 임대자를 밝히지 않은 예전 수집기의 임대자 이름
+    public static final int MAX_LEASE_SIZE = 50;
+    public static final String DEFAULT_LEASE_OWNER = "collector";
+
     private final CrawlJobRepository crawlJobRepository;
     private final GameRepository gameRepository;
+    private final GameSearchIndex gameSearchIndex;
+    private final JobLeaseJdbcRepository jobLeaseJdbcRepository;
+    private final CrawlJobResultBatchApplier resultBatchApplier;
+
+    @Value("${scraping.lease.duration:PT15M}")
+    private Duration leaseDuration;
 
+    /**
+     * 단건 임대 (예전 수집기 호환)
+     */
     @Transactional
     public RatingTargetResponse getPendingTarget() {
-        Optional<CrawlJob> jobOpt = crawlJobRepository.findFirstByTargetTypeAndStatusOrderByCreatedAtAsc(
-                CrawlJob.TargetType.METACRITIC, CrawlJob.JobStatus.PENDING
-        );
-
-        if (jobOpt.isEmpty()) return null;
-
-        CrawlJob job = jobOpt.get();
-        Optional<Game> gameOpt = gameRepository.findById(job.getGameId());
+        List<RatingTargetResponse> targets = leasePendingTargets(1, DEFAULT_LEASE_OWNER);
+        return targets.isEmpty() ? null : targets.getFirst();
+    }
 
-        if (gameOpt.isEmpty()) {
-            log.warn("Job(ID:{}) 처리 전 게임(ID:{})이 삭제됨. FAILED 처리 후 다음 타겟 탐색", job.getId(), job.getGameId());
-            job.updateStatus(CrawlJob.JobStatus.FAILED, "Game deleted before processing");
-            return getPendingTarget();
+    /**
+     * 대기 작업을 최대 limit건 임대한다 (SELECT ... FOR UPDATE SKIP LOCKED — 수집기가 여럿이어도 같은 작업을 중복으로 가져가지 않음)
+     * - 임대한 작업은 PROCESSING + 임대자·만료 시각이 찍힌다.
+     * - 처리 전에 게임이 삭제된 작업은 FAILED로 닫고 목록에서 뺀다.
+     * @param owner 수집기 이름
+     */
+    @Transactional
+    public List<RatingTargetResponse> leasePendingTargets(int limit, String owner) {
+        validateLease(limit, owner);
+        List<Long> jobIds = jobLeaseJdbcRepository.claim(JobQueue.METACRITIC, limit, owner, leaseDuration);
+        if (jobIds.isEmpty()) return List.of();
+
+        List<CrawlJob> jobs = crawlJobRepository.findAllById(jobIds).stream()
+                .sorted(Comparator.comparingInt(job -> jobIds.indexOf(job.getId())))
+                .toList();
+        Map<Long, Game> gamesById = gameRepository.findAllById(jobs.stream().map(CrawlJob::getGameId).toList()).stream()
+                .collect(Collectors.toMap(Game::getId, game -> game));
+
+        List<RatingTargetResponse> targets = new ArrayList<>(jobs.size());
+        for (CrawlJob job : jobs) {
+            Game game = gamesById.get(job.getGameId());
+            if (game == null) {
+                log.warn("Job(ID:{}) 처리 전 게임(ID:{})이 삭제됨. FAILED 처리", job.getId(), job.getGameId());
+                job.updateStatus(CrawlJob.JobStatus.FAILED, "Game deleted before processing");
+                continue;
+            }
+
+            String rawTitle = hasText(game.getEnglishName()) ? game.getEnglishName() : game.getName();
+            String searchTitle = GameTitleNormalizer.cleanMojibakeOnly(rawTitle, true);
+            log.debug("파이썬 타겟 할당({}): 원본[{}] -> 변환[{}]", owner, rawTitle, searchTitle);
+
+            targets.add(new RatingTargetResponse(job.getId(), game.getId(), searchTitle));
         }
-
-        Game game = gameOpt.get();
-        job.updateStatus(CrawlJob.JobStatus.PROCESSING, null);
-
-        String rawTitle = hasText(game.getEnglishName()) ? game.getEnglishName() : game.getName();
-
-        String searchTitle = GameTitleNormalizer.cleanMojibakeOnly(rawTitle, true);
-
-        log.debug("파이썬 타겟 정규화: 원본[{}] -> 변환[{}]", rawTitle, searchTitle);
-
-        return new RatingTargetResponse(job.getId(), game.getId(), searchTitle);
+        return targets;
     }
 
     @Transactional
@@ -73,6 +106,7 @@ public class RatingScrapingService {
                     dto.metaScore(), dto.metaCount(),
                     dto.userScore(), dto.userCount()
             );
+            gameSearchIndex.indexAfterCommit(game);
             job.updateStatus(CrawlJob.JobStatus.DONE, null);
             log.debug("[메타크리틱 완료] {} -> Meta: {}, User: {}", game.getName(), dto.metaScore(), dto.userScore());
         } else {
@@ -86,4 +120,22 @@ public class RatingScrapingService {
             log.warn("[메타크리틱 실패] GameID: {} -> Reason: {}", dto.gameId(), dto.status());
         }
     }
+
+    /**
+     * 결과 일괄 반영 (레이팅 백필 때 수집기가 여러 건을 모아 1번에 보냄). 흐름은 CrawlJobResultBatchApplier 참고.
+     */
+    @Transactional
+    public ScrapingResultBatchResponse updateRatingResults(List<RatingUpdateRequest> requests) {
+        return resultBatchApplier.apply("메타크리틱 일괄", requests, (game, dto) ->
+                game.updateMetacriticRatings(dto.metaScore(), dto.metaCount(), dto.userScore(), dto.userCount()));
+    }
+
+    private static void validateLease(int limit, String owner) {
+        if (limit < 1 || limit > MAX_LEASE_SIZE) {
+            throw new IllegalArgumentException("limit은 1~" + MAX_LEASE_SIZE + " 사이여야 합니다.");
+        }
+        if (!hasText(owner) || owner.length() > 64) {
+            throw new IllegalArgumentException("owner는 1~64자여야 합니다.");
+        }
+    }
 }
@@ -1,25 +1,48 @@
 package com.pstracker.catalog_service.scraping.service;
 
 import com.pstracker.catalog_service.scraping.domain.ScrapingRequest;
-import com.pstracker.catalog_service.scraping.domain.ScrapingRequestStatus;
+import com.pstracker.catalog_service.scraping.repository.JobLeaseJdbcRepository;
+import com.pstracker.catalog_service.scraping.repository.JobLeaseJdbcRepository.JobQueue;
 import com.pstracker.catalog_service.scraping.repository.ScrapingRequestRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class ScrapingQueueManager {
 
     private final ScrapingRequestRepository scrapingRequestRepository;
+    private final JobLeaseJdbcRepository jobLeaseJdbcRepository;
+
+    @Value("${scraping.lease.owner:catalog-service}")
+    private String leaseOwner;
+
+    @Value("${scraping.lease.duration:PT15M}")
+    private Duration leaseDuration;
+
+    /**
+     * 대기 중인 VIP 수집 요청을 최대 limit건 임대해 PROCESSING으로 바꾼다 (SKIP LOCKED — 레플리카가 여럿이어도 중복 전송 없음)
+     * @return 오래된 순
+     */
+    @Transactional
+    public List<ScrapingRequest> leasePendingRequests(int limit) {
+        List<Long> ids = jobLeaseJdbcRepository.claim(JobQueue.VIP_SCRAPING, limit, leaseOwner, leaseDuration);
+        if (ids.isEmpty()) return List.of();
+
+        return scrapingRequestRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparingInt(request -> ids.indexOf(request.getId())))
+                .toList();
+    }
 
     @Transactional
-    public ScrapingRequest markNextRequestAsProcessing() {
-        return scrapingRequestRepository.findFirstByStatusOrderByCreatedAtAsc(ScrapingRequestStatus.PENDING)
-                .map(request -> {
-                    request.markAsProcessing();
-                    return request;
-                }).orElse(null);
+    public void returnRequestsToQueue(List<Long> requestIds) {
+        scrapingRequestRepository.findAllById(requestIds).forEach(ScrapingRequest::returnToQueue);
     }
 
     @Transactional
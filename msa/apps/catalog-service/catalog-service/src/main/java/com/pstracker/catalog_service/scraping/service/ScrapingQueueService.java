@@ -9,10 +9,12 @@ import com.pstracker.catalog_service.scraping.domain.ScrapingRequestStatus;
 import com.pstracker.catalog_service.scraping.dto.AdminScrapingResponse;
 import com.pstracker.catalog_service.scraping.dto.CandidateSliceResponse;
 import com.pstracker.catalog_service.scraping.dto.GameCandidateResponse;
+import com.pstracker.catalog_service.scraping.event.ScrapingQueueChangedEvent;
 import com.pstracker.catalog_service.scraping.repository.GameCandidateRepository;
 import com.pstracker.catalog_service.scraping.repository.ScrapingRequestRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -32,6 +34,7 @@ public class ScrapingQueueService {
     private final ScrapingRequestRepository scrapingRequestRepository;
     private final GameRepository gameRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int MAX_REQUESTS_PER_HOUR = 3; // 도배 방지 리미트
     private static final int DEFAULT_PAGE_SIZE = 20;
@@ -89,6 +92,7 @@ public class ScrapingQueueService {
                 .targetUrl("https://store.playstation.com/ko-kr/product/" + candidate.getPsStoreId())
                 .build();
         scrapingRequestRepository.save(request);
+        eventPublisher.publishEvent(ScrapingQueueChangedEvent.enqueued());
 
         // 6. GameCandidate에서 삭제하여 타 유저 노출 차단
         gameCandidateRepository.deleteByPsStoreId(psStoreId);
@@ -122,6 +126,7 @@ public class ScrapingQueueService {
                 .targetUrl("https://store.playstation.com/ko-kr/product/" + psStoreId)
                 .build();
         scrapingRequestRepository.save(request);
+        eventPublisher.publishEvent(ScrapingQueueChangedEvent.enqueued());
         log.info("관리자 게임 등록 요청: {} (요청자: {})", psStoreId, admin.getNickname());
     }
 
@@ -148,6 +153,7 @@ public class ScrapingQueueService {
                 .targetUrl("https://store.playstation.com/ko-kr/product/" + psStoreId)
                 .build();
         scrapingRequestRepository.save(newReq);
+        eventPublisher.publishEvent(ScrapingQueueChangedEvent.enqueued());
         log.info("관리자 수집 재시도: {} (요청자: {})", psStoreId, admin.getNickname());
     }
 
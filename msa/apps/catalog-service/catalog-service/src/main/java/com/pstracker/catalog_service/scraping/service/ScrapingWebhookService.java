@@ -8,6 +8,7 @@ import com.pstracker.catalog_service.scraping.domain.ScrapingRequestStatus;
 import com.pstracker.catalog_service.scraping.dto.CandidateSyncRequest;
 import com.pstracker.catalog_service.scraping.event.CrawlerErrorEvent;
 import com.pstracker.catalog_service.scraping.event.PioneerScrapingCompletedEvent;
+import com.pstracker.catalog_service.scraping.event.ScrapingQueueChangedEvent;
 import com.pstracker.catalog_service.scraping.repository.GameCandidateRepository;
 import com.pstracker.catalog_service.scraping.repository.ScrapingRequestRepository;
 
@@ -43,6 +44,8 @@ public class ScrapingWebhookService {
             log.error("크롤링 실패 보고 접수: {}", payload.errorMessage());
             eventPublisher.publishEvent(new CrawlerErrorEvent("QueueCrawler", payload.errorMessage()));
         }
+        // 수집기 자리 반납 → 다음 요청 전송
+        eventPublisher.publishEvent(ScrapingQueueChangedEvent.finished(request.getId()));
     }
 
     @Transactional
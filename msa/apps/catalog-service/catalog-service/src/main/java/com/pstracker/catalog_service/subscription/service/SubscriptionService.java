@@ -45,6 +45,8 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class SubscriptionService {
 
+    private static final String PRICING_CACHE_KEY = "pricing";
+
     private final PsPlusPricingRepository psPlusPricingRepository;
     private final PsPlusHistoryRepository psPlusHistoryRepository;
     private final PsPlusMonthlyHistoryRepository psPlusMonthlyHistoryRepository;
@@ -55,6 +57,10 @@ public class SubscriptionService {
 
     @Cacheable(cacheNames = GlobalCacheConfig.PS_PLUS_PRICING_CACHE, key = "'pricing'")
     public PsPlusPricingResponse getLatestPricing() {
+        return buildLatestPricing();
+    }
+
+    private PsPlusPricingResponse buildLatestPricing() {
         List<PsPlusPricing> pricing = psPlusPricingRepository.findAll();
 
         if (pricing.isEmpty()) {
@@ -163,6 +169,21 @@ public class SubscriptionService {
         }
     }
 
+    /**
+     * PS Plus 가격·이력을 다시 계산해 캐시 값을 교체 (refresh-ahead). 계산 중에도 조회는 이전 값을 받는다.
+     */
+    public void warmPsPlusPricingCache() {
+        var cache = cacheManager.getCache(GlobalCacheConfig.PS_PLUS_PRICING_CACHE);
+        if (cache == null) return;
+
+        PsPlusPricingResponse pricing = buildLatestPricing();
+        if (pricing != null) {
+            cache.put(PRICING_CACHE_KEY, pricing);
+        } else {
+            cache.evict(PRICING_CACHE_KEY);
+        }
+    }
+
     @Transactional
     @CacheEvict(cacheNames = GlobalCacheConfig.PS_PLUS_PRICING_CACHE, allEntries = true)
     public void upsertPsPlusPrices(PsPlusCollectRequest request) {
@@ -4,6 +4,8 @@ import com.pstracker.catalog_service.catalog.controller.AdminController;
 import com.pstracker.catalog_service.catalog.dto.AdminGameDetailResponse;
 import com.pstracker.catalog_service.catalog.service.CatalogService;
 import com.pstracker.catalog_service.catalog.service.GameReadService;
+import com.pstracker.catalog_service.catalog.service.PriceSeriesService;
+import com.pstracker.catalog_service.catalog.service.PriceVerdictBackfillService;
 import com.pstracker.catalog_service.global.config.SecurityConfig;
 import com.pstracker.catalog_service.global.security.CustomAccessDeniedHandler;
 import com.pstracker.catalog_service.global.security.JwtAuthenticationEntryPoint;
@@ -54,6 +56,12 @@ public class AdminControllerTest {
     @MockitoBean
     private SubscriptionService subscriptionService;
 
+    @MockitoBean
+    private PriceVerdictBackfillService priceVerdictBackfillService;
+
+    @MockitoBean
+    private PriceSeriesService priceSeriesService;
+
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
 
@@ -4,21 +4,23 @@ import com.pstracker.catalog_service.catalog.domain.Game;
 import com.pstracker.catalog_service.catalog.dto.CollectRequest;
 import com.pstracker.catalog_service.catalog.dto.GameSearchCondition;
 import com.pstracker.catalog_service.catalog.dto.GameSearchResponse;
-import com.pstracker.catalog_service.catalog.dto.igdb.IgdbGameResponse;
-import com.pstracker.catalog_service.catalog.service.IgdbEnrichmentService;
+import com.pstracker.catalog_service.catalog.event.GameEnrichmentRequestedEvent;
 import com.pstracker.catalog_service.catalog.repository.GamePriceHistoryRepository;
 import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.catalog.search.GameSearchIndex;
 import com.pstracker.catalog_service.catalog.service.CatalogService;
+import com.pstracker.catalog_service.catalog.service.CollectStats;
 import com.pstracker.catalog_service.catalog.service.GameReadService;
-import org.junit.jupiter.api.BeforeEach;
+import com.pstracker.catalog_service.catalog.service.PriceSeriesService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.concurrent.Executor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -26,6 +28,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -42,19 +45,10 @@ public class CatalogServiceTest {
     @Mock private GameReadService gameReadService;
     @Mock private GameRepository gameRepository;
     @Mock private GamePriceHistoryRepository priceHistoryRepository;
-    @Mock private IgdbEnrichmentService igdbEnrichmentService;
-    @Mock private Executor igdbExecutor;
-
-    @BeforeEach
-    void setUp() {
-        // 단위 테스트에서는 IGDB를 호출 스레드에서 동기 실행
-        // (병렬 실행 검증은 통합 테스트에서 별도 수행)
-        // lenient: deleteGame/searchGames 등 executor를 쓰지 않는 테스트에서 불필요한 stubbing 경고 방지
-        lenient().doAnswer(inv -> {
-            ((Runnable) inv.getArgument(0)).run();
-            return null;
-        }).when(igdbExecutor).execute(any());
-    }
+    @Mock private ApplicationEventPublisher eventPublisher;
+    @Mock private GameSearchIndex gameSearchIndex;
+    @Mock private PriceSeriesService priceSeriesService;
+    @Mock private CollectStats collectStats;
 
     // ========== deleteGame ==========
 
@@ -100,7 +94,6 @@ public class CatalogServiceTest {
         request.setEditionContents(List.of("기본 게임", "DLC 팩"));
 
         given(gameRepository.findByPsStoreIdWithGenres("HP0700-PPSA001-GAME")).willReturn(Optional.of(existingGame));
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         given(priceHistoryRepository.findTopByGameOrderByCreatedAtDesc(any())).willReturn(Optional.empty());
 
         // when
@@ -121,7 +114,6 @@ public class CatalogServiceTest {
         request.setEditionContents(List.of("기본 게임")); // 동일 내용
 
         given(gameRepository.findByPsStoreIdWithGenres("HP0700-PPSA001-GAME")).willReturn(Optional.of(existingGame));
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         given(priceHistoryRepository.findTopByGameOrderByCreatedAtDesc(any())).willReturn(Optional.empty());
 
         // when
@@ -147,46 +139,63 @@ public class CatalogServiceTest {
         verify(gameReadService, never()).evictGameDetailCache(any());
     }
 
-    // ========== upsertGameData — IGDB 병렬 처리 ==========
+    // ========== upsertGameData — IGDB 보강 요청 ==========
 
     @Test
-    @DisplayName("upsertGameData: IGDB 응답이 있으면 게임에 평점이 반영된다")
-    void upsertGameData_IgdbSuccess_RatingsApplied() {
+    @DisplayName("upsertGameData: IGDB는 upsert 중에 호출하지 않고, 커밋 이후 처리할 보강 요청 이벤트만 발행한다")
+    void upsertGameData_PublishesIgdbEnrichmentRequest() {
         // given
         Game existingGame = createExistingGame();
-        IgdbGameResponse igdbResponse = new IgdbGameResponse(
-                1L, "Test Game", 88.0, 30, 82.5, 900, null, 930);
-
         given(gameRepository.findByPsStoreIdWithGenres("HP0700-PPSA001-GAME")).willReturn(Optional.of(existingGame));
-        given(igdbEnrichmentService.searchGame(any())).willReturn(igdbResponse);
         given(priceHistoryRepository.findTopByGameOrderByCreatedAtDesc(any())).willReturn(Optional.empty());
 
-        CollectRequest request = buildRequest();
-
         // when
-        catalogService.upsertGameData(request);
+        catalogService.upsertGameData(buildRequest());
 
-        // then
-        assertThat(existingGame.getIgdbCriticScore()).isEqualTo(88);  // Math.round(88.0)
-        assertThat(existingGame.getIgdbUserScore()).isEqualTo(82.5);
+        // then: 영문명이 없으면 국문 타이틀로 검색 요청, 평점은 아직 그대로
+        ArgumentCaptor<GameEnrichmentRequestedEvent> captor = ArgumentCaptor.forClass(GameEnrichmentRequestedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getSearchTitlesByGameId()).isEqualTo(Map.of(1L, "Test Game"));
+        assertThat(existingGame.getIgdbCriticScore()).isNull();
+        verify(gameRepository, times(1)).save(existingGame);
     }
 
+    // ========== upsertGameData — 수집 지문 ==========
+
     @Test
-    @DisplayName("upsertGameData: IGDB에서 예외가 발생해도 게임 저장은 정상 완료된다")
-    void upsertGameData_IgdbThrows_GameStillSaved() {
+    @DisplayName("upsertGameData: 전체 반영한 요청의 지문을 게임에 저장한다")
+    void upsertGameData_StoresCollectFingerprint() {
         // given
         Game existingGame = createExistingGame();
-
         given(gameRepository.findByPsStoreIdWithGenres("HP0700-PPSA001-GAME")).willReturn(Optional.of(existingGame));
-        given(igdbEnrichmentService.searchGame(any())).willThrow(new RuntimeException("IGDB 서버 오류"));
         given(priceHistoryRepository.findTopByGameOrderByCreatedAtDesc(any())).willReturn(Optional.empty());
 
-        CollectRequest request = buildRequest();
+        // when
+        catalogService.upsertGameData(buildRequest());
 
-        // when & then: 예외 없이 완료되고 save가 호출돼야 함
-        org.assertj.core.api.Assertions.assertThatCode(() -> catalogService.upsertGameData(request))
-                .doesNotThrowAnyException();
-        verify(gameRepository, times(1)).save(existingGame);
+        // then
+        assertThat(existingGame.getCollectFingerprint()).isNotNull();
+        verify(collectStats).recordApplied(eq(1), anyLong());
+    }
+
+    @Test
+    @DisplayName("upsertGameData: 지문이 같으면 게임·가격 이력을 로딩하지 않고 수집 시각만 갱신한다")
+    void upsertGameData_SameFingerprint_OnlyTouchesLastUpdated() {
+        // given
+        given(gameRepository.findIdByPsStoreIdAndCollectFingerprint(eq("HP0700-PPSA001-GAME"), anyLong()))
+                .willReturn(Optional.of(1L));
+
+        // when
+        catalogService.upsertGameData(buildRequest());
+
+        // then
+        verify(gameRepository).touchLastUpdated(eq(List.of(1L)), any());
+        verify(gameSearchIndex).touchAfterCommit(eq(List.of(1L)), any());
+        verify(collectStats).recordUnchanged(eq(1), anyLong());
+        verify(gameRepository, never()).findByPsStoreIdWithGenres(any());
+        verify(gameRepository, never()).save(any());
+        verify(priceHistoryRepository, never()).findTopByGameOrderByCreatedAtDesc(any());
+        verify(gameReadService, never()).evictGameDetailCache(any());
     }
 
     // ========== searchGames — curation 분기 ==========
@@ -211,13 +220,14 @@ public class CatalogServiceTest {
     }
 
     @Test
-    @DisplayName("searchGames: curation=false 이면 gameRepository.searchGames를 직접 호출한다")
+    @DisplayName("searchGames: curation=false 이고 검색 인덱스가 처리할 수 없으면 gameRepository.searchGames로 폴백한다")
     void searchGames_CurationFalse_CallsRepository() {
         // given
         GameSearchCondition condition = new GameSearchCondition();
         condition.setCuration(false);
         Pageable pageable = PageRequest.of(0, 20);
 
+        given(gameSearchIndex.search(any(), any())).willReturn(Optional.empty());
         given(gameRepository.searchGames(any(), any())).willReturn(Page.empty());
 
         // when
@@ -229,6 +239,26 @@ public class CatalogServiceTest {
         assertThat(result).isNotNull();
     }
 
+    @Test
+    @DisplayName("searchGames: 검색 인덱스가 처리하면 최종 페이지 ID만 hydrate하고 DB 검색·COUNT는 호출하지 않는다")
+    void searchGames_IndexHit_HydratesPageIdsOnly() {
+        // given
+        GameSearchCondition condition = new GameSearchCondition();
+        Pageable pageable = PageRequest.of(0, 20);
+
+        given(gameSearchIndex.search(any(), any()))
+                .willReturn(Optional.of(new GameSearchIndex.Hits(List.of(3L, 1L), 42)));
+        given(gameRepository.findSearchResponsesByIds(List.of(3L, 1L))).willReturn(List.of());
+
+        // when
+        Page<GameSearchResponse> result = catalogService.searchGames(condition, pageable, null);
+
+        // then
+        verify(gameRepository, times(1)).findSearchResponsesByIds(List.of(3L, 1L));
+        verify(gameRepository, never()).searchGames(any(), any());
+        assertThat(result.getTotalElements()).isEqualTo(42);
+    }
+
     // ========== helpers ==========
 
     /** id가 세팅된 기존 게임 엔티티 생성. 최근 출시 아님(2개월 전) → crawlJob 재등록 없음. */
@@ -0,0 +1,54 @@
+package com.pstracker.catalog_service.catalog.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GamePriceSeriesTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 1);
+
+    @Test
+    @DisplayName("포인트를 덧붙인 바이트열은 전체를 한 번에 인코딩한 결과와 같고, 가격 하락(음수 차이)도 복원된다")
+    void append_MatchesFullEncoding() {
+        GamePriceSeries entity = GamePriceSeries.create(1L, PriceSeries.EMPTY);
+        entity.append(START, 69800, 0);
+        entity.append(START.plusDays(40), 34900, 50);
+        entity.append(START.plusDays(40), 27920, 60);  // 같은 날 재변동 (날짜 차이 0)
+        entity.append(START.plusDays(55), 69800, null); // 정가 복귀, 할인율 null → 0
+
+        PriceSeries expected = PriceSeries.of(
+                new int[]{(int) START.toEpochDay(), (int) START.plusDays(40).toEpochDay(),
+                        (int) START.plusDays(40).toEpochDay(), (int) START.plusDays(55).toEpochDay()},
+                new int[]{69800, 34900, 27920, 69800},
+                new int[]{0, 50, 60, 0});
+
+        assertThat(entity.getPointCount()).isEqualTo(4);
+        assertThat(entity.getEncoded()).isEqualTo(expected.encode());
+        assertThat(entity.toSeries()).isEqualTo(expected);
+        assertThat(entity.toSeries().dateAt(3)).isEqualTo(START.plusDays(55));
+    }
+
+    @Test
+    @DisplayName("replace 이후의 append는 교체된 마지막 포인트를 기준으로 차이를 계산한다")
+    void replace_ThenAppend() {
+        PriceSeries base = PriceSeries.of(
+                new int[]{(int) START.toEpochDay()}, new int[]{50000}, new int[]{0});
+        GamePriceSeries entity = GamePriceSeries.create(1L, PriceSeries.EMPTY);
+        entity.append(START, 1, 1);
+
+        entity.replace(base);
+        entity.append(START.plusDays(1), 25000, 50);
+
+        PriceSeries series = entity.toSeries();
+        assertThat(series.size()).isEqualTo(2);
+        assertThat(series.priceAt(0)).isEqualTo(50000);
+        assertThat(series.priceAt(1)).isEqualTo(25000);
+        assertThat(series.discountRateAt(1)).isEqualTo(50);
+        // 포인트당 3개 값 모두 1~3바이트 varint
+        assertThat(entity.getEncoded().length).isLessThanOrEqualTo(2 * 9);
+    }
+}
@@ -1,5 +1,6 @@
 package com.pstracker.catalog_service.catalog.domain;
 
+import com.pstracker.catalog_service.global.domain.PriceVerdict;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -180,4 +181,34 @@ class GameTest {
 
         assertThat(game.getName()).isEqualTo(originalName);
     }
+
+    // ========== 가격 판정 비정규화 ==========
+
+    @Test
+    @DisplayName("정가 이력 1건이면 WAIT, 역대 최저가 할인 이력이 추가되면 BUY_NOW로 갱신된다")
+    void refreshPriceVerdict_이력건수_반영() {
+        Game game = createGame();
+        game.updatePriceSearchInfo(60000, 60000, 0, false, null, false);
+        game.increasePriceHistoryCount();
+        game.refreshPriceVerdict();
+        assertThat(game.getPriceVerdict()).isEqualTo(PriceVerdict.WAIT);
+
+        game.updatePriceSearchInfo(60000, 30000, 50, false, null, false);
+        game.increasePriceHistoryCount();
+        game.refreshPriceVerdict();
+
+        assertThat(game.getPriceHistoryCount()).isEqualTo(2);
+        assertThat(game.getPriceVerdict()).isEqualTo(PriceVerdict.BUY_NOW);
+    }
+
+    @Test
+    @DisplayName("백필은 실제 이력 건수로 맞춘 뒤 판정을 다시 계산한다")
+    void backfillPriceVerdict_이력없음_TRACKING() {
+        Game game = createGame();
+        game.updatePriceSearchInfo(60000, 30000, 50, false, null, false);
+
+        game.backfillPriceVerdict(0);
+
+        assertThat(game.getPriceVerdict()).isEqualTo(PriceVerdict.TRACKING);
+    }
 }
@@ -0,0 +1,244 @@
+package com.pstracker.catalog_service.catalog.scheduler;
+
+import com.pstracker.catalog_service.catalog.domain.CrawlShardCompletion;
+import com.pstracker.catalog_service.catalog.repository.CrawlShardCompletionRepository;
+import com.pstracker.catalog_service.catalog.service.CacheWarmUpService;
+import com.pstracker.catalog_service.catalog.service.CatalogService;
+import com.pstracker.catalog_service.catalog.service.CollectStats;
+import com.pstracker.catalog_service.global.client.collector.CollectorApiClient;
+import com.pstracker.catalog_service.global.client.collector.CollectorClientManager;
+import com.pstracker.catalog_service.global.client.collector.dto.CrawlShardRequest;
+import com.pstracker.catalog_service.global.client.collector.dto.CrawlTriggerRequest;
+import com.pstracker.catalog_service.global.util.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CrawlShardDispatcherTest {
+
+    private static final CrawlShardDispatcher.Settings SETTINGS = new CrawlShardDispatcher.Settings(
+            1, 2, 1, 10, Duration.ofSeconds(10), Duration.ofSeconds(60), Duration.ofSeconds(30), 3);
+
+    @Mock
+    private CollectorClientManager clientManager;
+
+    @Mock
+    private CatalogService catalogService;
+
+    @Mock
+    private CrawlShardCompletionRepository completionRepository;
+
+    @Mock
+    private CollectStats collectStats;
+
+    @Mock
+    private CacheWarmUpService cacheWarmUpService;
+
+    @Mock
+    private CollectorApiClient collector0;
+
+    @Mock
+    private CollectorApiClient collector1;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("탐색 작업이 끝나는 즉시 다음 샤드를 보내고, 측정한 처리량에 맞춰 샤드 크기를 늘린다.")
+    void complete_DispatchesNextShardSizedByThroughput() {
+        // given: 수집기 2대, 대상 10건
+        CrawlShardDispatcher dispatcher = dispatcher(List.of(collector0, collector1), targets(10));
+        dispatcher.startNightly();
+
+        String discovery0 = triggeredShardIds(collector0).getFirst();
+        then(collector1).should().triggerBatchCrawl(any());
+
+        // when: 수집기 #0 탐색 완료
+        boolean continued = dispatcher.complete(discovery0, 0, 0);
+
+        // then: 곧바로 첫 샤드(initial 2건)
+        assertThat(continued).isTrue();
+        CrawlShardRequest first = shardRequests(collector0).getLast();
+        assertThat(first.urls()).containsExactly("url-1", "url-2");
+
+        // when: 2건을 4초에 처리 → 0.5건/초 × 10초 = 5건
+        clock.advance(Duration.ofSeconds(4));
+        dispatcher.complete(first.shardId(), 2, 0);
+
+        // then
+        assertThat(shardRequests(collector0).getLast().urls())
+                .containsExactly("url-3", "url-4", "url-5", "url-6", "url-7");
+        assertThat(meterRegistry.counter("crawler.dispatch.shards", "result", "completed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("수집기 1대에 동시에 보내는 샤드는 상한을 넘지 않는다.")
+    void start_CapsInFlightPerCollector() {
+        CrawlShardDispatcher dispatcher = dispatcher(List.of(collector0), targets(10));
+
+        dispatcher.startNightly();
+        dispatcher.tick();
+
+        then(collector0).should(times(1)).triggerBatchCrawl(any());
+        then(collector0).should(never()).triggerShardCrawl(any());
+        assertThat(dispatcher.pendingTargetCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 샤드는 큐 앞으로 돌아가 다른 수집기가 가져간다.")
+    void send_Rejected_RequeuesToOtherCollector() {
+        // given
+        given(collector1.triggerShardCrawl(any())).willThrow(new ResourceAccessException("connection refused"));
+        CrawlShardDispatcher dispatcher = dispatcher(List.of(collector0, collector1), targets(3));
+        dispatcher.startNightly();
+
+        // when: 수집기 #1이 먼저 탐색을 끝냈지만 샤드 전송 실패, 이후 #0 탐색 완료
+        dispatcher.complete(triggeredShardIds(collector1).getFirst(), 0, 0);
+        dispatcher.complete(triggeredShardIds(collector0).getFirst(), 0, 0);
+
+        // then
+        assertThat(shardRequests(collector0).getLast().urls()).containsExactly("url-1", "url-2");
+        assertThat(meterRegistry.counter("crawler.dispatch.shards", "result", "rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("완료 신호가 끊긴 샤드는 만료 후 다시 배분되고, 뒤늦은 완료 신호는 무시한다.")
+    void tick_ExpiredShard_Redispatched() {
+        // given
+        CrawlShardDispatcher dispatcher = dispatcher(List.of(collector0), targets(2));
+        dispatcher.startNightly();
+        dispatcher.complete(triggeredShardIds(collector0).getFirst(), 0, 0);
+        String stale = shardRequests(collector0).getLast().shardId();
+
+        // when
+        clock.advance(Duration.ofSeconds(61));
+        dispatcher.tick();
+
+        // then
+        CrawlShardRequest retried = shardRequests(collector0).getLast();
+        assertThat(retried.shardId()).isNotEqualTo(stale);
+        assertThat(retried.urls()).containsExactly("url-1", "url-2");
+        assertThat(dispatcher.complete(stale, 2, 0)).isFalse();
+        assertThat(dispatcher.isRunning()).isTrue();
+    }
+
+    @Test
+    @DisplayName("모든 샤드가 끝나면 실행을 마치고 캐시 웜업을 시작한다. 진행 중 수동 트리거는 거절한다.")
+    void complete_LastShard_FinishesRun() {
+        // given
+        given(collectStats.snapshotAndReset())
+                .willReturn(new CollectStats.Report(2, 0, 0, Duration.ZERO, Duration.ZERO, Duration.ZERO));
+        CrawlShardDispatcher dispatcher = dispatcher(List.of(collector0), targets(2));
+        assertThat(dispatcher.startManual()).isTrue();
+        assertThat(dispatcher.startManual()).isFalse();
+
+        // when
+        dispatcher.complete(triggeredShardIds(collector0).getFirst(), 0, 0);
+        boolean continued = dispatcher.complete(shardRequests(collector0).getLast().shardId(), 2, 0);
+
+        // then
+        assertThat(continued).isFalse();
+        assertThat(dispatcher.isRunning()).isFalse();
+        then(cacheWarmUpService).should().warmUpAsync();
+        assertThat(meterRegistry.timer("crawler.dispatch.run").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 레플리카가 받은 완료 신호는 DB에 남기고, 샤드를 보낸 레플리카가 tick에서 가져가 다음 샤드를 보낸다.")
+    void complete_UnknownShard_RelayedThroughDb() {
+        // given: 같은 수집기를 쓰는 레플리카 2개 중 owner만 실행 중
+        CrawlShardDispatcher owner = dispatcher(List.of(collector0), targets(4));
+        CrawlShardDispatcher other = new CrawlShardDispatcher(clientManager, catalogService, completionRepository,
+                collectStats, cacheWarmUpService, new SimpleMeterRegistry(), "secret", SETTINGS, Runnable::run, clock);
+        owner.startNightly();
+        String discovery = triggeredShardIds(collector0).getFirst();
+
+        // when: 완료 콜백이 다른 레플리카로 감
+        boolean continued = other.complete(discovery, 0, 0);
+
+        // then
+        ArgumentCaptor<CrawlShardCompletion> captor = ArgumentCaptor.forClass(CrawlShardCompletion.class);
+        then(completionRepository).should().save(captor.capture());
+        assertThat(continued).isFalse();
+        assertThat(captor.getValue().getShardId()).isEqualTo(discovery);
+
+        // when: owner tick
+        given(completionRepository.findAllById(List.of(discovery))).willReturn(List.of(captor.getValue()));
+        owner.tick();
+
+        // then
+        assertThat(shardRequests(collector0).getLast().urls()).containsExactly("url-1", "url-2");
+        then(completionRepository).should().deleteAllByIdInBatch(List.of(discovery));
+        then(completionRepository).should().deleteReceivedBefore(LocalDateTime.now(clock).minusSeconds(60));
+    }
+
+    @Test
+    @DisplayName("보낼 수 있는 수집기가 없는 tick이 max-idle-ticks번 이어지면 남은 URL을 버리고 실행을 끝낸다.")
+    void tick_NoReachableCollector_AbandonsRun() {
+        // given: 탐색 작업 전송 실패 → 유일한 수집기가 재시도 대기, 이후에도 계속 실패
+        given(collector0.triggerBatchCrawl(any())).willThrow(new ResourceAccessException("connection refused"));
+        given(collector0.triggerShardCrawl(any())).willThrow(new ResourceAccessException("connection refused"));
+        given(collectStats.snapshotAndReset())
+                .willReturn(new CollectStats.Report(0, 0, 0, Duration.ZERO, Duration.ZERO, Duration.ZERO));
+        CrawlShardDispatcher dispatcher = dispatcher(List.of(collector0), targets(5));
+        dispatcher.startNightly();
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            clock.advance(Duration.ofSeconds(31));
+            dispatcher.tick();
+        }
+
+        // then: 아직 2번
+        assertThat(dispatcher.isRunning()).isTrue();
+
+        // when
+        clock.advance(Duration.ofSeconds(31));
+        dispatcher.tick();
+
+        // then
+        assertThat(dispatcher.isRunning()).isFalse();
+        assertThat(dispatcher.pendingTargetCount()).isZero();
+        assertThat(meterRegistry.counter("crawler.dispatch.runs", "result", "abandoned").count()).isEqualTo(1);
+        then(cacheWarmUpService).should().warmUpAsync();
+    }
+
+    // --- Helpers ---
+    private CrawlShardDispatcher dispatcher(List<CollectorApiClient> clients, List<String> targets) {
+        given(clientManager.getAll()).willReturn(clients);
+        given(catalogService.getGamesToUpdate()).willReturn(targets);
+        return new CrawlShardDispatcher(clientManager, catalogService, completionRepository, collectStats,
+                cacheWarmUpService, meterRegistry, "secret", SETTINGS, Runnable::run, clock);
+    }
+
+    private static List<String> targets(int count) {
+        return IntStream.rangeClosed(1, count).mapToObj(i -> "url-" + i).toList();
+    }
+
+    private static List<String> triggeredShardIds(CollectorApiClient client) {
+        ArgumentCaptor<CrawlTriggerRequest> captor = ArgumentCaptor.forClass(CrawlTriggerRequest.class);
+        then(client).should(atLeastOnce()).triggerBatchCrawl(captor.capture());
+        return captor.getAllValues().stream().map(CrawlTriggerRequest::shardId).toList();
+    }
+
+    private static List<CrawlShardRequest> shardRequests(CollectorApiClient client) {
+        ArgumentCaptor<CrawlShardRequest> captor = ArgumentCaptor.forClass(CrawlShardRequest.class);
+        then(client).should(atLeastOnce()).triggerShardCrawl(captor.capture());
+        return captor.getAllValues();
+    }
+}
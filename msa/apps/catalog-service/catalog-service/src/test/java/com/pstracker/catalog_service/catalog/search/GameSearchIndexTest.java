@@ -0,0 +1,290 @@
+package com.pstracker.catalog_service.catalog.search;
+
+import com.pstracker.catalog_service.catalog.domain.Platform;
+import com.pstracker.catalog_service.catalog.dto.GameSearchCondition;
+import com.pstracker.catalog_service.catalog.dto.GameSearchRow;
+import com.pstracker.catalog_service.catalog.dto.GameSuggestResponse;
+import com.pstracker.catalog_service.catalog.repository.GameGenreRepository;
+import com.pstracker.catalog_service.catalog.repository.GamePriceHistoryRepository;
+import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.global.util.ChosungUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class GameSearchIndexTest {
+
+    private GameSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // 빈 DB로 적재해 ready 상태로 만든 뒤 문서를 직접 반영
+        index = new GameSearchIndex(mock(GameRepository.class), mock(GameGenreRepository.class),
+                mock(GamePriceHistoryRepository.class));
+        index.rebuild();
+
+        index.index(doc(1L, "A", 30000, 50, 90, 12.0, Set.of("Action"), Set.of(Platform.PS5), true, null));
+        index.index(doc(2L, "B", 10000, 0, null, null, Set.of("RPG"), Set.of(Platform.PS4), false, null));
+        index.index(doc(3L, "C", 20000, 70, 80, 40.0, Set.of("Action", "RPG"), Set.of(Platform.PS5), false, 1));
+    }
+
+    @Test
+    @DisplayName("범위·비트셋·posting list 조건을 교집합으로 처리하고 전체 건수를 함께 반환한다")
+    void search_CombinesFilters() {
+        GameSearchCondition condition = new GameSearchCondition();
+        condition.setMinDiscountRate(50);
+        condition.setGenre("Action");
+        condition.setPlatform(Platform.PS5);
+
+        GameSearchIndex.Hits hits = index.search(condition, PageRequest.of(0, 10, Sort.by("price"))).orElseThrow();
+
+        assertThat(hits.gameIds()).containsExactly(3L, 1L);
+        assertThat(hits.total()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("metaScore 정렬은 null을 가장 작은 값으로 취급한다 (MySQL 기본 정렬과 동일)")
+    void search_SortsNullMetaScoreLastWhenDescending() {
+        GameSearchIndex.Hits hits = index.search(new GameSearchCondition(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "metaScore"))).orElseThrow();
+
+        assertThat(hits.gameIds()).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("플레이타임 범위는 하한 초과·상한 이하로 처리하고, 값이 없는 게임은 제외한다")
+    void search_PlayTimeRange() {
+        GameSearchCondition condition = new GameSearchCondition();
+        condition.setMinPlayTime(12.0);
+        condition.setMaxPlayTime(40.0);
+
+        GameSearchIndex.Hits hits = index.search(condition, PageRequest.of(0, 10)).orElseThrow();
+
+        assertThat(hits.gameIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("베스트셀러 필터는 순위 오름차순이 다른 정렬보다 우선하고, 랭킹 교체 시 즉시 반영된다")
+    void search_BestSellerRanking() {
+        GameSearchCondition condition = new GameSearchCondition();
+        condition.setIsBestSeller(true);
+
+        index.replaceRanks(GameSearchIndex.RankType.BEST_SELLER, List.of("B", "A", "UNKNOWN"));
+        GameSearchIndex.Hits hits = index.search(condition, PageRequest.of(0, 10, Sort.by("price"))).orElseThrow();
+
+        assertThat(hits.gameIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("문서 갱신·삭제 시 이전 posting과 정렬 컬럼이 함께 정리된다")
+    void index_UpdateAndRemove() {
+        index.index(doc(1L, "A", 30000, 0, 90, 12.0, Set.of("Puzzle"), Set.of(Platform.PS5), true, null));
+        index.remove(List.of(3L));
+
+        GameSearchCondition action = new GameSearchCondition();
+        action.setGenre("Action");
+        GameSearchCondition discounted = new GameSearchCondition();
+        discounted.setMinDiscountRate(1);
+
+        assertThat(index.search(action, PageRequest.of(0, 10)).orElseThrow().total()).isZero();
+        assertThat(index.search(discounted, PageRequest.of(0, 10)).orElseThrow().total()).isZero();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("페이지 offset/size를 적용하되 total은 전체 매칭 건수를 유지한다")
+    void search_Paging() {
+        GameSearchIndex.Hits hits = index.search(new GameSearchCondition(),
+                PageRequest.of(1, 2, Sort.by("price"))).orElseThrow();
+
+        assertThat(hits.gameIds()).containsExactly(1L);
+        assertThat(hits.total()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("키워드는 공백·대소문자를 무시하고 이름·영문명·초성·AI 검색 키워드 부분 일치로 검색된다")
+    void search_Keyword() {
+        index.index(namedDoc(10L, "엘든 링", "ELDEN RING", List.of("소울라이크")));
+        index.index(namedDoc(11L, "스텔라 블레이드", "Stellar Blade", List.of()));
+
+        assertThat(keywordHits("엘든링")).containsExactly(10L);
+        assertThat(keywordHits("den r")).containsExactly(10L);
+        assertThat(keywordHits("ㅅㅌㄹ")).containsExactly(11L);
+        assertThat(keywordHits("소울")).containsExactly(10L);
+        assertThat(keywordHits("링")).containsExactly(10L);
+        assertThat(keywordHits("없는게임")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자동완성은 초성 prefix 일치를 먼저, 부분 일치를 나중에 채우고 이름 변경 시 이전 이름으로는 찾을 수 없다")
+    void suggest_PrefixFirstAndReindex() {
+        index.index(namedDoc(20L, "블레이드 앤 소울", null, List.of()));
+        index.index(namedDoc(21L, "스텔라 블레이드", null, List.of()));
+
+        assertThat(index.suggest("블레이드", 10).orElseThrow())
+                .extracting(GameSuggestResponse::id).containsExactly(20L, 21L);
+        assertThat(index.suggest("ㅅㅌ", 10).orElseThrow())
+                .extracting(GameSuggestResponse::name).containsExactly("스텔라 블레이드");
+
+        index.index(namedDoc(21L, "스텔라 블레이드 2", null, List.of()));
+        index.index(namedDoc(20L, "소울 칼리버", null, List.of()));
+
+        assertThat(index.suggest("블레이드", 10).orElseThrow())
+                .extracting(GameSuggestResponse::id).containsExactly(21L);
+    }
+
+    @Test
+    @DisplayName("커서 모드는 null 정렬 키를 포함해 중복·누락 없이 이어서 조회하고 마지막 페이지에서 멈춘다")
+    void searchAfter_WalksAllPagesWithNullKeys() {
+        index.index(doc(4L, "D", 15000, 0, 90, null, Set.of(), Set.of(), false, null));
+        GameSearchCondition condition = new GameSearchCondition();
+        SearchCursor cursor = SearchCursor.start(Sort.by(Sort.Direction.DESC, "metaScore"), condition);
+
+        GameSearchIndex.CursorHits first = index.searchAfter(condition, cursor, 2).orElseThrow();
+        SearchCursor next = SearchCursor.decode(first.toResponse(List.of()).nextCursor(), cursor);
+        GameSearchIndex.CursorHits second = index.searchAfter(condition, next, 2).orElseThrow();
+
+        // metaScore DESC(null은 마지막), 같은 점수는 id DESC
+        assertThat(first.gameIds()).containsExactly(4L, 1L);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.gameIds()).containsExactly(3L, 2L);
+        assertThat(second.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 정렬 조건으로 만든 커서나 변조된 커서는 거부한다")
+    void searchCursor_RejectsMismatchedOrMalformed() {
+        GameSearchCondition condition = new GameSearchCondition();
+        SearchCursor priceAsc = SearchCursor.start(Sort.by("price"), condition);
+        String token = priceAsc.next("10000", 2L).encode();
+
+        assertThat(SearchCursor.decode(token, priceAsc).key()).isEqualTo("10000");
+        assertThatThrownBy(() -> SearchCursor.decode(token, SearchCursor.start(Sort.by(Sort.Direction.DESC, "price"), condition)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SearchCursor.decode("not-a-cursor", priceAsc))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("연관 게임은 평점 75 미만을 제외하고 장르 겹침 수 → 할인율 순으로 고르며 자기 자신은 포함하지 않는다")
+    void computeRelated_RanksByGenreOverlapThenDiscount() {
+        index.index(doc(4L, "D", 10000, 90, 60, null, Set.of("Action", "RPG"), Set.of(), false, null));
+        index.index(doc(5L, "E", 10000, 10, null, null, Set.of("Action", "RPG"), Set.of(), false, null));
+
+        Map<Long, long[]> related = index.computeRelated(3).orElseThrow();
+
+        assertThat(related.get(3L)).containsExactly(5L, 1L, 2L);
+        assertThat(related.get(1L)).containsExactly(3L, 5L);
+        assertThat(index.computeRelated(2L, 1).orElseThrow()).containsExactly(3L);
+        assertThat(index.computeRelated(99L, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("패밀리 묶음은 문서 갱신·삭제 시 증분으로 유지된다")
+    void familyGameIds_MaintainedIncrementally() {
+        index.index(familyDoc(30L, "FAMILY-A"));
+        index.index(familyDoc(31L, "FAMILY-A"));
+        index.index(familyDoc(32L, "FAMILY-B"));
+
+        assertThat(index.familyGameIds("FAMILY-A").orElseThrow()).containsExactlyInAnyOrder(30L, 31L);
+
+        index.index(familyDoc(31L, "FAMILY-B"));
+        index.remove(List.of(30L));
+
+        assertThat(index.familyGameIds("FAMILY-A").orElseThrow()).isEmpty();
+        assertThat(index.familyGameIds("FAMILY-B").orElseThrow()).containsExactlyInAnyOrder(31L, 32L);
+    }
+
+    @Test
+    @DisplayName("전체 적재 중 커밋된 증분 변경은 스냅샷 교체 후 다시 적용돼 옛 값으로 덮이지 않는다")
+    void rebuild_ReplaysChangesMadeWhileLoading() {
+        // given: 스냅샷 조회 도중 40번 할인 반영·41번 삭제가 커밋됨 (스냅샷에는 둘 다 옛 상태)
+        GameRepository gameRepository = mock(GameRepository.class);
+        GameSearchIndex rebuilding = new GameSearchIndex(gameRepository, mock(GameGenreRepository.class),
+                mock(GamePriceHistoryRepository.class));
+        given(gameRepository.findAllSearchRows()).willAnswer(inv -> {
+            rebuilding.index(doc(40L, "R40", 5000, 80, null, null, Set.of(), Set.of(), false, null));
+            rebuilding.remove(List.of(41L));
+            return List.of(row(40L, 25000, 0), row(41L, 10000, 0));
+        });
+
+        // when
+        rebuilding.rebuild();
+
+        // then
+        GameSearchCondition discounted = new GameSearchCondition();
+        discounted.setMinDiscountRate(80);
+        assertThat(rebuilding.search(discounted, PageRequest.of(0, 10)).orElseThrow().gameIds())
+                .containsExactly(40L);
+        assertThat(rebuilding.search(new GameSearchCondition(), PageRequest.of(0, 10)).orElseThrow().gameIds())
+                .containsExactly(40L);
+    }
+
+    private List<Long> keywordHits(String keyword) {
+        GameSearchCondition condition = new GameSearchCondition();
+        condition.setKeyword(keyword);
+        return index.search(condition, PageRequest.of(0, 10)).orElseThrow().gameIds();
+    }
+
+    private GameSearchDocument namedDoc(Long id, String name, String englishName, List<String> searchKeywords) {
+        return new GameSearchDocument(
+                id, "N" + id, null, name, englishName, ChosungUtils.extract(name), searchKeywords, "img.jpg",
+                10000, 0, 10000,
+                null, null, null,
+                null, null, LocalDateTime.now(),
+                false, false, false,
+                null, null,
+                Set.of(), Set.of(), List.of(), null
+        );
+    }
+
+    private GameSearchDocument familyDoc(Long id, String familyId) {
+        return new GameSearchDocument(
+                id, "F" + id, familyId, "Family " + id, null, null, List.of(), null,
+                10000, 0, 10000,
+                null, null, null,
+                null, null, LocalDateTime.now(),
+                false, false, false,
+                null, null,
+                Set.of(), Set.of(), List.of(), null
+        );
+    }
+
+    private GameSearchRow row(Long id, int price, int discountRate) {
+        return new GameSearchRow(
+                id, "R" + id, null, "Game R" + id, null, null, List.of(), null,
+                price, discountRate, price,
+                null, null, null,
+                null, LocalDate.of(2024, 1, 1), LocalDateTime.now(),
+                false, false, false,
+                null, null, List.of()
+        );
+    }
+
+    private GameSearchDocument doc(Long id, String psStoreId, int price, int discountRate, Integer metaScore,
+                                   Double playTime, Set<String> genres, Set<Platform> platforms,
+                                   boolean plusExclusive, Integer bestSellerRank) {
+        return new GameSearchDocument(
+                id, psStoreId, null, "Game " + psStoreId, null, null, List.of(), null,
+                price, discountRate, price,
+                metaScore, null, playTime,
+                null, LocalDate.of(2024, 1, 1), LocalDateTime.now().minusHours(id),
+                plusExclusive, false, false,
+                bestSellerRank, null,
+                genres, platforms, List.of(), null
+        );
+    }
+}
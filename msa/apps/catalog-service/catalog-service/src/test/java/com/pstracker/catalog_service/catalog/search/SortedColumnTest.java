@@ -0,0 +1,75 @@
+package com.pstracker.catalog_service.catalog.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SortedColumnTest {
+
+    @Test
+    @DisplayName("증분 변경은 병합 전(delta)에도 범위 조건에 즉시 반영되고, 이전 값으로는 찾을 수 없다")
+    void update_VisibleBeforeMerge() {
+        // given
+        double[] column = {10, 20, 30, Double.NaN};
+        BitSet live = new BitSet();
+        live.set(0, 4);
+        SortedColumn sorted = SortedColumn.build(column, live);
+
+        // when: 0번 값 변경, 1번 제거, 3번 값 추가
+        sorted.update(0, 25);
+        sorted.remove(1);
+        sorted.update(3, 5);
+
+        // then
+        assertThat(sorted.range(20.0, true, 30.0, true)).isEqualTo(bits(0, 2));
+        assertThat(sorted.range(null, false, 10.0, true)).isEqualTo(bits(3));
+        assertThat(sorted.range(25.0, false, null, false)).isEqualTo(bits(2));
+        assertThat(sorted.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("delta가 임계치를 넘어 병합돼도 처음부터 다시 정렬한 결과와 같다")
+    void update_MergeMatchesFullBuild() {
+        // given
+        int slotCount = 3000;
+        Random random = new Random(42);
+        double[] column = new double[slotCount];
+        BitSet live = new BitSet();
+        for (int slot = 0; slot < slotCount; slot++) {
+            column[slot] = random.nextInt(100);
+            live.set(slot);
+        }
+        SortedColumn sorted = SortedColumn.build(column, live);
+
+        // when: 병합 임계치를 여러 번 넘도록 갱신·제거를 섞는다
+        for (int i = 0; i < 5000; i++) {
+            int slot = random.nextInt(slotCount);
+            if (random.nextInt(10) == 0) {
+                column[slot] = Double.NaN;
+                live.clear(slot);
+                sorted.remove(slot);
+            } else {
+                column[slot] = random.nextInt(100);
+                live.set(slot);
+                sorted.update(slot, column[slot]);
+            }
+        }
+
+        // then
+        SortedColumn expected = SortedColumn.build(column, live);
+        assertThat(sorted.size()).isEqualTo(expected.size());
+        assertThat(sorted.range(30.0, true, 60.0, false)).isEqualTo(expected.range(30.0, true, 60.0, false));
+        assertThat(sorted.range(null, false, 10.0, true)).isEqualTo(expected.range(null, false, 10.0, true));
+        assertThat(sorted.range(90.0, false, null, false)).isEqualTo(expected.range(90.0, false, null, false));
+    }
+
+    private static BitSet bits(int... slots) {
+        BitSet bits = new BitSet();
+        for (int slot : slots) bits.set(slot);
+        return bits;
+    }
+}
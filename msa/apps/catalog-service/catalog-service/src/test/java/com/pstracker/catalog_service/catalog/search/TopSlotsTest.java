@@ -0,0 +1,46 @@
+package com.pstracker.catalog_service.catalog.search;
+
+import com.pstracker.catalog_service.catalog.search.TopSlots.SlotComparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TopSlotsTest {
+
+    @Test
+    @DisplayName("앞쪽 offset + size개만 골라도 전체 정렬 후 자른 페이지와 같다 (동점은 다음 기준으로)")
+    void page_MatchesFullSort() {
+        // given: 값이 자주 겹치는 컬럼 + slot 내림차순 보조 기준
+        int slotCount = 5000;
+        Random random = new Random(7);
+        int[] column = new int[slotCount];
+        BitSet bits = new BitSet();
+        for (int slot = 0; slot < slotCount; slot++) {
+            column[slot] = random.nextInt(50);
+            if (random.nextInt(3) > 0) bits.set(slot);
+        }
+        SlotComparator comparator = ((SlotComparator) (a, b) -> Integer.compare(column[a], column[b]))
+                .thenComparing((a, b) -> Integer.compare(b, a));
+        int[] expected = bits.stream().boxed()
+                .sorted(comparator::compare)
+                .mapToInt(Integer::intValue)
+                .toArray();
+
+        // when & then
+        assertThat(TopSlots.page(bits, 0, 20, comparator)).containsExactly(slice(expected, 0, 20));
+        assertThat(TopSlots.page(bits, 1200, 20, comparator)).containsExactly(slice(expected, 1200, 20));
+        assertThat(TopSlots.page(bits, expected.length - 5, 20, comparator))
+                .containsExactly(slice(expected, expected.length - 5, 5));
+        assertThat(TopSlots.page(bits, expected.length, 20, comparator)).isEmpty();
+    }
+
+    private static int[] slice(int[] array, int from, int length) {
+        int[] slice = new int[length];
+        System.arraycopy(array, from, slice, 0, length);
+        return slice;
+    }
+}
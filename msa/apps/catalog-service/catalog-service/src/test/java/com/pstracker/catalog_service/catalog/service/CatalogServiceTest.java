@@ -4,14 +4,25 @@ import com.pstracker.catalog_service.ai.service.AiService;
 import com.pstracker.catalog_service.catalog.domain.CrawlJob;
 import com.pstracker.catalog_service.catalog.domain.Game;
 import com.pstracker.catalog_service.catalog.domain.GamePriceHistory;
+import com.pstracker.catalog_service.catalog.domain.GamePriceSeries;
+import com.pstracker.catalog_service.catalog.domain.PriceSeries;
+import com.pstracker.catalog_service.catalog.domain.VoteType;
 import com.pstracker.catalog_service.catalog.dto.AdminGameUpdateRequest;
+import com.pstracker.catalog_service.catalog.dto.BulkCollectResponse;
 import com.pstracker.catalog_service.catalog.dto.CollectRequest;
+import com.pstracker.catalog_service.catalog.dto.CrawlTarget;
+import com.pstracker.catalog_service.catalog.dto.GameDetailResponse;
 import com.pstracker.catalog_service.catalog.dto.igdb.IgdbGameResponse;
-import com.pstracker.catalog_service.catalog.event.GamePriceChangedEvent;
+import com.pstracker.catalog_service.catalog.event.GameEnrichmentRequestedEvent;
 import com.pstracker.catalog_service.catalog.service.IgdbEnrichmentService;
 import com.pstracker.catalog_service.catalog.repository.CrawlJobRepository;
 import com.pstracker.catalog_service.catalog.repository.GamePriceHistoryRepository;
+import com.pstracker.catalog_service.catalog.repository.GamePriceSeriesRepository;
 import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.catalog.repository.PriceChangeOutboxRepository;
+import com.pstracker.catalog_service.member.domain.Member;
+import com.pstracker.catalog_service.member.domain.Role;
+import com.pstracker.catalog_service.member.repository.MemberRepository;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,13 +35,16 @@ import org.springframework.test.context.event.RecordApplicationEvents;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.BDDMockito.any;
-import static org.mockito.BDDMockito.given;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.then;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -47,6 +61,12 @@ public class CatalogServiceTest {
     @Autowired
     private GamePriceHistoryRepository priceHistoryRepository;
 
+    @Autowired
+    private GamePriceSeriesRepository priceSeriesRepository;
+
+    @Autowired
+    private PriceChangeOutboxRepository priceChangeOutboxRepository;
+
     @Autowired
     private ApplicationEvents events;
 
@@ -62,12 +82,20 @@ public class CatalogServiceTest {
     @Autowired
     private EntityManager em;
 
+    @Autowired
+    private WishlistService wishlistService;
+
+    @Autowired
+    private GameVoteService gameVoteService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
     @Test
     @DisplayName("신규 게임이 수집되면 Game과 PriceHistory가 모두 저장되어야 한다.")
     void save_NewGame() {
         // given
         CollectRequest request = createDto("PROD-001", "Elden Ring", 69800, 69800, 0, null);
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
 
         // when
         catalogService.upsertGameData(request);
@@ -83,7 +111,7 @@ public class CatalogServiceTest {
     }
 
     @Test
-    @DisplayName("가격이 하락하면 새로운 이력이 저장되고 알림 이벤트가 발행되어야 한다.")
+    @DisplayName("가격이 하락하면 새로운 이력이 저장되고 같은 트랜잭션에서 알림 아웃박스에 기록되어야 한다.")
     void upsert_PriceDrop() {
         // given
         CollectRequest initialData = createDto("PROD-002", "Cyberpunk", 10000, 10000, 0, null);
@@ -105,9 +133,47 @@ public class CatalogServiceTest {
         assertThat(histories.get(1).getPrice()).isEqualTo(5000);
         assertThat(histories.get(1).getDiscountRate()).isEqualTo(50);
 
-        // 가격 하락 이벤트가 딱 1번 바구니에 담겼냐?
-        long eventCount = events.stream(GamePriceChangedEvent.class).count();
-        assertThat(eventCount).isEqualTo(1);
+        // 가격 하락 아웃박스가 딱 1건 기록됐냐?
+        assertThat(priceChangeOutboxRepository.findAll())
+                .singleElement()
+                .satisfies(outbox -> {
+                    assertThat(outbox.getGameId()).isEqualTo(game.getId());
+                    assertThat(outbox.getOldPrice()).isEqualTo(10000);
+                    assertThat(outbox.getNewPrice()).isEqualTo(5000);
+                    assertThat(outbox.getDiscountRate()).isEqualTo(50);
+                    assertThat(outbox.getAttempts()).isZero();
+                });
+    }
+
+    @Test
+    @DisplayName("가격 이력이 저장될 때마다 압축 시계열에 포인트가 덧붙고, 상세 차트는 시계열에서 펼쳐진다.")
+    void upsert_AppendsPriceSeries() {
+        // given
+        catalogService.upsertGameData(createDto("PROD-010", "Stellar Blade", 80000, 80000, 0, null));
+        catalogService.upsertGameData(createDto("PROD-010", "Stellar Blade", 80000, 48000, 40, LocalDate.now().plusDays(7)));
+
+        // when
+        catalogService.upsertGameData(createDto("PROD-010", "Stellar Blade", 80000, 80000, 0, null));
+        em.flush();
+        em.clear();
+
+        // then
+        Game game = gameRepository.findByPsStoreId("PROD-010").orElseThrow();
+        GamePriceSeries stored = priceSeriesRepository.findById(game.getId()).orElseThrow();
+        assertThat(stored.getPointCount()).isEqualTo(3);
+
+        PriceSeries series = stored.toSeries();
+        assertThat(series.priceAt(0)).isEqualTo(80000);
+        assertThat(series.priceAt(1)).isEqualTo(48000);
+        assertThat(series.discountRateAt(1)).isEqualTo(40);
+        assertThat(series.priceAt(2)).isEqualTo(80000);
+        assertThat(series.dateAt(2)).isEqualTo(LocalDate.now());
+
+        GameDetailResponse detail = catalogService.getGameDetail(game.getId(), null);
+        assertThat(detail.priceHistory())
+                .extracting(GameDetailResponse.PriceHistoryDto::price)
+                .containsExactly(80000, 48000, 80000);
+        assertThat(detail.defenseInfo().discountCount()).isEqualTo(1);
     }
 
     @Test
@@ -129,6 +195,39 @@ public class CatalogServiceTest {
         assertThat(histories).hasSize(1);
     }
 
+    @Test
+    @DisplayName("마지막으로 반영한 요청과 내용이 같으면 수집 시각만 갱신하고, 관리자 수정 후에는 다시 전체 반영한다.")
+    void upsert_SameFingerprint_TouchesLastUpdatedOnly() throws InterruptedException {
+        // given
+        CollectRequest request = createDto("PROD-FP-001", "Lies of P", 64800, 64800, 0, null);
+        catalogService.upsertGameData(request);
+        em.flush();
+        em.clear();
+        Game before = gameRepository.findByPsStoreId("PROD-FP-001").orElseThrow();
+        assertThat(before.getCollectFingerprint()).isNotNull();
+
+        Thread.sleep(10);
+
+        // when
+        catalogService.upsertGameData(createDto("PROD-FP-001", "Lies of P", 64800, 64800, 0, null));
+        em.flush();
+        em.clear();
+
+        // then
+        Game after = gameRepository.findByPsStoreId("PROD-FP-001").orElseThrow();
+        assertThat(after.getLastUpdated()).isAfter(before.getLastUpdated());
+        assertThat(after.getCollectFingerprint()).isEqualTo(before.getCollectFingerprint());
+        assertThat(priceHistoryRepository.findAllByGameIdOrderByCreatedAtAsc(after.getId())).hasSize(1);
+
+        // 관리자 수정 → 지문 초기화
+        catalogService.adminUpdateGame(after.getId(), new AdminGameUpdateRequest(
+                "Lies of P", "Lies of P", null, null, null, null, null,
+                null, null, null, null, null, null, null, null));
+        em.flush();
+        em.clear();
+        assertThat(gameRepository.findByPsStoreId("PROD-FP-001").orElseThrow().getCollectFingerprint()).isNull();
+    }
+
     @Test
     @DisplayName("가격은 같아도 세일 종료일이 다르면 새로운 프로모션으로 간주하여 저장해야 한다.")
     void upsert_SaleEndDateChange() {
@@ -150,9 +249,8 @@ public class CatalogServiceTest {
 
         assertThat(histories).hasSize(2);
 
-        // 가격은 안 떨어졌으니 이벤트 바구니는 비어있어야 해 검증
-        long eventCount = events.stream(GamePriceChangedEvent.class).count();
-        assertThat(eventCount).isEqualTo(0);
+        // 가격은 안 떨어졌으니 아웃박스는 비어있어야 해 검증
+        assertThat(priceChangeOutboxRepository.count()).isZero();
     }
 
     @Test
@@ -174,7 +272,6 @@ public class CatalogServiceTest {
     void save_NewGame_shouldSetTimestamps() {
         // given
         CollectRequest request = createDto("PROD-AUDIT-001", "Audit Test Game", 60000, 60000, 0, null);
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
 
         // when
         catalogService.upsertGameData(request);
@@ -192,7 +289,6 @@ public class CatalogServiceTest {
     void upsert_ExistingGame_shouldUpdateLastUpdated() throws InterruptedException {
         // given
         CollectRequest initial = createDto("PROD-AUDIT-002", "Update Test Game", 60000, 60000, 0, null);
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         catalogService.upsertGameData(initial);
         em.flush();
         em.clear();
@@ -214,22 +310,30 @@ public class CatalogServiceTest {
     }
 
     @Test
-    @DisplayName("IGDB 응답이 있으면 평점이 Game에 반영되어야 한다.")
-    void upsert_IgdbSuccess_RatingsApplied() {
+    @DisplayName("upsert는 IGDB를 기다리지 않고 보강 요청 이벤트만 발행하며, 평점은 applyIgdbRatings에서 반영된다.")
+    void upsert_IgdbRatingsAppliedSeparately() {
         // given
-        IgdbGameResponse igdbResponse = new IgdbGameResponse(
-                1L, "Elden Ring", 90.5, 48, 87.3, 1200, null, 1248);
-        given(igdbEnrichmentService.searchGame(any())).willReturn(igdbResponse);
-
         CollectRequest request = createDto("PROD-IGDB-001", "Elden Ring", 70000, 70000, 0, null);
 
-        // when
+        // when: upsert 트랜잭션 안에서는 IGDB 호출 없음
         catalogService.upsertGameData(request);
+        Game saved = gameRepository.findByPsStoreId("PROD-IGDB-001").orElseThrow();
+
+        assertThat(events.stream(GameEnrichmentRequestedEvent.class))
+                .singleElement()
+                .satisfies(e -> assertThat(e.getSearchTitlesByGameId()).containsEntry(saved.getId(), "Elden Ring (Eng)"));
+        then(igdbEnrichmentService).shouldHaveNoInteractions();
+        assertThat(saved.getIgdbCriticScore()).isNull();
+
+        // when: 커밋 이후 리스너가 호출하는 반영 단계
+        int updated = catalogService.applyIgdbRatings(Map.of(
+                saved.getId(), new IgdbGameResponse(1L, "Elden Ring", 90.5, 48, 87.3, 1200, null, 1248)));
         em.flush();
         em.clear();
 
         // then
         Game game = gameRepository.findByPsStoreId("PROD-IGDB-001").orElseThrow();
+        assertThat(updated).isEqualTo(1);
         assertThat(game.getIgdbCriticScore()).isEqualTo(91);   // Math.round(90.5)
         assertThat(game.getIgdbCriticCount()).isEqualTo(48);
         assertThat(game.getIgdbUserScore()).isEqualTo(87.3);
@@ -237,24 +341,21 @@ public class CatalogServiceTest {
     }
 
     @Test
-    @DisplayName("IGDB 호출이 별도 가상 스레드에서 실행된다. (병렬 실행 검증)")
-    void upsert_IgdbCalledOnSeparateThread() {
-        // given
-        String testThreadName = Thread.currentThread().getName();
-        AtomicReference<String> igdbThreadName = new AtomicReference<>();
-
-        given(igdbEnrichmentService.searchGame(any())).willAnswer(inv -> {
-            igdbThreadName.set(Thread.currentThread().getName());
-            return null;
-        });
-
+    @DisplayName("일괄 수집은 배치 전체에 대해 보강 요청 이벤트를 1번 발행하고, AI 인사이트가 없는 신규 게임은 AI 대상에 포함한다.")
+    void upsertBulk_PublishesSingleEnrichmentRequest() {
         // when
-        catalogService.upsertGameData(createDto("PROD-IGDB-002", "Thread Test", 50000, 50000, 0, null));
+        catalogService.upsertGameDataBulk(List.of(
+                createDto("PROD-IGDB-002", "Bulk IGDB A", 50000, 50000, 0, null),
+                createDto("PROD-IGDB-003", "Bulk IGDB B", 40000, 40000, 0, null)));
 
-        // then: IGDB는 호출됐고, upsertGameData를 호출한 스레드와 다른 스레드에서 실행됐어야 함
-        assertThat(igdbThreadName.get())
-                .isNotNull()
-                .isNotEqualTo(testThreadName);
+        // then
+        assertThat(events.stream(GameEnrichmentRequestedEvent.class))
+                .singleElement()
+                .satisfies(e -> {
+                    assertThat(e.getSearchTitlesByGameId().values())
+                            .containsExactlyInAnyOrder("Bulk IGDB A (Eng)", "Bulk IGDB B (Eng)");
+                    assertThat(e.getAiGameIds()).isEqualTo(e.getSearchTitlesByGameId().keySet());
+                });
     }
 
     // ── adminUpdateGame ──────────────────────────────────────────────────────
@@ -263,7 +364,6 @@ public class CatalogServiceTest {
     @DisplayName("adminUpdateGame — 영문명이 이미 있어도 새 값으로 수정된다 (updateInfo 버그 수정 검증)")
     void adminUpdateGame_영문명_덮어쓰기() {
         // given: 영문명이 이미 설정된 게임 생성
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         catalogService.upsertGameData(createDto("PROD-ADMIN-001", "엘든 링", 70000, 70000, 0, null));
         em.flush(); em.clear();
 
@@ -290,7 +390,6 @@ public class CatalogServiceTest {
     @DisplayName("adminUpdateGame — name/englishName은 null 가드 보호 (지우기 불가)")
     void adminUpdateGame_name_englishName_null_보호() {
         // given
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         catalogService.upsertGameData(createDto("PROD-ADMIN-002", "사이버펑크", 50000, 50000, 0, null));
         em.flush(); em.clear();
 
@@ -319,13 +418,13 @@ public class CatalogServiceTest {
     @DisplayName("adminUpdateGame — IGDB null 전달 시 기존 평점 초기화 (폼 전체 제출 전제, 의도적 삭제 허용)")
     void adminUpdateGame_IGDB_null_시_기존값_초기화() {
         // given: IGDB 평점이 설정된 게임 생성
-        given(igdbEnrichmentService.searchGame(any())).willReturn(
-                new IgdbGameResponse(1L, "갓 오브 워", 90.5, 48, 87.3, 1200, null, 1248)
-        );
         catalogService.upsertGameData(createDto("PROD-ADMIN-003", "갓 오브 워", 60000, 60000, 0, null));
+        Long gameId = gameRepository.findByPsStoreId("PROD-ADMIN-003").orElseThrow().getId();
+        catalogService.applyIgdbRatings(Map.of(
+                gameId, new IgdbGameResponse(1L, "갓 오브 워", 90.5, 48, 87.3, 1200, null, 1248)));
         em.flush(); em.clear();
 
-        Game game = gameRepository.findByPsStoreId("PROD-ADMIN-003").orElseThrow();
+        Game game = gameRepository.findById(gameId).orElseThrow();
         assertThat(game.getIgdbCriticScore()).isNotNull(); // 초기 IGDB 데이터 확인
 
         // IGDB 전체 null (관리자가 평점 정보 지우기)
@@ -352,7 +451,6 @@ public class CatalogServiceTest {
     @DisplayName("adminUpdateGame — HLTB null 전달 시 기존 플레이타임 초기화")
     void adminUpdateGame_HLTB_null_시_기존값_초기화() {
         // given: HLTB 값 세팅
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         catalogService.upsertGameData(createDto("PROD-ADMIN-004", "엘든 링", 70000, 70000, 0, null));
         em.flush(); em.clear();
 
@@ -389,7 +487,6 @@ public class CatalogServiceTest {
     @Test
     @DisplayName("첫 수집 시 isAllTimeLowNew는 false다 (기준선, 갱신 아님)")
     void allTimeLowNew_첫수집_false() {
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         catalogService.upsertGameData(createDto("ATL-001", "게임A", 39800, 39800, 0, null));
         em.flush(); em.clear();
 
@@ -401,7 +498,6 @@ public class CatalogServiceTest {
     @Test
     @DisplayName("할인으로 역대 최저가를 처음 경신하면 isAllTimeLowNew가 true다")
     void allTimeLowNew_첫갱신_true() {
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         // 정상가로 첫 수집
         catalogService.upsertGameData(createDto("ATL-002", "게임B", 39800, 39800, 0, null));
         em.flush(); em.clear();
@@ -418,7 +514,6 @@ public class CatalogServiceTest {
     @Test
     @DisplayName("역대 최저가 동일 가격으로 재수집하면 isAllTimeLowNew가 false다 (동률)")
     void allTimeLowNew_동일가격_재수집_false() {
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         catalogService.upsertGameData(createDto("ATL-003", "게임C", 39800, 39800, 0, null));
         catalogService.upsertGameData(createDto("ATL-003", "게임C", 39800, 29800, 25, LocalDate.now().plusDays(7)));
         em.flush(); em.clear();
@@ -435,7 +530,6 @@ public class CatalogServiceTest {
     @Test
     @DisplayName("할인 종료 후 정가 복귀 시 isAllTimeLowNew는 false다")
     void allTimeLowNew_할인종료_false() {
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         catalogService.upsertGameData(createDto("ATL-004", "게임D", 39800, 39800, 0, null));
         catalogService.upsertGameData(createDto("ATL-004", "게임D", 39800, 29800, 25, LocalDate.now().plusDays(7)));
         em.flush(); em.clear();
@@ -452,7 +546,6 @@ public class CatalogServiceTest {
     @Test
     @DisplayName("정가 복귀 후 이전 ATL 동일 가격으로 재할인 시 isAllTimeLowNew는 false다 (동률)")
     void allTimeLowNew_재할인_동률_false() {
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         catalogService.upsertGameData(createDto("ATL-005", "게임E", 39800, 39800, 0, null));
         catalogService.upsertGameData(createDto("ATL-005", "게임E", 39800, 29800, 25, LocalDate.now().plusDays(7)));
         catalogService.upsertGameData(createDto("ATL-005", "게임E", 39800, 39800, 0, null)); // 할인 종료
@@ -470,7 +563,6 @@ public class CatalogServiceTest {
     @Test
     @DisplayName("더 낮은 가격으로 추가 갱신 시 isAllTimeLowNew가 다시 true다")
     void allTimeLowNew_추가갱신_true() {
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         catalogService.upsertGameData(createDto("ATL-006", "게임F", 39800, 39800, 0, null));
         catalogService.upsertGameData(createDto("ATL-006", "게임F", 39800, 29800, 25, LocalDate.now().plusDays(7)));
         em.flush(); em.clear();
@@ -490,7 +582,6 @@ public class CatalogServiceTest {
     @DisplayName("bulkDeleteGames — 게임과 연관 가격 이력이 모두 삭제된다")
     void bulkDeleteGames_게임과_이력_모두_삭제() {
         // given: 게임 2개 생성 (price_history 포함)
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         catalogService.upsertGameData(createDto("PROD-BULK-001", "벌크삭제1", 50000, 50000, 0, null));
         catalogService.upsertGameData(createDto("PROD-BULK-002", "벌크삭제2", 60000, 60000, 0, null));
         em.flush(); em.clear();
@@ -518,7 +609,6 @@ public class CatalogServiceTest {
     @DisplayName("bulkDeleteGames — 존재하지 않는 ID를 포함해도 예외 없이 존재하는 게임만 삭제된다")
     void bulkDeleteGames_존재하지않는ID_포함() {
         // given
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
         catalogService.upsertGameData(createDto("PROD-BULK-003", "벌크삭제3", 50000, 50000, 0, null));
         em.flush(); em.clear();
 
@@ -551,7 +641,6 @@ public class CatalogServiceTest {
         // given: 세일 중 최초 수집 (releaseDate 2주 전 → isRecentRelease=true)
         LocalDate recentRelease = LocalDate.now().minusWeeks(2);
         LocalDate saleEndPast  = LocalDate.now().minusDays(3);
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
 
         CollectRequest onSale = createDtoWithReleaseDate(
                 "PROD-BUG-001", "Voidtrain", 39800, 31840, 20, saleEndPast, recentRelease);
@@ -591,7 +680,6 @@ public class CatalogServiceTest {
     void upsert_RecentRelease_SamePrice_ExistingDoneJob_MetadataUpdated() {
         // given: 게임 최초 수집 후 CrawlJob DONE 전환
         LocalDate recentRelease = LocalDate.now().minusWeeks(2);
-        given(igdbEnrichmentService.searchGame(any())).willReturn(null);
 
         CollectRequest initial = createDtoWithReleaseDate(
                 "PROD-BUG-002", "TestGame", 39800, 39800, 0, null, recentRelease);
@@ -620,6 +708,161 @@ public class CatalogServiceTest {
         assertThat(result.getName()).isEqualTo("TestGame Updated");
     }
 
+    @Test
+    @DisplayName("상세 조회 시 회원의 찜·목표가·투표와 게임 관심 통계(찜 수·평균 목표가)가 함께 채워진다.")
+    void getGameDetail_MemberStateAndWatcherStats() {
+        // given
+        catalogService.upsertGameData(createDto("PROD-WATCH", "Watch Game", 60000, 60000, 0, null));
+        Long gameId = gameRepository.findByPsStoreId("PROD-WATCH").orElseThrow().getId();
+        Long me = saveMember("watcher-me@test.com");
+        Long other = saveMember("watcher-other@test.com");
+
+        wishlistService.toggleWishlist(me, gameId, 40000);
+        wishlistService.toggleWishlist(other, gameId, 50000);
+        gameVoteService.toggleVote(gameId, me, VoteType.LIKE);
+        em.flush();
+        em.clear();
+
+        // when
+        GameDetailResponse mine = catalogService.getGameDetail(gameId, me);
+        GameDetailResponse anonymous = catalogService.getGameDetail(gameId, null);
+
+        // then
+        assertThat(mine.liked()).isTrue();
+        assertThat(mine.myTargetPrice()).isEqualTo(40000);
+        assertThat(mine.userVote()).isEqualTo(VoteType.LIKE);
+        assertThat(mine.scouterTotalWatchers()).isEqualTo(2);
+        assertThat(mine.scouterAverageTargetPrice()).isEqualTo(45000);
+
+        assertThat(anonymous.liked()).isFalse();
+        assertThat(anonymous.userVote()).isNull();
+        assertThat(anonymous.scouterTotalWatchers()).isEqualTo(2);
+    }
+
+    private Long saveMember(String email) {
+        return memberRepository.save(Member.builder()
+                .email(email).password("pw").nickname(email).role(Role.USER)
+                .provider("google").providerId(email)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("일괄 수집: 신규·기존 게임을 함께 저장하고, 무효·중복 요청은 건너뛰며 가격 하락은 알림 아웃박스에 기록한다.")
+    void upsertBulk_NewAndExistingGames() {
+        // given
+        catalogService.upsertGameData(createDto("BULK-001", "Hades II", 30000, 30000, 0, null));
+        em.flush();
+        em.clear();
+
+        List<CollectRequest> batch = List.of(
+                createDto("BULK-001", "Hades II", 30000, 15000, 50, LocalDate.now().plusDays(7)),
+                createDto("BULK-002", "Balatro", 20000, 20000, 0, null),
+                createDto("BULK-002", "Balatro", 21000, 21000, 0, null), // 배치 내 중복 → 마지막 요청 반영
+                createDto("BULK-003", "Broken", 10000, 0, 0, null)       // 가격 0 → 건너뜀
+        );
+
+        // when
+        BulkCollectResponse result = catalogService.upsertGameDataBulk(batch);
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(result).isEqualTo(new BulkCollectResponse(4, 2, 2, 2, 1, 0));
+
+        Game existing = gameRepository.findByPsStoreId("BULK-001").orElseThrow();
+        assertThat(existing.getCurrentPrice()).isEqualTo(15000);
+        assertThat(existing.getPriceHistoryCount()).isEqualTo(2);
+        assertThat(priceHistoryRepository.findAllByGameIdOrderByCreatedAtAsc(existing.getId()))
+                .extracting(GamePriceHistory::getPrice)
+                .containsExactly(30000, 15000);
+        assertThat(priceSeriesRepository.findById(existing.getId()).orElseThrow().getPointCount()).isEqualTo(2);
+
+        Game created = gameRepository.findByPsStoreIdWithGenres("BULK-002").orElseThrow();
+        assertThat(created.getOriginalPrice()).isEqualTo(21000);
+        assertThat(created.getGameGenres()).hasSize(2);
+        assertThat(priceHistoryRepository.findAllByGameIdOrderByCreatedAtAsc(created.getId())).hasSize(1);
+        assertThat(gameRepository.findByPsStoreId("BULK-003")).isEmpty();
+
+        assertThat(priceChangeOutboxRepository.findAll())
+                .singleElement()
+                .satisfies(change -> {
+                    assertThat(change.getGameId()).isEqualTo(existing.getId());
+                    assertThat(change.getOldPrice()).isEqualTo(30000);
+                    assertThat(change.getNewPrice()).isEqualTo(15000);
+                });
+    }
+
+    @Test
+    @DisplayName("일괄 수집: 가격 조건이 같으면 이력을 다시 쓰지 않는다.")
+    void upsertBulk_NoChange_SkipsHistory() {
+        // given
+        List<CollectRequest> batch = List.of(
+                createDto("BULK-011", "Astro Bot", 69800, 69800, 0, null),
+                createDto("BULK-012", "Gran Turismo 7", 79800, 55860, 30, LocalDate.now().plusDays(3))
+        );
+        catalogService.upsertGameDataBulk(batch);
+
+        // when
+        BulkCollectResponse result = catalogService.upsertGameDataBulk(batch);
+
+        // then
+        assertThat(result.upserted()).isEqualTo(2);
+        assertThat(result.unchanged()).isEqualTo(2);
+        assertThat(result.historySaved()).isZero();
+        Game game = gameRepository.findByPsStoreId("BULK-012").orElseThrow();
+        assertThat(priceHistoryRepository.findAllByGameIdOrderByCreatedAtAsc(game.getId())).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("타겟 피드: 어제 이전에 갱신된 비할인 게임을 오래된 순으로 내려주고, 샤드끼리는 겹치지 않는다.")
+    void crawlTargetFeed_OrderedAndSharded() {
+        // given
+        catalogService.upsertGameDataBulk(List.of(
+                createDto("FEED-001", "Old", 10000, 10000, 0, null),
+                createDto("FEED-002", "Older", 10000, 10000, 0, null),
+                createDto("FEED-003", "On Sale", 10000, 5000, 50, LocalDate.now().plusDays(3)),
+                createDto("FEED-004", "Fresh", 10000, 10000, 0, null)
+        ));
+        em.flush();
+        LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
+        setLastUpdated("FEED-001", yesterday);
+        setLastUpdated("FEED-002", yesterday.minusDays(1));
+        setLastUpdated("FEED-003", yesterday);
+
+        // when
+        List<CrawlTarget> all = new ArrayList<>();
+        catalogService.forEachCrawlTargetChunk(0, 1, all::addAll);
+        List<CrawlTarget> shard0 = new ArrayList<>();
+        catalogService.forEachCrawlTargetChunk(0, 2, shard0::addAll);
+        List<CrawlTarget> shard1 = new ArrayList<>();
+        catalogService.forEachCrawlTargetChunk(1, 2, shard1::addAll);
+
+        // then
+        assertThat(all).extracting(CrawlTarget::psStoreId).containsSubsequence("FEED-002", "FEED-001")
+                .doesNotContain("FEED-003", "FEED-004");
+        assertThat(all).filteredOn(t -> t.psStoreId().equals("FEED-001")).singleElement()
+                .extracting(CrawlTarget::url).isEqualTo("https://store.playstation.com/ko-kr/product/FEED-001");
+        assertThat(shard0).doesNotContainAnyElementsOf(shard1);
+        assertThat(Stream.concat(shard0.stream(), shard1.stream()).toList()).containsExactlyInAnyOrderElementsOf(all);
+        assertThat(catalogService.getGamesToUpdate()).containsExactlyElementsOf(all.stream().map(CrawlTarget::url).toList());
+    }
+
+    @Test
+    @DisplayName("타겟 피드: 샤드 범위가 잘못되면 400 (IllegalArgumentException)")
+    void crawlTargetFeed_InvalidShard() {
+        assertThatThrownBy(() -> catalogService.forEachCrawlTargetChunk(2, 2, chunk -> {}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> catalogService.validateShard(0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void setLastUpdated(String psStoreId, LocalDateTime lastUpdated) {
+        em.createQuery("UPDATE Game g SET g.lastUpdated = :lastUpdated WHERE g.psStoreId = :psStoreId")
+                .setParameter("lastUpdated", lastUpdated)
+                .setParameter("psStoreId", psStoreId)
+                .executeUpdate();
+    }
+
     private CollectRequest createDto(String id, String title, int originalPrice, int currentPrice, int discount, LocalDate saleEnd) {
         return new CollectRequest(
                 id,
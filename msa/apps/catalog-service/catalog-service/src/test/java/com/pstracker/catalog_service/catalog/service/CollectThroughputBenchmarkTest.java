@@ -0,0 +1,136 @@
+package com.pstracker.catalog_service.catalog.service;
+
+import com.pstracker.catalog_service.ai.service.AiService;
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.dto.CollectRequest;
+import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단건 upsert vs 일괄 upsert 처리량 비교 (H2 test 프로필).
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다. 라운드마다 커밋되도록 테스트 트랜잭션은 걸지 않는다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class CollectThroughputBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CollectThroughputBenchmarkTest.class);
+
+    private static final int GAME_COUNT = 600;
+    private static final int BULK_SIZE = 200;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @MockitoBean
+    private IgdbEnrichmentService igdbEnrichmentService;
+
+    @MockitoBean
+    private AiService aiService;
+
+    private final Set<String> createdPsStoreIds = new LinkedHashSet<>();
+
+    @AfterEach
+    void cleanUp() {
+        List<Long> ids = createdPsStoreIds.stream()
+                .map(gameRepository::findByPsStoreId)
+                .flatMap(Optional::stream)
+                .map(Game::getId)
+                .toList();
+        if (!ids.isEmpty()) {
+            catalogService.bulkDeleteGames(ids);
+        }
+    }
+
+    @Test
+    @DisplayName("신규 적재 + 가격 변동 라운드에서 일괄 upsert가 단건 upsert보다 빠르다")
+    void singleVsBulkThroughput() {
+        // 워밍업 (JIT·커넥션 풀·장르 생성 비용 제외)
+        catalogService.upsertGameData(request("BENCH-WARM-0", 0, 10000, 0));
+        catalogService.upsertGameDataBulk(List.of(request("BENCH-WARM-1", 1, 10000, 0)));
+
+        long singleMs = measure(() -> {
+            runSingle("BENCH-S", 10000, 0);
+            runSingle("BENCH-S", 7000, 30);
+        });
+        long bulkMs = measure(() -> {
+            runBulk("BENCH-B", 10000, 0);
+            runBulk("BENCH-B", 7000, 30);
+        });
+
+        double singleRate = GAME_COUNT * 2 * 1000.0 / Math.max(1, singleMs);
+        double bulkRate = GAME_COUNT * 2 * 1000.0 / Math.max(1, bulkMs);
+        log.info("[collect benchmark] games={} x2 rounds | single: {}ms ({}/s) | bulk({}): {}ms ({}/s) | x{}",
+                GAME_COUNT, singleMs, Math.round(singleRate), BULK_SIZE, bulkMs, Math.round(bulkRate),
+                String.format("%.1f", bulkRate / singleRate));
+
+        assertThat(gameRepository.findByPsStoreId("BENCH-B-" + (GAME_COUNT - 1)).orElseThrow().getCurrentPrice())
+                .isEqualTo(7000);
+        assertThat(bulkMs).isLessThan(singleMs);
+    }
+
+    private void runSingle(String prefix, int price, int discountRate) {
+        IntStream.range(0, GAME_COUNT)
+                .forEach(i -> catalogService.upsertGameData(request(prefix + "-" + i, i, price, discountRate)));
+    }
+
+    private void runBulk(String prefix, int price, int discountRate) {
+        for (int from = 0; from < GAME_COUNT; from += BULK_SIZE) {
+            List<CollectRequest> batch = IntStream.range(from, Math.min(from + BULK_SIZE, GAME_COUNT))
+                    .mapToObj(i -> request(prefix + "-" + i, i, price, discountRate))
+                    .toList();
+            catalogService.upsertGameDataBulk(batch);
+        }
+    }
+
+    private static long measure(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private CollectRequest request(String psStoreId, int index, int price, int discountRate) {
+        createdPsStoreIds.add(psStoreId);
+        return new CollectRequest(
+                psStoreId,
+                "Benchmark Game " + index,
+                "Benchmark Game " + index,
+                "Publisher",
+                "http://img.com",
+                "Desc",
+                10000,
+                price,
+                discountRate,
+                discountRate > 0 ? LocalDate.now().plusDays(7) : null,
+                "Action,RPG",
+                LocalDate.of(2024, 1, 1),
+                false,
+                false,
+                List.of("PS5"),
+                false,
+                null
+        );
+    }
+}
@@ -0,0 +1,214 @@
+package com.pstracker.catalog_service.catalog.service;
+
+import com.pstracker.catalog_service.ai.service.AiService;
+import com.pstracker.catalog_service.ai.service.AiService.AiInsightDto;
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.dto.igdb.IgdbGameResponse;
+import com.pstracker.catalog_service.catalog.event.GameEnrichmentRequestedEvent;
+import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.catalog.service.EnrichmentPipeline.AiTask;
+import com.pstracker.catalog_service.catalog.service.EnrichmentPipeline.IgdbTask;
+import com.pstracker.catalog_service.global.util.MutableClock;
+import com.pstracker.catalog_service.global.util.TokenBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EnrichmentPipelineTest {
+
+    private static final EnrichmentPipeline.Settings SETTINGS = new EnrichmentPipeline.Settings(
+            3, 1, 10, 2, Duration.ofMinutes(1), true, 2, Duration.ZERO);
+
+    @Mock
+    private IgdbEnrichmentService igdbEnrichmentService;
+
+    @Mock
+    private AiService aiService;
+
+    @Mock
+    private CatalogService catalogService;
+
+    @Mock
+    private GameRepository gameRepository;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("AI 묶음은 이미 채워진 게임을 빼고 1번에 호출하며, 응답에서 빠진 게임은 미분류로 반영한다.")
+    void processAiBatch_SkipsFilledGamesAndAppliesInsights() throws InterruptedException {
+        // given: 3번 게임은 큐에서 기다리는 사이 채워짐
+        EnrichmentPipeline pipeline = pipeline();
+        Game game1 = game(1L, true);
+        Game game2 = game(2L, true);
+        Game game3 = game(3L, false);
+        given(gameRepository.findAllById(List.of(1L, 2L, 3L))).willReturn(List.of(game1, game2, game3));
+        AiInsightDto insight = new AiInsightDto(1L, "요약", List.of("#액션RPG"), List.of("엘든"));
+        given(aiService.generateBatchInsights(List.of(game1, game2))).willReturn(List.of(insight));
+        given(catalogService.applyAiInsights(List.of(1L, 2L), Map.of(1L, insight))).willReturn(1);
+
+        // when
+        pipeline.processAiBatch(List.of(new AiTask(1L, 0), new AiTask(2L, 0), new AiTask(3L, 0)));
+
+        // then
+        then(catalogService).should().applyAiInsights(List.of(1L, 2L), Map.of(1L, insight));
+        assertThat(pipeline.remainingAiCalls()).isEqualTo(1);
+        assertThat(meterRegistry.counter("enrichment.tasks", "stage", "ai", "result", "completed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("enrichment.tasks", "stage", "ai", "result", "unclassified").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("AI 할당량 초과(429)면 오늘 남은 호출을 0으로 만들고 묶음을 다시 큐에 넣으며, 날짜가 바뀌면 할당량이 돌아온다.")
+    void processAiBatch_TooManyRequests_PausesUntilNextDay() throws InterruptedException {
+        // given
+        EnrichmentPipeline pipeline = pipeline();
+        Game game1 = game(1L, true);
+        given(gameRepository.findAllById(List.of(1L))).willReturn(List.of(game1));
+        given(aiService.generateBatchInsights(List.of(game1))).willThrow(
+                HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "quota", HttpHeaders.EMPTY, null, null));
+
+        // when
+        pipeline.processAiBatch(List.of(new AiTask(1L, 0)));
+
+        // then
+        assertThat(pipeline.remainingAiCalls()).isZero();
+        assertThat(pipeline.queuedAiCount()).isEqualTo(1);
+        then(catalogService).shouldHaveNoInteractions();
+
+        // when: 다음 날
+        clock.advance(Duration.ofDays(1));
+
+        // then
+        assertThat(pipeline.remainingAiCalls()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("빈 AI 응답은 시도 횟수가 남았으면 retry-delay 뒤 다시 큐에 넣고, 다 쓰면 포기한다.")
+    void processAiBatch_EmptyResponse_RetriesUntilMaxAttempts() throws InterruptedException {
+        // given
+        EnrichmentPipeline pipeline = pipeline();
+        Game game1 = game(1L, true);
+        given(gameRepository.findAllById(List.of(1L))).willReturn(List.of(game1));
+        given(aiService.generateBatchInsights(List.of(game1))).willReturn(List.of());
+
+        // when
+        pipeline.processAiBatch(List.of(new AiTask(1L, 0)));
+        pipeline.processAiBatch(List.of(new AiTask(1L, 1)));
+        pipeline.promoteDueRetries();
+
+        // then: 아직 재시도 시각 전
+        assertThat(pipeline.queuedAiCount()).isZero();
+
+        // when
+        clock.advance(Duration.ofMinutes(1));
+        pipeline.promoteDueRetries();
+
+        // then
+        assertThat(pipeline.queuedAiCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("enrichment.tasks", "stage", "ai", "result", "retried").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("enrichment.tasks", "stage", "ai", "result", "failed").count()).isEqualTo(1);
+        then(catalogService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("AI 대상 조회가 실패해도 묶음을 버리지 않고 재시도로 센다.")
+    void processAiBatch_LookupFailure_Retried() throws InterruptedException {
+        // given
+        EnrichmentPipeline pipeline = pipeline();
+        given(gameRepository.findAllById(List.of(1L, 2L))).willThrow(new IllegalStateException("DB down"));
+
+        // when
+        pipeline.processAiBatch(List.of(new AiTask(1L, 0), new AiTask(2L, 1)));
+
+        // then: 1번은 재시도, 2번은 시도 횟수를 다 씀
+        assertThat(meterRegistry.counter("enrichment.tasks", "stage", "ai", "result", "retried").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("enrichment.tasks", "stage", "ai", "result", "failed").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("enrichment.retry_queue").tag("stage", "ai").gauge().value()).isEqualTo(1);
+        then(aiService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("IGDB 보강이 실패하면 워커를 멈추지 않고 retry-delay 뒤 다시 큐에 넣으며, 큐가 가득 차 있으면 버리고 센다.")
+    void igdb_FailureRetriedAndOverflowDropped() {
+        // given
+        EnrichmentPipeline pipeline = pipeline();
+        given(igdbEnrichmentService.resolveAll(Map.of(1L, "Elden Ring"))).willThrow(new IllegalStateException("DB down"));
+
+        // when: 실패 직후 신규 3건으로 큐(3)가 참
+        pipeline.processIgdbBatch(List.of(new IgdbTask(1L, "Elden Ring", 0)));
+        pipeline.submit(new GameEnrichmentRequestedEvent(
+                Map.of(2L, "A", 3L, "B", 4L, "C"), Set.of()));
+
+        // then
+        assertThat(pipeline.queuedIgdbCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("enrichment.retry_queue").tag("stage", "igdb").gauge().value()).isEqualTo(1);
+
+        // when: 재시도 시각이 지나 옮기려는데 큐가 가득 참
+        clock.advance(Duration.ofMinutes(1));
+        pipeline.promoteDueRetries();
+
+        // then
+        assertThat(meterRegistry.counter("enrichment.tasks", "stage", "igdb", "result", "retried").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("enrichment.tasks", "stage", "igdb", "result", "dropped").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("enrichment.queue").tag("stage", "igdb").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("enrichment.retry_queue").tag("stage", "igdb").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("IGDB 호출이 실패한 게임만 재시도하고, 매칭됐거나 결과가 없는 게임은 완료로 센다.")
+    void processIgdbBatch_RetriesOnlyFailedLookups() {
+        // given: 1번 매칭, 2번 결과 없음, 3번 IGDB 호출 실패
+        EnrichmentPipeline pipeline = pipeline();
+        IgdbGameResponse eldenRing = new IgdbGameResponse(10L, "Elden Ring", 96.0, 80, 90.0, 3000, null, 3080);
+        given(igdbEnrichmentService.resolveAll(Map.of(1L, "Elden Ring", 2L, "Unknown", 3L, "Astro Bot")))
+                .willReturn(new IgdbEnrichmentService.Resolution(Map.of(1L, eldenRing), Set.of(3L)));
+        given(catalogService.applyIgdbRatings(Map.of(1L, eldenRing))).willReturn(1);
+
+        // when
+        pipeline.processIgdbBatch(List.of(
+                new IgdbTask(1L, "Elden Ring", 0), new IgdbTask(2L, "Unknown", 0), new IgdbTask(3L, "Astro Bot", 0)));
+
+        // then
+        assertThat(meterRegistry.counter("enrichment.tasks", "stage", "igdb", "result", "completed").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("enrichment.tasks", "stage", "igdb", "result", "retried").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("enrichment.retry_queue").tag("stage", "igdb").gauge().value()).isEqualTo(1);
+
+        // when: 재시도 시각이 지나면 실패한 게임만 큐로 돌아온다
+        clock.advance(Duration.ofMinutes(1));
+        pipeline.promoteDueRetries();
+
+        // then
+        assertThat(pipeline.queuedIgdbCount()).isEqualTo(1);
+    }
+
+    // --- Helpers ---
+    private EnrichmentPipeline pipeline() {
+        return new EnrichmentPipeline(igdbEnrichmentService, aiService, catalogService, gameRepository,
+                meterRegistry, SETTINGS, new TokenBucket(1000), clock);
+    }
+
+    private static Game game(Long id, boolean needsAiInsights) {
+        Game game = mock(Game.class);
+        given(game.needsAiInsights()).willReturn(needsAiInsights);
+        if (needsAiInsights) {
+            lenient().when(game.getId()).thenReturn(id);
+        }
+        return game;
+    }
+}
@@ -0,0 +1,224 @@
+package com.pstracker.catalog_service.catalog.service;
+
+import com.pstracker.catalog_service.catalog.dto.igdb.IgdbGameResponse;
+import com.pstracker.catalog_service.global.client.igdb.IgdbAuthClient;
+import com.pstracker.catalog_service.global.client.igdb.IgdbGameClient;
+import com.pstracker.catalog_service.global.client.igdb.IgdbTokenManager;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * IgdbGateway를 로컬 HTTP 스텁(IGDB /multiquery·토큰 발급 흉내)에 붙여 오프라인으로 검증한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class IgdbGatewayTest {
+
+    private static final Pattern QUERY = Pattern.compile("query games \"(\\d+)\" \\{.*?search \"([^\"]*)\";");
+
+    @Mock private IgdbMatchCacheService matchCacheService;
+
+    private HttpServer server;
+    private IgdbGateway gateway;
+
+    // 스텁 IGDB: 검색어 → 결과 JSON 배열
+    private final Map<String, String> gamesBySearch = new ConcurrentHashMap<>();
+    private final List<String> multiQueryBodies = new CopyOnWriteArrayList<>();
+    private volatile int multiQueryStatus = 200;
+    // 0보다 크면 그 수만큼 /multiquery 요청을 429로 실패시킨 뒤 정상 응답
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/oauth2/token", exchange ->
+                respond(exchange, 200, "{\"access_token\":\"stub-token\",\"expires_in\":5000000,\"token_type\":\"bearer\"}"));
+        server.createContext("/v4/multiquery", this::handleMultiQuery);
+        server.start();
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Executor executor = Executors.newVirtualThreadPerTaskExecutor();
+        IgdbTokenManager tokenManager = new IgdbTokenManager(
+                client(baseUrl + "/oauth2/token", IgdbAuthClient.class),
+                executor, meterRegistry, "client-id", "client-secret", Duration.ofDays(1));
+        gateway = new IgdbGateway(
+                tokenManager,
+                client(baseUrl + "/v4", IgdbGameClient.class),
+                matchCacheService,
+                executor,
+                meterRegistry,
+                "client-id",
+                100, Duration.ofMillis(200), Duration.ofMillis(50), 2);
+        gateway.start();
+
+        lenient().when(matchCacheService.find(anyString())).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        gateway.stop();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 검색은 /multiquery 요청 1번으로 묶이고, 결과는 타이틀별 Future로 나뉘어 돌아온다")
+    void lookup_CoalescesIntoOneMultiQuery() throws Exception {
+        // given
+        gamesBySearch.put("Stellar Blade", game(1, "Stellar Blade", 350));
+        gamesBySearch.put("Astro Bot", game(2, "Astro Bot", 900));
+
+        // when
+        CompletableFuture<IgdbGameResponse> stellar = gateway.lookup("Stellar Blade");
+        CompletableFuture<IgdbGameResponse> astro = gateway.lookup("Astro Bot");
+        CompletableFuture<IgdbGameResponse> astroAgain = gateway.lookup("Astro Bot"); // 진행 중인 검색 공유
+
+        // then
+        assertThat(stellar.get(5, TimeUnit.SECONDS).id()).isEqualTo(1L);
+        assertThat(astro.get(5, TimeUnit.SECONDS).id()).isEqualTo(2L);
+        assertThat(astroAgain).isSameAs(astro);
+        assertThat(multiQueryBodies).hasSize(1);
+        then(matchCacheService).should().storeMatch(eq("Stellar Blade"), any());
+        then(matchCacheService).should().storeMatch(eq("Astro Bot"), any());
+    }
+
+    @Test
+    @DisplayName("1단계 결과가 없으면 정규화한 검색어로 다음 배치에서 다시 찾는다")
+    void lookup_FallsBackToNormalizedStage() throws Exception {
+        // given: 에디션명을 뗀 검색어에만 결과가 있음
+        gamesBySearch.put("Elden Ring", game(3, "Elden Ring", 5000));
+
+        // when
+        IgdbGameResponse result = gateway.lookup("Elden Ring Deluxe Edition").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.name()).isEqualTo("Elden Ring");
+        assertThat(multiQueryBodies).hasSize(2);
+        assertThat(multiQueryBodies.get(0)).contains("search \"Elden Ring Deluxe Edition\";");
+        assertThat(multiQueryBodies.get(1)).contains("search \"Elden Ring\";");
+    }
+
+    @Test
+    @DisplayName("매칭 캐시가 있으면 IGDB를 호출하지 않는다")
+    void lookup_CacheHit_SkipsIgdb() throws Exception {
+        // given
+        given(matchCacheService.find("Stellar Blade"))
+                .willReturn(Optional.of(new IgdbMatchCacheService.CachedMatch(null))); // 부정 캐시
+
+        // when & then
+        assertThat(gateway.lookup("Stellar Blade").get(1, TimeUnit.SECONDS)).isNull();
+        assertThat(multiQueryBodies).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모든 단계가 결과 없음이면 부정 캐시하고, IGDB 오류가 계속되면 캐시하지 않고 예외로 끝낸다")
+    void lookup_NegativeCachingOnlyWithoutErrors() throws Exception {
+        // when: 결과 없음
+        assertThat(gateway.lookup("Unknown Indie Title").get(5, TimeUnit.SECONDS)).isNull();
+
+        // when: IGDB 5xx (재시도 2번까지 모두 실패)
+        multiQueryStatus = 500;
+        multiQueryBodies.clear();
+        CompletableFuture<IgdbGameResponse> astro = gateway.lookup("Astro Bot");
+        assertThatThrownBy(() -> astro.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(multiQueryBodies).hasSize(3);
+
+        // then
+        then(matchCacheService).should().storeMiss("Unknown Indie Title");
+        then(matchCacheService).should(never()).storeMiss("Astro Bot");
+        then(matchCacheService).should(never()).storeMatch(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("요청이 일시적으로 실패하면(429) 다음 단계로 넘어가지 않고 같은 검색어를 백오프 뒤 다시 보낸다")
+    void lookup_TransientError_RetriesSameStage() throws Exception {
+        // given: 1단계 검색어에만 결과가 있고, 처음 두 요청은 429
+        gamesBySearch.put("Elden Ring Deluxe Edition", game(3, "Elden Ring", 5000));
+        failuresLeft.set(2);
+
+        // when
+        IgdbGameResponse result = gateway.lookup("Elden Ring Deluxe Edition").get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.id()).isEqualTo(3L);
+        assertThat(multiQueryBodies).hasSize(3)
+                .allSatisfy(body -> assertThat(body).contains("search \"Elden Ring Deluxe Edition\";"));
+        then(matchCacheService).should().storeMatch(eq("Elden Ring Deluxe Edition"), any());
+    }
+
+    private void handleMultiQuery(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        multiQueryBodies.add(body);
+        if (failuresLeft.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+            respond(exchange, 429, "[]");
+            return;
+        }
+        if (multiQueryStatus != 200) {
+            respond(exchange, multiQueryStatus, "[]");
+            return;
+        }
+
+        StringBuilder json = new StringBuilder("[");
+        Matcher matcher = QUERY.matcher(body);
+        while (matcher.find()) {
+            if (json.length() > 1) json.append(',');
+            json.append("{\"name\":\"").append(matcher.group(1)).append("\",\"result\":")
+                    .append(gamesBySearch.getOrDefault(matcher.group(2), "[]")).append('}');
+        }
+        respond(exchange, 200, json.append(']').toString());
+    }
+
+    private static String game(long id, String name, int totalRatingCount) {
+        return "[{\"id\":" + id + ",\"name\":\"" + name + "\",\"aggregated_rating\":85.0,\"aggregated_rating_count\":40,"
+                + "\"rating\":80.0,\"rating_count\":300,\"total_rating_count\":" + totalRatingCount + "}]";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static <T> T client(String baseUrl, Class<T> type) {
+        RestClient restClient = RestClient.builder().baseUrl(baseUrl).build();
+        return HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient)).build().createClient(type);
+    }
+}
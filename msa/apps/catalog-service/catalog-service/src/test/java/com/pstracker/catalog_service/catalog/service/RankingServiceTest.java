@@ -0,0 +1,119 @@
+package com.pstracker.catalog_service.catalog.service;
+
+import com.pstracker.catalog_service.ai.service.AiService;
+import com.pstracker.catalog_service.catalog.dto.CollectRequest;
+import com.pstracker.catalog_service.catalog.dto.RankingUpdateRequest;
+import com.pstracker.catalog_service.catalog.event.RankingsUpdatedEvent;
+import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.catalog.search.GameSearchIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@RecordApplicationEvents
+class RankingServiceTest {
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private EntityManager em;
+
+    @MockitoBean
+    private IgdbEnrichmentService igdbEnrichmentService;
+
+    @MockitoBean
+    private AiService aiService;
+
+    @BeforeEach
+    void setUp() {
+        catalogService.upsertGameDataBulk(List.of(
+                createDto("RANK-A"), createDto("RANK-B"), createDto("RANK-C")));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("순위 목록 순서대로 순위를 부여하고, 없는 게임은 건너뛰며 반복된 게임은 앞 순위를 유지한다.")
+    void updateRankings_AssignsRanksInOrder() {
+        // when
+        rankingService.updateRankings(request("BEST_SELLER", List.of("RANK-B", "RANK-A", "UNKNOWN", "RANK-B")));
+
+        // then
+        assertThat(bestSellerRank("RANK-B")).isEqualTo(1);
+        assertThat(bestSellerRank("RANK-A")).isEqualTo(2);
+        assertThat(bestSellerRank("RANK-C")).isNull();
+        assertThat(events.stream(RankingsUpdatedEvent.class).toList())
+                .singleElement()
+                .satisfies(e -> assertThat(e.getRankType()).isEqualTo(GameSearchIndex.RankType.BEST_SELLER));
+    }
+
+    @Test
+    @DisplayName("새 순위로 교체하면 목록에서 빠진 게임의 순위는 비워지고, 다른 랭킹 타입은 그대로다.")
+    void updateRankings_ReplacesPreviousRanks() {
+        // given
+        rankingService.updateRankings(request("BEST_SELLER", List.of("RANK-A", "RANK-B")));
+        rankingService.updateRankings(request("MOST_DOWNLOADED", List.of("RANK-C")));
+
+        // when
+        rankingService.updateRankings(request("BEST_SELLER", List.of("RANK-C", "RANK-A")));
+
+        // then
+        assertThat(bestSellerRank("RANK-C")).isEqualTo(1);
+        assertThat(bestSellerRank("RANK-A")).isEqualTo(2);
+        assertThat(bestSellerRank("RANK-B")).isNull();
+        assertThat(gameRepository.findByPsStoreId("RANK-C").orElseThrow().getMostDownloadedRank()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 랭킹 타입이면 아무것도 바꾸지 않는다.")
+    void updateRankings_UnknownType() {
+        rankingService.updateRankings(request("WHATEVER", List.of("RANK-A")));
+
+        assertThat(bestSellerRank("RANK-A")).isNull();
+        assertThat(events.stream(RankingsUpdatedEvent.class)).isEmpty();
+    }
+
+    private Integer bestSellerRank(String psStoreId) {
+        em.clear();
+        return gameRepository.findByPsStoreId(psStoreId).orElseThrow().getBestSellerRank();
+    }
+
+    private static RankingUpdateRequest request(String type, List<String> psStoreIds) {
+        RankingUpdateRequest request = new RankingUpdateRequest();
+        request.setRankingType(type);
+        request.setPsStoreIds(psStoreIds);
+        return request;
+    }
+
+    private static CollectRequest createDto(String psStoreId) {
+        return new CollectRequest(psStoreId, psStoreId, psStoreId, "Publisher", "http://img.com", "Desc",
+                10000, 10000, 0, null, "Action", LocalDate.of(2024, 1, 1),
+                false, false, List.of("PS5"), false, null);
+    }
+}
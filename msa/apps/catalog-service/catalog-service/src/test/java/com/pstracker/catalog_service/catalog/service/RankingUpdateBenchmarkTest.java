@@ -0,0 +1,149 @@
+package com.pstracker.catalog_service.catalog.service;
+
+import com.pstracker.catalog_service.ai.service.AiService;
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.dto.CollectRequest;
+import com.pstracker.catalog_service.catalog.dto.RankingUpdateRequest;
+import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 랭킹 반영: 순위별 UPDATE 루프(이전 방식) vs CASE 식 일괄 UPDATE (H2 test 프로필).
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ * 이전 방식은 JPQL @Modifying 루프와 같은 SQL을 JdbcTemplate으로 재현한다. (전체 초기화 1번 + 순위당 UPDATE 1번)
+ */
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class RankingUpdateBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingUpdateBenchmarkTest.class);
+
+    private static final int GAME_COUNT = 3000;
+    private static final int RANKED_COUNT = 600;
+    private static final int ROUNDS = 5;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private GameRepository gameRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private IgdbEnrichmentService igdbEnrichmentService;
+
+    @MockitoBean
+    private AiService aiService;
+
+    private final List<String> psStoreIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        IntStream.range(0, GAME_COUNT).forEach(i -> psStoreIds.add("BENCH-RANK-" + i));
+        for (int from = 0; from < GAME_COUNT; from += CatalogService.MAX_BULK_COLLECT_SIZE) {
+            catalogService.upsertGameDataBulk(psStoreIds.subList(from, Math.min(from + CatalogService.MAX_BULK_COLLECT_SIZE, GAME_COUNT))
+                    .stream()
+                    .map(RankingUpdateBenchmarkTest::request)
+                    .toList());
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        List<Long> ids = gameRepository.findAllByPsStoreIdInWithGenres(psStoreIds).stream().map(Game::getId).toList();
+        if (!ids.isEmpty()) {
+            catalogService.bulkDeleteGames(ids);
+        }
+    }
+
+    @Test
+    @DisplayName("CASE 식 일괄 UPDATE가 순위별 UPDATE 루프보다 빠르고 결과는 같다")
+    void loopVsSetBased() {
+        Random random = new Random(42);
+        List<List<String>> rankings = IntStream.range(0, ROUNDS + 1)
+                .mapToObj(r -> {
+                    List<String> shuffled = new ArrayList<>(psStoreIds);
+                    Collections.shuffle(shuffled, random);
+                    return List.copyOf(shuffled.subList(0, RANKED_COUNT));
+                })
+                .toList();
+
+        // 워밍업
+        legacyLoop(rankings.get(0));
+        rankingService.updateRankings(request("BEST_SELLER", rankings.get(0)));
+
+        long loopMs = measure(() -> rankings.subList(1, ROUNDS + 1).forEach(this::legacyLoop));
+        long setMs = measure(() -> rankings.subList(1, ROUNDS + 1)
+                .forEach(ranking -> rankingService.updateRankings(request("BEST_SELLER", ranking))));
+
+        log.info("[ranking benchmark] games={} ranked={} x{} rounds | loop: {}ms | set-based: {}ms | x{}",
+                GAME_COUNT, RANKED_COUNT, ROUNDS, loopMs, setMs,
+                String.format("%.1f", (double) loopMs / Math.max(1, setMs)));
+
+        List<String> last = rankings.get(ROUNDS);
+        assertThat(gameRepository.findByPsStoreId(last.get(0)).orElseThrow().getBestSellerRank()).isEqualTo(1);
+        assertThat(gameRepository.findByPsStoreId(last.get(RANKED_COUNT - 1)).orElseThrow().getBestSellerRank())
+                .isEqualTo(RANKED_COUNT);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM games WHERE best_seller_rank IS NOT NULL", Integer.class))
+                .isEqualTo(RANKED_COUNT);
+        assertThat(setMs).isLessThan(loopMs);
+    }
+
+    private void legacyLoop(List<String> ranking) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE games SET best_seller_rank = NULL");
+            for (int i = 0; i < ranking.size(); i++) {
+                jdbcTemplate.update("UPDATE games SET best_seller_rank = ? WHERE ps_store_id = ?", i + 1, ranking.get(i));
+            }
+        });
+    }
+
+    private static long measure(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static RankingUpdateRequest request(String type, List<String> psStoreIds) {
+        RankingUpdateRequest request = new RankingUpdateRequest();
+        request.setRankingType(type);
+        request.setPsStoreIds(psStoreIds);
+        return request;
+    }
+
+    private static CollectRequest request(String psStoreId) {
+        return new CollectRequest(psStoreId, psStoreId, psStoreId, "Publisher", "http://img.com", "Desc",
+                10000, 10000, 0, null, "Action", LocalDate.of(2024, 1, 1),
+                false, false, List.of("PS5"), false, null);
+    }
+}
@@ -0,0 +1,94 @@
+package com.pstracker.catalog_service.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TwoTierCacheTest {
+
+    private static final String CACHE_NAME = "gameDetailCache";
+
+    private LocalSharedCacheStore shared;
+    private TwoTierCache replicaA;
+    private TwoTierCache replicaB;
+
+    @BeforeEach
+    void setUp() {
+        // 같은 L2·무효화 채널을 공유하는 두 레플리카
+        shared = new LocalSharedCacheStore();
+        LocalCacheInvalidationBus bus = new LocalCacheInvalidationBus();
+        replicaA = replica("A", bus);
+        replicaB = replica("B", bus);
+    }
+
+    @Test
+    @DisplayName("한 레플리카가 로드한 값은 L2에 직렬화되어 다른 레플리카가 로더 없이 읽는다")
+    void get_SharesLoadedValueThroughL2() {
+        AtomicInteger loads = new AtomicInteger();
+
+        List<String> fromA = replicaA.get(1L, () -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(List.of("price:30000"));
+        });
+        List<String> fromB = replicaB.get(1L, () -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(List.of("unexpected"));
+        });
+
+        assertThat(loads).hasValue(1);
+        assertThat(fromB).isEqualTo(fromA).isNotSameAs(fromA);
+        assertThat(shared.get(CACHE_NAME, "1")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("evict는 L2와 모든 레플리카의 L1에서 제거되어 다른 레플리카도 이전 값을 내주지 않는다")
+    void evict_BroadcastsToOtherReplicas() {
+        replicaA.put(1L, "old");
+        assertThat(replicaB.get(1L, String.class)).isEqualTo("old"); // B의 L1에 적재
+
+        replicaA.evict(1L);
+
+        assertThat(replicaB.get(1L)).isNull();
+        assertThat(replicaA.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("put으로 값을 교체하면 다른 레플리카는 L1을 비우고 L2의 새 값을 읽는다")
+    void put_ReplacesValueOnOtherReplicas() {
+        replicaA.put("snapshot", "v1");
+        assertThat(replicaB.get("snapshot", String.class)).isEqualTo("v1");
+
+        replicaA.put("snapshot", "v2");
+
+        assertThat(replicaB.get("snapshot", String.class)).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("clear는 L2와 다른 레플리카의 L1을 모두 비우고, null 값도 캐싱된다")
+    void clear_AndNullValues() {
+        replicaA.put(1L, "a");
+        replicaA.put(2L, null);
+        assertThat(replicaB.get(2L)).isNotNull(); // null도 캐시 항목으로 존재
+        assertThat(replicaB.get(2L).get()).isNull();
+        replicaB.get(1L);
+
+        replicaA.clear();
+
+        assertThat(replicaB.get(1L)).isNull();
+        assertThat(replicaB.get(2L)).isNull();
+    }
+
+    private TwoTierCache replica(String origin, CacheInvalidationBus bus) {
+        return new TwoTierCache(CACHE_NAME, Caffeine.newBuilder().maximumSize(100).build(),
+                shared, bus, origin, Duration.ofHours(1), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,129 @@
+package com.pstracker.catalog_service.global.client.collector;
+
+import com.pstracker.catalog_service.global.client.collector.CollectorLoadBalancer.Collector;
+import com.pstracker.catalog_service.global.util.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CollectorLoadBalancerTest {
+
+    private static final CollectorLoadBalancer.Settings SETTINGS = new CollectorLoadBalancer.Settings(
+            2, Duration.ofSeconds(30), Duration.ofSeconds(50), Duration.ofSeconds(10));
+    private static final Duration LATENCY = Duration.ofMillis(20);
+
+    @Mock
+    private CollectorClientManager clientManager;
+
+    @Mock
+    private CollectorApiClient collector0;
+
+    @Mock
+    private CollectorApiClient collector1;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("진행 중 작업이 적은 수집기를 먼저 고르고, 같으면 오류율이 낮은 수집기를 고른다.")
+    void acquire_PicksLeastLoadedThenHealthiest() {
+        // given
+        CollectorLoadBalancer balancer = balancer();
+        Collector first = balancer.acquire(2).orElseThrow();
+        Collector second = balancer.acquire(2).orElseThrow();
+
+        // then: 첫 자리는 #0, 다음은 한가한 #1
+        assertThat(first.index()).isZero();
+        assertThat(second.index()).isEqualTo(1);
+        assertThat(balancer.freeCapacity(2)).isEqualTo(2);
+
+        // when: #0 전송 실패(자리 반납) → 둘 다 진행 중 작업 없음·#1 정상
+        balancer.onError(first, LATENCY);
+        balancer.release(second);
+
+        // then
+        assertThat(balancer.acquire(2).orElseThrow().index()).isEqualTo(1);
+        assertThat(meterRegistry.get("crawler.collector.in_flight").tag("collector", "1").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 쌓이면 제외하고, 다시 실패하면 제외 시간을 2배(상한)로 늘리며, 성공하면 초기화한다.")
+    void onError_EjectsWithGrowingDurationUntilSuccess() {
+        // given
+        CollectorLoadBalancer balancer = balancer();
+
+        // when: #0 연속 2번 실패
+        failOnCollector0(balancer, 2);
+
+        // then: 30초 제외 → #1만 고른다
+        assertThat(balancer.freeCapacity(1)).isEqualTo(1);
+        assertThat(meterRegistry.counter("crawler.collector.ejections", "collector", "0").count()).isEqualTo(1);
+
+        // when: 제외가 끝나고 다시 실패 → 60초지만 상한 50초
+        clock.advance(Duration.ofSeconds(31));
+        failOnCollector0(balancer, 1);
+        clock.advance(Duration.ofSeconds(49));
+
+        // then
+        assertThat(balancer.freeCapacity(1)).isEqualTo(1);
+
+        // when: 제외가 끝나고 성공 (오류율이 높아 #1 다음으로 고른다)
+        clock.advance(Duration.ofSeconds(2));
+        Collector other = balancer.acquire(1).orElseThrow();
+        Collector recovered = balancer.acquire(1).orElseThrow();
+        balancer.onSent(recovered, LATENCY);
+        balancer.release(recovered);
+        balancer.release(other);
+        failOnCollector0(balancer, 1);
+
+        // then: 연속 실패가 초기화돼 1번 실패로는 제외하지 않음
+        assertThat(recovered.index()).isZero();
+        assertThat(balancer.freeCapacity(1)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("바쁨(409)은 오류로 세지 않고 busy-backoff 동안만 건너뛴다.")
+    void onBusy_SkipsWithoutCountingAsError() {
+        // given
+        CollectorLoadBalancer balancer = balancer();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            balancer.onBusy(balancer.acquire(1).orElseThrow());
+            clock.advance(Duration.ofSeconds(11));
+        }
+
+        // then
+        assertThat(meterRegistry.counter("crawler.collector.ejections", "collector", "0").count()).isZero();
+        assertThat(meterRegistry.get("crawler.collector.error_rate").tag("collector", "0").gauge().value()).isZero();
+        assertThat(balancer.freeCapacity(1)).isEqualTo(2);
+    }
+
+    // --- Helpers ---
+    private CollectorLoadBalancer balancer() {
+        given(clientManager.getAll()).willReturn(List.of(collector0, collector1));
+        return new CollectorLoadBalancer(clientManager, meterRegistry, SETTINGS, clock);
+    }
+
+    // #1은 자리를 잡아 두고 #0에서만 실패시킨다
+    private static void failOnCollector0(CollectorLoadBalancer balancer, int times) {
+        for (int i = 0; i < times; i++) {
+            Collector busy = balancer.acquire(1).orElseThrow();
+            Collector other = balancer.acquire(1).orElseThrow();
+            Collector target = busy.index() == 0 ? busy : other;
+            balancer.release(target == busy ? other : busy);
+            balancer.onError(target, LATENCY);
+        }
+    }
+}
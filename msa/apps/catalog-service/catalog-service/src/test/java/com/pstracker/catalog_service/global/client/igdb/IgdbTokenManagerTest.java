@@ -0,0 +1,134 @@
+package com.pstracker.catalog_service.global.client.igdb;
+
+import com.pstracker.catalog_service.catalog.dto.igdb.IgdbAuthResponse;
+import com.pstracker.catalog_service.global.util.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IgdbTokenManagerTest {
+
+    private static final Duration REFRESH_BEFORE = Duration.ofMinutes(10);
+
+    @Mock private IgdbAuthClient igdbAuthClient;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+    @Test
+    @DisplayName("토큰이 없을 때 동시에 요청해도 발급은 1번만 나가고 모두 같은 토큰을 받는다")
+    void getToken_ConcurrentRequests_SingleIssue() throws Exception {
+        // given: 발급에 300ms 걸리는 인증 서버
+        given(igdbAuthClient.getAccessToken(any(), any(), any())).willAnswer(inv -> {
+            Thread.sleep(300);
+            return new IgdbAuthResponse("t1", 3600L, "bearer");
+        });
+        IgdbTokenManager tokenManager = tokenManager(Executors.newVirtualThreadPerTaskExecutor());
+
+        // when
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> tokens = IntStream.range(0, 20)
+                    .mapToObj(i -> callers.submit(() -> {
+                        start.await();
+                        return tokenManager.getToken();
+                    }))
+                    .toList();
+            start.countDown();
+
+            // then
+            for (Future<String> token : tokens) {
+                assertThat(token.get()).isEqualTo("t1");
+            }
+        }
+        then(igdbAuthClient).should(times(1)).getAccessToken(any(), any(), any());
+        assertThat(meterRegistry.counter("igdb.token.waits").count()).isEqualTo(20);
+        assertThat(meterRegistry.timer("igdb.token.refresh", "outcome", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 전 refresh-before 구간에서는 기존 토큰을 바로 돌려주고 백그라운드에서 재발급한다")
+    void getToken_NearExpiry_RefreshesProactively() {
+        // given: 재발급을 호출 스레드에서 바로 실행
+        given(igdbAuthClient.getAccessToken(any(), any(), any()))
+                .willReturn(new IgdbAuthResponse("t1", 3600L, "bearer"))
+                .willReturn(new IgdbAuthResponse("t2", 3600L, "bearer"));
+        IgdbTokenManager tokenManager = tokenManager(Runnable::run);
+        assertThat(tokenManager.getToken()).isEqualTo("t1");
+
+        // when: 만료 5분 전
+        clock.advance(Duration.ofMinutes(55));
+
+        // then: 이번 요청은 기존 토큰, 다음 요청부터 새 토큰. 기다린 요청은 최초 1번뿐
+        assertThat(tokenManager.getToken()).isEqualTo("t1");
+        assertThat(tokenManager.getToken()).isEqualTo("t2");
+        assertThat(meterRegistry.counter("igdb.token.waits").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("401을 받은 토큰만 버리고, 이미 교체된 토큰에 대한 invalidate는 무시한다")
+    void invalidate_OnlyRejectedToken() {
+        // given
+        given(igdbAuthClient.getAccessToken(any(), any(), any()))
+                .willReturn(new IgdbAuthResponse("t1", 3600L, "bearer"))
+                .willReturn(new IgdbAuthResponse("t2", 3600L, "bearer"));
+        IgdbTokenManager tokenManager = tokenManager(Runnable::run);
+        tokenManager.getToken();
+
+        // when
+        tokenManager.invalidate("t1");
+        String renewed = tokenManager.getToken();
+        tokenManager.invalidate("t1"); // 늦게 도착한 401
+
+        // then
+        assertThat(renewed).isEqualTo("t2");
+        assertThat(tokenManager.getToken()).isEqualTo("t2");
+        then(igdbAuthClient).should(times(2)).getAccessToken(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("재발급 실행이 거절되면 이번 요청은 실패하고, 다음 요청이 다시 발급한다")
+    void getToken_ExecutorRejects_NextRequestRetries() {
+        // given: 첫 실행만 거절하는 실행기
+        given(igdbAuthClient.getAccessToken(any(), any(), any()))
+                .willReturn(new IgdbAuthResponse("t1", 3600L, "bearer"));
+        AtomicBoolean rejectNext = new AtomicBoolean(true);
+        IgdbTokenManager tokenManager = tokenManager(task -> {
+            if (rejectNext.getAndSet(false)) throw new RejectedExecutionException("shutting down");
+            task.run();
+        });
+
+        // when & then
+        assertThatThrownBy(tokenManager::getToken)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(tokenManager.getToken()).isEqualTo("t1");
+        then(igdbAuthClient).should(times(1)).getAccessToken(any(), any(), any());
+    }
+
+    private IgdbTokenManager tokenManager(Executor executor) {
+        return new IgdbTokenManager(igdbAuthClient, executor, meterRegistry,
+                "client-id", "client-secret", REFRESH_BEFORE, clock);
+    }
+}
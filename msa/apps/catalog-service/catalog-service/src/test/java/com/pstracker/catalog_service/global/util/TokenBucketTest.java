@@ -0,0 +1,37 @@
+package com.pstracker.catalog_service.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("버스트(capacity)만큼 즉시 통과하고, 이후에는 초당 허용량에 맞춰 토큰이 다시 찬다")
+    void tryAcquire_RefillsAtConfiguredRate() {
+        // given: 초당 4건, 버스트 4
+        AtomicLong now = new AtomicLong();
+        TokenBucket bucket = new TokenBucket(4, 4, now::get);
+
+        // when & then
+        for (int i = 0; i < 4; i++) {
+            assertThat(bucket.tryAcquire()).isTrue();
+        }
+        assertThat(bucket.tryAcquire()).isFalse();
+        assertThat(bucket.nanosUntilNextToken()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(250));
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        // 오래 쉬어도 capacity 이상 쌓이지 않는다
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        int acquired = 0;
+        while (bucket.tryAcquire()) acquired++;
+        assertThat(acquired).isEqualTo(4);
+    }
+}
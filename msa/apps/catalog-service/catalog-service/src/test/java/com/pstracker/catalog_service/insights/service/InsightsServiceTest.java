@@ -0,0 +1,108 @@
+package com.pstracker.catalog_service.insights.service;
+
+import com.pstracker.catalog_service.ai.service.AiService;
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.catalog.service.IgdbEnrichmentService;
+import com.pstracker.catalog_service.insights.dto.InsightsSnapshot;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+import static com.pstracker.catalog_service.global.config.GlobalCacheConfig.INSIGHTS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class InsightsServiceTest {
+
+    @Autowired private InsightsService insightsService;
+    @Autowired private GameRepository gameRepository;
+    @Autowired private CacheManager cacheManager;
+    @Autowired private EntityManager em;
+
+    @MockitoBean private IgdbEnrichmentService igdbEnrichmentService;
+    @MockitoBean private AiService aiService;
+
+    @AfterEach
+    void tearDown() {
+        // 롤백된 테스트 데이터로 만든 스냅샷이 다른 테스트에 남지 않도록 비운다
+        Objects.requireNonNull(cacheManager.getCache(INSIGHTS_CACHE)).clear();
+    }
+
+    @Test
+    @DisplayName("조건부 집계 1번으로 모든 카운터가 기존 개별 COUNT 조건과 같은 값으로 채워진다")
+    void refreshInsightsCache_FillsAllCounters() {
+        LocalDate today = LocalDate.now();
+
+        // 역대 최저가 할인 + 마감 임박 + 짧은 플레이타임
+        Game buyNow = createGame("INSIGHT-001");
+        buyNow.updatePriceSearchInfo(60000, 30000, 50, false, today.plusDays(1), false);
+        buyNow.updatePlayTimes(5.0, null, null);
+
+        // 정가 + 스페셜 카탈로그 + 긴 플레이타임
+        Game tracking = createGame("INSIGHT-002");
+        tracking.updatePriceSearchInfo(60000, 60000, 0, false, null, true);
+        tracking.updatePlayTimes(50.0, null, null);
+
+        // 역대 최저가(40000) 대비 12.5% 높은 PLUS 전용 할인
+        Game goodOffer = createGame("INSIGHT-003");
+        goodOffer.updatePriceSearchInfo(60000, 40000, 0, false, null, false);
+        goodOffer.updatePriceSearchInfo(60000, 45000, 25, true, today.plusDays(10), false);
+
+        gameRepository.save(buyNow);
+        gameRepository.save(tracking);
+        gameRepository.save(goodOffer);
+        em.flush();
+        em.clear();
+
+        insightsService.refreshInsightsCache();
+        InsightsSnapshot snapshot = insightsService.getSnapshot();
+
+        assertThat(snapshot.totalTrackedCount()).isEqualTo(3);
+        assertThat(snapshot.allTimeLowCount()).isEqualTo(1);
+        assertThat(snapshot.discountSummary().totalDiscountedGames()).isEqualTo(2);
+        assertThat(snapshot.discountSummary().totalDiscountAmount()).isEqualTo(30000 + 15000);
+        assertThat(snapshot.closingSoonCount()).isEqualTo(1);
+        assertThat(snapshot.plusExclusiveCount()).isEqualTo(1);
+        assertThat(snapshot.inCatalogCount()).isEqualTo(1);
+        assertThat(snapshot.ptShortCount()).isEqualTo(1);
+        assertThat(snapshot.ptLongCount()).isEqualTo(1);
+        assertThat(snapshot.verdictBuyNow()).isEqualTo(1);
+        assertThat(snapshot.verdictGoodOffer()).isEqualTo(1);
+        assertThat(snapshot.verdictWait()).isZero();
+        assertThat(snapshot.verdictTracking()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스냅샷은 갱신 전까지 같은 인스턴스를 제공하고, 갱신 시 새 값으로 통째로 교체된다")
+    void refreshInsightsCache_SwapsSnapshot() {
+        insightsService.refreshInsightsCache();
+        InsightsSnapshot before = insightsService.getSnapshot();
+        assertThat(insightsService.getSnapshot()).isSameAs(before);
+
+        gameRepository.save(createGame("INSIGHT-004"));
+        em.flush();
+        insightsService.refreshInsightsCache();
+
+        InsightsSnapshot after = insightsService.getSnapshot();
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.totalTrackedCount()).isEqualTo(before.totalTrackedCount() + 1);
+    }
+
+    private Game createGame(String psStoreId) {
+        return Game.create(psStoreId, "Insight " + psStoreId, "Insight " + psStoreId,
+                "Publisher", "http://img.com", "Description", LocalDate.of(2024, 1, 1));
+    }
+}
@@ -0,0 +1,154 @@
+package com.pstracker.catalog_service.notification.scheduler;
+
+import com.pstracker.catalog_service.catalog.repository.PriceChangeOutboxRepository;
+import com.pstracker.catalog_service.notification.domain.FcmToken;
+import com.pstracker.catalog_service.notification.service.FcmService;
+import com.pstracker.catalog_service.notification.service.PriceDropNotificationService;
+import com.pstracker.catalog_service.notification.service.PriceDropNotificationService.Batch;
+import com.pstracker.catalog_service.notification.service.PriceDropNotificationService.PushMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceChangeOutboxWorkerTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int PUSH_CONCURRENCY = 2;
+    private static final int MAX_ATTEMPTS = 5;
+
+    @Mock
+    private PriceDropNotificationService notificationService;
+
+    @Mock
+    private PriceChangeOutboxRepository outboxRepository;
+
+    @Mock
+    private FcmService fcmService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriceChangeOutboxWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new PriceChangeOutboxWorker(notificationService, outboxRepository, fcmService, meterRegistry,
+                BATCH_SIZE, PUSH_CONCURRENCY, MAX_ATTEMPTS, Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("가득 찬 묶음이면 다음 묶음을 이어서 처리하고, 남은 적체를 gauge에 반영한다.")
+    void drain_ProcessesUntilPartialBatch() {
+        given(notificationService.findPendingIds(BATCH_SIZE, MAX_ATTEMPTS))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(3L));
+        given(notificationService.processBatch(List.of(1L, 2L), MAX_ATTEMPTS)).willReturn(batch(2, List.of()));
+        given(notificationService.processBatch(List.of(3L), MAX_ATTEMPTS)).willReturn(batch(1, List.of()));
+        given(outboxRepository.countPending(MAX_ATTEMPTS)).willReturn(0L);
+
+        worker.drain();
+
+        verify(notificationService, times(2)).processBatch(anyList(), eq(MAX_ATTEMPTS));
+        assertThat(meterRegistry.counter("notification.outbox.events", "result", "processed").count()).isEqualTo(3);
+        assertThat(meterRegistry.get("notification.outbox.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("FCM 발송 중 에러가 나도 나머지 회원에게는 발송되고, 동시 발송 수는 제한을 넘지 않는다.")
+    void drain_FcmErrorAndBoundedConcurrency() {
+        // given
+        List<PushMessage> pushes = IntStream.rangeClosed(1, 6)
+                .mapToObj(i -> new PushMessage((long) i, List.of(mock(FcmToken.class)), "title-" + i, "body", Map.of("url", "/")))
+                .toList();
+        given(notificationService.findPendingIds(BATCH_SIZE, MAX_ATTEMPTS)).willReturn(List.of(1L));
+        given(notificationService.processBatch(List.of(1L), MAX_ATTEMPTS)).willReturn(batch(1, pushes));
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        willAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(30);
+                if ("title-1".equals(invocation.getArgument(1))) {
+                    throw new RuntimeException("FCM Connection Timeout");
+                }
+                return null;
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }).given(fcmService).sendMulticastMessage(anyList(), anyString(), anyString(), anyMap());
+
+        // when
+        worker.drain();
+
+        // then
+        verify(fcmService, times(6)).sendMulticastMessage(anyList(), anyString(), anyString(), anyMap());
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(PUSH_CONCURRENCY);
+        assertThat(meterRegistry.counter("notification.outbox.pushes", "outcome", "sent").count()).isEqualTo(5);
+        assertThat(meterRegistry.counter("notification.outbox.pushes", "outcome", "failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 레플리카가 묶음을 잡고 있으면(선점 0건) 이번 주기는 양보한다.")
+    void drain_LockedElsewhere_Yields() {
+        given(notificationService.findPendingIds(BATCH_SIZE, MAX_ATTEMPTS)).willReturn(List.of(1L, 2L));
+        given(notificationService.processBatch(List.of(1L, 2L), MAX_ATTEMPTS)).willReturn(batch(0, List.of()));
+
+        worker.drain();
+
+        verify(notificationService, times(1)).findPendingIds(BATCH_SIZE, MAX_ATTEMPTS);
+        assertThat(meterRegistry.counter("notification.outbox.events", "result", "processed").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("묶음이 실패하면 반씩 나눠 다시 처리하고, 혼자서도 실패하는 행만 시도 횟수를 올린다.")
+    void drain_BatchFailure_IsolatesFailingRow() {
+        // given: 2번 행만 실패
+        given(notificationService.findPendingIds(BATCH_SIZE, MAX_ATTEMPTS)).willReturn(List.of(1L, 2L));
+        given(notificationService.processBatch(List.of(1L, 2L), MAX_ATTEMPTS)).willThrow(new IllegalStateException("bad row"));
+        given(notificationService.processBatch(List.of(1L), MAX_ATTEMPTS)).willReturn(batch(1, List.of()));
+        given(notificationService.processBatch(List.of(2L), MAX_ATTEMPTS)).willThrow(new IllegalStateException("bad row"));
+        given(notificationService.markFailed(2L, MAX_ATTEMPTS, "bad row")).willReturn(false);
+
+        // when
+        worker.drain();
+
+        // then
+        verify(notificationService, never()).markFailed(eq(1L), anyInt(), any());
+        assertThat(meterRegistry.counter("notification.outbox.events", "result", "processed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("notification.outbox.events", "result", "failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 닿은 행은 데드레터로 세고, 적체 gauge에 데드레터 수를 반영한다.")
+    void drain_ExhaustedRow_DeadLettered() {
+        given(notificationService.findPendingIds(BATCH_SIZE, MAX_ATTEMPTS)).willReturn(List.of(1L));
+        given(notificationService.processBatch(List.of(1L), MAX_ATTEMPTS)).willThrow(new IllegalStateException("bad row"));
+        given(notificationService.markFailed(1L, MAX_ATTEMPTS, "bad row")).willReturn(true);
+        given(outboxRepository.countDeadLetters(MAX_ATTEMPTS)).willReturn(1L);
+
+        worker.drain();
+
+        verify(notificationService, times(1)).processBatch(List.of(1L), MAX_ATTEMPTS);
+        assertThat(meterRegistry.counter("notification.outbox.events", "result", "dead_lettered").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.outbox.dead_letter").gauge().value()).isEqualTo(1);
+    }
+
+    private static Batch batch(int events, List<PushMessage> pushes) {
+        return new Batch(events, events, pushes, LocalDateTime.now().minusSeconds(1));
+    }
+}
@@ -0,0 +1,228 @@
+package com.pstracker.catalog_service.notification.service;
+
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.domain.PriceChangeOutbox;
+import com.pstracker.catalog_service.catalog.domain.Wishlist;
+import com.pstracker.catalog_service.catalog.event.GamePriceChangedEvent;
+import com.pstracker.catalog_service.catalog.repository.PriceChangeOutboxJdbcRepository;
+import com.pstracker.catalog_service.catalog.repository.PriceChangeOutboxRepository;
+import com.pstracker.catalog_service.catalog.repository.WishlistRepository;
+import com.pstracker.catalog_service.member.domain.Member;
+import com.pstracker.catalog_service.notification.domain.FcmToken;
+import com.pstracker.catalog_service.notification.domain.Notification;
+import com.pstracker.catalog_service.notification.repository.FcmTokenRepository;
+import com.pstracker.catalog_service.notification.repository.NotificationRepository;
+import com.pstracker.catalog_service.notification.service.PriceDropNotificationService.Batch;
+import com.pstracker.catalog_service.notification.service.PriceDropNotificationService.PushMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceDropNotificationServiceTest {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    @InjectMocks
+    private PriceDropNotificationService service;
+
+    @Mock
+    private PriceChangeOutboxRepository outboxRepository;
+
+    @Mock
+    private PriceChangeOutboxJdbcRepository outboxJdbcRepository;
+
+    @Mock
+    private WishlistRepository wishlistRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private FcmTokenRepository fcmTokenRepository;
+
+    @Test
+    @DisplayName("선점할 수 있는 행이 없으면(다른 레플리카가 처리 중) 아무것도 조회하지 않는다.")
+    void processBatch_NothingLocked() {
+        given(outboxJdbcRepository.lockPending(List.of(1L), MAX_ATTEMPTS)).willReturn(List.of());
+
+        Batch batch = service.processBatch(List.of(1L), MAX_ATTEMPTS);
+
+        assertThat(batch.events()).isZero();
+        verify(wishlistRepository, never()).findAllByGameIdInWithMember(any());
+        verify(outboxRepository, never()).deleteByIds(any());
+    }
+
+    @Test
+    @DisplayName("찜한 유저가 없어도 아웃박스 행은 처리 완료로 지운다.")
+    void processBatch_NoSubscribers() {
+        List<Long> ids = givenLocked(List.of(createOutbox(1L, 100L, "Elden Ring", 30000)));
+        given(wishlistRepository.findAllByGameIdInWithMember(Set.of(100L))).willReturn(List.of());
+
+        Batch batch = service.processBatch(ids, MAX_ATTEMPTS);
+
+        assertThat(batch.events()).isEqualTo(1);
+        assertThat(batch.pushes()).isEmpty();
+        verify(fcmTokenRepository, never()).findAllByMemberIdInWithMember(anyList());
+        verify(outboxRepository).deleteByIds(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("가격 하락 알림을 끈 유저에게는 DB 알림만 저장되고 푸시는 만들지 않는다.")
+    void processBatch_PriceAlertDisabled() {
+        List<Long> ids = givenLocked(List.of(createOutbox(1L, 100L, "Elden Ring", 30000)));
+        Member member = createMember(1L, false);
+        List<Wishlist> wishlists = List.of(createWishlist(member, 100L, 50000));
+        given(wishlistRepository.findAllByGameIdInWithMember(Set.of(100L))).willReturn(wishlists);
+
+        Batch batch = service.processBatch(ids, MAX_ATTEMPTS);
+
+        assertThat(batch.notifications()).isEqualTo(1);
+        assertThat(batch.pushes()).isEmpty();
+        verify(notificationRepository).saveAll(argThat(items -> ((Collection<?>) items).size() == 1));
+        verify(fcmTokenRepository, never()).findAllByMemberIdInWithMember(anyList());
+    }
+
+    @Test
+    @DisplayName("여러 게임이 내려가면 찜 목록·토큰은 한 번씩만 조회하고, 회원별로 푸시 1건씩 묶는다.")
+    void processBatch_GroupsPushesByMember() {
+        // given: 회원1은 두 게임, 회원2는 한 게임을 찜
+        List<PriceChangeOutbox> rows = List.of(
+                createOutbox(1L, 100L, "Elden Ring", 30000),
+                createOutbox(2L, 200L, "Stellar Blade", 48000));
+        Member member1 = createMember(1L, true);
+        Member member2 = createMember(2L, true);
+        List<Wishlist> wishlists = List.of(
+                createWishlist(member1, 100L, null),
+                createWishlist(member1, 200L, 40000),
+                createWishlist(member2, 200L, 50000));
+        List<FcmToken> tokens = List.of(createToken(member1, "token_1"), createToken(member2, "token_2"));
+        List<Long> ids = givenLocked(rows);
+        given(wishlistRepository.findAllByGameIdInWithMember(Set.of(100L, 200L))).willReturn(wishlists);
+        given(fcmTokenRepository.findAllByMemberIdInWithMember(List.of(1L, 2L))).willReturn(tokens);
+
+        // when
+        Batch batch = service.processBatch(ids, MAX_ATTEMPTS);
+
+        // then: DB 알림은 (회원, 게임)마다, 푸시는 회원마다
+        assertThat(batch.events()).isEqualTo(2);
+        assertThat(batch.notifications()).isEqualTo(3);
+        assertThat(batch.pushes()).hasSize(2);
+
+        PushMessage summary = batch.pushes().get(0);
+        assertThat(summary.memberId()).isEqualTo(1L);
+        assertThat(summary.title()).contains("2개");
+        assertThat(summary.data()).isEqualTo(Map.of("url", "/wishlist"));
+
+        PushMessage single = batch.pushes().get(1);
+        assertThat(single.memberId()).isEqualTo(2L);
+        assertThat(single.title()).startsWith("목표 가격 도달!");
+        assertThat(single.data()).isEqualTo(Map.of("url", "/games?game=200"));
+
+        verify(wishlistRepository, times(1)).findAllByGameIdInWithMember(any());
+        verify(fcmTokenRepository, times(1)).findAllByMemberIdInWithMember(anyList());
+        verify(outboxRepository).deleteByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("같은 게임이 묶음 안에서 여러 번 내려갔으면 마지막 하락만 알린다.")
+    void processBatch_SameGameTwice_NotifiesLatestOnly() {
+        List<PriceChangeOutbox> rows = List.of(
+                createOutbox(1L, 100L, "Elden Ring", 40000),
+                createOutbox(2L, 100L, "Elden Ring", 30000));
+        Member member = createMember(1L, false);
+        List<Wishlist> wishlists = List.of(createWishlist(member, 100L, null));
+        List<Long> ids = givenLocked(rows);
+        given(wishlistRepository.findAllByGameIdInWithMember(Set.of(100L))).willReturn(wishlists);
+
+        Batch batch = service.processBatch(ids, MAX_ATTEMPTS);
+
+        assertThat(batch.events()).isEqualTo(2);
+        assertThat(batch.notifications()).isEqualTo(1);
+        verify(notificationRepository).saveAll(argThat(items -> ((Collection<?>) items).stream()
+                .map(n -> ((Notification) n).getMessage())
+                .allMatch(message -> message.contains("30,000"))));
+        verify(outboxRepository).deleteByIds(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("혼자서도 실패한 행은 시도 횟수만 올리고, 최대 횟수에 닿으면 데드레터로 알린다.")
+    void markFailed_DeadLettersAtMaxAttempts() {
+        PriceChangeOutbox retrying = createOutbox(1L, 100L, "Elden Ring", 30000);
+        PriceChangeOutbox exhausted = createOutbox(2L, 200L, "Stellar Blade", 48000);
+        given(retrying.getAttempts()).willReturn(MAX_ATTEMPTS - 1);
+        given(exhausted.getAttempts()).willReturn(MAX_ATTEMPTS);
+        given(outboxRepository.increaseAttempts(anyCollection())).willReturn(1);
+        given(outboxRepository.findById(1L)).willReturn(Optional.of(retrying));
+        given(outboxRepository.findById(2L)).willReturn(Optional.of(exhausted));
+
+        assertThat(service.markFailed(1L, MAX_ATTEMPTS, "boom")).isFalse();
+        assertThat(service.markFailed(2L, MAX_ATTEMPTS, "boom")).isTrue();
+        verify(outboxRepository).increaseAttempts(List.of(1L));
+        verify(outboxRepository).increaseAttempts(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("다른 레플리카가 이미 처리해 지운 행은 실패로 세지 않는다.")
+    void markFailed_AlreadyDeleted() {
+        given(outboxRepository.increaseAttempts(List.of(1L))).willReturn(0);
+
+        assertThat(service.markFailed(1L, MAX_ATTEMPTS, "boom")).isFalse();
+        verify(outboxRepository, never()).findById(any());
+    }
+
+    // --- Helpers ---
+    private List<Long> givenLocked(List<PriceChangeOutbox> rows) {
+        List<Long> ids = rows.stream().map(PriceChangeOutbox::getId).toList();
+        given(outboxJdbcRepository.lockPending(ids, MAX_ATTEMPTS)).willReturn(ids);
+        given(outboxRepository.findAllByIdInOrderByIdAsc(ids)).willReturn(rows);
+        return ids;
+    }
+
+    private PriceChangeOutbox createOutbox(Long id, Long gameId, String gameName, int newPrice) {
+        PriceChangeOutbox outbox = mock(PriceChangeOutbox.class);
+        lenient().when(outbox.getId()).thenReturn(id);
+        lenient().when(outbox.getGameId()).thenReturn(gameId);
+        lenient().when(outbox.getCreatedAt()).thenReturn(LocalDateTime.now());
+        lenient().when(outbox.toEvent()).thenReturn(
+                new GamePriceChangedEvent(gameId, gameName, "PROD-" + gameId, 60000, newPrice, 50, "img.jpg"));
+        return outbox;
+    }
+
+    private Member createMember(Long id, boolean priceAlertEnabled) {
+        Member member = mock(Member.class);
+        lenient().when(member.getId()).thenReturn(id);
+        lenient().when(member.isPriceAlertEnabled()).thenReturn(priceAlertEnabled);
+        return member;
+    }
+
+    private Wishlist createWishlist(Member member, Long gameId, Integer targetPrice) {
+        Game game = mock(Game.class);
+        lenient().when(game.getId()).thenReturn(gameId);
+        Wishlist wishlist = mock(Wishlist.class);
+        lenient().when(wishlist.getMember()).thenReturn(member);
+        lenient().when(wishlist.getGame()).thenReturn(game);
+        lenient().when(wishlist.getTargetPrice()).thenReturn(targetPrice);
+        return wishlist;
+    }
+
+    private FcmToken createToken(Member member, String tokenValue) {
+        FcmToken token = mock(FcmToken.class);
+        lenient().when(token.getToken()).thenReturn(tokenValue);
+        lenient().when(token.getMember()).thenReturn(member);
+        return token;
+    }
+}
@@ -0,0 +1,171 @@
+package com.pstracker.catalog_service.scraping.repository;
+
+import com.pstracker.catalog_service.catalog.domain.CrawlJob;
+import com.pstracker.catalog_service.catalog.repository.CrawlJobRepository;
+import com.pstracker.catalog_service.member.domain.Member;
+import com.pstracker.catalog_service.member.domain.Role;
+import com.pstracker.catalog_service.member.repository.MemberRepository;
+import com.pstracker.catalog_service.scraping.domain.ScrapingRequest;
+import com.pstracker.catalog_service.scraping.domain.ScrapingRequestStatus;
+import com.pstracker.catalog_service.scraping.repository.JobLeaseJdbcRepository.JobQueue;
+import com.pstracker.catalog_service.scraping.repository.JobLeaseJdbcRepository.ReapResult;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class JobLeaseJdbcRepositoryTest {
+
+    @Autowired JobLeaseJdbcRepository jobLeaseJdbcRepository;
+    @Autowired CrawlJobRepository crawlJobRepository;
+    @Autowired ScrapingRequestRepository scrapingRequestRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManager em;
+
+    @Test
+    @DisplayName("대기 작업을 오래된 순으로 N건 임대하고, 다음 임대는 남은 작업만 가져간다.")
+    void claim_LeasesOldestPendingJobsOnce() {
+        // given
+        List<Long> hltbJobIds = LongStream.rangeClosed(1, 3)
+                .mapToObj(gameId -> crawlJobRepository.save(CrawlJob.create(gameId, CrawlJob.TargetType.HLTB)).getId())
+                .toList();
+        CrawlJob metacriticJob = crawlJobRepository.save(CrawlJob.create(1L, CrawlJob.TargetType.METACRITIC));
+        em.flush();
+
+        // when
+        List<Long> first = jobLeaseJdbcRepository.claim(JobQueue.HLTB, 2, "collector-a", Duration.ofMinutes(15));
+        List<Long> second = jobLeaseJdbcRepository.claim(JobQueue.HLTB, 2, "collector-b", Duration.ofMinutes(15));
+        List<Long> third = jobLeaseJdbcRepository.claim(JobQueue.HLTB, 2, "collector-a", Duration.ofMinutes(15));
+        em.clear();
+
+        // then
+        assertThat(first).containsExactly(hltbJobIds.get(0), hltbJobIds.get(1));
+        assertThat(second).containsExactly(hltbJobIds.get(2));
+        assertThat(third).isEmpty();
+
+        CrawlJob leased = crawlJobRepository.findById(hltbJobIds.get(2)).orElseThrow();
+        assertThat(leased.getStatus()).isEqualTo(CrawlJob.JobStatus.PROCESSING);
+        assertThat(leased.getLeaseOwner()).startsWith("collector-b#");
+        assertThat(leased.getLeaseExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(14));
+        assertThat(crawlJobRepository.findById(metacriticJob.getId()).orElseThrow().getStatus())
+                .isEqualTo(CrawlJob.JobStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("만료된 임대는 시도 횟수를 올리고 백오프가 지날 때까지 다시 임대되지 않는다.")
+    void reapExpiredCrawlJobs_RequeuesWithBackoff() {
+        // given: 이미 만료된 임대
+        Long jobId = crawlJobRepository.save(CrawlJob.create(1L, CrawlJob.TargetType.HLTB)).getId();
+        em.flush();
+        jobLeaseJdbcRepository.claim(JobQueue.HLTB, 1, "collector-a", Duration.ofMinutes(-1));
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        ReapResult result = jobLeaseJdbcRepository.reapExpiredCrawlJobs(
+                now, 5, Duration.ofMinutes(5), Duration.ofHours(6), Duration.ofMinutes(15));
+        em.clear();
+
+        // then
+        assertThat(result).isEqualTo(new ReapResult(1, 0));
+        CrawlJob job = crawlJobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(CrawlJob.JobStatus.PENDING);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getNextAttemptAt()).isAfter(now.plusMinutes(4));
+        assertThat(job.getLeaseOwner()).isNull();
+        assertThat(jobLeaseJdbcRepository.claim(JobQueue.HLTB, 1, "collector-b", Duration.ofMinutes(15))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("임대가 max-attempts번 만료되면 FAILED로 닫는다.")
+    void reapExpiredCrawlJobs_FailsAfterMaxAttempts() {
+        // given
+        Long jobId = crawlJobRepository.save(CrawlJob.create(1L, CrawlJob.TargetType.METACRITIC)).getId();
+        em.flush();
+
+        // when: 임대 → 만료 회수를 2번 (백오프 0)
+        ReapResult first = null;
+        ReapResult second = null;
+        for (int round = 0; round < 2; round++) {
+            assertThat(jobLeaseJdbcRepository.claim(JobQueue.METACRITIC, 1, "collector-a", Duration.ofMinutes(-1)))
+                    .containsExactly(jobId);
+            ReapResult result = jobLeaseJdbcRepository.reapExpiredCrawlJobs(
+                    LocalDateTime.now(), 2, Duration.ZERO, Duration.ZERO, Duration.ofMinutes(15));
+            if (round == 0) first = result; else second = result;
+        }
+        em.clear();
+
+        // then
+        assertThat(first).isEqualTo(new ReapResult(1, 0));
+        assertThat(second).isEqualTo(new ReapResult(0, 1));
+        CrawlJob job = crawlJobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getStatus()).isEqualTo(CrawlJob.JobStatus.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(job.getLeaseExpiresAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("만료된 VIP 요청 임대는 바로 PENDING으로 돌아가 다시 임대되고, max-attempts번 만료되면 FAILED로 닫는다.")
+    void reapExpiredScrapingRequests_RequeuesThenFails() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .email("vip@ps-signal.com").password("pw").nickname("VIP").role(Role.USER).build());
+        Long requestId = scrapingRequestRepository.save(ScrapingRequest.builder()
+                .member(member).psStoreId("PPSA-LEASE-001").targetUrl("https://store.test/PPSA-LEASE-001").build()).getId();
+        em.flush();
+
+        // when: 임대 → 만료 회수를 2번 (max-attempts 2)
+        ReapResult first = null;
+        ReapResult second = null;
+        for (int round = 0; round < 2; round++) {
+            assertThat(jobLeaseJdbcRepository.claim(JobQueue.VIP_SCRAPING, 1, "catalog-a", Duration.ofMinutes(-1)))
+                    .containsExactly(requestId);
+            ReapResult result = jobLeaseJdbcRepository.reapExpiredScrapingRequests(
+                    LocalDateTime.now(), 2, Duration.ofMinutes(15));
+            if (round == 0) first = result; else second = result;
+        }
+        em.clear();
+
+        // then
+        assertThat(first).isEqualTo(new ReapResult(1, 0));
+        assertThat(second).isEqualTo(new ReapResult(0, 1));
+        ScrapingRequest request = scrapingRequestRepository.findById(requestId).orElseThrow();
+        assertThat(request.getStatus()).isEqualTo(ScrapingRequestStatus.FAILED);
+        assertThat(request.getAttempts()).isEqualTo(2);
+        assertThat(request.getLeaseOwner()).isNull();
+    }
+
+    @Test
+    @DisplayName("작업이 끝나면 임대 정보를 지운다.")
+    void updateStatus_ReleasesLease() {
+        // given
+        Long jobId = crawlJobRepository.save(CrawlJob.create(1L, CrawlJob.TargetType.METACRITIC)).getId();
+        em.flush();
+        jobLeaseJdbcRepository.claim(JobQueue.METACRITIC, 1, "collector-a", Duration.ofMinutes(15));
+        em.clear();
+
+        // when
+        CrawlJob job = crawlJobRepository.findById(jobId).orElseThrow();
+        job.updateStatus(CrawlJob.JobStatus.DONE, null);
+        em.flush();
+        em.clear();
+
+        // then
+        CrawlJob done = crawlJobRepository.findById(jobId).orElseThrow();
+        assertThat(done.getStatus()).isEqualTo(CrawlJob.JobStatus.DONE);
+        assertThat(done.getLeaseOwner()).isNull();
+        assertThat(done.getLeaseExpiresAt()).isNull();
+    }
+}
@@ -0,0 +1,168 @@
+package com.pstracker.catalog_service.scraping.scheduler;
+
+import com.pstracker.catalog_service.global.client.collector.CollectorApiClient;
+import com.pstracker.catalog_service.global.client.collector.CollectorLoadBalancer;
+import com.pstracker.catalog_service.global.client.collector.CollectorLoadBalancer.Collector;
+import com.pstracker.catalog_service.global.client.collector.dto.ScrapingQueueRequest;
+import com.pstracker.catalog_service.global.util.MutableClock;
+import com.pstracker.catalog_service.scraping.domain.ScrapingRequest;
+import com.pstracker.catalog_service.scraping.service.ScrapingQueueManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScrapingDispatcherTest {
+
+    @Mock
+    private ScrapingQueueManager scrapingQueueManager;
+
+    @Mock
+    private CollectorLoadBalancer loadBalancer;
+
+    @Mock
+    private CollectorApiClient collector0;
+
+    @Mock
+    private CollectorApiClient collector1;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("깨어나면 빈 자리만큼 임대해 로드밸런서가 고른 수집기로 보내고, 완료 콜백으로 자리를 반납한 뒤 바로 다음 요청을 보낸다.")
+    void wake_FillsFreeCapacityAndRefillsOnComplete() {
+        // given: 빈 자리 2개
+        ScrapingDispatcher dispatcher = dispatcher(2);
+        Collector c0 = collector(collector0);
+        Collector c1 = collector(collector1);
+        given(loadBalancer.freeCapacity(2)).willReturn(2, 0, 1, 0);
+        given(loadBalancer.acquire(2))
+                .willReturn(Optional.of(c0))
+                .willReturn(Optional.of(c1))
+                .willReturn(Optional.of(c0));
+        List<ScrapingRequest> pending = List.of(request(1L), request(2L));
+        given(scrapingQueueManager.leasePendingRequests(2)).willReturn(pending);
+
+        // when
+        dispatcher.wake();
+
+        // then
+        assertThat(sentRequestIds(collector0)).containsExactly(1L);
+        assertThat(sentRequestIds(collector1)).containsExactly(2L);
+        assertThat(dispatcher.inFlightCount()).isEqualTo(2);
+
+        // when: 1번 완료 → 자리 반납 후 다음 요청
+        List<ScrapingRequest> next = List.of(request(3L));
+        given(scrapingQueueManager.leasePendingRequests(1)).willReturn(next);
+        dispatcher.complete(1L);
+        dispatcher.wake();
+
+        // then
+        then(loadBalancer).should().release(c0);
+        then(loadBalancer).should(times(3)).onSent(any(), any());
+        assertThat(sentRequestIds(collector0)).containsExactly(1L, 3L);
+        assertThat(meterRegistry.counter("scraping.dispatch.requests", "result", "dispatched").count()).isEqualTo(3);
+        assertThat(meterRegistry.timer("scraping.dispatch.wait").count()).isEqualTo(3);
+        assertThat(meterRegistry.timer("scraping.dispatch.wait").max(TimeUnit.SECONDS)).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("바쁨(409)·연결 실패는 로드밸런서에 알리고 다음 수집기로 보내며, 보낼 곳이 없는 요청은 대기로 되돌린다.")
+    void send_BusyOrError_TriesNextCollectorThenRequeues() {
+        // given
+        ScrapingDispatcher dispatcher = dispatcher(1);
+        Collector c0 = collector(collector0);
+        Collector c1 = collector(collector1);
+        given(loadBalancer.freeCapacity(1)).willReturn(2);
+        given(loadBalancer.acquire(1))
+                .willReturn(Optional.of(c0))
+                .willReturn(Optional.of(c1))
+                .willReturn(Optional.empty());
+        given(collector0.triggerScrapingQueue(any()))
+                .willThrow(HttpClientErrorException.create(HttpStatus.CONFLICT, "busy", HttpHeaders.EMPTY, null, null));
+        given(collector1.triggerScrapingQueue(any())).willThrow(new ResourceAccessException("connection refused"));
+        List<ScrapingRequest> pending = List.of(request(1L), request(2L));
+        given(scrapingQueueManager.leasePendingRequests(2)).willReturn(pending);
+
+        // when
+        dispatcher.wake();
+
+        // then: 1번은 두 수집기 모두 실패, 2번은 시도할 수집기 없음
+        then(loadBalancer).should().onBusy(c0);
+        then(loadBalancer).should().onError(eq(c1), any());
+        then(scrapingQueueManager).should().returnRequestsToQueue(List.of(1L, 2L));
+        assertThat(dispatcher.inFlightCount()).isZero();
+        assertThat(meterRegistry.counter("scraping.dispatch.requests", "result", "requeued").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("완료 콜백이 끊긴 요청은 시간 초과 후 자리를 반납하고, 뒤늦은 콜백은 무시한다.")
+    void poll_TimedOutRequest_ReleasesSlot() {
+        // given
+        ScrapingDispatcher dispatcher = dispatcher(1);
+        Collector c0 = collector(collector0);
+        given(loadBalancer.freeCapacity(1)).willReturn(1, 0, 1);
+        given(loadBalancer.acquire(1)).willReturn(Optional.of(c0));
+        List<ScrapingRequest> pending = List.of(request(1L));
+        given(scrapingQueueManager.leasePendingRequests(1)).willReturn(pending).willReturn(List.of());
+        dispatcher.wake();
+
+        // when
+        clock.advance(Duration.ofMinutes(16));
+        dispatcher.poll();
+        dispatcher.complete(1L);
+
+        // then
+        then(loadBalancer).should(times(1)).release(c0);
+        assertThat(dispatcher.inFlightCount()).isZero();
+        assertThat(meterRegistry.counter("scraping.dispatch.requests", "result", "timeout").count()).isEqualTo(1);
+        then(scrapingQueueManager).should(times(2)).leasePendingRequests(1);
+    }
+
+    // --- Helpers ---
+    private ScrapingDispatcher dispatcher(int maxInFlightPerCollector) {
+        return new ScrapingDispatcher(scrapingQueueManager, loadBalancer, meterRegistry, "secret",
+                new ScrapingDispatcher.Settings(maxInFlightPerCollector, Duration.ofMinutes(15)),
+                Runnable::run, clock);
+    }
+
+    private static Collector collector(CollectorApiClient client) {
+        Collector collector = mock(Collector.class);
+        given(collector.client()).willReturn(client);
+        return collector;
+    }
+
+    // 1분 전에 등록된 요청
+    private ScrapingRequest request(Long id) {
+        ScrapingRequest request = mock(ScrapingRequest.class);
+        given(request.getId()).willReturn(id);
+        lenient().when(request.getPsStoreId()).thenReturn("PPSA-" + id);
+        lenient().when(request.getCreatedAt()).thenReturn(LocalDateTime.now(clock).minusMinutes(1));
+        return request;
+    }
+
+    private static List<Long> sentRequestIds(CollectorApiClient collector) {
+        ArgumentCaptor<ScrapingQueueRequest> captor = ArgumentCaptor.forClass(ScrapingQueueRequest.class);
+        then(collector).should(atLeastOnce()).triggerScrapingQueue(captor.capture());
+        return captor.getAllValues().stream().map(ScrapingQueueRequest::requestId).toList();
+    }
+}
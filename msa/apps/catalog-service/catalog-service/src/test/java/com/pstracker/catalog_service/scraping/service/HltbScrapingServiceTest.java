@@ -0,0 +1,80 @@
+package com.pstracker.catalog_service.scraping.service;
+
+import com.pstracker.catalog_service.catalog.domain.CrawlJob;
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.repository.CrawlJobRepository;
+import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.scraping.dto.HltbUpdateRequest;
+import com.pstracker.catalog_service.scraping.dto.ScrapingResultBatchResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class HltbScrapingServiceTest {
+
+    @Autowired HltbScrapingService hltbScrapingService;
+    @Autowired GameRepository gameRepository;
+    @Autowired CrawlJobRepository crawlJobRepository;
+    @Autowired EntityManager em;
+
+    @Test
+    @DisplayName("결과 일괄 반영: 성공은 플레이타임 반영 후 DONE, 실패 사유는 그 상태로 닫고, 같은 작업 id가 반복되면 마지막 결과를 쓴다.")
+    void updateHltbResults_AppliesLastResultPerJob() {
+        // given
+        Game saved = Game.create("HLTB-BATCH-001", "Batch Game", "Batch Game",
+                "Publisher", "http://img.com", "Description", LocalDate.of(2024, 1, 1));
+        saved.updatePriceSearchInfo(60000, 60000, 0, false, null, false);
+        Long gameId = gameRepository.save(saved).getId();
+        Long successJobId = crawlJobRepository.save(CrawlJob.create(gameId, CrawlJob.TargetType.HLTB)).getId();
+        Long blockedJobId = crawlJobRepository.save(CrawlJob.create(gameId, CrawlJob.TargetType.HLTB)).getId();
+        em.flush();
+        em.clear();
+
+        // when: successJobId는 NOT_FOUND 뒤에 SUCCESS가 다시 옴
+        ScrapingResultBatchResponse response = hltbScrapingService.updateHltbResults(List.of(
+                new HltbUpdateRequest(successJobId, gameId, "NOT_FOUND", null, null, null),
+                new HltbUpdateRequest(blockedJobId, gameId, "BLOCKED", null, null, null),
+                new HltbUpdateRequest(successJobId, gameId, "SUCCESS", 30.5, 45.0, 80.0),
+                new HltbUpdateRequest(999_999L, gameId, "SUCCESS", 1.0, 1.0, 1.0)
+        ));
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(response).isEqualTo(new ScrapingResultBatchResponse(1, 1, 1));
+        Game game = gameRepository.findById(gameId).orElseThrow();
+        assertThat(game.getHltbMainStory()).isEqualTo(30.5);
+        assertThat(game.getHltbMainExtra()).isEqualTo(45.0);
+        assertThat(game.getHltbCompletionist()).isEqualTo(80.0);
+        assertThat(crawlJobRepository.findById(successJobId).orElseThrow().getStatus())
+                .isEqualTo(CrawlJob.JobStatus.DONE);
+        CrawlJob blocked = crawlJobRepository.findById(blockedJobId).orElseThrow();
+        assertThat(blocked.getStatus()).isEqualTo(CrawlJob.JobStatus.FAILED);
+        assertThat(blocked.getErrorMessage()).isEqualTo("Crawler reported: BLOCKED");
+    }
+
+    @Test
+    @DisplayName("한 번에 200건을 넘는 결과는 IllegalArgumentException으로 거절한다.")
+    void updateHltbResults_OversizedBatch_Throws() {
+        List<HltbUpdateRequest> requests = LongStream.rangeClosed(1, 201)
+                .mapToObj(id -> new HltbUpdateRequest(id, 1L, "SUCCESS", 1.0, 1.0, 1.0))
+                .toList();
+
+        assertThatThrownBy(() -> hltbScrapingService.updateHltbResults(requests))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.pstracker.catalog_service.scraping.service;
+
+import com.pstracker.catalog_service.catalog.domain.CrawlJob;
+import com.pstracker.catalog_service.catalog.domain.Game;
+import com.pstracker.catalog_service.catalog.repository.CrawlJobRepository;
+import com.pstracker.catalog_service.catalog.repository.GameRepository;
+import com.pstracker.catalog_service.scraping.dto.RatingUpdateRequest;
+import com.pstracker.catalog_service.scraping.dto.ScrapingResultBatchResponse;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RatingScrapingServiceTest {
+
+    @Autowired RatingScrapingService ratingScrapingService;
+    @Autowired GameRepository gameRepository;
+    @Autowired CrawlJobRepository crawlJobRepository;
+    @Autowired EntityManager em;
+
+    @Test
+    @DisplayName("결과 일괄 반영: 성공은 평점 반영 후 DONE, 실패 사유·삭제된 게임은 실패 상태로 닫고, 없는 작업은 건너뛴다.")
+    void updateRatingResults_AppliesMixedOutcomes() {
+        // given
+        Game saved = Game.create("RATING-BATCH-001", "Batch Game", "Batch Game",
+                "Publisher", "http://img.com", "Description", LocalDate.of(2024, 1, 1));
+        saved.updatePriceSearchInfo(60000, 60000, 0, false, null, false);
+        Long gameId = gameRepository.save(saved).getId();
+        Long successJobId = crawlJobRepository.save(CrawlJob.create(gameId, CrawlJob.TargetType.METACRITIC)).getId();
+        Long notFoundJobId = crawlJobRepository.save(CrawlJob.create(gameId, CrawlJob.TargetType.METACRITIC)).getId();
+        Long deletedGameJobId = crawlJobRepository.save(CrawlJob.create(-1L, CrawlJob.TargetType.METACRITIC)).getId();
+        em.flush();
+        em.clear();
+
+        // when
+        ScrapingResultBatchResponse response = ratingScrapingService.updateRatingResults(List.of(
+                new RatingUpdateRequest(successJobId, gameId, "SUCCESS", 90, 100, 8.5, 2000),
+                new RatingUpdateRequest(notFoundJobId, gameId, "NOT_FOUND", null, null, null, null),
+                new RatingUpdateRequest(deletedGameJobId, -1L, "SUCCESS", 70, 10, 7.0, 50),
+                new RatingUpdateRequest(999_999L, gameId, "SUCCESS", 10, 1, 1.0, 1)
+        ));
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(response).isEqualTo(new ScrapingResultBatchResponse(1, 2, 1));
+        Game game = gameRepository.findById(gameId).orElseThrow();
+        assertThat(game.getMcMetaScore()).isEqualTo(90);
+        assertThat(game.getMcUserScore()).isEqualTo(8.5);
+        assertThat(crawlJobRepository.findById(successJobId).orElseThrow().getStatus())
+                .isEqualTo(CrawlJob.JobStatus.DONE);
+        CrawlJob notFound = crawlJobRepository.findById(notFoundJobId).orElseThrow();
+        assertThat(notFound.getStatus()).isEqualTo(CrawlJob.JobStatus.NOT_FOUND);
+        assertThat(notFound.getErrorMessage()).isEqualTo("Crawler reported: NOT_FOUND");
+        CrawlJob deletedGame = crawlJobRepository.findById(deletedGameJobId).orElseThrow();
+        assertThat(deletedGame.getStatus()).isEqualTo(CrawlJob.JobStatus.FAILED);
+        assertThat(deletedGame.getErrorMessage()).isEqualTo("Game deleted after processing");
+    }
+
+    @Test
+    @DisplayName("빈 결과나 jobId 없는 결과는 IllegalArgumentException으로 거절한다. (GlobalExceptionHandler가 400으로 응답)")
+    void updateRatingResults_InvalidBatch_Throws() {
+        assertThatThrownBy(() -> ratingScrapingService.updateRatingResults(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ratingScrapingService.updateRatingResults(List.of(
+                new RatingUpdateRequest(null, 1L, "SUCCESS", 90, 1, 9.0, 1))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
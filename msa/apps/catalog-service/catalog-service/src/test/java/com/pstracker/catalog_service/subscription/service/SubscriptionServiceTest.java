@@ -2,6 +2,7 @@ package com.pstracker.catalog_service.subscription.service;
 
 import com.pstracker.catalog_service.ai.service.AiService;
 import com.pstracker.catalog_service.catalog.service.IgdbEnrichmentService;
+import com.pstracker.catalog_service.global.config.GlobalCacheConfig;
 import com.pstracker.catalog_service.subscription.domain.PsPlusMonthlyHistory;
 import com.pstracker.catalog_service.subscription.domain.PsPlusPricing;
 import com.pstracker.catalog_service.subscription.domain.PsPlusTier;
@@ -16,6 +17,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -37,6 +40,7 @@ class SubscriptionServiceTest {
     @Autowired private PsPlusHistoryRepository psPlusHistoryRepository;
     @Autowired private PsPlusMonthlyHistoryRepository psPlusMonthlyHistoryRepository;
     @Autowired private EntityManager em;
+    @Autowired private CacheManager cacheManager;
 
     @MockitoBean private IgdbEnrichmentService igdbEnrichmentService;
     @MockitoBean private AiService aiService;
@@ -264,6 +268,29 @@ class SubscriptionServiceTest {
         assertThat(history.get(0).getDiscountRate()).isEqualTo(50);
     }
 
+    // ==================== 캐시 웜업 테스트 ====================
+
+    @Test
+    @DisplayName("웜업은 캐시를 비우지 않고 새로 계산한 가격으로 교체하며, 이후 조회는 교체된 값을 그대로 받는다.")
+    void warmPsPlusPricingCache_putsFreshPricing() {
+        // given: upsert로 캐시가 비워진 상태
+        subscriptionService.upsertPsPlusPrices(
+                buildRequest(PsPlusTier.ESSENTIAL, 6500, 17000, 28500, 6500, 17000, 57000));
+        em.flush(); em.clear();
+
+        // when
+        subscriptionService.warmPsPlusPricingCache();
+
+        // then
+        Cache cache = cacheManager.getCache(GlobalCacheConfig.PS_PLUS_PRICING_CACHE);
+        PsPlusPricingResponse warmed = cache.get("pricing", PsPlusPricingResponse.class);
+        assertThat(warmed).isNotNull();
+        assertThat(warmed.getPricingData().get(PsPlusTier.ESSENTIAL).getDiscountPrice12Month()).isEqualTo(28500);
+        assertThat(subscriptionService.getLatestPricing()).isSameAs(warmed);
+
+        cache.clear();
+    }
+
     // ==================== 헬퍼 ====================
 
     /** originalPrice/saleEndDate 없이 수집 (크롤러 업데이트 전 기존 방식) */
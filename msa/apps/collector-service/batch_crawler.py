@@ -9,7 +9,6 @@ import traceback
 import gc
 import json
 import subprocess
-import zlib
 from logging.handlers import RotatingFileHandler
 from datetime import datetime
 
@@ -59,10 +58,11 @@ session.headers.update({'Connection': 'keep-alive'})
 
 BASE_URL = os.getenv("API_BASE_URL", "http://localhost:8080")
 JAVA_API_URL = f"{BASE_URL}/api/v1/games/collect"
-TARGET_API_URL = f"{BASE_URL}/api/v1/games/targets"
+TARGET_API_URL = f"{BASE_URL}/api/v1/games/targets/feed"
 INSIGHT_REFRESH_API_URL = f"{BASE_URL}/api/v1/games/batch-complete"
 INTERNAL_SYNC_URL = f"{BASE_URL}/api/internal/scraping/candidates/sync"
 INTERNAL_CALLBACK_URL = f"{BASE_URL}/api/internal/scraping/callback"
+SHARD_COMPLETE_URL = f"{BASE_URL}/api/internal/scraping/crawl-shards/{{shard_id}}/complete"
 DISCORD_WEBHOOK_URL = os.getenv("DISCORD_WEBHOOK_URL")
 CRAWLER_SECRET_KEY = os.getenv("CRAWLER_SECRET_KEY", "")
 
@@ -99,6 +99,10 @@ is_vip_running = False
 is_ranking_running = False
 is_rating_running = False
 
+# 디스패처 샤드 모드: 오늘 몫이 끝날 때(완료 콜백 응답 continued=false) 디스코드 요약을 한 번만 보내기 위한 누적
+night_summary_lock = threading.Lock()
+night_summary = {"processed": 0, "deals": [], "delisted": []}
+
 # --- [2. 브라우저 매니저 (1코어 1기가 메모리 최적화)] ---
 class BrowserManager:
     def __init__(self, p):
@@ -1028,12 +1032,15 @@ def crawl_detail_and_send(page, target_url, verbose=False):
 
 # --- [7. 유틸리티 (디스코드, 타겟조회, 캐시초기화)] ---
 def fetch_update_targets():
+    # 서버가 샤드별로 걸러 NDJSON(한 줄 = 타겟 1개)으로 스트리밍
+    params = {'shardId': SHARD_ID, 'shardTotal': SHARD_TOTAL}
     try:
-        res = session.get(TARGET_API_URL, timeout=10)
-        if res.status_code == 200:
-            targets = res.json()
-            logger.info(f"📥 Received {len(targets)} targets.")
-            return targets
+        with session.get(TARGET_API_URL, params=params, stream=True, timeout=10) as res:
+            if res.status_code == 200:
+                targets = [json.loads(line)['url'] for line in res.iter_lines() if line]
+                logger.info(f"📥 Received {len(targets)} targets. [Shard {SHARD_ID}/{SHARD_TOTAL}]")
+                return targets
+            logger.error(f"Target feed error: {res.status_code}")
     except Exception as e:
         logger.error(f"Connection Error: {e}")
     return []
@@ -1076,13 +1083,87 @@ def refresh_java_server_cache():
     except Exception as e: logger.error(f"Network Error while clearing cache: {e}")
 
 
+def finish_dispatched_shard(shard_id, processed, failed, deals, delisted):
+    """
+    디스패처 샤드 완료 처리: 결과를 누적하고 완료 콜백을 보낸다.
+    응답의 continued가 false면 이 수집기의 오늘 몫이 끝난 것이므로 누적 요약을 디스코드로 보낸다.
+    (호출 전에 is_batch_running을 풀어야 디스패처가 바로 보내는 다음 샤드를 받을 수 있음)
+    """
+    with night_summary_lock:
+        night_summary["processed"] += processed
+        night_summary["deals"].extend(deals)
+        night_summary["delisted"].extend(delisted)
+
+    continued = False
+    try:
+        res = session.post(SHARD_COMPLETE_URL.format(shard_id=shard_id),
+                           json={"processed": processed, "failed": failed},
+                           headers={"X-Internal-Secret": CRAWLER_SECRET_KEY}, timeout=10)
+        if res.status_code == 200:
+            continued = bool(res.json().get("continued"))
+        else:
+            logger.error(f"[Shard {shard_id}] 완료 콜백 실패: {res.status_code}")
+    except Exception as e:
+        logger.error(f"[Shard {shard_id}] 완료 콜백 에러: {e}")
+
+    if not continued:
+        with night_summary_lock:
+            total, deals_all, delisted_all = night_summary["processed"], night_summary["deals"], night_summary["delisted"]
+            night_summary.update({"processed": 0, "deals": [], "delisted": []})
+        logger.info("[Shard] 오늘 배정된 샤드 종료. Sending reports...")
+        send_discord_summary(total, deals_all, delisted_all)
+
+
+def run_target_shard_logic(shard_id, urls):
+    """디스패처가 보낸 업데이트 대상 샤드 1개 수집 (Phase 1과 동일). 끝나면 완료 콜백으로 다음 샤드를 받는다."""
+    global is_batch_running
+
+    processed, failed = 0, 0
+    deals, delisted = [], []
+    try:
+        with sync_playwright() as p:
+            bm = BrowserManager(p)
+            total_targets = len(urls)
+            logger.info(f"[Shard {shard_id}] Updating {total_targets} games...")
+            for i, url in enumerate(urls, 1):
+                check_and_run_vip(bm)
+                logger.info(f"[Shard {shard_id}] ({i}/{total_targets}) 처리 중: {url.split('/')[-1][:25]}")
+                res = run_with_watchdog(bm, url)
+                if res:
+                    if res.get("is_delisted"):
+                        delisted.append(res)
+                    else:
+                        processed += 1
+                        if res.get("discountRate", 0) > 0:
+                            deals.append(res)
+                else:
+                    failed += 1
+
+            try: bm.context.close()
+            except: pass
+            try: bm.browser.close()
+            except: pass
+    except Exception as e:
+        logger.error(f"[Shard {shard_id}] Critical Error: {e}")
+        logger.error(traceback.format_exc())
+    finally:
+        with crawler_lock:
+            is_batch_running = False
+        gc.collect()
+        logger.info(f"[Shard {shard_id}] 완료. 처리: {processed}개, 실패: {failed}개")
+
+    finish_dispatched_shard(shard_id, processed, failed, deals, delisted)
+
+
 # --- [8. 메인 배치 로직] ---
-def run_batch_crawler_logic():
+def run_batch_crawler_logic(shard_id=None):
     """
     배치 수집 메인 로직.
     - Pre-Phase / Phase 0: sync (단일 페이지, 병렬화 불필요)
     - Phase 1 / Phase 2: async 2탭 병렬 (run_phase1_and_2_async)
     두 구간이 완전히 분리되어 브라우저 메모리가 겹치지 않음.
+    - shard_id가 있으면(디스패처 탐색 작업) Phase 1은 건너뛰고 — 업데이트 대상은 /run-shard 샤드로 따로 옴 —
+      끝나면 캐시 초기화 대신 완료 콜백을 보낸다.
     """
     global is_batch_running
 
@@ -1119,10 +1200,7 @@ def run_batch_crawler_logic():
         logger.info("[Sync 구간 종료] Pre-Phase + Phase 0 완료. Phase 1/2 순차 수집 시작.")
 
         # ── Phase 1 + Phase 2: sync 순차 수집 ─────────────────────────────
-        targets = fetch_update_targets()
-        if SHARD_TOTAL > 1:
-            targets = [t for t in targets if zlib.crc32(t.split('/')[-1].encode()) % SHARD_TOTAL == SHARD_ID]
-            logger.info(f"[Shard {SHARD_ID}/{SHARD_TOTAL}] Phase 1 타겟 필터 완료: {len(targets)}개")
+        targets = [] if shard_id else fetch_update_targets()
 
         with sync_playwright() as p:
             bm = BrowserManager(p)
@@ -1202,9 +1280,10 @@ def run_batch_crawler_logic():
             try: bm.browser.close()
             except: pass
 
-        logger.info("[System] Marathon finished. Sending reports...")
-        send_discord_summary(total_processed_count, collected_deals, delisted_games)
-        refresh_java_server_cache()
+        if not shard_id:
+            logger.info("[System] Marathon finished. Sending reports...")
+            send_discord_summary(total_processed_count, collected_deals, delisted_games)
+            refresh_java_server_cache()
 
     except Exception as e:
         logger.error(f"Critical Error: {e}")
@@ -1214,6 +1293,9 @@ def run_batch_crawler_logic():
             is_batch_running = False
         logger.info("Crawler finished.")
 
+    if shard_id:
+        finish_dispatched_shard(shard_id, total_processed_count, 0, collected_deals, delisted_games)
+
 
 # --- [9. Flask API 라우팅] ---
 # 단건 수집 API
@@ -1293,9 +1375,27 @@ def trigger_crawl():
             return jsonify({"status": "running", "message": "다른 작업이 이미 실행 중입니다."}), 409
         is_batch_running = True  # 락 안에서 선점 설정 → 공백 제거
 
-    threading.Thread(target=run_batch_crawler_logic, daemon=True).start()
+    shard_id = data.get('shardId')  # 있으면 디스패처 탐색 작업 (Phase 1 제외)
+    threading.Thread(target=run_batch_crawler_logic, args=(shard_id,), daemon=True).start()
     return jsonify({"status": "started"}), 200
 
+@app.route('/run-shard', methods=['POST'])
+def trigger_shard_crawl():
+    data = request.json or {}
+    if not verify_secret(data): return jsonify({"error": "Unauthorized"}), 403
+
+    shard_id, urls = data.get('shardId'), data.get('urls')
+    if not shard_id or not urls: return jsonify({"error": "Bad Request"}), 400
+
+    global is_batch_running
+    with crawler_lock:
+        if is_batch_running or is_ranking_running or is_vip_running or is_rating_running:
+            return jsonify({"status": "running", "message": "다른 작업이 이미 실행 중입니다."}), 409
+        is_batch_running = True
+
+    threading.Thread(target=run_target_shard_logic, args=(shard_id, urls), daemon=True).start()
+    return jsonify({"status": "started", "size": len(urls)}), 200
+
 def run_ranking_wrapper(ranking_types=None):
     global is_ranking_running
 
@@ -1,4 +1,6 @@
 import unicodedata
+import os
+import socket
 import time
 import re
 import random
@@ -11,6 +13,10 @@ from playwright.sync_api import sync_playwright, TimeoutError as PlaywrightTimeo
 
 logger = logging.getLogger("Metadata-Worker")
 
+# 작업 임대: 한 번에 가져갈 작업 수, 임대자 이름 (수집기를 늘려도 같은 작업을 중복으로 받지 않음)
+LEASE_SIZE = int(os.getenv("RATING_LEASE_SIZE", "3"))
+COLLECTOR_ID = os.getenv("COLLECTOR_ID", socket.gethostname())[:64]
+
 USER_AGENTS = [
     "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36",
     "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36",
@@ -225,15 +231,32 @@ def crawl_hltb_single(game_title):
 
     return result
 
+def post_results(batch_url, single_url, results, headers, label):
+    """임대한 작업 결과를 한 번에 보낸다 (트랜잭션·캐시 무효화 1번). 일괄 API가 없는 예전 카탈로그면 1건씩 보낸다."""
+    if not results:
+        return
+    res = requests.post(batch_url, json=results, headers=headers, timeout=30)
+    if res.status_code == 404:
+        for payload in results:
+            requests.post(single_url, json=payload, headers=headers, timeout=15)
+        logger.info(f"[{label}] 결과 {len(results)}건 단건 전송 완료")
+    elif res.status_code != 200:
+        logger.error(f"[{label}] 결과 일괄 전송 실패: HTTP {res.status_code}")
+    else:
+        logger.info(f"[{label}] 결과 {len(results)}건 일괄 전송 완료: {res.json()}")
+
 def start_polling(base_url, secret_key, check_if_busy, set_rating_running, crawler_lock):
     logger.info("[Stealth Worker] 메타크리틱 평점 수집 워커가 백그라운드에서 가동됩니다.")
 
     HEADERS = {"X-Internal-Secret": secret_key}
 
-    MC_TARGET_URL = f"{base_url}/api/internal/scraping/ratings/target"
+    MC_TARGET_URL = f"{base_url}/api/internal/scraping/ratings/targets"
     MC_UPDATE_URL = f"{base_url}/api/internal/scraping/ratings/update"
-    HLTB_TARGET_URL = f"{base_url}/api/internal/scraping/hltb/target"
+    HLTB_TARGET_URL = f"{base_url}/api/internal/scraping/hltb/targets"
     HLTB_UPDATE_URL = f"{base_url}/api/internal/scraping/hltb/update"
+    MC_BATCH_UPDATE_URL = f"{MC_UPDATE_URL}/batch"
+    HLTB_BATCH_UPDATE_URL = f"{HLTB_UPDATE_URL}/batch"
+    LEASE_PARAMS = {"limit": LEASE_SIZE, "owner": COLLECTOR_ID}
 
     while True:
         sleep_time = random.randint(150, 180)
@@ -247,54 +270,67 @@ def start_polling(base_url, secret_key, check_if_busy, set_rating_running, crawl
 
         try:
             # ---------------------------------------------------------
-            # Phase 1: 메타크리틱 (Metacritic)
+            # Phase 1: 메타크리틱 (Metacritic) — LEASE_SIZE건 임대 후 순서대로 처리, 결과는 모아서 1번에 전송
             # ---------------------------------------------------------
+            mc_results = []
             try:
-                res_mc = requests.get(MC_TARGET_URL, headers=HEADERS, timeout=15)
+                res_mc = requests.get(MC_TARGET_URL, params=LEASE_PARAMS, headers=HEADERS, timeout=15)
 
                 if res_mc.status_code == 204:
                     pass
                 elif res_mc.status_code != 200 or not res_mc.text:
-                    logger.error(f"[메타크리틱] 1호기 타겟 요청 실패: HTTP {res_mc.status_code}")
+                    logger.error(f"[메타크리틱] 타겟 임대 실패: HTTP {res_mc.status_code}")
                 else:
-                    job = res_mc.json()
-                    mc_result = crawl_metacritic_single(job['searchTitle'])
-
-                    payload = {
-                        "jobId": job['jobId'], "gameId": job['gameId'], "status": mc_result["status"],
-                        "metaScore": mc_result["metaScore"], "metaCount": mc_result["metaCount"],
-                        "userScore": mc_result["userScore"], "userCount": mc_result["userCount"]
-                    }
-                    requests.post(MC_UPDATE_URL, json=payload, headers=HEADERS, timeout=15)
-                    logger.info(f"메타크리틱 업데이트 완료 (GameID: {job['gameId']})")
-                    human_sleep(2.0, 3.0)
+                    for job in res_mc.json():
+                        mc_result = crawl_metacritic_single(job['searchTitle'])
+
+                        payload = {
+                            "jobId": job['jobId'], "gameId": job['gameId'], "status": mc_result["status"],
+                            "metaScore": mc_result["metaScore"], "metaCount": mc_result["metaCount"],
+                            "userScore": mc_result["userScore"], "userCount": mc_result["userCount"]
+                        }
+                        mc_results.append(payload)
+                        logger.info(f"메타크리틱 수집 완료 (GameID: {job['gameId']})")
+                        human_sleep(2.0, 3.0)
             except Exception as e:
                 logger.error(f"메타크리틱 Phase 에러 (진행 속행): {e}")
 
+            try:
+                post_results(MC_BATCH_UPDATE_URL, MC_UPDATE_URL, mc_results, HEADERS, "메타크리틱")
+            except Exception as e:
+                logger.error(f"메타크리틱 결과 전송 에러: {e}")
+
             # ---------------------------------------------------------
             # Phase 2: HowLongToBeat (HLTB)
             # ---------------------------------------------------------
+            hltb_results = []
             try:
-                res_hltb = requests.get(HLTB_TARGET_URL, headers=HEADERS, timeout=15)
+                res_hltb = requests.get(HLTB_TARGET_URL, params=LEASE_PARAMS, headers=HEADERS, timeout=15)
 
                 if res_hltb.status_code == 204:
                     pass
                 elif res_hltb.status_code != 200 or not res_hltb.text:
-                    logger.error(f"[HLTB] 1호기 타겟 요청 실패: HTTP {res_hltb.status_code}")
+                    logger.error(f"[HLTB] 타겟 임대 실패: HTTP {res_hltb.status_code}")
                 else:
-                    job = res_hltb.json()
-                    hltb_result = crawl_hltb_single(job['searchTitle'])
-
-                    payload = {
-                        "jobId": job['jobId'], "gameId": job['gameId'], "status": hltb_result["status"],
-                        "mainStory": hltb_result["mainStory"], "mainExtra": hltb_result["mainExtra"],
-                        "completionist": hltb_result["completionist"]
-                    }
-                    requests.post(HLTB_UPDATE_URL, json=payload, headers=HEADERS, timeout=15)
-                    logger.info(f"HLTB 업데이트 완료 (GameID: {job['gameId']})")
+                    for job in res_hltb.json():
+                        hltb_result = crawl_hltb_single(job['searchTitle'])
+
+                        payload = {
+                            "jobId": job['jobId'], "gameId": job['gameId'], "status": hltb_result["status"],
+                            "mainStory": hltb_result["mainStory"], "mainExtra": hltb_result["mainExtra"],
+                            "completionist": hltb_result["completionist"]
+                        }
+                        hltb_results.append(payload)
+                        logger.info(f"HLTB 수집 완료 (GameID: {job['gameId']})")
+                        human_sleep(2.0, 3.0)
             except Exception as e:
                 logger.error(f"HLTB Phase 에러: {e}")
 
+            try:
+                post_results(HLTB_BATCH_UPDATE_URL, HLTB_UPDATE_URL, hltb_results, HEADERS, "HLTB")
+            except Exception as e:
+                logger.error(f"HLTB 결과 전송 에러: {e}")
+
         except Exception as e:
             logger.error(f"스텔스 워커 루프 에러: {e}")
         finally: